@@ -39,15 +39,18 @@ dependencies {
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
     implementation("org.springframework.boot:spring-boot-starter-actuator")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
     implementation("io.github.shazxrin.notifier:common:1.3.0")
     implementation("org.springframework.boot:spring-boot-starter-amqp")
     testImplementation("org.springframework.amqp:spring-rabbit-test")
 
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
-    runtimeOnly("org.postgresql:postgresql")
+    implementation("org.postgresql:postgresql")
     implementation("org.liquibase:liquibase-core")
 
+    implementation("org.roaringbitmap:RoaringBitmap:1.3.0")
+
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     developmentOnly("org.springframework.boot:spring-boot-docker-compose")
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
@@ -59,3 +62,23 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.register<Test>("simulate") {
+    description = "Replays reminders against a virtual clock, e.g. -Psimulation.zones=100 -Psimulation.days=365."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    filter {
+        includeTestsMatching("io.github.shazxrin.alif.simulation.ReminderSimulationTest")
+    }
+
+    listOf("zones", "subscribers", "start-date", "days").forEach { name ->
+        providers.gradleProperty("simulation.$name").orNull?.let { systemProperty("simulation.$name", it) }
+    }
+    systemProperty("logback.configurationFile", file("src/test/resources/logback-simulation.xml").absolutePath)
+    maxHeapSize = "4g"
+    testLogging {
+        showStandardStreams = true
+    }
+    outputs.upToDateWhen { false }
+}
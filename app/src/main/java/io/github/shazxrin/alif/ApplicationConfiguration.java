@@ -1,5 +1,7 @@
 package io.github.shazxrin.alif;
 
+import java.time.Clock;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -10,4 +12,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableScheduling
 @Configuration
 public class ApplicationConfiguration {
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
 }
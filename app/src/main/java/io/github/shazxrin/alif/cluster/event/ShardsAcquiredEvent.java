@@ -0,0 +1,6 @@
+package io.github.shazxrin.alif.cluster.event;
+
+import java.util.Set;
+
+public record ShardsAcquiredEvent(Set<Integer> shards) {
+}
@@ -0,0 +1,41 @@
+package io.github.shazxrin.alif.cluster.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+@Table(name = "cluster_nodes")
+@Entity
+public class ClusterNode {
+    @Id
+    @Column(length = 64)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private Instant heartbeatAt;
+
+    public ClusterNode() { }
+
+    public ClusterNode(String nodeId, Instant heartbeatAt) {
+        this.nodeId = nodeId;
+        this.heartbeatAt = heartbeatAt;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public Instant getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public void setHeartbeatAt(Instant heartbeatAt) {
+        this.heartbeatAt = heartbeatAt;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.shazxrin.alif.cluster.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+@Table(name = "cluster_shard_leases")
+@Entity
+public class ShardLease {
+    @Id
+    private Integer shard;
+
+    @Column(length = 64)
+    private String owner;
+
+    private Instant expiresAt;
+
+    public ShardLease() { }
+
+    public ShardLease(Integer shard, String owner, Instant expiresAt) {
+        this.shard = shard;
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+
+    public Integer getShard() {
+        return shard;
+    }
+
+    public void setShard(Integer shard) {
+        this.shard = shard;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.shazxrin.alif.cluster.repository;
+
+import io.github.shazxrin.alif.cluster.model.ClusterNode;
+import java.time.Instant;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ClusterNodeRepository extends CrudRepository<ClusterNode, String> {
+    @Modifying
+    @Query(
+        nativeQuery = true,
+        value = """
+            INSERT INTO cluster_nodes (node_id, heartbeat_at)
+            VALUES (:nodeId, :heartbeatAt)
+            ON CONFLICT (node_id) DO UPDATE SET heartbeat_at = EXCLUDED.heartbeat_at
+            """
+    )
+    int upsertHeartbeat(@Param("nodeId") String nodeId, @Param("heartbeatAt") Instant heartbeatAt);
+
+    long countByHeartbeatAtAfter(Instant heartbeatAt);
+
+    @Modifying
+    @Query("DELETE FROM ClusterNode n WHERE n.heartbeatAt < :heartbeatBefore")
+    int deleteByHeartbeatAtBefore(@Param("heartbeatBefore") Instant heartbeatBefore);
+}
@@ -0,0 +1,55 @@
+package io.github.shazxrin.alif.cluster.repository;
+
+import io.github.shazxrin.alif.cluster.model.ShardLease;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ShardLeaseRepository extends CrudRepository<ShardLease, Integer> {
+    @Modifying
+    @Query(
+        nativeQuery = true,
+        value = """
+            INSERT INTO cluster_shard_leases (shard)
+            SELECT generate_series(0, :shardCount - 1)
+            ON CONFLICT (shard) DO NOTHING
+            """
+    )
+    int insertMissingShards(@Param("shardCount") int shardCount);
+
+    @Query(
+        nativeQuery = true,
+        value = """
+            SELECT * FROM cluster_shard_leases
+            WHERE owner = :owner AND shard < :shardCount
+            ORDER BY shard
+            FOR UPDATE
+            """
+    )
+    List<ShardLease> findOwnedForUpdate(@Param("owner") String owner, @Param("shardCount") int shardCount);
+
+    @Query(
+        nativeQuery = true,
+        value = """
+            SELECT * FROM cluster_shard_leases
+            WHERE (owner IS NULL OR expires_at < :now) AND shard < :shardCount
+            ORDER BY shard
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """
+    )
+    List<ShardLease> findClaimableForUpdate(
+        @Param("now") Instant now,
+        @Param("shardCount") int shardCount,
+        @Param("limit") int limit
+    );
+
+    @Modifying
+    @Query("UPDATE ShardLease l SET l.owner = NULL, l.expiresAt = NULL WHERE l.owner = :owner")
+    int releaseAllByOwner(@Param("owner") String owner);
+}
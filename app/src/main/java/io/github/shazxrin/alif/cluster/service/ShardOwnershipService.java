@@ -0,0 +1,160 @@
+package io.github.shazxrin.alif.cluster.service;
+
+import io.github.shazxrin.alif.cluster.configuration.ClusterConfiguration;
+import io.github.shazxrin.alif.cluster.event.ShardsAcquiredEvent;
+import io.github.shazxrin.alif.cluster.model.ShardLease;
+import io.github.shazxrin.alif.cluster.repository.ClusterNodeRepository;
+import io.github.shazxrin.alif.cluster.repository.ShardLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class ShardOwnershipService {
+    private static final Logger log = LoggerFactory.getLogger(ShardOwnershipService.class);
+    private static final int DEAD_NODE_LEASE_MULTIPLIER = 10;
+
+    private final ClusterConfiguration clusterConfiguration;
+    private final ClusterNodeRepository clusterNodeRepository;
+    private final ShardLeaseRepository shardLeaseRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+
+    private volatile Set<Integer> ownedShards = Set.of();
+    private volatile Instant ownedUntil = Instant.MIN;
+
+    public ShardOwnershipService(
+        ClusterConfiguration clusterConfiguration,
+        ClusterNodeRepository clusterNodeRepository,
+        ShardLeaseRepository shardLeaseRepository,
+        ApplicationEventPublisher applicationEventPublisher,
+        Clock clock,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.clusterConfiguration = clusterConfiguration;
+        this.clusterNodeRepository = clusterNodeRepository;
+        this.shardLeaseRepository = shardLeaseRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        String configuredNodeId = clusterConfiguration.getNodeId();
+        this.nodeId = configuredNodeId == null || configuredNodeId.isBlank()
+            ? UUID.randomUUID().toString()
+            : configuredNodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public Set<Integer> getOwnedShards() {
+        return clock.instant().isBefore(ownedUntil) ? ownedShards : Set.of();
+    }
+
+    public int getShard(String zone) {
+        return Math.floorMod(zone.hashCode(), clusterConfiguration.getShardCount());
+    }
+
+    public boolean ownsZone(String zone) {
+        if (!clusterConfiguration.isEnabled()) {
+            return true;
+        }
+
+        // Stop acting on shards as soon as the lease may have lapsed, even if the database is unreachable.
+        return getOwnedShards().contains(getShard(zone));
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.heartbeat-interval}")
+    public void heartbeat() {
+        if (!clusterConfiguration.isEnabled()) {
+            return;
+        }
+
+        Set<Integer> previous = getOwnedShards();
+        Instant now = clock.instant();
+        Instant expiresAt = now.plus(clusterConfiguration.getLeaseDuration());
+
+        Set<Integer> owned = transactionTemplate.execute(status -> rebalance(now, expiresAt));
+        if (owned == null) {
+            return;
+        }
+        ownedShards = Set.copyOf(owned);
+        ownedUntil = expiresAt;
+
+        Set<Integer> acquired = new HashSet<>(owned);
+        acquired.removeAll(previous);
+        if (!acquired.isEmpty()) {
+            log.info("Node {} acquired shards {}.", nodeId, acquired);
+            applicationEventPublisher.publishEvent(new ShardsAcquiredEvent(Set.copyOf(acquired)));
+        }
+    }
+
+    private Set<Integer> rebalance(Instant now, Instant expiresAt) {
+        int shardCount = clusterConfiguration.getShardCount();
+
+        clusterNodeRepository.upsertHeartbeat(nodeId, now);
+        clusterNodeRepository.deleteByHeartbeatAtBefore(
+            now.minus(clusterConfiguration.getLeaseDuration().multipliedBy(DEAD_NODE_LEASE_MULTIPLIER))
+        );
+        shardLeaseRepository.insertMissingShards(shardCount);
+
+        long liveNodes = clusterNodeRepository.countByHeartbeatAtAfter(
+            now.minus(clusterConfiguration.getLeaseDuration())
+        );
+        long nodes = Math.max(liveNodes, 1);
+        int fairShare = (int) ((shardCount + nodes - 1) / nodes);
+
+        List<ShardLease> owned = new ArrayList<>(shardLeaseRepository.findOwnedForUpdate(nodeId, shardCount));
+
+        // Give back the highest shards first so that a joining node can pick them up.
+        while (owned.size() > fairShare) {
+            ShardLease released = owned.remove(owned.size() - 1);
+            released.setOwner(null);
+            released.setExpiresAt(null);
+        }
+
+        if (owned.size() < fairShare) {
+            owned.addAll(shardLeaseRepository.findClaimableForUpdate(now, shardCount, fairShare - owned.size()));
+        }
+
+        Set<Integer> shards = new HashSet<>();
+        for (ShardLease lease : owned) {
+            lease.setOwner(nodeId);
+            lease.setExpiresAt(expiresAt);
+            shards.add(lease.getShard());
+        }
+        return shards;
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (!clusterConfiguration.isEnabled()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                shardLeaseRepository.releaseAllByOwner(nodeId);
+                clusterNodeRepository.deleteById(nodeId);
+            });
+            log.info("Node {} released its shards.", nodeId);
+        } catch (RuntimeException ex) {
+            log.warn("Node {} was unable to release its shards, leases will expire instead.", nodeId, ex);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.shazxrin.alif.notification.codec;
+
+import io.github.shazxrin.alif.notification.exception.NotificationCodecException;
+import io.github.shazxrin.notifier.common.NotificationMessage;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/*
+    Compact layout of a version byte followed by the app name, title and message, each as a varint length and UTF-8.
+ */
+public class BinaryNotificationCodec implements NotificationCodec {
+    public static final String CONTENT_TYPE = "application/vnd.alif.notification.v1+binary";
+    private static final int VERSION = 1;
+
+    private final ThreadLocal<NotificationCodecBuffer> buffers = ThreadLocal.withInitial(NotificationCodecBuffer::new);
+
+    @Override
+    public String getContentType() {
+        return CONTENT_TYPE;
+    }
+
+    @Override
+    public byte[] encode(String appName, String title, String message) {
+        NotificationCodecBuffer buffer = buffers.get();
+        buffer.reset();
+        buffer.writeByte(VERSION);
+        writeString(buffer, appName);
+        writeString(buffer, title);
+        writeString(buffer, message);
+        return buffer.toByteArray();
+    }
+
+    private void writeString(NotificationCodecBuffer buffer, String value) {
+        buffer.writeVarInt(NotificationCodecBuffer.utf8Length(value));
+        buffer.writeUtf8(value);
+    }
+
+    public NotificationMessage decode(byte[] body) {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        int version = buffer.get();
+        if (version != VERSION) {
+            throw new NotificationCodecException("Unsupported notification codec version " + version + "!");
+        }
+
+        String appName = readString(buffer);
+        String title = readString(buffer);
+        String message = readString(buffer);
+        return new NotificationMessage(appName, title, message);
+    }
+
+    private String readString(ByteBuffer buffer) {
+        int length = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.shazxrin.alif.notification.codec;
+
+import io.github.shazxrin.alif.notification.exception.NotificationCodecException;
+import io.github.shazxrin.notifier.common.NotificationMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/*
+    Writes the same JSON as the converter it is built from without going through reflection on every send.
+
+    The converter serializes a probe message once and the literal text around each probed field becomes a template,
+    so field names and ordering always match whatever the shared NotificationMessage class produces.
+ */
+public class JsonNotificationCodec implements NotificationCodec {
+    private static final String APP_NAME_PROBE = "__alif_probe_app_name__";
+    private static final String TITLE_PROBE = "__alif_probe_title__";
+    private static final String MESSAGE_PROBE = "__alif_probe_message__";
+
+    private static final int APP_NAME = 0;
+    private static final int TITLE = 1;
+    private static final int MESSAGE = 2;
+
+    private final byte[][] literals;
+    private final int[] fields;
+    private final ThreadLocal<NotificationCodecBuffer> buffers = ThreadLocal.withInitial(NotificationCodecBuffer::new);
+
+    public JsonNotificationCodec(MessageConverter messageConverter) {
+        NotificationMessage probe = new NotificationMessage(APP_NAME_PROBE, TITLE_PROBE, MESSAGE_PROBE);
+        String json = new String(
+            messageConverter.toMessage(probe, new MessageProperties()).getBody(),
+            StandardCharsets.UTF_8
+        );
+
+        String[] probes = { APP_NAME_PROBE, TITLE_PROBE, MESSAGE_PROBE };
+        Integer[] order = { APP_NAME, TITLE, MESSAGE };
+        for (String value : probes) {
+            if (json.indexOf('"' + value + '"') < 0) {
+                throw new NotificationCodecException("Unable to derive JSON template for notification messages!");
+            }
+        }
+        Arrays.sort(order, Comparator.comparingInt(field -> json.indexOf('"' + probes[field] + '"')));
+
+        this.fields = new int[order.length];
+        this.literals = new byte[order.length + 1][];
+        int start = 0;
+        for (int i = 0; i < order.length; i++) {
+            String quoted = '"' + probes[order[i]] + '"';
+            int index = json.indexOf(quoted);
+            fields[i] = order[i];
+            literals[i] = json.substring(start, index).getBytes(StandardCharsets.UTF_8);
+            start = index + quoted.length();
+        }
+        literals[order.length] = json.substring(start).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getContentType() {
+        return MessageProperties.CONTENT_TYPE_JSON;
+    }
+
+    @Override
+    public String getContentEncoding() {
+        return StandardCharsets.UTF_8.name();
+    }
+
+    @Override
+    public byte[] encode(String appName, String title, String message) {
+        NotificationCodecBuffer buffer = buffers.get();
+        buffer.reset();
+        for (int i = 0; i < fields.length; i++) {
+            buffer.writeBytes(literals[i]);
+            buffer.writeJsonString(switch (fields[i]) {
+                case APP_NAME -> appName;
+                case TITLE -> title;
+                default -> message;
+            });
+        }
+        buffer.writeBytes(literals[fields.length]);
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.shazxrin.alif.notification.codec;
+
+public interface NotificationCodec {
+    String getContentType();
+
+    default String getContentEncoding() {
+        return null;
+    }
+
+    byte[] encode(String appName, String title, String message);
+}
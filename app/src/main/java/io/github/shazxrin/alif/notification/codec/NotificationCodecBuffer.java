@@ -0,0 +1,153 @@
+package io.github.shazxrin.alif.notification.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/*
+    Growable byte buffer that codecs reuse per thread, so encoding only allocates the final copy of the body.
+ */
+public class NotificationCodecBuffer {
+    private static final int INITIAL_CAPACITY = 512;
+    private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int size = 0;
+
+    public void reset() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (size + additional > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+        }
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) value;
+    }
+
+    public void writeBytes(byte[] value) {
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, bytes, size, value.length);
+        size += value.length;
+    }
+
+    public void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    public static int utf8Length(String value) {
+        int length = value.length();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isHighSurrogate(c)
+                && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 2;
+                i++;
+            } else if (c >= 0x800 && !Character.isSurrogate(c)) {
+                length += 2;
+            } else if (c >= 0x80 && c < 0x800) {
+                length += 1;
+            }
+        }
+        return length;
+    }
+
+    public void writeUtf8(String value) {
+        ensureCapacity(value.length() * 3);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[size++] = (byte) c;
+            } else {
+                i = writeUtf8NonAscii(value, i, c);
+            }
+        }
+    }
+
+    public void writeJsonString(String value) {
+        ensureCapacity(value.length() * 6 + 2);
+        bytes[size++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isSurrogate(c)) {
+                // Jackson escapes characters outside the BMP rather than writing four byte sequences.
+                writeJsonEscape(c);
+            } else if (c >= 0x80) {
+                i = writeUtf8NonAscii(value, i, c);
+            } else if (c == '"' || c == '\\') {
+                bytes[size++] = '\\';
+                bytes[size++] = (byte) c;
+            } else if (c >= 0x20) {
+                bytes[size++] = (byte) c;
+            } else {
+                writeJsonControl(c);
+            }
+        }
+        bytes[size++] = '"';
+    }
+
+    private void writeJsonControl(char c) {
+        switch (c) {
+            case '\b' -> writeJsonShortEscape('b');
+            case '\f' -> writeJsonShortEscape('f');
+            case '\n' -> writeJsonShortEscape('n');
+            case '\r' -> writeJsonShortEscape('r');
+            case '\t' -> writeJsonShortEscape('t');
+            default -> writeJsonEscape(c);
+        }
+    }
+
+    private void writeJsonShortEscape(char c) {
+        bytes[size++] = '\\';
+        bytes[size++] = (byte) c;
+    }
+
+    private void writeJsonEscape(char c) {
+        bytes[size++] = '\\';
+        bytes[size++] = 'u';
+        bytes[size++] = HEX_DIGITS[(c >> 12) & 0xF];
+        bytes[size++] = HEX_DIGITS[(c >> 8) & 0xF];
+        bytes[size++] = HEX_DIGITS[(c >> 4) & 0xF];
+        bytes[size++] = HEX_DIGITS[c & 0xF];
+    }
+
+    private int writeUtf8NonAscii(String value, int index, char c) {
+        if (c < 0x800) {
+            bytes[size++] = (byte) (0xC0 | (c >> 6));
+            bytes[size++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)
+            && index + 1 < value.length()
+            && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            bytes[size++] = (byte) (0xF0 | (codePoint >> 18));
+            bytes[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            bytes[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+            return index + 1;
+        } else if (Character.isSurrogate(c)) {
+            bytes[size++] = '?';
+        } else {
+            bytes[size++] = (byte) (0xE0 | (c >> 12));
+            bytes[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[size++] = (byte) (0x80 | (c & 0x3F));
+        }
+        return index;
+    }
+}
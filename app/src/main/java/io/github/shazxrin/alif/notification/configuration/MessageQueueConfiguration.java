@@ -1,5 +1,9 @@
 package io.github.shazxrin.alif.notification.configuration;
 
+import io.github.shazxrin.alif.notification.codec.BinaryNotificationCodec;
+import io.github.shazxrin.alif.notification.codec.JsonNotificationCodec;
+import io.github.shazxrin.alif.notification.codec.NotificationCodec;
+import io.github.shazxrin.alif.notification.service.NotificationCircuitBreaker;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,7 +11,17 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class MessageQueueConfiguration {
     @Bean
-    public Jackson2JsonMessageConverter jsonMessageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public NotificationCodec notificationCodec(NotificationConfiguration notificationConfiguration) {
+        return switch (notificationConfiguration.getCodec()) {
+            case BINARY -> new BinaryNotificationCodec();
+            case JSON -> new JsonNotificationCodec(new Jackson2JsonMessageConverter());
+        };
+    }
+
+    @Bean
+    public NotificationCircuitBreaker notificationCircuitBreaker(NotificationConfiguration notificationConfiguration) {
+        NotificationConfiguration.Dispatcher.CircuitBreaker circuitBreaker =
+            notificationConfiguration.getDispatcher().getCircuitBreaker();
+        return new NotificationCircuitBreaker(circuitBreaker.getFailureThreshold(), circuitBreaker.getOpenDuration());
     }
 }
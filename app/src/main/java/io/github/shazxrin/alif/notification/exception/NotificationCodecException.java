@@ -0,0 +1,7 @@
+package io.github.shazxrin.alif.notification.exception;
+
+public class NotificationCodecException extends RuntimeException {
+    public NotificationCodecException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.shazxrin.alif.notification.exception;
+
+public class NotificationRejectedException extends RuntimeException {
+    public NotificationRejectedException(String message) {
+        super(message);
+    }
+}
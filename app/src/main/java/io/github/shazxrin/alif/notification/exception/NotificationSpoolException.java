@@ -0,0 +1,11 @@
+package io.github.shazxrin.alif.notification.exception;
+
+public class NotificationSpoolException extends RuntimeException {
+    public NotificationSpoolException(String message) {
+        super(message);
+    }
+
+    public NotificationSpoolException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,5 @@
+package io.github.shazxrin.alif.notification.model;
+
+public enum NotificationCodecType {
+    JSON, BINARY
+}
@@ -0,0 +1,5 @@
+package io.github.shazxrin.alif.notification.model;
+
+public enum NotificationOverflowPolicy {
+    BLOCK, DROP_NEWEST, DROP_OLDEST
+}
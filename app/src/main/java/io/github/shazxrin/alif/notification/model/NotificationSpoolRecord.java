@@ -0,0 +1,4 @@
+package io.github.shazxrin.alif.notification.model;
+
+public record NotificationSpoolRecord(String title, String message, byte[] audience, long segment, int nextOffset) {
+}
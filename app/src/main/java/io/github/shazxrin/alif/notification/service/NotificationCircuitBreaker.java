@@ -0,0 +1,72 @@
+package io.github.shazxrin.alif.notification.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/*
+    Opens after a run of consecutive failures and lets a single trial call through once the open duration has passed.
+ */
+public class NotificationCircuitBreaker {
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private Instant openedAt = Instant.EPOCH;
+    private boolean trialInFlight = false;
+
+    public NotificationCircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized boolean allowRequest(Instant now) {
+        switch (state) {
+            case CLOSED -> {
+                return true;
+            }
+            case OPEN -> {
+                if (now.isBefore(openedAt.plus(openDuration))) {
+                    return false;
+                }
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            }
+            default -> {
+                if (trialInFlight) {
+                    return false;
+                }
+                trialInFlight = true;
+                return true;
+            }
+        }
+    }
+
+    public synchronized Instant getRetryAt() {
+        return openedAt.plus(openDuration);
+    }
+
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void recordFailure(Instant now) {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = now;
+        }
+    }
+}
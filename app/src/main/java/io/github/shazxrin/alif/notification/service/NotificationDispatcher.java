@@ -0,0 +1,227 @@
+package io.github.shazxrin.alif.notification.service;
+
+import io.github.shazxrin.alif.notification.configuration.NotificationConfiguration;
+import io.github.shazxrin.alif.notification.exception.NotificationRejectedException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Service
+public class NotificationDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private record DispatchRequest(String title, String message, byte[] audience, CompletableFuture<Void> future) {
+    }
+
+    private final NotificationConfiguration notificationConfiguration;
+    private final NotificationService notificationService;
+    private final NotificationSpoolService notificationSpoolService;
+    private final NotificationCircuitBreaker circuitBreaker;
+    private final Clock clock;
+    private final BlockingQueue<DispatchRequest> queue;
+    private final Semaphore inFlight;
+
+    private volatile boolean running = false;
+
+    public NotificationDispatcher(
+        NotificationConfiguration notificationConfiguration,
+        NotificationService notificationService,
+        NotificationSpoolService notificationSpoolService,
+        NotificationCircuitBreaker circuitBreaker,
+        Clock clock
+    ) {
+        this.notificationConfiguration = notificationConfiguration;
+        this.notificationService = notificationService;
+        this.notificationSpoolService = notificationSpoolService;
+        this.circuitBreaker = circuitBreaker;
+        this.clock = clock;
+        this.queue = new ArrayBlockingQueue<>(notificationConfiguration.getDispatcher().getQueueCapacity());
+        this.inFlight = new Semaphore(notificationConfiguration.getDispatcher().getMaxInFlight());
+    }
+
+    @PostConstruct
+    public void start() {
+        // Workers only block on the queue or on the in-flight limit, so virtual threads keep them cheap.
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("notification-dispatcher-");
+        executor.setVirtualThreads(true);
+        start(executor);
+    }
+
+    void start(Executor executor) {
+        running = true;
+        for (int i = 0; i < notificationConfiguration.getDispatcher().getWorkers(); i++) {
+            executor.execute(this::work);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+
+        DispatchRequest request;
+        while ((request = queue.poll()) != null) {
+            request.future().completeExceptionally(
+                new NotificationRejectedException("Notification dispatcher is shutting down!")
+            );
+        }
+    }
+
+    public boolean isAvailable() {
+        return circuitBreaker.getState() != NotificationCircuitBreaker.State.OPEN;
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public CompletableFuture<Void> dispatch(String title, String message) {
+        return dispatch(title, message, null);
+    }
+
+    public CompletableFuture<Void> dispatch(String title, String message, byte[] audience) {
+        DispatchRequest request = new DispatchRequest(title, message, audience, new CompletableFuture<>());
+        if (!offer(request)) {
+            request.future().completeExceptionally(
+                new NotificationRejectedException("Notification dispatch queue is full!")
+            );
+        }
+        return request.future();
+    }
+
+    private boolean offer(DispatchRequest request) {
+        NotificationConfiguration.Dispatcher dispatcher = notificationConfiguration.getDispatcher();
+
+        switch (dispatcher.getOverflowPolicy()) {
+            case DROP_NEWEST -> {
+                return queue.offer(request);
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(request)) {
+                    DispatchRequest evicted = queue.poll();
+                    if (evicted != null) {
+                        evicted.future().completeExceptionally(
+                            new NotificationRejectedException("Notification was dropped for a newer one!")
+                        );
+                    }
+                }
+                return true;
+            }
+            default -> {
+                try {
+                    return queue.offer(request, dispatcher.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+    }
+
+    private void work() {
+        while (running) {
+            DispatchRequest request;
+            try {
+                request = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (request == null) {
+                continue;
+            }
+
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException ex) {
+                request.future().completeExceptionally(ex);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            request.future().whenComplete((ignored, ex) -> inFlight.release());
+            attempt(request, 1);
+        }
+    }
+
+    private void attempt(DispatchRequest request, int attempt) {
+        try {
+            deliver(request, attempt);
+        } catch (RuntimeException ex) {
+            // A worker only ever stops on shutdown, anything else fails just the request at hand.
+            log.error("Unexpected failure while delivering notification.", ex);
+            request.future().completeExceptionally(ex);
+        }
+    }
+
+    private void deliver(DispatchRequest request, int attempt) {
+        NotificationConfiguration.Dispatcher.Retry retry = notificationConfiguration.getDispatcher().getRetry();
+
+        // Anything already spooled goes out first, so newer notifications queue up behind it.
+        if (notificationSpoolService.hasPending() || !circuitBreaker.allowRequest(clock.instant())) {
+            spool(request);
+            return;
+        }
+
+        CompletableFuture<Void> sent;
+        try {
+            sent = notificationService.sendNotification(request.title(), request.message(), request.audience());
+        } catch (RuntimeException ex) {
+            // Failures thrown before the send is even under way are retried and spooled like broker failures.
+            sent = CompletableFuture.failedFuture(ex);
+        }
+
+        // Retries are chained onto the confirm rather than waited on, so workers keep feeding the publisher batches.
+        sent.whenComplete((ignored, ex) -> {
+            if (ex == null) {
+                circuitBreaker.recordSuccess();
+                request.future().complete(null);
+                return;
+            }
+
+            circuitBreaker.recordFailure(clock.instant());
+            log.warn(
+                "Attempt {} to send notification failed.",
+                attempt,
+                ex instanceof CompletionException ? ex.getCause() : ex
+            );
+            if (attempt < retry.getMaxAttempts()) {
+                Duration backoff = getBackoff(retry, attempt);
+                CompletableFuture.delayedExecutor(backoff.toMillis(), TimeUnit.MILLISECONDS)
+                    .execute(() -> attempt(request, attempt + 1));
+            } else {
+                spool(request);
+            }
+        });
+    }
+
+    private void spool(DispatchRequest request) {
+        try {
+            notificationSpoolService.spool(request.title(), request.message(), request.audience());
+            request.future().complete(null);
+        } catch (RuntimeException ex) {
+            log.error("Failed to spool notification, it will be lost.", ex);
+            request.future().completeExceptionally(ex);
+        }
+    }
+
+    static Duration getBackoff(NotificationConfiguration.Dispatcher.Retry retry, int attempt) {
+        // Full jitter keeps workers that failed together from retrying together.
+        long initial = retry.getInitialBackoff().toMillis();
+        long ceiling = Math.min(retry.getMaxBackoff().toMillis(), initial << Math.min(attempt - 1, 30));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+}
@@ -1,28 +1,171 @@
 package io.github.shazxrin.alif.notification.service;
 
+import io.github.shazxrin.alif.notification.codec.NotificationCodec;
+import io.github.shazxrin.alif.notification.configuration.NotificationConfiguration;
 import io.github.shazxrin.notifier.common.NotificationMessage;
 import io.github.shazxrin.notifier.common.NotificationMessageQueue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
 @Service
 public class NotificationService {
+    private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
     private final static String APP_NAME = "alif";
     private final static String ROUTING_KEY = "";
+    public final static String AUDIENCE_HEADER = "x-alif-audience";
 
+    private record PendingNotification(Message message, CompletableFuture<Void> future) {
+    }
+
+    private final NotificationConfiguration notificationConfiguration;
+    private final NotificationCodec notificationCodec;
     private final RabbitTemplate rabbitTemplate;
+    private final TaskScheduler taskScheduler;
+    private final Timer publishSuccessTimer;
+    private final Timer publishFailureTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Object bufferLock = new Object();
+
+    private List<PendingNotification> buffer = new ArrayList<>();
+    private ScheduledFuture<?> flushFuture;
 
-    public NotificationService(RabbitTemplate rabbitTemplate) {
+    public NotificationService(
+        NotificationConfiguration notificationConfiguration,
+        NotificationCodec notificationCodec,
+        RabbitTemplate rabbitTemplate,
+        TaskScheduler taskScheduler,
+        MeterRegistry meterRegistry
+    ) {
+        this.notificationConfiguration = notificationConfiguration;
+        this.notificationCodec = notificationCodec;
         this.rabbitTemplate = rabbitTemplate;
+        this.taskScheduler = taskScheduler;
+        this.publishSuccessTimer = createPublishTimer(meterRegistry, "success");
+        this.publishFailureTimer = createPublishTimer(meterRegistry, "failure");
+        this.batchSizeSummary = DistributionSummary.builder("alif.notification.publish.batch.size")
+            .description("Notifications published per confirmed batch")
+            .register(meterRegistry);
+    }
+
+    private static Timer createPublishTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("alif.notification.publish")
+            .description("Time taken to publish a batch of notifications and have the broker confirm it")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flushFuture = taskScheduler.scheduleWithFixedDelay(
+            this::flush,
+            notificationConfiguration.getPublisher().getFlushInterval()
+        );
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flushFuture != null) {
+            flushFuture.cancel(false);
+        }
+        flush();
     }
 
-    public void sendNotification(String title, String message) {
-        NotificationMessage notificationMessage = new NotificationMessage(
-            APP_NAME,
-            title,
-            message
+    private Message createMessage(String title, String message, byte[] audience) {
+        byte[] body = notificationCodec.encode(APP_NAME, title, message);
+
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(notificationCodec.getContentType());
+        messageProperties.setContentEncoding(notificationCodec.getContentEncoding());
+        messageProperties.setContentLength(body.length);
+        // Keep the type hint the JSON converter used to add so existing consumers still map the payload.
+        messageProperties.setHeader(
+            AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+            NotificationMessage.class.getName()
         );
+        if (audience != null) {
+            messageProperties.setHeader(AUDIENCE_HEADER, audience);
+        }
+        return new Message(body, messageProperties);
+    }
+
+    public CompletableFuture<Void> sendNotification(String title, String message) {
+        return sendNotification(title, message, null);
+    }
+
+    public CompletableFuture<Void> sendNotification(String title, String message, byte[] audience) {
+        Message notificationMessage = createMessage(title, message, audience);
+        CompletableFuture<Void> future = new CompletableFuture<>();
+
+        List<PendingNotification> batch = null;
+        synchronized (bufferLock) {
+            buffer.add(new PendingNotification(notificationMessage, future));
+            if (buffer.size() >= notificationConfiguration.getPublisher().getBatchSize()) {
+                batch = buffer;
+                buffer = new ArrayList<>();
+            }
+        }
+
+        if (batch != null) {
+            publish(batch);
+        }
+        return future;
+    }
+
+    public void flush() {
+        List<PendingNotification> batch;
+        synchronized (bufferLock) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            batch = buffer;
+            buffer = new ArrayList<>();
+        }
+
+        publish(batch);
+    }
+
+    private void publish(List<PendingNotification> batch) {
+        long confirmTimeout = notificationConfiguration.getPublisher().getConfirmTimeout().toMillis();
+        batchSizeSummary.record(batch.size());
+
+        long startedAt = System.nanoTime();
+        try {
+            // Publish the whole batch on one cached channel and wait for the broker to confirm it once.
+            rabbitTemplate.invoke(operations -> {
+                for (PendingNotification pendingNotification : batch) {
+                    operations.send(
+                        NotificationMessageQueue.EXCHANGE_NAME,
+                        ROUTING_KEY,
+                        pendingNotification.message()
+                    );
+                }
+                operations.waitForConfirmsOrDie(confirmTimeout);
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            publishFailureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.error("Failed to publish batch of {} notifications.", batch.size(), ex);
+            batch.forEach(pendingNotification -> pendingNotification.future().completeExceptionally(ex));
+            return;
+        }
 
-        rabbitTemplate.convertAndSend(NotificationMessageQueue.EXCHANGE_NAME, ROUTING_KEY, notificationMessage);
+        publishSuccessTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        batch.forEach(pendingNotification -> pendingNotification.future().complete(null));
     }
 }
@@ -0,0 +1,110 @@
+package io.github.shazxrin.alif.notification.service;
+
+import io.github.shazxrin.alif.notification.configuration.NotificationConfiguration;
+import io.github.shazxrin.alif.notification.model.NotificationSpoolRecord;
+import io.github.shazxrin.alif.notification.spool.NotificationSpool;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class NotificationSpoolService {
+    private static final Logger log = LoggerFactory.getLogger(NotificationSpoolService.class);
+
+    private final NotificationConfiguration notificationConfiguration;
+    private final NotificationService notificationService;
+    private final NotificationCircuitBreaker notificationCircuitBreaker;
+    private final Clock clock;
+    private final Object drainLock = new Object();
+
+    private NotificationSpool notificationSpool;
+
+    public NotificationSpoolService(
+        NotificationConfiguration notificationConfiguration,
+        NotificationService notificationService,
+        NotificationCircuitBreaker notificationCircuitBreaker,
+        Clock clock
+    ) {
+        this.notificationConfiguration = notificationConfiguration;
+        this.notificationService = notificationService;
+        this.notificationCircuitBreaker = notificationCircuitBreaker;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void open() {
+        NotificationConfiguration.Spool spool = notificationConfiguration.getSpool();
+        notificationSpool = new NotificationSpool(
+            Path.of(spool.getDirectory()),
+            Math.toIntExact(spool.getSegmentSize().toBytes())
+        );
+
+        if (notificationSpool.hasPending()) {
+            log.info("Notification spool has undelivered notifications from a previous run.");
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        notificationSpool.close();
+    }
+
+    public boolean hasPending() {
+        return notificationSpool.hasPending();
+    }
+
+    public void spool(String title, String message, byte[] audience) {
+        notificationSpool.append(title, message, audience);
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.notification.spool.drain-interval}",
+        fixedDelayString = "${app.notification.spool.drain-interval}"
+    )
+    public void drain() {
+        int batchSize = notificationConfiguration.getSpool().getDrainBatchSize();
+
+        synchronized (drainLock) {
+            int drained = 0;
+            while (notificationSpool.hasPending() && notificationCircuitBreaker.allowRequest(clock.instant())) {
+                List<NotificationSpoolRecord> records = notificationSpool.read(batchSize);
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                // Publish the whole batch before waiting so it goes out in as few confirmed batches as possible.
+                List<CompletableFuture<Void>> futures = new ArrayList<>(records.size());
+                for (NotificationSpoolRecord record : records) {
+                    futures.add(notificationService.sendNotification(record.title(), record.message(), record.audience()));
+                }
+
+                try {
+                    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+                } catch (CompletionException ex) {
+                    // The batch is resent from the start next time, so delivery is at least once.
+                    notificationCircuitBreaker.recordFailure(clock.instant());
+                    log.warn("Failed to drain notification spool, will retry.", ex.getCause());
+                    break;
+                }
+
+                notificationCircuitBreaker.recordSuccess();
+                notificationSpool.acknowledge(records.get(records.size() - 1));
+                drained += records.size();
+            }
+
+            if (drained > 0) {
+                log.info("Drained {} notifications from the spool.", drained);
+            }
+        }
+    }
+}
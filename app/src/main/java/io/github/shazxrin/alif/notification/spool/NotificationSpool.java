@@ -0,0 +1,303 @@
+package io.github.shazxrin.alif.notification.spool;
+
+import io.github.shazxrin.alif.notification.exception.NotificationSpoolException;
+import io.github.shazxrin.alif.notification.model.NotificationSpoolRecord;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/*
+    Append-only journal of memory-mapped, fixed-size segments.
+
+    Each record is laid out as [length][crc32][title length][audience length][title][audience][message], where an
+    audience length of -1 means no audience. The length is written last, so a torn write reads as the end of the
+    segment. Segment files are zero-filled, so a zero length also marks the end.
+    The read position is kept in a checkpoint file and segments are deleted once they are read past.
+ */
+public class NotificationSpool implements Closeable {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final int HEADER_SIZE = 8;
+    private static final int CHECKPOINT_SIZE = 12;
+
+    private static final class Segment {
+        private final long sequence;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int position;
+
+        private Segment(long sequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FileChannel checkpointChannel;
+
+    private Segment writeSegment;
+    private Segment readSegment;
+    private int readOffset;
+
+    public NotificationSpool(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+
+        try {
+            Files.createDirectories(directory);
+            this.checkpointChannel = FileChannel.open(
+                directory.resolve(CHECKPOINT_FILE),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            );
+            recover();
+        } catch (IOException ex) {
+            throw new NotificationSpoolException("Unable to open notification spool!", ex);
+        }
+    }
+
+    private Path getSegmentPath(long sequence) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths
+                .map(path -> path.getFileName().toString())
+                .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                .sorted()
+                .toList();
+        }
+    }
+
+    private Segment openSegment(long sequence) throws IOException {
+        Path path = getSegmentPath(sequence);
+        FileChannel channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+        // Mapping past the end grows the file, which is zero-filled by the file system.
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        return new Segment(sequence, path, channel, buffer);
+    }
+
+    private void closeSegment(Segment segment) throws IOException {
+        segment.buffer.force();
+        segment.channel.close();
+    }
+
+    private void recover() throws IOException {
+        long checkpointSegment = -1;
+        int checkpointOffset = 0;
+        if (checkpointChannel.size() >= CHECKPOINT_SIZE) {
+            ByteBuffer checkpoint = ByteBuffer.allocate(CHECKPOINT_SIZE);
+            checkpointChannel.read(checkpoint, 0);
+            checkpoint.flip();
+            checkpointSegment = checkpoint.getLong();
+            checkpointOffset = checkpoint.getInt();
+        }
+
+        List<Long> segments = new ArrayList<>();
+        for (long sequence : listSegments()) {
+            if (sequence < checkpointSegment) {
+                Files.delete(getSegmentPath(sequence));
+            } else {
+                segments.add(sequence);
+            }
+        }
+
+        if (segments.isEmpty()) {
+            writeSegment = openSegment(Math.max(checkpointSegment, 0));
+            readSegment = writeSegment;
+            readOffset = 0;
+            writeCheckpoint();
+            return;
+        }
+
+        writeSegment = openSegment(segments.get(segments.size() - 1));
+        writeSegment.position = scanEnd(writeSegment);
+
+        // Clear anything after the last valid record so a torn write cannot be mistaken for data later.
+        for (int i = writeSegment.position; i < segmentSize; i++) {
+            writeSegment.buffer.put(i, (byte) 0);
+        }
+
+        long firstSegment = segments.get(0);
+        readSegment = firstSegment == writeSegment.sequence ? writeSegment : openSegment(firstSegment);
+        readOffset = firstSegment == checkpointSegment ? checkpointOffset : 0;
+    }
+
+    private int scanEnd(Segment segment) {
+        int offset = 0;
+        while (readRecord(segment, offset) != null) {
+            offset += HEADER_SIZE + segment.buffer.getInt(offset);
+        }
+        return offset;
+    }
+
+    private NotificationSpoolRecord readRecord(Segment segment, int offset) {
+        if (offset + HEADER_SIZE > segmentSize) {
+            return null;
+        }
+
+        int length = segment.buffer.getInt(offset);
+        if (length <= 0 || offset + HEADER_SIZE + length > segmentSize) {
+            return null;
+        }
+
+        byte[] payload = new byte[length];
+        segment.buffer.get(offset + HEADER_SIZE, payload);
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        if ((int) crc.getValue() != segment.buffer.getInt(offset + 4)) {
+            return null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        int titleLength = buffer.getInt();
+        int audienceLength = buffer.getInt();
+        String title = new String(payload, 8, titleLength, StandardCharsets.UTF_8);
+        int audienceOffset = 8 + titleLength;
+        byte[] audience = audienceLength < 0
+            ? null
+            : Arrays.copyOfRange(payload, audienceOffset, audienceOffset + audienceLength);
+        int messageOffset = audienceOffset + Math.max(audienceLength, 0);
+        String message = new String(payload, messageOffset, length - messageOffset, StandardCharsets.UTF_8);
+        return new NotificationSpoolRecord(title, message, audience, segment.sequence, offset + HEADER_SIZE + length);
+    }
+
+    private void writeCheckpoint() throws IOException {
+        ByteBuffer checkpoint = ByteBuffer.allocate(CHECKPOINT_SIZE);
+        checkpoint.putLong(readSegment.sequence);
+        checkpoint.putInt(readOffset);
+        checkpoint.flip();
+        checkpointChannel.write(checkpoint, 0);
+        checkpointChannel.force(false);
+    }
+
+    public synchronized boolean hasPending() {
+        return readSegment != writeSegment || readOffset < writeSegment.position;
+    }
+
+    public synchronized void append(String title, String message, byte[] audience) {
+        byte[] titleBytes = title.getBytes(StandardCharsets.UTF_8);
+        byte[] messageBytes = message.getBytes(StandardCharsets.UTF_8);
+        int audienceLength = audience == null ? 0 : audience.length;
+        int length = 8 + titleBytes.length + audienceLength + messageBytes.length;
+        int recordSize = HEADER_SIZE + length;
+        if (recordSize > segmentSize) {
+            throw new NotificationSpoolException("Notification is too large for the spool segment size!");
+        }
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        payload.putInt(titleBytes.length);
+        payload.putInt(audience == null ? -1 : audience.length);
+        payload.put(titleBytes);
+        if (audience != null) {
+            payload.put(audience);
+        }
+        payload.put(messageBytes);
+        byte[] payloadBytes = payload.array();
+
+        CRC32 crc = new CRC32();
+        crc.update(payloadBytes);
+
+        try {
+            if (writeSegment.position + recordSize > segmentSize) {
+                rotate();
+            }
+
+            int offset = writeSegment.position;
+            MappedByteBuffer buffer = writeSegment.buffer;
+            buffer.putInt(offset + 4, (int) crc.getValue());
+            buffer.put(offset + HEADER_SIZE, payloadBytes);
+            buffer.putInt(offset, length);
+            buffer.force(offset, recordSize);
+            writeSegment.position = offset + recordSize;
+        } catch (IOException ex) {
+            throw new NotificationSpoolException("Unable to append to notification spool!", ex);
+        }
+    }
+
+    private void rotate() throws IOException {
+        Segment previous = writeSegment;
+        writeSegment = openSegment(previous.sequence + 1);
+        if (previous != readSegment) {
+            closeSegment(previous);
+        }
+    }
+
+    public synchronized List<NotificationSpoolRecord> read(int limit) {
+        try {
+            // Step over fully read segments before reading so a batch never spans two segments.
+            while (readSegment != writeSegment && readRecord(readSegment, readOffset) == null) {
+                Segment finished = readSegment;
+                readSegment = finished.sequence + 1 == writeSegment.sequence
+                    ? writeSegment
+                    : openSegment(finished.sequence + 1);
+                readOffset = 0;
+                writeCheckpoint();
+                closeSegment(finished);
+                Files.delete(finished.path);
+            }
+        } catch (IOException ex) {
+            throw new NotificationSpoolException("Unable to advance notification spool!", ex);
+        }
+
+        List<NotificationSpoolRecord> records = new ArrayList<>(limit);
+        int offset = readOffset;
+        int end = readSegment == writeSegment ? writeSegment.position : segmentSize;
+        while (records.size() < limit && offset < end) {
+            NotificationSpoolRecord record = readRecord(readSegment, offset);
+            if (record == null) {
+                break;
+            }
+            records.add(record);
+            offset = record.nextOffset();
+        }
+        return records;
+    }
+
+    public synchronized void acknowledge(NotificationSpoolRecord record) {
+        if (record.segment() != readSegment.sequence || record.nextOffset() <= readOffset) {
+            return;
+        }
+
+        readOffset = record.nextOffset();
+        try {
+            writeCheckpoint();
+        } catch (IOException ex) {
+            throw new NotificationSpoolException("Unable to write notification spool checkpoint!", ex);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (readSegment != writeSegment) {
+            closeSegment(readSegment);
+        }
+        closeSegment(writeSegment);
+        checkpointChannel.close();
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.shazxrin.alif.prayer.cache;
+
+import io.github.shazxrin.alif.prayer.exception.PrayerTimetableFileException;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/*
+    Timetables laid out to be memory-mapped on startup, so they can be served before the database is reachable.
+
+    The file is [magic][version][count][crc32] followed by one index entry per timetable, laid out as
+    [zone length][zone][year][calculated][offset], and then the minute-of-day values of every timetable. Timetables
+    read from the file are views over the mapping, so nothing is copied onto the heap. The file is written next to
+    the previous one and moved over it, which leaves readers of the previous mapping unaffected.
+ */
+public final class PrayerTimetableFile {
+    private static final int MAGIC = 0x414c4946;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int TIMETABLE_BYTES = PrayerTimetable.SIZE * Short.BYTES;
+
+    private PrayerTimetableFile() {
+    }
+
+    public static void write(Path path, Collection<PrayerTimetable> timetables) {
+        List<byte[]> zones = new ArrayList<>(timetables.size());
+        int indexSize = 0;
+        for (PrayerTimetable timetable : timetables) {
+            byte[] zone = timetable.getZone().getBytes(StandardCharsets.UTF_8);
+            zones.add(zone);
+            indexSize += Short.BYTES + zone.length + Integer.BYTES + 1 + Integer.BYTES;
+        }
+
+        int dataOffset = HEADER_SIZE + indexSize;
+        ByteBuffer buffer = ByteBuffer.allocate(dataOffset + timetables.size() * TIMETABLE_BYTES);
+        buffer.position(HEADER_SIZE);
+        int i = 0;
+        for (PrayerTimetable timetable : timetables) {
+            byte[] zone = zones.get(i);
+            buffer.putShort((short) zone.length);
+            buffer.put(zone);
+            buffer.putInt(timetable.getYear());
+            buffer.put((byte) (timetable.isCalculated() ? 1 : 0));
+            buffer.putInt(dataOffset + i * TIMETABLE_BYTES);
+            i++;
+        }
+        for (PrayerTimetable timetable : timetables) {
+            buffer.asShortBuffer().put(timetable.getMinutes());
+            buffer.position(buffer.position() + TIMETABLE_BYTES);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), HEADER_SIZE, buffer.capacity() - HEADER_SIZE);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, timetables.size());
+        buffer.putInt(12, (int) crc.getValue());
+        buffer.clear();
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new PrayerTimetableFileException("Unable to write prayer timetable file!", ex);
+        }
+    }
+
+    public static List<PrayerTimetable> read(Path path) {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // The mapping outlives the channel and is released once no timetable refers to it.
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException ex) {
+            throw new PrayerTimetableFileException("Unable to open prayer timetable file!", ex);
+        }
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new PrayerTimetableFileException("Prayer timetable file is not recognised!");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new PrayerTimetableFileException("Prayer timetable file version is not supported!");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_SIZE, buffer.capacity() - HEADER_SIZE));
+        if ((int) crc.getValue() != buffer.getInt(12)) {
+            throw new PrayerTimetableFileException("Prayer timetable file is corrupted!");
+        }
+
+        int count = buffer.getInt(8);
+        List<PrayerTimetable> timetables = new ArrayList<>(count);
+        ByteBuffer index = buffer.slice(HEADER_SIZE, buffer.capacity() - HEADER_SIZE);
+        for (int i = 0; i < count; i++) {
+            byte[] zone = new byte[index.getShort()];
+            index.get(zone);
+            int year = index.getInt();
+            boolean calculated = index.get() == 1;
+            int offset = index.getInt();
+
+            timetables.add(PrayerTimetable.wrap(
+                new String(zone, StandardCharsets.UTF_8),
+                year,
+                buffer.slice(offset, TIMETABLE_BYTES).asShortBuffer(),
+                calculated
+            ));
+        }
+        return timetables;
+    }
+}
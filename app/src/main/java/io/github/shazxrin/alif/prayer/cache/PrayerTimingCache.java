@@ -0,0 +1,287 @@
+package io.github.shazxrin.alif.prayer.cache;
+
+import io.github.shazxrin.alif.prayer.calculation.PrayerTimingCalculator;
+import io.github.shazxrin.alif.prayer.event.PrayerTimetableChangedEvent;
+import io.github.shazxrin.alif.prayer.exception.PrayerTimingNotFoundException;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.prayer.model.PrayerTiming;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetable;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetableSnapshot;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetableVersion;
+import io.github.shazxrin.alif.prayer.repository.PrayerTimetableVersionRepository;
+import io.github.shazxrin.alif.prayer.repository.PrayerTimingRepository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PrayerTimingCache {
+    private static final Logger log = LoggerFactory.getLogger(PrayerTimingCache.class);
+
+    private final PrayerTimingRepository prayerTimingRepository;
+    private final PrayerTimetableVersionRepository prayerTimetableVersionRepository;
+    private final PrayerTimingCalculator prayerTimingCalculator;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Object loadLock = new Object();
+    private final Set<Integer> loadedYears = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> missingYears = ConcurrentHashMap.newKeySet();
+    private final Map<Integer, Long> loadedVersions = new ConcurrentHashMap<>();
+
+    // Swapped as a whole so that lookups never take a lock or allocate.
+    private final AtomicReference<PrayerTimetableSnapshot> snapshot =
+        new AtomicReference<>(PrayerTimetableSnapshot.empty());
+
+    public PrayerTimingCache(
+        PrayerTimingRepository prayerTimingRepository,
+        PrayerTimetableVersionRepository prayerTimetableVersionRepository,
+        PrayerTimingCalculator prayerTimingCalculator,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
+        this.prayerTimingRepository = prayerTimingRepository;
+        this.prayerTimetableVersionRepository = prayerTimetableVersionRepository;
+        this.prayerTimingCalculator = prayerTimingCalculator;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    public PrayerTimetableSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public PrayerTimetable getTimetable(String zone, int year) {
+        PrayerTimetable timetable = find(zone, year);
+        if (timetable != null) {
+            return timetable;
+        }
+
+        return load(zone, year);
+    }
+
+    public int getMinuteOfDay(String zone, LocalDate date, PrayerPeriod period) {
+        int minuteOfDay = getTimetable(zone, date.getYear()).getMinuteOfDay(date, period);
+        if (minuteOfDay == PrayerTimetable.MISSING) {
+            throw new PrayerTimingNotFoundException("Prayer timing not found!");
+        }
+        return minuteOfDay;
+    }
+
+    public void preload(LocalDate startDate, LocalDate endDate) {
+        synchronized (loadLock) {
+            int startYear = startDate.getYear();
+            int endYear = endDate.getYear();
+            while (startYear <= endYear && isAttempted(startYear)) {
+                startYear++;
+            }
+            while (endYear >= startYear && isAttempted(endYear)) {
+                endYear--;
+            }
+            if (startYear > endYear) {
+                return;
+            }
+
+            // A horizon crossing into the new year is still loaded with one query.
+            Map<Integer, Long> versions = fetchVersions(startYear, endYear);
+            Map<Integer, Map<String, PrayerTimetable>> fetched = fetch(startYear, endYear);
+            for (int year = startYear; year <= endYear; year++) {
+                store(year, fetched.getOrDefault(year, Map.of()), versions.getOrDefault(year, 0L));
+            }
+        }
+    }
+
+    public void reload(int startYear, int endYear) {
+        synchronized (loadLock) {
+            Map<Integer, Long> versions = fetchVersions(startYear, endYear);
+            Map<Integer, Map<String, PrayerTimetable>> fetched = fetch(startYear, endYear);
+            for (int year = startYear; year <= endYear; year++) {
+                // Years nobody has asked for yet stay unloaded until they are first needed.
+                if (!isAttempted(year)) {
+                    continue;
+                }
+                missingYears.remove(year);
+                store(year, fetched.getOrDefault(year, Map.of()), versions.getOrDefault(year, 0L));
+            }
+        }
+    }
+
+    public void restore(Collection<PrayerTimetable> timetables) {
+        synchronized (loadLock) {
+            // Restored years count as loaded but with no known version, so they are served as is until the first
+            // refresh reloads them.
+            publish(timetables);
+            for (PrayerTimetable timetable : timetables) {
+                loadedYears.add(timetable.getYear());
+            }
+        }
+    }
+
+    public void evictBefore(int year) {
+        synchronized (loadLock) {
+            missingYears.removeIf(missingYear -> missingYear < year);
+            loadedVersions.keySet().removeIf(loadedYear -> loadedYear < year);
+            if (!loadedYears.removeIf(loadedYear -> loadedYear < year)) {
+                return;
+            }
+
+            // Archived years are dropped without change events, they are not republished with fallback timings.
+            snapshot.set(snapshot.get().withoutYearsBefore(year));
+            log.info("Evicted prayer timetables before {}.", year);
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.prayer.cache.refresh-interval}",
+        fixedDelayString = "${app.prayer.cache.refresh-interval}"
+    )
+    public void refresh() {
+        missingYears.clear();
+
+        Map<Integer, Long> versions = new HashMap<>();
+        for (PrayerTimetableVersion version : prayerTimetableVersionRepository.findAllById(Set.copyOf(loadedYears))) {
+            versions.put(version.getYear(), version.getVersion());
+        }
+
+        for (int year : loadedYears) {
+            // Ingestion on any instance bumps the version, the count still catches rows written around it.
+            long version = versions.getOrDefault(year, 0L);
+            long count = prayerTimingRepository.countByDateBetween(
+                LocalDate.ofYearDay(year, 1),
+                LocalDate.of(year, 12, 31)
+            );
+            Long loadedVersion = loadedVersions.get(year);
+            if (loadedVersion != null && loadedVersion == version && count == snapshot.get().countDays(year)) {
+                continue;
+            }
+
+            synchronized (loadLock) {
+                publish(fetch(year).values());
+                loadedVersions.put(year, version);
+            }
+            log.info("Refreshed prayer timetables for {} at version {} with {} days.", year, version, count);
+        }
+    }
+
+    private PrayerTimetable find(String zone, int year) {
+        return snapshot.get().find(zone, year);
+    }
+
+    private PrayerTimetable load(String zone, int year) {
+        synchronized (loadLock) {
+            PrayerTimetable timetable = find(zone, year);
+            if (timetable != null) {
+                return timetable;
+            }
+
+            if (!isAttempted(year)) {
+                long version = fetchVersions(year, year).getOrDefault(year, 0L);
+                Map<String, PrayerTimetable> fetched = fetch(year);
+                store(year, fetched, version);
+                timetable = fetched.get(zone);
+            }
+
+            if (timetable == null) {
+                throw new PrayerTimingNotFoundException("Prayer timing not found!");
+            }
+            return timetable;
+        }
+    }
+
+    private boolean isAttempted(int year) {
+        return loadedYears.contains(year) || missingYears.contains(year);
+    }
+
+    private void store(int year, Map<String, PrayerTimetable> fetched, long version) {
+        if (fetched.isEmpty()) {
+            missingYears.add(year);
+            return;
+        }
+
+        publish(fetched.values());
+        loadedYears.add(year);
+        loadedVersions.put(year, version);
+        log.info("Loaded prayer timetables for {} with {} zones.", year, fetched.size());
+    }
+
+    private Map<Integer, Long> fetchVersions(int startYear, int endYear) {
+        // Read before the rows, so an ingestion landing in between is picked up again by the next refresh.
+        Map<Integer, Long> versions = new HashMap<>();
+        for (PrayerTimetableVersion version : prayerTimetableVersionRepository.findAllByYearBetween(startYear, endYear)) {
+            versions.put(version.getYear(), version.getVersion());
+        }
+        return versions;
+    }
+
+    private Map<String, PrayerTimetable> fetch(int year) {
+        return fetch(year, year).getOrDefault(year, Map.of());
+    }
+
+    private Map<Integer, Map<String, PrayerTimetable>> fetch(int startYear, int endYear) {
+        List<PrayerTiming> prayerTimings = prayerTimingRepository.findAllByDateBetween(
+            LocalDate.ofYearDay(startYear, 1),
+            LocalDate.of(endYear, 12, 31)
+        );
+
+        Map<Integer, Map<String, PrayerTimetable.Builder>> builders = new HashMap<>();
+        for (PrayerTiming prayerTiming : prayerTimings) {
+            int year = prayerTiming.getDate().getYear();
+            PrayerTimetable.Builder builder = builders
+                .computeIfAbsent(year, ignored -> new HashMap<>())
+                .computeIfAbsent(prayerTiming.getZone(), zone -> PrayerTimetable.builder(zone, year));
+            for (PrayerPeriod period : PrayerPeriod.values()) {
+                builder.put(prayerTiming.getDate(), period, prayerTiming.getMinuteOfDay(period));
+            }
+        }
+
+        Map<Integer, Map<String, PrayerTimetable>> fetched = new HashMap<>();
+        builders.forEach((year, zoneBuilders) -> {
+            Map<String, PrayerTimetable> timetables = new HashMap<>();
+            zoneBuilders.forEach((zone, builder) -> timetables.put(zone, builder.build()));
+            fetched.put(year, timetables);
+        });
+
+        // Zone years without a published table fall back to calculated timings until one is ingested.
+        List<String> fallbackZones = prayerTimingCalculator.getFallbackZones();
+        for (int year = startYear; year <= endYear && !fallbackZones.isEmpty(); year++) {
+            Map<String, PrayerTimetable> timetables = fetched.computeIfAbsent(year, ignored -> new HashMap<>());
+            for (String zone : fallbackZones) {
+                if (!timetables.containsKey(zone)) {
+                    timetables.put(zone, prayerTimingCalculator.calculate(zone, year));
+                    log.warn("No prayer timetable for {} in {}, falling back to calculated timings.", zone, year);
+                }
+            }
+        }
+        return fetched;
+    }
+
+    private void publish(Collection<PrayerTimetable> updates) {
+        // Callers hold the load lock, so no concurrent swap can be lost between reading and replacing the snapshot.
+        PrayerTimetableSnapshot previous = snapshot.get();
+        snapshot.set(previous.with(updates));
+
+        for (PrayerTimetable timetable : updates) {
+            PrayerTimetable replaced = previous.find(timetable.getZone(), timetable.getYear());
+            if (replaced == null) {
+                continue;
+            }
+
+            Map<LocalDate, Set<PrayerPeriod>> changes = timetable.getChanges(replaced);
+            if (!changes.isEmpty()) {
+                log.info(
+                    "Prayer timetable for {} in {} changed on {} days.",
+                    timetable.getZone(),
+                    timetable.getYear(),
+                    changes.size()
+                );
+                applicationEventPublisher.publishEvent(new PrayerTimetableChangedEvent(timetable.getZone(), changes));
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.shazxrin.alif.prayer.calculation;
+
+import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetable;
+import io.github.shazxrin.alif.prayer.model.PrayerTimingAnomaly;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PrayerTimingCalculator {
+    private final PrayerTimingConfiguration prayerTimingConfiguration;
+    private final SolarPrayerTimeCalculator solarPrayerTimeCalculator;
+    private final Map<String, PrayerTimetable> timetables = new ConcurrentHashMap<>();
+
+    public PrayerTimingCalculator(PrayerTimingConfiguration prayerTimingConfiguration) {
+        this.prayerTimingConfiguration = prayerTimingConfiguration;
+
+        PrayerTimingConfiguration.Calculation calculation = prayerTimingConfiguration.getCalculation();
+        PrayerPeriod[] periods = PrayerPeriod.values();
+        int[] adjustmentMinutes = new int[periods.length];
+        for (PrayerPeriod period : periods) {
+            adjustmentMinutes[period.ordinal()] = (int) calculation.getAdjustments()
+                .getOrDefault(period, Duration.ZERO)
+                .toMinutes();
+        }
+        this.solarPrayerTimeCalculator = new SolarPrayerTimeCalculator(
+            calculation.getSubuhAngle(),
+            calculation.getIsyakAngle(),
+            calculation.getAsarShadowFactor(),
+            adjustmentMinutes
+        );
+    }
+
+    private PrayerTimingConfiguration.Zone findZone(String zone) {
+        return prayerTimingConfiguration.getZones()
+            .stream()
+            .filter(configuredZone -> configuredZone.getCode().equals(zone))
+            .filter(configuredZone -> configuredZone.getLatitude() != null && configuredZone.getLongitude() != null)
+            .findFirst()
+            .orElse(null);
+    }
+
+    public List<String> getFallbackZones() {
+        if (!prayerTimingConfiguration.getCalculation().isFallbackEnabled()) {
+            return List.of();
+        }
+
+        return prayerTimingConfiguration.getZones()
+            .stream()
+            .filter(zone -> zone.getLatitude() != null && zone.getLongitude() != null)
+            .map(PrayerTimingConfiguration.Zone::getCode)
+            .toList();
+    }
+
+    public PrayerTimetable calculate(String zone, int year) {
+        PrayerTimingConfiguration.Zone configuredZone = findZone(zone);
+        if (configuredZone == null) {
+            return null;
+        }
+
+        return timetables.computeIfAbsent(zone + "/" + year, ignored -> solarPrayerTimeCalculator.calculate(
+            zone,
+            year,
+            configuredZone.getLatitude(),
+            configuredZone.getLongitude(),
+            configuredZone.getTimeZone()
+        ));
+    }
+
+    public List<PrayerTimingAnomaly> validate(String zone, LocalDate date, int[] periodMinutes) {
+        PrayerTimetable timetable = calculate(zone, date.getYear());
+        if (timetable == null) {
+            return List.of();
+        }
+
+        long tolerance = prayerTimingConfiguration.getCalculation().getTolerance().toMinutes();
+        List<PrayerTimingAnomaly> anomalies = new ArrayList<>();
+        for (PrayerPeriod period : PrayerPeriod.values()) {
+            int expected = timetable.getMinuteOfDay(date, period);
+            int actual = periodMinutes[period.ordinal()];
+            if (expected != PrayerTimetable.MISSING && Math.abs(expected - actual) > tolerance) {
+                anomalies.add(new PrayerTimingAnomaly(zone, date, period, expected, actual));
+            }
+        }
+        return anomalies;
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.shazxrin.alif.prayer.calculation;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetable;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+
+/*
+    Computes prayer timings from the position of the sun, one whole year at a time. Solar declination and the
+    equation of time are worked out for every day up front, then each period is a single pass over those arrays.
+ */
+public final class SolarPrayerTimeCalculator {
+    // Upper limb of the sun touching the horizon, allowing for atmospheric refraction.
+    private static final double HORIZON_ANGLE = 0.833;
+    private static final double J2000 = 2451545.0;
+
+    private final double subuhAngle;
+    private final double isyakAngle;
+    private final int asarShadowFactor;
+    private final int[] adjustmentMinutes;
+
+    public SolarPrayerTimeCalculator(
+        double subuhAngle,
+        double isyakAngle,
+        int asarShadowFactor,
+        int[] adjustmentMinutes
+    ) {
+        if (asarShadowFactor < 1) {
+            throw new IllegalArgumentException("Asar shadow factor must be positive!");
+        }
+        if (adjustmentMinutes.length != PrayerPeriod.values().length) {
+            throw new IllegalArgumentException("Adjustments must cover every prayer period!");
+        }
+
+        this.subuhAngle = subuhAngle;
+        this.isyakAngle = isyakAngle;
+        this.asarShadowFactor = asarShadowFactor;
+        this.adjustmentMinutes = adjustmentMinutes.clone();
+    }
+
+    public PrayerTimetable calculate(String zone, int year, double latitude, double longitude, ZoneId timeZone) {
+        int days = Year.of(year).length();
+        double[] declinations = new double[days];
+        double[] transits = new double[days];
+
+        ZoneRules rules = timeZone.getRules();
+        double julianDayOffset = LocalDate.of(year, 1, 1).toEpochDay() + 2440587.5 - J2000;
+        for (int i = 0; i < days; i++) {
+            // Positions are taken at local noon, close enough to every period for minute precision.
+            LocalDate date = LocalDate.ofYearDay(year, i + 1);
+            double offsetHours = rules.getOffset(date.atTime(LocalTime.NOON)).getTotalSeconds() / 3600.0;
+            double d = julianDayOffset + i + 0.5 - offsetHours / 24.0;
+
+            double g = Math.toRadians(357.529 + 0.98560028 * d);
+            double q = 280.459 + 0.98564736 * d;
+            double l = Math.toRadians(q + 1.915 * Math.sin(g) + 0.020 * Math.sin(2 * g));
+            double e = Math.toRadians(23.439 - 0.00000036 * d);
+
+            double rightAscension = Math.toDegrees(Math.atan2(Math.cos(e) * Math.sin(l), Math.cos(l))) / 15.0;
+            double equationOfTime = wrapHours(q / 15.0 - rightAscension);
+            if (equationOfTime > 12) {
+                equationOfTime -= 24;
+            }
+
+            declinations[i] = Math.asin(Math.sin(e) * Math.sin(l));
+            transits[i] = 12 + offsetHours - longitude / 15.0 - equationOfTime;
+        }
+
+        double lat = Math.toRadians(latitude);
+        double[] subuh = new double[days];
+        double[] syuruk = new double[days];
+        double[] zohor = new double[days];
+        double[] asar = new double[days];
+        double[] maghrib = new double[days];
+        double[] isyak = new double[days];
+        for (int i = 0; i < days; i++) {
+            double declination = declinations[i];
+            double horizon = hourAngle(HORIZON_ANGLE, lat, declination);
+            double asarAltitude = Math.atan(1.0 / (asarShadowFactor + Math.tan(Math.abs(lat - declination))));
+
+            subuh[i] = transits[i] - hourAngle(subuhAngle, lat, declination);
+            syuruk[i] = transits[i] - horizon;
+            zohor[i] = transits[i];
+            asar[i] = transits[i] + hourAngle(-Math.toDegrees(asarAltitude), lat, declination);
+            maghrib[i] = transits[i] + horizon;
+            isyak[i] = transits[i] + hourAngle(isyakAngle, lat, declination);
+        }
+
+        PrayerTimetable.Builder builder = PrayerTimetable.builder(zone, year).calculated();
+        for (int i = 0; i < days; i++) {
+            LocalDate date = LocalDate.ofYearDay(year, i + 1);
+            put(builder, date, PrayerPeriod.SUBUH, subuh[i]);
+            put(builder, date, PrayerPeriod.SYURUK, syuruk[i]);
+            put(builder, date, PrayerPeriod.ZOHOR, zohor[i]);
+            put(builder, date, PrayerPeriod.ASAR, asar[i]);
+            put(builder, date, PrayerPeriod.MAGHRIB, maghrib[i]);
+            put(builder, date, PrayerPeriod.ISYAK, isyak[i]);
+        }
+        return builder.build();
+    }
+
+    private void put(PrayerTimetable.Builder builder, LocalDate date, PrayerPeriod period, double hours) {
+        // The sun never reaches the angle on this day, which only happens at high latitudes.
+        if (Double.isNaN(hours)) {
+            return;
+        }
+
+        // Rounded up so that a period never starts before the sun is in position.
+        int minuteOfDay = (int) Math.ceil(hours * 60) + adjustmentMinutes[period.ordinal()];
+        if (minuteOfDay < 0 || minuteOfDay >= 24 * 60) {
+            return;
+        }
+        builder.put(date, period, minuteOfDay);
+    }
+
+    // Hours between solar noon and the sun sitting the given angle below the horizon.
+    private static double hourAngle(double angle, double latitude, double declination) {
+        double cosine = (-Math.sin(Math.toRadians(angle)) - Math.sin(declination) * Math.sin(latitude))
+            / (Math.cos(declination) * Math.cos(latitude));
+        return Math.toDegrees(Math.acos(cosine)) / 15.0;
+    }
+
+    private static double wrapHours(double hours) {
+        hours %= 24;
+        return hours < 0 ? hours + 24 : hours;
+    }
+}
@@ -1,6 +1,10 @@
 package io.github.shazxrin.alif.prayer.configuration;
 
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
 import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -32,8 +36,298 @@ public class PrayerTimingConfiguration {
         }
     }
 
+    public static class Cache {
+        public Duration refreshInterval;
+
+        public Duration getRefreshInterval() {
+            return refreshInterval;
+        }
+
+        public void setRefreshInterval(Duration refreshInterval) {
+            this.refreshInterval = refreshInterval;
+        }
+    }
+
+    public static class Horizon {
+        public int days;
+        public Duration topUpInterval;
+
+        public int getDays() {
+            return days;
+        }
+
+        public void setDays(int days) {
+            this.days = days;
+        }
+
+        public Duration getTopUpInterval() {
+            return topUpInterval;
+        }
+
+        public void setTopUpInterval(Duration topUpInterval) {
+            this.topUpInterval = topUpInterval;
+        }
+    }
+
+    public static class Export {
+        public int pageSize;
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+    }
+
+    public static class TimetableFile {
+        public String path;
+        public Duration writeInterval;
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public Duration getWriteInterval() {
+            return writeInterval;
+        }
+
+        public void setWriteInterval(Duration writeInterval) {
+            this.writeInterval = writeInterval;
+        }
+    }
+
+    public static class Retention {
+        public int yearsKept;
+        public int yearsAhead;
+        public String scheduleCron;
+
+        public int getYearsKept() {
+            return yearsKept;
+        }
+
+        public void setYearsKept(int yearsKept) {
+            this.yearsKept = yearsKept;
+        }
+
+        public int getYearsAhead() {
+            return yearsAhead;
+        }
+
+        public void setYearsAhead(int yearsAhead) {
+            this.yearsAhead = yearsAhead;
+        }
+
+        public String getScheduleCron() {
+            return scheduleCron;
+        }
+
+        public void setScheduleCron(String scheduleCron) {
+            this.scheduleCron = scheduleCron;
+        }
+    }
+
+    public static class Calculation {
+        public boolean fallbackEnabled;
+        public double subuhAngle;
+        public double isyakAngle;
+        public int asarShadowFactor;
+        public Map<PrayerPeriod, Duration> adjustments = Map.of();
+        public Duration tolerance;
+
+        public boolean isFallbackEnabled() {
+            return fallbackEnabled;
+        }
+
+        public void setFallbackEnabled(boolean fallbackEnabled) {
+            this.fallbackEnabled = fallbackEnabled;
+        }
+
+        public double getSubuhAngle() {
+            return subuhAngle;
+        }
+
+        public void setSubuhAngle(double subuhAngle) {
+            this.subuhAngle = subuhAngle;
+        }
+
+        public double getIsyakAngle() {
+            return isyakAngle;
+        }
+
+        public void setIsyakAngle(double isyakAngle) {
+            this.isyakAngle = isyakAngle;
+        }
+
+        public int getAsarShadowFactor() {
+            return asarShadowFactor;
+        }
+
+        public void setAsarShadowFactor(int asarShadowFactor) {
+            this.asarShadowFactor = asarShadowFactor;
+        }
+
+        public Map<PrayerPeriod, Duration> getAdjustments() {
+            return adjustments;
+        }
+
+        public void setAdjustments(Map<PrayerPeriod, Duration> adjustments) {
+            this.adjustments = adjustments;
+        }
+
+        public Duration getTolerance() {
+            return tolerance;
+        }
+
+        public void setTolerance(Duration tolerance) {
+            this.tolerance = tolerance;
+        }
+    }
+
+    public static class Zone {
+        public String code;
+        public ZoneId timeZone;
+        public Double latitude;
+        public Double longitude;
+
+        public String getCode() {
+            return code;
+        }
+
+        public void setCode(String code) {
+            this.code = code;
+        }
+
+        public ZoneId getTimeZone() {
+            return timeZone;
+        }
+
+        public void setTimeZone(ZoneId timeZone) {
+            this.timeZone = timeZone;
+        }
+
+        public Double getLatitude() {
+            return latitude;
+        }
+
+        public void setLatitude(Double latitude) {
+            this.latitude = latitude;
+        }
+
+        public Double getLongitude() {
+            return longitude;
+        }
+
+        public void setLongitude(Double longitude) {
+            this.longitude = longitude;
+        }
+    }
+
+    public static class Template {
+        public String title;
+        public String message;
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+
+    public static class ReminderTemplate extends Template {
+        public Map<PrayerPeriod, Template> periods = Map.of();
+
+        public Map<PrayerPeriod, Template> getPeriods() {
+            return periods;
+        }
+
+        public void setPeriods(Map<PrayerPeriod, Template> periods) {
+            this.periods = periods;
+        }
+    }
+
+    public static class Templates {
+        public String locale;
+        public String datePattern;
+        public Map<PrayerPeriod, String> prayerNames;
+        public ReminderTemplate prayer;
+        public ReminderTemplate prePrayer;
+        public Template summary;
+
+        public String getLocale() {
+            return locale;
+        }
+
+        public void setLocale(String locale) {
+            this.locale = locale;
+        }
+
+        public String getDatePattern() {
+            return datePattern;
+        }
+
+        public void setDatePattern(String datePattern) {
+            this.datePattern = datePattern;
+        }
+
+        public Map<PrayerPeriod, String> getPrayerNames() {
+            return prayerNames;
+        }
+
+        public void setPrayerNames(Map<PrayerPeriod, String> prayerNames) {
+            this.prayerNames = prayerNames;
+        }
+
+        public ReminderTemplate getPrayer() {
+            return prayer;
+        }
+
+        public void setPrayer(ReminderTemplate prayer) {
+            this.prayer = prayer;
+        }
+
+        public ReminderTemplate getPrePrayer() {
+            return prePrayer;
+        }
+
+        public void setPrePrayer(ReminderTemplate prePrayer) {
+            this.prePrayer = prePrayer;
+        }
+
+        public Template getSummary() {
+            return summary;
+        }
+
+        public void setSummary(Template summary) {
+            this.summary = summary;
+        }
+    }
+
     public PreReminder preReminder;
     public Summary summary;
+    public Cache cache;
+    public Horizon horizon;
+    public Export export;
+    public TimetableFile timetableFile;
+    public Retention retention;
+    public Calculation calculation;
+    public List<Zone> zones;
+    public Templates templates;
 
     public void setPreReminder(PreReminder preReminder) {
         this.preReminder = preReminder;
@@ -50,4 +344,68 @@ public class PrayerTimingConfiguration {
     public Summary getSummary() {
         return summary;
     }
+
+    public void setCache(Cache cache) {
+        this.cache = cache;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public void setHorizon(Horizon horizon) {
+        this.horizon = horizon;
+    }
+
+    public Horizon getHorizon() {
+        return horizon;
+    }
+
+    public void setExport(Export export) {
+        this.export = export;
+    }
+
+    public Export getExport() {
+        return export;
+    }
+
+    public void setTimetableFile(TimetableFile timetableFile) {
+        this.timetableFile = timetableFile;
+    }
+
+    public TimetableFile getTimetableFile() {
+        return timetableFile;
+    }
+
+    public void setRetention(Retention retention) {
+        this.retention = retention;
+    }
+
+    public Retention getRetention() {
+        return retention;
+    }
+
+    public void setCalculation(Calculation calculation) {
+        this.calculation = calculation;
+    }
+
+    public Calculation getCalculation() {
+        return calculation;
+    }
+
+    public void setZones(List<Zone> zones) {
+        this.zones = zones;
+    }
+
+    public List<Zone> getZones() {
+        return zones;
+    }
+
+    public void setTemplates(Templates templates) {
+        this.templates = templates;
+    }
+
+    public Templates getTemplates() {
+        return templates;
+    }
 }
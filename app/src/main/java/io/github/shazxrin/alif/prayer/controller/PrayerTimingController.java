@@ -0,0 +1,188 @@
+package io.github.shazxrin.alif.prayer.controller;
+
+import io.github.shazxrin.alif.prayer.exception.PrayerTimingNotFoundException;
+import io.github.shazxrin.alif.prayer.exception.PrayerTimingRangeInvalidException;
+import io.github.shazxrin.alif.prayer.model.PrayerTimingView;
+import io.github.shazxrin.alif.prayer.response.PrayerTimingResponse;
+import io.github.shazxrin.alif.prayer.response.PrayerTimingResponseCache;
+import io.github.shazxrin.alif.prayer.service.PrayerTimingService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Supplier;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/prayer-timings")
+public class PrayerTimingController {
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final CacheControl PAST_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365))
+        .cachePublic()
+        .immutable();
+    // Upcoming, calculated and missing days can still change with a new timetable, so clients revalidate with the ETag.
+    private static final CacheControl UPCOMING_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
+    private final PrayerTimingService prayerTimingService;
+    private final PrayerTimingResponseCache prayerTimingResponseCache;
+
+    public PrayerTimingController(
+        PrayerTimingService prayerTimingService,
+        PrayerTimingResponseCache prayerTimingResponseCache
+    ) {
+        this.prayerTimingService = prayerTimingService;
+        this.prayerTimingResponseCache = prayerTimingResponseCache;
+    }
+
+    @GetMapping("/{zone}/{date}")
+    public ResponseEntity<byte[]> getPrayerTiming(
+        @PathVariable String zone,
+        @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        validateZone(zone);
+
+        return respond(
+            zone,
+            date,
+            date,
+            zone + "/" + date,
+            () -> PrayerTimingView.of(prayerTimingService.getPrayerTimingByDate(zone, date)),
+            acceptEncoding,
+            ifNoneMatch
+        );
+    }
+
+    @GetMapping("/{zone}")
+    public ResponseEntity<byte[]> getPrayerTimings(
+        @PathVariable String zone,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        validateZone(zone);
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new PrayerTimingRangeInvalidException(
+                "Range must be ordered and at most " + MAX_RANGE_DAYS + " days!"
+            );
+        }
+
+        return respond(
+            zone,
+            from,
+            to,
+            zone + "/" + from + "/" + to,
+            () -> getViews(zone, from, to),
+            acceptEncoding,
+            ifNoneMatch
+        );
+    }
+
+    @GetMapping("/{zone}/years/{year}")
+    public ResponseEntity<byte[]> getPrayerTimingsByYear(
+        @PathVariable String zone,
+        @PathVariable int year,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        validateZone(zone);
+        LocalDate from = LocalDate.ofYearDay(year, 1);
+        LocalDate to = LocalDate.of(year, 12, 31);
+
+        return respond(zone, from, to, zone + "/" + year, () -> getViews(zone, from, to), acceptEncoding, ifNoneMatch);
+    }
+
+    private void validateZone(String zone) {
+        // Unknown zones are rejected up front so that they never take up room in the response cache.
+        if (!prayerTimingService.getZones().contains(zone)) {
+            throw new PrayerTimingNotFoundException("Zone " + zone + " is not supported!");
+        }
+    }
+
+    private Object getViews(String zone, LocalDate from, LocalDate to) {
+        return prayerTimingService.getPrayerTimingsBetween(zone, from, to)
+            .stream()
+            .map(PrayerTimingView::of)
+            .toList();
+    }
+
+    private ResponseEntity<byte[]> respond(
+        String zone,
+        LocalDate firstDate,
+        LocalDate lastDate,
+        String key,
+        Supplier<Object> bodySupplier,
+        String acceptEncoding,
+        String ifNoneMatch
+    ) {
+        PrayerTimingResponse response = prayerTimingResponseCache.getResponse(key, bodySupplier);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String etag = gzip ? response.gzipEtag() : response.etag();
+        boolean past = lastDate.isBefore(prayerTimingService.getToday(zone));
+        CacheControl cacheControl = past && prayerTimingService.isPublished(zone, firstDate, lastDate)
+            ? PAST_CACHE_CONTROL
+            : UPCOMING_CACHE_CONTROL;
+
+        if (matches(ifNoneMatch, response)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(etag)
+            .cacheControl(cacheControl)
+            .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.gzipBody());
+        }
+        return builder.body(response.body());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : acceptEncoding.split(",")) {
+            String trimmed = coding.trim();
+            if (trimmed.startsWith("gzip") && !trimmed.replace(" ", "").endsWith("q=0")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(String ifNoneMatch, PrayerTimingResponse response) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        // Both variants carry the same content, so either tag means the client is up to date.
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(response.etag()) || trimmed.equals(response.gzipEtag())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.shazxrin.alif.prayer.controller;
+
+import io.github.shazxrin.alif.prayer.model.PrayerTimingExportFormat;
+import io.github.shazxrin.alif.prayer.service.PrayerTimingExportService;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/prayer-timings/export")
+public class PrayerTimingExportController {
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final PrayerTimingExportService prayerTimingExportService;
+
+    public PrayerTimingExportController(PrayerTimingExportService prayerTimingExportService) {
+        this.prayerTimingExportService = prayerTimingExportService;
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportPrayerTimings(
+        @RequestParam(required = false) List<String> zone,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(defaultValue = "JSON") PrayerTimingExportFormat format
+    ) {
+        // Validated before streaming starts, so bad requests still get a proper error status.
+        List<String> zones = prayerTimingExportService.getExportZones(zone);
+        prayerTimingExportService.validate(from, to);
+
+        String filename = "prayer-timings-" + from + "-" + to + "." + format.name().toLowerCase();
+        return ResponseEntity.ok()
+            .contentType(format == PrayerTimingExportFormat.CSV ? TEXT_CSV : MediaType.APPLICATION_JSON)
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString()
+            )
+            .body(outputStream -> prayerTimingExportService.export(zones, from, to, format, outputStream));
+    }
+}
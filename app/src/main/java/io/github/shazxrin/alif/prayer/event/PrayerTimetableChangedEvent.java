@@ -0,0 +1,9 @@
+package io.github.shazxrin.alif.prayer.event;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+public record PrayerTimetableChangedEvent(String zone, Map<LocalDate, Set<PrayerPeriod>> changes) {
+}
@@ -0,0 +1,7 @@
+package io.github.shazxrin.alif.prayer.exception;
+
+public class PrayerTemplateException extends RuntimeException {
+    public PrayerTemplateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.shazxrin.alif.prayer.exception;
+
+public class PrayerTimetableFileException extends RuntimeException {
+    public PrayerTimetableFileException(String message) {
+        super(message);
+    }
+
+    public PrayerTimetableFileException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,5 +1,9 @@
 package io.github.shazxrin.alif.prayer.exception;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
 public class PrayerTimingNotFoundException extends RuntimeException {
     public PrayerTimingNotFoundException(String message) {
         super(message);
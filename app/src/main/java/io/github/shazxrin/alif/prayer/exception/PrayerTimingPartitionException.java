@@ -0,0 +1,7 @@
+package io.github.shazxrin.alif.prayer.exception;
+
+public class PrayerTimingPartitionException extends RuntimeException {
+    public PrayerTimingPartitionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.shazxrin.alif.prayer.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class PrayerTimingRangeInvalidException extends RuntimeException {
+    public PrayerTimingRangeInvalidException(String message) {
+        super(message);
+    }
+}
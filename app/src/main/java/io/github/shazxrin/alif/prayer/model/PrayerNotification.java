@@ -0,0 +1,4 @@
+package io.github.shazxrin.alif.prayer.model;
+
+public record PrayerNotification(String title, String message) {
+}
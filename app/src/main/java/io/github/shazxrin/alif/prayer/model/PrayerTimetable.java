@@ -0,0 +1,147 @@
+package io.github.shazxrin.alif.prayer.model;
+
+import java.nio.ShortBuffer;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/*
+    A year of prayer timings for a zone, packed as minute-of-day values, indexed by day-of-year x period. The values
+    live either on the heap or in a memory-mapped timetable file, and are only ever read in place.
+ */
+public class PrayerTimetable {
+    public static final int MISSING = -1;
+
+    private static final int DAYS_IN_YEAR = 366;
+    private static final int PERIOD_COUNT = PrayerPeriod.values().length;
+
+    public static final int SIZE = DAYS_IN_YEAR * PERIOD_COUNT;
+
+    private final String zone;
+    private final int year;
+    private final ShortBuffer minutes;
+    private final int dayCount;
+    private final boolean calculated;
+
+    private PrayerTimetable(String zone, int year, ShortBuffer minutes, int dayCount, boolean calculated) {
+        this.zone = zone;
+        this.year = year;
+        this.minutes = minutes;
+        this.dayCount = dayCount;
+        this.calculated = calculated;
+    }
+
+    public String getZone() {
+        return zone;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    public boolean isCalculated() {
+        return calculated;
+    }
+
+    public ShortBuffer getMinutes() {
+        return minutes.asReadOnlyBuffer();
+    }
+
+    public boolean hasDate(LocalDate date) {
+        return date.getYear() == year && minutes.get(index(date.getDayOfYear(), 0)) != MISSING;
+    }
+
+    public int getMinuteOfDay(LocalDate date, PrayerPeriod period) {
+        return getMinuteOfDay(date.getDayOfYear(), period);
+    }
+
+    public int getMinuteOfDay(int dayOfYear, PrayerPeriod period) {
+        return minutes.get(index(dayOfYear, period.ordinal()));
+    }
+
+    public Map<LocalDate, Set<PrayerPeriod>> getChanges(PrayerTimetable previous) {
+        if (!zone.equals(previous.zone) || year != previous.year) {
+            throw new IllegalArgumentException("Timetables are not for the same zone and year!");
+        }
+
+        Map<LocalDate, Set<PrayerPeriod>> changes = new HashMap<>();
+        PrayerPeriod[] periods = PrayerPeriod.values();
+        for (int i = 0; i < SIZE; i++) {
+            if (minutes.get(i) == previous.minutes.get(i)) {
+                continue;
+            }
+
+            LocalDate date = LocalDate.ofYearDay(year, i / PERIOD_COUNT + 1);
+            changes.computeIfAbsent(date, ignored -> EnumSet.noneOf(PrayerPeriod.class)).add(periods[i % PERIOD_COUNT]);
+        }
+        return changes;
+    }
+
+    private static int index(int dayOfYear, int period) {
+        return (dayOfYear - 1) * PERIOD_COUNT + period;
+    }
+
+    private static int countDays(ShortBuffer minutes) {
+        int dayCount = 0;
+        for (int i = 0; i < SIZE; i += PERIOD_COUNT) {
+            if (minutes.get(i) != MISSING) {
+                dayCount++;
+            }
+        }
+        return dayCount;
+    }
+
+    public static PrayerTimetable wrap(String zone, int year, ShortBuffer minutes, boolean calculated) {
+        if (minutes.remaining() != SIZE) {
+            throw new IllegalArgumentException("Timetable does not have a value for every day and period!");
+        }
+
+        ShortBuffer slice = minutes.slice();
+        return new PrayerTimetable(zone, year, slice, countDays(slice), calculated);
+    }
+
+    public static Builder builder(String zone, int year) {
+        return new Builder(zone, year);
+    }
+
+    public static class Builder {
+        private final String zone;
+        private final int year;
+        private final short[] minutes = new short[SIZE];
+        private boolean calculated = false;
+
+        private Builder(String zone, int year) {
+            this.zone = zone;
+            this.year = year;
+            Arrays.fill(minutes, (short) MISSING);
+        }
+
+        public Builder calculated() {
+            this.calculated = true;
+            return this;
+        }
+
+        public Builder put(LocalDate date, PrayerPeriod period, int minuteOfDay) {
+            if (date.getYear() != year) {
+                throw new IllegalArgumentException("Date is not within timetable year!");
+            }
+            if (minuteOfDay < 0 || minuteOfDay >= 24 * 60) {
+                throw new IllegalArgumentException("Invalid minute of day!");
+            }
+
+            minutes[index(date.getDayOfYear(), period.ordinal())] = (short) minuteOfDay;
+            return this;
+        }
+
+        public PrayerTimetable build() {
+            return wrap(zone, year, ShortBuffer.wrap(minutes.clone()), calculated);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.shazxrin.alif.prayer.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+    An immutable, versioned view of every cached timetable. Updates build a new snapshot off to the side, so readers
+    holding an older snapshot keep seeing a consistent version without taking a lock.
+ */
+public final class PrayerTimetableSnapshot {
+    private static final PrayerTimetableSnapshot EMPTY = new PrayerTimetableSnapshot(0, Map.of());
+
+    private final long version;
+    private final Map<String, PrayerTimetable[]> timetables;
+
+    private PrayerTimetableSnapshot(long version, Map<String, PrayerTimetable[]> timetables) {
+        this.version = version;
+        this.timetables = timetables;
+    }
+
+    public static PrayerTimetableSnapshot empty() {
+        return EMPTY;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public PrayerTimetable find(String zone, int year) {
+        PrayerTimetable[] zoneTimetables = timetables.get(zone);
+        if (zoneTimetables == null) {
+            return null;
+        }
+
+        for (PrayerTimetable timetable : zoneTimetables) {
+            if (timetable.getYear() == year) {
+                return timetable;
+            }
+        }
+        return null;
+    }
+
+    public List<PrayerTimetable> getTimetables() {
+        List<PrayerTimetable> all = new ArrayList<>();
+        for (PrayerTimetable[] zoneTimetables : timetables.values()) {
+            all.addAll(Arrays.asList(zoneTimetables));
+        }
+        return all;
+    }
+
+    public long countDays(int year) {
+        long count = 0;
+        for (PrayerTimetable[] zoneTimetables : timetables.values()) {
+            for (PrayerTimetable timetable : zoneTimetables) {
+                // Calculated timetables have no rows behind them, so they are left out of the stored count.
+                if (timetable.getYear() == year && !timetable.isCalculated()) {
+                    count += timetable.getDayCount();
+                }
+            }
+        }
+        return count;
+    }
+
+    public PrayerTimetableSnapshot with(Collection<PrayerTimetable> updates) {
+        Map<String, PrayerTimetable[]> updatedTimetables = new HashMap<>(timetables);
+        for (PrayerTimetable timetable : updates) {
+            PrayerTimetable[] current = updatedTimetables.getOrDefault(timetable.getZone(), new PrayerTimetable[0]);
+
+            PrayerTimetable[] updated = null;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].getYear() == timetable.getYear()) {
+                    updated = current.clone();
+                    updated[i] = timetable;
+                    break;
+                }
+            }
+            if (updated == null) {
+                updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = timetable;
+            }
+
+            updatedTimetables.put(timetable.getZone(), updated);
+        }
+
+        return new PrayerTimetableSnapshot(version + 1, Map.copyOf(updatedTimetables));
+    }
+
+    public PrayerTimetableSnapshot withoutYearsBefore(int year) {
+        Map<String, PrayerTimetable[]> updatedTimetables = new HashMap<>();
+        timetables.forEach((zone, zoneTimetables) -> {
+            PrayerTimetable[] kept = Arrays.stream(zoneTimetables)
+                .filter(timetable -> timetable.getYear() >= year)
+                .toArray(PrayerTimetable[]::new);
+            if (kept.length > 0) {
+                updatedTimetables.put(zone, kept);
+            }
+        });
+
+        return new PrayerTimetableSnapshot(version + 1, Map.copyOf(updatedTimetables));
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.shazxrin.alif.prayer.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Table(name = "prayer_timetable_versions")
+@Entity
+public class PrayerTimetableVersion {
+    @Id
+    private Integer year;
+
+    @Column(nullable = false)
+    private long version;
+
+    public PrayerTimetableVersion() { }
+
+    public PrayerTimetableVersion(Integer year, long version) {
+        this.year = year;
+        this.version = version;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public void setYear(Integer year) {
+        this.year = year;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
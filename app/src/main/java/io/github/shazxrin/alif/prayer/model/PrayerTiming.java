@@ -7,6 +7,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 @Table(name = "prayer_timings")
 @Entity
@@ -15,52 +16,58 @@ public class PrayerTiming {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(nullable = false, length = 16)
+    private String zone;
+
     @Column(nullable = false)
     private LocalDate date;
 
-    @Column(nullable = false, length = 5)
-    private String subuh;
+    @Column(nullable = false)
+    private LocalTime subuh;
 
-    @Column(nullable = false, length = 5)
-    private String syuruk;
+    @Column(nullable = false)
+    private LocalTime syuruk;
 
-    @Column(nullable = false, length = 5)
-    private String zohor;
+    @Column(nullable = false)
+    private LocalTime zohor;
 
-    @Column(nullable = false, length = 5)
-    private String asar;
+    @Column(nullable = false)
+    private LocalTime asar;
 
-    @Column(nullable = false, length = 5)
-    private String maghrib;
+    @Column(nullable = false)
+    private LocalTime maghrib;
 
-    @Column(nullable = false, length = 5)
-    private String isyak;
+    @Column(nullable = false)
+    private LocalTime isyak;
 
     public PrayerTiming() { }
 
     public PrayerTiming(
+        String zone,
         LocalDate date,
-        String subuh,
-        String syuruk,
-        String zohor,
-        String asar,
-        String maghrib,
-        String isyak
+        LocalTime subuh,
+        LocalTime syuruk,
+        LocalTime zohor,
+        LocalTime asar,
+        LocalTime maghrib,
+        LocalTime isyak
     ) {
-        this(null, date, subuh, syuruk, zohor, asar, maghrib, isyak);
+        this(null, zone, date, subuh, syuruk, zohor, asar, maghrib, isyak);
     }
 
     public PrayerTiming(
         Long id,
+        String zone,
         LocalDate date,
-        String subuh,
-        String syuruk,
-        String zohor,
-        String asar,
-        String maghrib,
-        String isyak
+        LocalTime subuh,
+        LocalTime syuruk,
+        LocalTime zohor,
+        LocalTime asar,
+        LocalTime maghrib,
+        LocalTime isyak
     ) {
         this.id = id;
+        this.zone = zone;
         this.date = date;
         this.subuh = subuh;
         this.syuruk = syuruk;
@@ -78,6 +85,14 @@ public class PrayerTiming {
         this.id = id;
     }
 
+    public String getZone() {
+        return zone;
+    }
+
+    public void setZone(String zone) {
+        this.zone = zone;
+    }
+
     public LocalDate getDate() {
         return date;
     }
@@ -86,51 +101,67 @@ public class PrayerTiming {
         this.date = date;
     }
 
-    public String getSubuh() {
+    public LocalTime getSubuh() {
         return subuh;
     }
 
-    public void setSubuh(String subuh) {
+    public void setSubuh(LocalTime subuh) {
         this.subuh = subuh;
     }
 
-    public String getSyuruk() {
+    public LocalTime getSyuruk() {
         return syuruk;
     }
 
-    public void setSyuruk(String syuruk) {
+    public void setSyuruk(LocalTime syuruk) {
         this.syuruk = syuruk;
     }
 
-    public String getZohor() {
+    public LocalTime getZohor() {
         return zohor;
     }
 
-    public void setZohor(String zohor) {
+    public void setZohor(LocalTime zohor) {
         this.zohor = zohor;
     }
 
-    public String getAsar() {
+    public LocalTime getAsar() {
         return asar;
     }
 
-    public void setAsar(String asar) {
+    public void setAsar(LocalTime asar) {
         this.asar = asar;
     }
 
-    public String getMaghrib() {
+    public LocalTime getMaghrib() {
         return maghrib;
     }
 
-    public void setMaghrib(String maghrib) {
+    public void setMaghrib(LocalTime maghrib) {
         this.maghrib = maghrib;
     }
 
-    public String getIsyak() {
+    public LocalTime getIsyak() {
         return isyak;
     }
 
-    public void setIsyak(String isyak) {
+    public void setIsyak(LocalTime isyak) {
         this.isyak = isyak;
     }
+
+    public LocalTime getTime(PrayerPeriod period) {
+        return switch (period) {
+            case SUBUH -> subuh;
+            case SYURUK -> syuruk;
+            case ZOHOR -> zohor;
+            case ASAR -> asar;
+            case MAGHRIB -> maghrib;
+            case ISYAK -> isyak;
+        };
+    }
+
+    public int getMinuteOfDay(PrayerPeriod period) {
+        LocalTime time = getTime(period);
+        return time.getHour() * 60 + time.getMinute();
+    }
 }
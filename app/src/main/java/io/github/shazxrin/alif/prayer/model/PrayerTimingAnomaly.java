@@ -0,0 +1,12 @@
+package io.github.shazxrin.alif.prayer.model;
+
+import java.time.LocalDate;
+
+public record PrayerTimingAnomaly(
+    String zone,
+    LocalDate date,
+    PrayerPeriod period,
+    int expectedMinuteOfDay,
+    int actualMinuteOfDay
+) {
+}
@@ -0,0 +1,5 @@
+package io.github.shazxrin.alif.prayer.model;
+
+public enum PrayerTimingExportFormat {
+    JSON, CSV
+}
@@ -0,0 +1,52 @@
+package io.github.shazxrin.alif.prayer.model;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+public record PrayerTimingPartitionPlan(
+    SortedSet<Integer> create,
+    SortedSet<Integer> detach,
+    SortedSet<Integer> merge
+) {
+    public static PrayerTimingPartitionPlan of(
+        Set<Integer> partitionedYears,
+        Set<Integer> defaultYears,
+        Set<Integer> archivedYears,
+        int currentYear,
+        int yearsKept,
+        int yearsAhead
+    ) {
+        int oldestKeptYear = currentYear - yearsKept;
+
+        // Stale rows of a year that is already archived go straight into its archive, a new partition could not take
+        // over the archive's name once detached.
+        SortedSet<Integer> merge = new TreeSet<>(defaultYears);
+        merge.retainAll(archivedYears);
+        merge.removeIf(year -> year >= oldestKeptYear);
+
+        // Every other year still sitting in the default partition gets its own, even a stale one, so it can be detached
+        // whole.
+        SortedSet<Integer> create = new TreeSet<>(defaultYears);
+        for (int year = oldestKeptYear; year <= currentYear + yearsAhead; year++) {
+            create.add(year);
+        }
+        create.removeAll(partitionedYears);
+        create.removeAll(merge);
+
+        SortedSet<Integer> detach = new TreeSet<>(partitionedYears);
+        detach.addAll(create);
+        detach.removeIf(year -> year >= oldestKeptYear);
+
+        return new PrayerTimingPartitionPlan(
+            Collections.unmodifiableSortedSet(create),
+            Collections.unmodifiableSortedSet(detach),
+            Collections.unmodifiableSortedSet(merge)
+        );
+    }
+
+    public boolean isEmpty() {
+        return create.isEmpty() && detach.isEmpty() && merge.isEmpty();
+    }
+}
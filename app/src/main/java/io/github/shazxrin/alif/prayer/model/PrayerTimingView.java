@@ -0,0 +1,29 @@
+package io.github.shazxrin.alif.prayer.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record PrayerTimingView(
+    String zone,
+    LocalDate date,
+    @JsonFormat(pattern = "HH:mm") LocalTime subuh,
+    @JsonFormat(pattern = "HH:mm") LocalTime syuruk,
+    @JsonFormat(pattern = "HH:mm") LocalTime zohor,
+    @JsonFormat(pattern = "HH:mm") LocalTime asar,
+    @JsonFormat(pattern = "HH:mm") LocalTime maghrib,
+    @JsonFormat(pattern = "HH:mm") LocalTime isyak
+) {
+    public static PrayerTimingView of(PrayerTiming prayerTiming) {
+        return new PrayerTimingView(
+            prayerTiming.getZone(),
+            prayerTiming.getDate(),
+            prayerTiming.getSubuh(),
+            prayerTiming.getSyuruk(),
+            prayerTiming.getZohor(),
+            prayerTiming.getAsar(),
+            prayerTiming.getMaghrib(),
+            prayerTiming.getIsyak()
+        );
+    }
+}
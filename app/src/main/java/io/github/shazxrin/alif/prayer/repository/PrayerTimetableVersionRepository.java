@@ -0,0 +1,11 @@
+package io.github.shazxrin.alif.prayer.repository;
+
+import io.github.shazxrin.alif.prayer.model.PrayerTimetableVersion;
+import java.util.List;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PrayerTimetableVersionRepository extends CrudRepository<PrayerTimetableVersion, Integer> {
+    List<PrayerTimetableVersion> findAllByYearBetween(int startYear, int endYear);
+}
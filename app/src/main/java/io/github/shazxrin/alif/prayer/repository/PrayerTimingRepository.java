@@ -1,11 +1,39 @@
 package io.github.shazxrin.alif.prayer.repository;
 
 import io.github.shazxrin.alif.prayer.model.PrayerTiming;
+import io.github.shazxrin.alif.prayer.model.PrayerTimingView;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PrayerTimingRepository extends CrudRepository<PrayerTiming, Long> {
-    PrayerTiming getByDate(LocalDate date);
+    List<PrayerTiming> findAllByDateBetween(LocalDate startDate, LocalDate endDate);
+
+    long countByDateBetween(LocalDate startDate, LocalDate endDate);
+
+    // Keyset page over (zone, date), projected so rows are never attached to the persistence context.
+    @Query("""
+        SELECT new io.github.shazxrin.alif.prayer.model.PrayerTimingView(
+            p.zone, p.date, p.subuh, p.syuruk, p.zohor, p.asar, p.maghrib, p.isyak
+        )
+        FROM PrayerTiming p
+        WHERE p.zone IN :zones
+            AND p.date BETWEEN :startDate AND :endDate
+            AND (p.zone > :afterZone OR (p.zone = :afterZone AND p.date > :afterDate))
+        ORDER BY p.zone, p.date
+        """)
+    List<PrayerTimingView> findViewsAfter(
+        @Param("zones") Collection<String> zones,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate,
+        @Param("afterZone") String afterZone,
+        @Param("afterDate") LocalDate afterDate,
+        Limit limit
+    );
 }
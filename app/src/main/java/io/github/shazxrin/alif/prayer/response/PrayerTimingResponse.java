@@ -0,0 +1,4 @@
+package io.github.shazxrin.alif.prayer.response;
+
+public record PrayerTimingResponse(byte[] body, byte[] gzipBody, String etag, String gzipEtag, long version) {
+}
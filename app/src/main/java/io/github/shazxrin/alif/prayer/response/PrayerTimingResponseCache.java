@@ -0,0 +1,88 @@
+package io.github.shazxrin.alif.prayer.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.shazxrin.alif.prayer.cache.PrayerTimingCache;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.stereotype.Component;
+
+/*
+    Serialized, compressed and tagged responses, kept until the timetable snapshot they were built from is replaced.
+    The ETag is a hash of the body, so a rebuild that yields the same bytes keeps validating clients' copies.
+ */
+@Component
+public class PrayerTimingResponseCache {
+    private static final int MAX_RESPONSES = 10_000;
+    private static final int ETAG_BYTES = 16;
+
+    private final ObjectMapper objectMapper;
+    private final PrayerTimingCache prayerTimingCache;
+    private final Map<String, PrayerTimingResponse> responses = new ConcurrentHashMap<>();
+
+    public PrayerTimingResponseCache(ObjectMapper objectMapper, PrayerTimingCache prayerTimingCache) {
+        this.objectMapper = objectMapper;
+        this.prayerTimingCache = prayerTimingCache;
+    }
+
+    public PrayerTimingResponse getResponse(String key, Supplier<Object> bodySupplier) {
+        // Read before building, so a swap while building leaves the entry stale rather than wrongly current.
+        long version = prayerTimingCache.getSnapshot().getVersion();
+
+        PrayerTimingResponse response = responses.get(key);
+        if (response != null && response.version() == version) {
+            return response;
+        }
+
+        response = encode(bodySupplier.get(), version);
+        if (responses.size() >= MAX_RESPONSES) {
+            responses.clear();
+        }
+        responses.put(key, response);
+        return response;
+    }
+
+    private PrayerTimingResponse encode(Object value, long version) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize prayer timing response!", ex);
+        }
+
+        String hash = hash(body);
+        return new PrayerTimingResponse(body, gzip(body), "\"" + hash + "\"", "\"" + hash + "-gzip\"", version);
+    }
+
+    private static String hash(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, ETAG_BYTES);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available!", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzipOutputStream.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return outputStream.toByteArray();
+    }
+}
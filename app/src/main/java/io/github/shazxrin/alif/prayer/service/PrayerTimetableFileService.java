@@ -0,0 +1,101 @@
+package io.github.shazxrin.alif.prayer.service;
+
+import io.github.shazxrin.alif.prayer.cache.PrayerTimetableFile;
+import io.github.shazxrin.alif.prayer.cache.PrayerTimingCache;
+import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
+import io.github.shazxrin.alif.prayer.exception.PrayerTimetableFileException;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetable;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetableSnapshot;
+import jakarta.annotation.PostConstruct;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PrayerTimetableFileService {
+    private static final Logger log = LoggerFactory.getLogger(PrayerTimetableFileService.class);
+
+    private final PrayerTimingConfiguration prayerTimingConfiguration;
+    private final PrayerTimingCache prayerTimingCache;
+    private final SortedSet<Integer> restoredYears = new TreeSet<>();
+
+    private long writtenVersion = 0;
+
+    public PrayerTimetableFileService(
+        PrayerTimingConfiguration prayerTimingConfiguration,
+        PrayerTimingCache prayerTimingCache
+    ) {
+        this.prayerTimingConfiguration = prayerTimingConfiguration;
+        this.prayerTimingCache = prayerTimingCache;
+    }
+
+    private Path getPath() {
+        return Path.of(prayerTimingConfiguration.getTimetableFile().getPath());
+    }
+
+    @PostConstruct
+    public synchronized void restore() {
+        Path path = getPath();
+        if (!Files.exists(path)) {
+            log.info("No prayer timetable file at {}, timetables will be loaded from the database.", path);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        List<PrayerTimetable> timetables;
+        try {
+            timetables = PrayerTimetableFile.read(path);
+        } catch (PrayerTimetableFileException ex) {
+            log.warn("Unable to restore prayer timetables from {}, ignoring it.", path, ex);
+            return;
+        }
+
+        prayerTimingCache.restore(timetables);
+        timetables.forEach(timetable -> restoredYears.add(timetable.getYear()));
+        writtenVersion = prayerTimingCache.getSnapshot().getVersion();
+        log.info(
+            "Restored {} prayer timetables for {} from {} in {}ms.",
+            timetables.size(),
+            restoredYears,
+            path,
+            (System.nanoTime() - startedAt) / 1_000_000
+        );
+    }
+
+    public synchronized void reconcile() {
+        if (restoredYears.isEmpty()) {
+            return;
+        }
+
+        // Differences from the database go out as timetable changes, so reminders armed from the file are fixed up.
+        log.info("Reconciling prayer timetables restored from file with the database.");
+        prayerTimingCache.reload(restoredYears.first(), restoredYears.last());
+        restoredYears.clear();
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.prayer.timetable-file.write-interval}",
+        fixedDelayString = "${app.prayer.timetable-file.write-interval}"
+    )
+    public synchronized void write() {
+        PrayerTimetableSnapshot snapshot = prayerTimingCache.getSnapshot();
+        if (snapshot.getVersion() == writtenVersion) {
+            return;
+        }
+
+        List<PrayerTimetable> timetables = snapshot.getTimetables();
+        if (timetables.isEmpty()) {
+            return;
+        }
+
+        PrayerTimetableFile.write(getPath(), timetables);
+        writtenVersion = snapshot.getVersion();
+        log.info("Wrote {} prayer timetables to {}.", timetables.size(), getPath());
+    }
+}
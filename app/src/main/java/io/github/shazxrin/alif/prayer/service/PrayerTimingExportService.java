@@ -0,0 +1,170 @@
+package io.github.shazxrin.alif.prayer.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
+import io.github.shazxrin.alif.prayer.exception.PrayerTimingNotFoundException;
+import io.github.shazxrin.alif.prayer.exception.PrayerTimingRangeInvalidException;
+import io.github.shazxrin.alif.prayer.model.PrayerTimingExportFormat;
+import io.github.shazxrin.alif.prayer.model.PrayerTimingView;
+import io.github.shazxrin.alif.prayer.repository.PrayerTimingRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PrayerTimingExportService {
+    private static final String CSV_HEADER = "zone,date,subuh,syuruk,zohor,asar,maghrib,isyak\n";
+
+    private final PrayerTimingConfiguration prayerTimingConfiguration;
+    private final PrayerTimingRepository prayerTimingRepository;
+    private final ObjectMapper objectMapper;
+
+    public PrayerTimingExportService(
+        PrayerTimingConfiguration prayerTimingConfiguration,
+        PrayerTimingRepository prayerTimingRepository,
+        ObjectMapper objectMapper
+    ) {
+        this.prayerTimingConfiguration = prayerTimingConfiguration;
+        this.prayerTimingRepository = prayerTimingRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public List<String> getExportZones(List<String> zones) {
+        List<String> configuredZones = prayerTimingConfiguration.getZones()
+            .stream()
+            .map(PrayerTimingConfiguration.Zone::getCode)
+            .sorted()
+            .toList();
+        if (zones == null || zones.isEmpty()) {
+            return configuredZones;
+        }
+
+        for (String zone : zones) {
+            if (!configuredZones.contains(zone)) {
+                throw new PrayerTimingNotFoundException("Zone " + zone + " is not supported!");
+            }
+        }
+        return zones;
+    }
+
+    public void validate(LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw new PrayerTimingRangeInvalidException("Range must be ordered!");
+        }
+    }
+
+    public void export(
+        List<String> zones,
+        LocalDate startDate,
+        LocalDate endDate,
+        PrayerTimingExportFormat format,
+        OutputStream outputStream
+    ) throws IOException {
+        switch (format) {
+            case JSON -> exportJson(zones, startDate, endDate, outputStream);
+            case CSV -> exportCsv(zones, startDate, endDate, outputStream);
+        }
+    }
+
+    private interface PageConsumer {
+        void accept(List<PrayerTimingView> page) throws IOException;
+    }
+
+    private void forEachPage(
+        List<String> zones,
+        LocalDate startDate,
+        LocalDate endDate,
+        PageConsumer consumer
+    ) throws IOException {
+        int pageSize = prayerTimingConfiguration.getExport().getPageSize();
+
+        // Each page is its own short query that resumes after the last (zone, date) seen, so memory stays flat
+        // and no connection is held while a slow client drains the response.
+        String afterZone = "";
+        LocalDate afterDate = startDate.minusDays(1);
+        List<PrayerTimingView> page;
+        do {
+            page = prayerTimingRepository.findViewsAfter(
+                zones,
+                startDate,
+                endDate,
+                afterZone,
+                afterDate,
+                Limit.of(pageSize)
+            );
+            if (page.isEmpty()) {
+                return;
+            }
+
+            consumer.accept(page);
+
+            PrayerTimingView last = page.get(page.size() - 1);
+            afterZone = last.zone();
+            afterDate = last.date();
+        } while (page.size() == pageSize);
+    }
+
+    private void exportJson(
+        List<String> zones,
+        LocalDate startDate,
+        LocalDate endDate,
+        OutputStream outputStream
+    ) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+            forEachPage(zones, startDate, endDate, page -> {
+                for (PrayerTimingView view : page) {
+                    generator.writeObject(view);
+                }
+                generator.flush();
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    private void exportCsv(
+        List<String> zones,
+        LocalDate startDate,
+        LocalDate endDate,
+        OutputStream outputStream
+    ) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            forEachPage(zones, startDate, endDate, page -> {
+                for (PrayerTimingView view : page) {
+                    writeCsvRow(writer, view);
+                }
+                writer.flush();
+            });
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, PrayerTimingView view) throws IOException {
+        writer.write(view.zone());
+        writer.write(',');
+        writer.write(view.date().toString());
+        for (LocalTime time : new LocalTime[] {
+            view.subuh(), view.syuruk(), view.zohor(), view.asar(), view.maghrib(), view.isyak()
+        }) {
+            writer.write(',');
+            writeTwoDigits(writer, time.getHour());
+            writer.write(':');
+            writeTwoDigits(writer, time.getMinute());
+        }
+        writer.write('\n');
+    }
+
+    private static void writeTwoDigits(Writer writer, int value) throws IOException {
+        writer.write('0' + value / 10);
+        writer.write('0' + value % 10);
+    }
+}
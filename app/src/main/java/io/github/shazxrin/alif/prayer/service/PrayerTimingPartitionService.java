@@ -0,0 +1,181 @@
+package io.github.shazxrin.alif.prayer.service;
+
+import io.github.shazxrin.alif.prayer.cache.PrayerTimingCache;
+import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
+import io.github.shazxrin.alif.prayer.exception.PrayerTimingPartitionException;
+import io.github.shazxrin.alif.prayer.model.PrayerTimingPartitionPlan;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PrayerTimingPartitionService {
+    private static final Logger log = LoggerFactory.getLogger(PrayerTimingPartitionService.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("prayer_timings_y(\\d{4})");
+    private static final Pattern ARCHIVE_NAME = Pattern.compile("prayer_timings_archive_y(\\d{4})");
+    // Arbitrary key shared by every instance so only one of them reshapes the partitions at a time.
+    private static final long LOCK_KEY = 0x616c69665f707274L;
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?)";
+    private static final String PARTITIONS_SQL = """
+        SELECT child.relname
+        FROM pg_inherits
+        JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+        JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+        WHERE parent.relname = 'prayer_timings'
+        """;
+    private static final String ARCHIVES_SQL = """
+        SELECT relname FROM pg_class WHERE relkind = 'r' AND relname LIKE 'prayer_timings_archive_y%'
+        """;
+    private static final String DEFAULT_YEARS_SQL = """
+        SELECT DISTINCT CAST(EXTRACT(YEAR FROM date) AS INTEGER) FROM prayer_timings_default
+        """;
+    // Rows for the year are moved out of the default partition first, otherwise attaching it fails on the overlap.
+    private static final String CREATE_PARTITION_SQL = """
+        CREATE TABLE prayer_timings_y%1$d (LIKE prayer_timings INCLUDING DEFAULTS);
+        INSERT INTO prayer_timings_y%1$d
+            SELECT * FROM prayer_timings_default WHERE date >= '%1$d-01-01' AND date < '%2$d-01-01';
+        DELETE FROM prayer_timings_default WHERE date >= '%1$d-01-01' AND date < '%2$d-01-01';
+        ALTER TABLE prayer_timings ATTACH PARTITION prayer_timings_y%1$d
+            FOR VALUES FROM ('%1$d-01-01') TO ('%2$d-01-01')
+        """;
+    // Detached years are kept as plain tables so they can still be queried or dumped before being dropped by hand.
+    private static final String DETACH_PARTITION_SQL = """
+        ALTER TABLE prayer_timings DETACH PARTITION prayer_timings_y%1$d;
+        ALTER TABLE prayer_timings_y%1$d RENAME TO prayer_timings_archive_y%1$d
+        """;
+    private static final String MERGE_ARCHIVE_SQL = """
+        INSERT INTO prayer_timings_archive_y%1$d
+            SELECT * FROM prayer_timings_default WHERE date >= '%1$d-01-01' AND date < '%2$d-01-01';
+        DELETE FROM prayer_timings_default WHERE date >= '%1$d-01-01' AND date < '%2$d-01-01'
+        """;
+
+    private final PrayerTimingConfiguration prayerTimingConfiguration;
+    private final PrayerTimingCache prayerTimingCache;
+    private final DataSource dataSource;
+    private final Clock clock;
+
+    public PrayerTimingPartitionService(
+        PrayerTimingConfiguration prayerTimingConfiguration,
+        PrayerTimingCache prayerTimingCache,
+        DataSource dataSource,
+        Clock clock
+    ) {
+        this.prayerTimingConfiguration = prayerTimingConfiguration;
+        this.prayerTimingCache = prayerTimingCache;
+        this.dataSource = dataSource;
+        this.clock = clock;
+    }
+
+    public PrayerTimingPartitionPlan maintain() {
+        int currentYear = LocalDate.now(clock).getYear();
+        PrayerTimingPartitionPlan plan;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                plan = maintain(connection, currentYear);
+                connection.commit();
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        } catch (SQLException ex) {
+            throw new PrayerTimingPartitionException("Unable to maintain prayer timing partitions!", ex);
+        }
+
+        if (plan == null) {
+            log.info("Prayer timing partitions are being maintained by another instance, skipping.");
+        } else if (!plan.isEmpty()) {
+            log.info(
+                "Created prayer timing partitions for {}, archived {} and merged {} into their archives.",
+                plan.create(),
+                plan.detach(),
+                plan.merge()
+            );
+        }
+
+        // Every instance evicts, not just the lock holder, so no cache refreshes an archived year into fallbacks.
+        prayerTimingCache.evictBefore(currentYear - prayerTimingConfiguration.getRetention().getYearsKept());
+        return plan;
+    }
+
+    private PrayerTimingPartitionPlan maintain(Connection connection, int currentYear) throws SQLException {
+        if (!tryLock(connection)) {
+            return null;
+        }
+
+        PrayerTimingConfiguration.Retention retention = prayerTimingConfiguration.getRetention();
+        PrayerTimingPartitionPlan plan = PrayerTimingPartitionPlan.of(
+            findYears(connection, PARTITIONS_SQL, PARTITION_NAME),
+            findDefaultYears(connection),
+            findYears(connection, ARCHIVES_SQL, ARCHIVE_NAME),
+            currentYear,
+            retention.getYearsKept(),
+            retention.getYearsAhead()
+        );
+
+        try (Statement statement = connection.createStatement()) {
+            for (int year : plan.create()) {
+                statement.execute(CREATE_PARTITION_SQL.formatted(year, year + 1));
+            }
+            for (int year : plan.detach()) {
+                statement.execute(DETACH_PARTITION_SQL.formatted(year));
+            }
+            for (int year : plan.merge()) {
+                statement.execute(MERGE_ARCHIVE_SQL.formatted(year, year + 1));
+            }
+        }
+        return plan;
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(LOCK_SQL)) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private Set<Integer> findYears(Connection connection, String sql, Pattern tableName) throws SQLException {
+        Set<Integer> years = new HashSet<>();
+        try (
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery(sql)
+        ) {
+            while (resultSet.next()) {
+                Matcher matcher = tableName.matcher(resultSet.getString(1));
+                if (matcher.matches()) {
+                    years.add(Integer.parseInt(matcher.group(1)));
+                }
+            }
+        }
+        return years;
+    }
+
+    private Set<Integer> findDefaultYears(Connection connection) throws SQLException {
+        Set<Integer> years = new HashSet<>();
+        try (
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery(DEFAULT_YEARS_SQL)
+        ) {
+            while (resultSet.next()) {
+                years.add(resultSet.getInt(1));
+            }
+        }
+        return years;
+    }
+}
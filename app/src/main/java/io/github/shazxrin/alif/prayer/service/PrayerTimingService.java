@@ -1,217 +1,520 @@
 package io.github.shazxrin.alif.prayer.service;
 
-import io.github.shazxrin.alif.notification.service.NotificationService;
+import io.github.shazxrin.alif.cluster.service.ShardOwnershipService;
+import io.github.shazxrin.alif.notification.service.NotificationDispatcher;
+import io.github.shazxrin.alif.prayer.cache.PrayerTimingCache;
 import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
 import io.github.shazxrin.alif.prayer.exception.PrayerTimingNotFoundException;
+import io.github.shazxrin.alif.prayer.model.PrayerNotification;
 import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
 import io.github.shazxrin.alif.prayer.model.PrayerTiming;
-import io.github.shazxrin.alif.prayer.repository.PrayerTimingRepository;
-import java.time.Duration;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetable;
+import io.github.shazxrin.alif.prayer.template.PrayerNotificationRenderer;
+import io.github.shazxrin.alif.reminder.model.ReminderKind;
+import io.github.shazxrin.alif.reminder.model.ReminderOutboxEntry;
+import io.github.shazxrin.alif.reminder.service.ReminderOutboxService;
+import io.github.shazxrin.alif.subscriber.index.SubscriberAudienceIndex;
+import io.github.shazxrin.alif.subscriber.service.SubscriberService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.roaringbitmap.RoaringBitmap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cglib.core.Local;
-import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 
 @Service
 public class PrayerTimingService {
     private static final Logger log = LoggerFactory.getLogger(PrayerTimingService.class);
-    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMM YYYY");
-    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
 
     private final PrayerTimingConfiguration prayerTimingConfiguration;
-    private final PrayerTimingRepository prayerTimingRepository;
-    private final NotificationService notificationService;
-    private final TaskScheduler taskScheduler;
+    private final PrayerTimingCache prayerTimingCache;
+    private final PrayerNotificationRenderer prayerNotificationRenderer;
+    private final NotificationDispatcher notificationDispatcher;
+    private final ReminderOutboxService reminderOutboxService;
+    private final ShardOwnershipService shardOwnershipService;
+    private final SubscriberService subscriberService;
+    private final Clock clock;
+    private final Timer lookupTimer;
+    private final Map<ReminderKind, Map<PrayerPeriod, Counter>> scheduledCounters;
+    private final Map<ReminderKind, Map<PrayerPeriod, Counter>> skippedCounters;
+    private final Map<String, ZoneId> zoneIds;
+    private final Map<String, LocalDate> scheduledUntil = new ConcurrentHashMap<>();
 
     public PrayerTimingService(
         PrayerTimingConfiguration prayerTimingConfiguration,
-        PrayerTimingRepository prayerTimingRepository,
-        NotificationService notificationService,
-        TaskScheduler taskScheduler
+        PrayerTimingCache prayerTimingCache,
+        PrayerNotificationRenderer prayerNotificationRenderer,
+        NotificationDispatcher notificationDispatcher,
+        ReminderOutboxService reminderOutboxService,
+        ShardOwnershipService shardOwnershipService,
+        SubscriberService subscriberService,
+        MeterRegistry meterRegistry,
+        Clock clock
     ) {
         this.prayerTimingConfiguration = prayerTimingConfiguration;
-        this.prayerTimingRepository = prayerTimingRepository;
-        this.notificationService = notificationService;
-        this.taskScheduler = taskScheduler;
+        this.prayerTimingCache = prayerTimingCache;
+        this.prayerNotificationRenderer = prayerNotificationRenderer;
+        this.notificationDispatcher = notificationDispatcher;
+        this.reminderOutboxService = reminderOutboxService;
+        this.shardOwnershipService = shardOwnershipService;
+        this.subscriberService = subscriberService;
+        this.clock = clock;
+        this.lookupTimer = Timer.builder("alif.prayer.timetable.lookup")
+            .description("Time taken to look up a prayer timing from the timetable cache")
+            .register(meterRegistry);
+        this.scheduledCounters = registerReminderCounters(meterRegistry, "alif.reminder.scheduled");
+        this.skippedCounters = registerReminderCounters(meterRegistry, "alif.reminder.skipped");
+
+        Map<String, ZoneId> zoneIds = new HashMap<>();
+        for (PrayerTimingConfiguration.Zone zone : prayerTimingConfiguration.getZones()) {
+            if (zone.getTimeZone() != null) {
+                zoneIds.put(zone.getCode(), zone.getTimeZone());
+            }
+        }
+        this.zoneIds = Map.copyOf(zoneIds);
+    }
+
+    public List<String> getZones() {
+        return prayerTimingConfiguration.getZones()
+            .stream()
+            .map(PrayerTimingConfiguration.Zone::getCode)
+            .toList();
     }
 
-    public PrayerTiming getPrayerTimingByDate(LocalDate date) {
-        PrayerTiming prayerTiming = prayerTimingRepository.getByDate(date);
-        if (prayerTiming == null) {
+    public List<String> getOwnedZones() {
+        return getZones()
+            .stream()
+            .filter(shardOwnershipService::ownsZone)
+            .toList();
+    }
+
+    public PrayerTiming getPrayerTimingByDate(String zone, LocalDate date) {
+        // Every period is read from the same timetable, even if a reload swaps in a new version meanwhile.
+        PrayerTimetable prayerTimetable = prayerTimingCache.getTimetable(zone, date.getYear());
+        if (!prayerTimetable.hasDate(date)) {
             throw new PrayerTimingNotFoundException("Prayer timing not found!");
         }
-        return prayerTiming;
+
+        return toPrayerTiming(zone, date, prayerTimetable);
     }
 
-    private LocalTime convertTime(String time) {
-        String[] split = time.split(":");
-        if (split.length != 2) {
-            throw new IllegalArgumentException("Invalid time format!");
+    public List<PrayerTiming> getPrayerTimingsBetween(String zone, LocalDate startDate, LocalDate endDate) {
+        // Days without timings are left out, the range is only missing if none of it is known.
+        List<PrayerTiming> prayerTimings = new ArrayList<>();
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            PrayerTimetable prayerTimetable;
+            try {
+                prayerTimetable = prayerTimingCache.getTimetable(zone, year);
+            } catch (PrayerTimingNotFoundException ex) {
+                continue;
+            }
+
+            LocalDate start = year == startDate.getYear() ? startDate : LocalDate.ofYearDay(year, 1);
+            LocalDate end = year == endDate.getYear() ? endDate : LocalDate.of(year, 12, 31);
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                if (prayerTimetable.hasDate(date)) {
+                    prayerTimings.add(toPrayerTiming(zone, date, prayerTimetable));
+                }
+            }
         }
 
-        int hour = Integer.parseInt(split[0]);
-        if (hour < 0 || hour > 23) {
-            throw new IllegalArgumentException("Invalid hour!");
+        if (prayerTimings.isEmpty()) {
+            throw new PrayerTimingNotFoundException("Prayer timing not found!");
+        }
+        return prayerTimings;
+    }
+
+    public boolean isPublished(String zone, LocalDate startDate, LocalDate endDate) {
+        // Calculated and missing days are replaced once a timetable is ingested, so only a published range is final.
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            PrayerTimetable prayerTimetable;
+            try {
+                prayerTimetable = prayerTimingCache.getTimetable(zone, year);
+            } catch (PrayerTimingNotFoundException ex) {
+                return false;
+            }
+            if (prayerTimetable.isCalculated()) {
+                return false;
+            }
+
+            LocalDate start = year == startDate.getYear() ? startDate : LocalDate.ofYearDay(year, 1);
+            LocalDate end = year == endDate.getYear() ? endDate : LocalDate.of(year, 12, 31);
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                if (!prayerTimetable.hasDate(date)) {
+                    return false;
+                }
+            }
         }
-        int minute = Integer.parseInt(split[1]);
-        if (minute < 0 || minute > 59) {
-            throw new IllegalArgumentException("Invalid minute!");
+        return true;
+    }
+
+    private static PrayerTiming toPrayerTiming(String zone, LocalDate date, PrayerTimetable prayerTimetable) {
+        return new PrayerTiming(
+            zone,
+            date,
+            getPrayerTime(prayerTimetable, date, PrayerPeriod.SUBUH),
+            getPrayerTime(prayerTimetable, date, PrayerPeriod.SYURUK),
+            getPrayerTime(prayerTimetable, date, PrayerPeriod.ZOHOR),
+            getPrayerTime(prayerTimetable, date, PrayerPeriod.ASAR),
+            getPrayerTime(prayerTimetable, date, PrayerPeriod.MAGHRIB),
+            getPrayerTime(prayerTimetable, date, PrayerPeriod.ISYAK)
+        );
+    }
+
+    private static LocalTime getPrayerTime(PrayerTimetable prayerTimetable, LocalDate date, PrayerPeriod period) {
+        int minuteOfDay = prayerTimetable.getMinuteOfDay(date, period);
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    private int getMinuteOfDay(String zone, LocalDate date, PrayerPeriod period) {
+        long startedAt = System.nanoTime();
+        try {
+            return prayerTimingCache.getMinuteOfDay(zone, date, period);
+        } finally {
+            lookupTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
+    }
+
+    private LocalTime getPrayerTime(String zone, LocalDate date, PrayerPeriod period) {
+        int minuteOfDay = getMinuteOfDay(zone, date, period);
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
 
-        return LocalTime.of(hour, minute);
+    private static int getMinuteOfDay(LocalDateTime dateTime) {
+        return dateTime.getHour() * 60 + dateTime.getMinute();
     }
 
-    private Instant getInstant(LocalDateTime dateTime) {
+    public ZoneId getZoneId(String zone) {
+        return zoneIds.getOrDefault(zone, clock.getZone());
+    }
+
+    public LocalDate getToday(String zone) {
+        return LocalDate.now(clock.withZone(getZoneId(zone)));
+    }
+
+    private LocalDate getHorizonEnd(String zone) {
+        return getToday(zone).plusDays(prayerTimingConfiguration.getHorizon().getDays() - 1);
+    }
+
+    private Instant getInstant(String zone, LocalDateTime dateTime) {
+        return getInstant(dateTime, getZoneId(zone));
+    }
+
+    public static Instant getInstant(LocalDateTime dateTime, ZoneId zoneId) {
         return dateTime
-            .atZone(ZoneId.systemDefault())
+            .atZone(zoneId)
             .toInstant();
     }
 
+    private static Map<ReminderKind, Map<PrayerPeriod, Counter>> registerReminderCounters(
+        MeterRegistry meterRegistry,
+        String name
+    ) {
+        Map<ReminderKind, Map<PrayerPeriod, Counter>> counters = new EnumMap<>(ReminderKind.class);
+        for (ReminderKind kind : ReminderKind.values()) {
+            Map<PrayerPeriod, Counter> periodCounters = new EnumMap<>(PrayerPeriod.class);
+            for (PrayerPeriod period : PrayerPeriod.values()) {
+                periodCounters.put(
+                    period,
+                    Counter.builder(name)
+                        .tag("kind", kind.name())
+                        .tag("period", period.name())
+                        .register(meterRegistry)
+                );
+            }
+            counters.put(kind, periodCounters);
+        }
+        return counters;
+    }
+
+    private static void countReminder(
+        Map<ReminderKind, Map<PrayerPeriod, Counter>> counters,
+        ReminderOutboxEntry entry
+    ) {
+        counters.get(entry.getKind()).get(entry.getPeriod()).increment();
+    }
+
     /*
         Notification for prayer timing period.
      */
 
-    private void notifyPrayerTimingPeriod(PrayerPeriod prayerPeriod, LocalDateTime dateTime) {
-        String title = "Unknown prayer time.";
-        String message = "Time to pray for unknown. Always good to pray for no reason.";
-        switch (prayerPeriod) {
-            case SUBUH, ZOHOR, ASAR, MAGHRIB, ISYAK -> {
-                String prayerName = prayerPeriod.name().toLowerCase();
-
-                title = String.format("It is %s prayer time.", prayerName);
-                message = String.format("It is time to pray %s at %s.", prayerName, dateTime.format(TIME_FORMAT));
-            }
-            case SYURUK -> {
-                title = "It is syuruk.";
-                message = String.format("It is syuruk at %s.", dateTime.format(TIME_FORMAT));
-            }
-        }
+    private ReminderOutboxEntry createNotifyPrayerTimingPeriod(
+        String zone,
+        PrayerPeriod prayerPeriod,
+        LocalDateTime dateTime
+    ) {
+        PrayerNotification notification = prayerNotificationRenderer.renderReminder(
+            ReminderKind.PRAYER,
+            zone,
+            prayerPeriod,
+            getMinuteOfDay(dateTime)
+        );
 
-        notificationService.sendNotification(title, message);
+        return new ReminderOutboxEntry(
+            ReminderKind.PRAYER,
+            zone,
+            prayerPeriod,
+            dateTime.toLocalDate(),
+            0,
+            getInstant(zone, dateTime),
+            notification.title(),
+            notification.message()
+        );
     }
 
-    private void scheduleNotifyPrayerTimingPeriod(PrayerPeriod period, String time) {
-        LocalTime prayerTime = convertTime(time);
-
-        if (prayerTime.isBefore(LocalTime.now())) {
-            log.info("Skipping scheduling prayer timing reminder for {} at {}.", period, prayerTime);
+    private void scheduleNotifyPrayerTimingPeriod(String zone, PrayerPeriod period, LocalDateTime prayerDateTime) {
+        // Reminders missed by less than the replay window are still enqueued and go out on the next tick.
+        ReminderOutboxEntry entry = createNotifyPrayerTimingPeriod(zone, period, prayerDateTime);
+        if (reminderOutboxService.isExpired(entry.getFireAt())) {
+            countReminder(skippedCounters, entry);
+            log.info("Skipping scheduling prayer timing reminder for {} in {} at {}.", period, zone, prayerDateTime);
             return;
         }
 
-        LocalDateTime prayerDateTime = LocalDateTime.of(LocalDate.now(), prayerTime);
-        taskScheduler.schedule(
-            () -> notifyPrayerTimingPeriod(period, prayerDateTime),
-            getInstant(prayerDateTime)
-        );
+        reminderOutboxService.enqueue(entry);
+        countReminder(scheduledCounters, entry);
 
-        log.info("Scheduled prayer timing reminder for {} at {}.", period, prayerTime);
+        log.info("Scheduled prayer timing reminder for {} in {} at {}.", period, zone, prayerDateTime);
     }
 
-    public void scheduleAllNotifyPrayerTimingPeriods() {
-        PrayerTiming prayerTiming = getPrayerTimingByDate(LocalDate.now());
-
-        scheduleNotifyPrayerTimingPeriod(PrayerPeriod.SUBUH, prayerTiming.getSubuh());
-        scheduleNotifyPrayerTimingPeriod(PrayerPeriod.SYURUK, prayerTiming.getSyuruk());
-        scheduleNotifyPrayerTimingPeriod(PrayerPeriod.ZOHOR, prayerTiming.getZohor());
-        scheduleNotifyPrayerTimingPeriod(PrayerPeriod.ASAR, prayerTiming.getAsar());
-        scheduleNotifyPrayerTimingPeriod(PrayerPeriod.MAGHRIB, prayerTiming.getMaghrib());
-        scheduleNotifyPrayerTimingPeriod(PrayerPeriod.ISYAK, prayerTiming.getIsyak());
+    private void scheduleNotifyPrayerTimingPeriods(String zone, LocalDate date) {
+        for (PrayerPeriod period : PrayerPeriod.values()) {
+            scheduleNotifyPrayerTimingPeriod(zone, period, LocalDateTime.of(date, getPrayerTime(zone, date, period)));
+        }
     }
 
     /*
         Notification for pre-prayer timing period.
      */
 
-    private void notifyPrePrayerTimingPeriod(PrayerPeriod prayerPeriod, LocalDateTime dateTime) {
-        String title = "Unknown pre-prayer time.";
-        String message = "Time to pray for unknown soon. Always good to pray for no reason.";
-        switch (prayerPeriod) {
-            case SUBUH, ZOHOR, ASAR, MAGHRIB, ISYAK -> {
-                String prayerName = prayerPeriod.name().toLowerCase();
-
-                title = String.format("It is almost %s prayer time.", prayerName);
-                message = String.format(
-                    "It is almost time to pray %s at %s.",
-                    prayerName,
-                    dateTime.format(TIME_FORMAT)
-                );
-            }
-            case SYURUK -> {
-                title = "It is almost syuruk.";
-                message = String.format("It is almost syuruk at %s.", dateTime.format(TIME_FORMAT));
+    private ReminderOutboxEntry createNotifyPrePrayerTimingPeriod(
+        String zone,
+        PrayerPeriod prayerPeriod,
+        LocalDateTime dateTime,
+        int offsetMinutes
+    ) {
+        PrayerNotification notification = prayerNotificationRenderer.renderReminder(
+            ReminderKind.PRE_PRAYER,
+            zone,
+            prayerPeriod,
+            getMinuteOfDay(dateTime)
+        );
+
+        return new ReminderOutboxEntry(
+            ReminderKind.PRE_PRAYER,
+            zone,
+            prayerPeriod,
+            dateTime.toLocalDate(),
+            offsetMinutes,
+            getInstant(zone, dateTime.minusMinutes(offsetMinutes)),
+            notification.title(),
+            notification.message()
+        );
+    }
+
+    private void scheduleNotifyPrePrayerTimingPeriod(
+        String zone,
+        PrayerPeriod period,
+        LocalDateTime prayerDateTime,
+        int offsetMinutes
+    ) {
+        LocalDateTime prePrayerDateTime = prayerDateTime.minusMinutes(offsetMinutes);
+        ReminderOutboxEntry entry = createNotifyPrePrayerTimingPeriod(zone, period, prayerDateTime, offsetMinutes);
+
+        if (reminderOutboxService.isExpired(entry.getFireAt())) {
+            countReminder(skippedCounters, entry);
+            log.info(
+                "Skipping scheduling pre-prayer timing reminder for {} in {} at {}.",
+                period,
+                zone,
+                prePrayerDateTime
+            );
+            return;
+        }
+
+        reminderOutboxService.enqueue(entry);
+        countReminder(scheduledCounters, entry);
+
+        log.info("Scheduled pre-prayer timing reminder for {} in {} at {}.", period, zone, prePrayerDateTime);
+    }
+
+    private void scheduleNotifyPrePrayerTimingPeriods(String zone, LocalDate date, SortedSet<Integer> offsets) {
+        // One reminder per distinct lead time in the zone, each fanning out to everyone who chose it.
+        for (PrayerPeriod period : PrayerPeriod.values()) {
+            LocalDateTime prayerDateTime = LocalDateTime.of(date, getPrayerTime(zone, date, period));
+            for (int offsetMinutes : offsets) {
+                scheduleNotifyPrePrayerTimingPeriod(zone, period, prayerDateTime, offsetMinutes);
             }
         }
+    }
+
+    /*
+        Rolling horizon of prayer timing and pre-prayer timing reminders.
+     */
+
+    public void scheduleReminders() {
+        scheduleReminders(getOwnedZones());
+    }
 
-        notificationService.sendNotification(title, message);
+    public void scheduleReminders(List<String> zones) {
+        // Forget what was scheduled before so the whole horizon is armed on this node again.
+        zones.forEach(scheduledUntil::remove);
+        topUpReminders(zones);
     }
 
-    private void scheduleNotifyPrePrayerTimingPeriod(PrayerPeriod period, String time, Duration durationBefore) {
-        LocalTime prayerTime = convertTime(time);
-        LocalTime prePrayerTime = prayerTime.minus(durationBefore);
+    public void topUpReminders() {
+        topUpReminders(getOwnedZones());
+    }
 
-        if (prePrayerTime.isBefore(LocalTime.now())) {
-            log.info("Skipping scheduling pre-prayer timing reminder for {} at {}.", period, prePrayerTime);
+    public void topUpReminders(List<String> zones) {
+        if (zones.isEmpty()) {
             return;
         }
 
-        LocalDateTime prayerDateTime = LocalDateTime.of(LocalDate.now(), prayerTime);
-        LocalDateTime prePrayerDateTime = LocalDateTime.of(LocalDate.now(), prePrayerTime);
-        taskScheduler.schedule(
-            () -> notifyPrePrayerTimingPeriod(period, prayerDateTime),
-            getInstant(prePrayerDateTime)
-        );
+        LocalDate startDate = null;
+        LocalDate endDate = null;
+        for (String zone : zones) {
+            LocalDate today = getToday(zone);
+            LocalDate end = getHorizonEnd(zone);
+            startDate = startDate == null || today.isBefore(startDate) ? today : startDate;
+            endDate = endDate == null || end.isAfter(endDate) ? end : endDate;
+        }
+        prayerTimingCache.preload(startDate, endDate);
+
+        for (String zone : zones) {
+            LocalDate today = getToday(zone);
+            LocalDate until = scheduledUntil.get(zone);
+            LocalDate date = until == null || until.isBefore(today) ? today : until.plusDays(1);
+            SortedSet<Integer> offsets = subscriberService.getPreReminderOffsets(zone);
+
+            scheduleDays(zone, date, getHorizonEnd(zone), day -> {
+                scheduleNotifyPrayerTimingPeriods(zone, day);
+                scheduleNotifyPrePrayerTimingPeriods(zone, day, offsets);
+                scheduledUntil.put(zone, day);
+            });
+        }
+    }
 
-        log.info("Scheduled pre-prayer timing reminder for {} at {}.", period, prePrayerTime);
+    public void schedulePreReminders(String zone, SortedSet<Integer> offsets) {
+        // Only days already on the horizon need the new lead times, later days get every lead time from the top-up.
+        LocalDate until = scheduledUntil.get(zone);
+        if (until == null) {
+            return;
+        }
+
+        LocalDate today = getToday(zone);
+        prayerTimingCache.preload(today, until);
+        scheduleDays(zone, today, until, day -> scheduleNotifyPrePrayerTimingPeriods(zone, day, offsets));
     }
 
-    public void scheduleAllNotifyPrePrayerTimingPeriods() {
-        PrayerTiming prayerTiming = getPrayerTimingByDate(LocalDate.now());
-        Duration durationBefore = prayerTimingConfiguration.getPreReminder().getDurationBefore();
+    private void scheduleDays(String zone, LocalDate startDate, LocalDate endDate, Consumer<LocalDate> scheduleDay) {
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            try {
+                scheduleDay.accept(date);
+            } catch (PrayerTimingNotFoundException ex) {
+                // Left unmarked so the day is retried on the next top-up once its timings land.
+                log.error("Unable to schedule reminders for {} on {}.", zone, date, ex);
+                return;
+            }
+        }
+    }
+
+    /*
+        Rescheduling of reminders after a timetable changes.
+     */
 
-        scheduleNotifyPrePrayerTimingPeriod(PrayerPeriod.SUBUH, prayerTiming.getSubuh(), durationBefore);
-        scheduleNotifyPrePrayerTimingPeriod(PrayerPeriod.SYURUK, prayerTiming.getSyuruk(), durationBefore);
-        scheduleNotifyPrePrayerTimingPeriod(PrayerPeriod.ZOHOR, prayerTiming.getZohor(), durationBefore);
-        scheduleNotifyPrePrayerTimingPeriod(PrayerPeriod.ASAR, prayerTiming.getAsar(), durationBefore);
-        scheduleNotifyPrePrayerTimingPeriod(PrayerPeriod.MAGHRIB, prayerTiming.getMaghrib(), durationBefore);
-        scheduleNotifyPrePrayerTimingPeriod(PrayerPeriod.ISYAK, prayerTiming.getIsyak(), durationBefore);
+    private void rescheduleNotify(ReminderOutboxEntry entry) {
+        if (reminderOutboxService.reschedule(entry)) {
+            log.info(
+                "Rescheduled {} reminder for {} in {} to {}.",
+                entry.getKind(),
+                entry.getPeriod(),
+                entry.getZone(),
+                entry.getFireAt()
+            );
+        }
+    }
+
+    public void rescheduleReminders(String zone, Map<LocalDate, Set<PrayerPeriod>> changes) {
+        // Only days already on the horizon have reminders to fix, later days are picked up by the top-up.
+        LocalDate until = scheduledUntil.get(zone);
+        if (until == null) {
+            return;
+        }
+
+        LocalDate today = getToday(zone);
+        SortedSet<Integer> offsets = subscriberService.getPreReminderOffsets(zone);
+        changes.forEach((date, periods) -> {
+            if (date.isBefore(today) || date.isAfter(until)) {
+                return;
+            }
+
+            try {
+                for (PrayerPeriod period : periods) {
+                    LocalDateTime prayerDateTime = LocalDateTime.of(date, getPrayerTime(zone, date, period));
+                    rescheduleNotify(createNotifyPrayerTimingPeriod(zone, period, prayerDateTime));
+                    for (int offsetMinutes : offsets) {
+                        rescheduleNotify(createNotifyPrePrayerTimingPeriod(zone, period, prayerDateTime, offsetMinutes));
+                    }
+                }
+            } catch (PrayerTimingNotFoundException ex) {
+                log.error("Unable to reschedule reminders for {} on {}.", zone, date, ex);
+            }
+        });
     }
 
     /*
         Notification for all prayer timing periods.
      */
 
-    public void notifyAllPrayerTimingPeriods() {
-        PrayerTiming prayerTiming = getPrayerTimingByDate(LocalDate.now());
-
-        String titleTemplate = "Prayer timings for %s";
-        String messageTemplate = """
-            Here is a summary of today's prayer timings:
-            Subuh: %s
-            Syuruk: %s
-            Zohor: %s
-            Asar: %s
-            Maghrib: %s
-            Isyak: %s
-            """;
-
-        String title = String.format(titleTemplate, LocalDate.now().format(DATE_FORMAT));
-        String message = String.format(
-            messageTemplate,
-            convertTime(prayerTiming.getSubuh()).format(TIME_FORMAT),
-            convertTime(prayerTiming.getSyuruk()).format(TIME_FORMAT),
-            convertTime(prayerTiming.getZohor()).format(TIME_FORMAT),
-            convertTime(prayerTiming.getAsar()).format(TIME_FORMAT),
-            convertTime(prayerTiming.getMaghrib()).format(TIME_FORMAT),
-            convertTime(prayerTiming.getIsyak()).format(TIME_FORMAT)
-        );
+    private void notifyAllPrayerTimingPeriods(String zone, LocalDate date) {
+        RoaringBitmap audience = subscriberService.getSummaryAudience(zone);
+        if (audience.isEmpty()) {
+            return;
+        }
 
-        notificationService.sendNotification(title, message);
+        int[] periodMinutes = new int[PrayerPeriod.values().length];
+        for (PrayerPeriod period : PrayerPeriod.values()) {
+            periodMinutes[period.ordinal()] = getMinuteOfDay(zone, date, period);
+        }
+        PrayerNotification notification = prayerNotificationRenderer.renderSummary(zone, date, periodMinutes);
+
+        notificationDispatcher.dispatch(
+                notification.title(),
+                notification.message(),
+                SubscriberAudienceIndex.serialize(audience)
+            )
+            .exceptionally(ex -> {
+                log.error("Failed to send prayer timing summary for {} on {}.", zone, date, ex);
+                return null;
+            });
+    }
+
+    public void notifyAllPrayerTimingPeriods() {
+        for (String zone : getOwnedZones()) {
+            LocalDate today = getToday(zone);
+            try {
+                notifyAllPrayerTimingPeriods(zone, today);
+            } catch (PrayerTimingNotFoundException ex) {
+                log.error("Unable to notify prayer timing summary for {} on {}.", zone, today, ex);
+            }
+        }
     }
 }
@@ -0,0 +1,101 @@
+package io.github.shazxrin.alif.prayer.template;
+
+import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
+import io.github.shazxrin.alif.prayer.model.PrayerNotification;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.reminder.model.ReminderKind;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PrayerNotificationRenderer {
+    private static final int MAX_RENDERED = 100_000;
+
+    private record CompiledTemplate(PrayerTemplate title, PrayerTemplate message) {
+        private static CompiledTemplate compile(PrayerTimingConfiguration.Template template) {
+            return new CompiledTemplate(
+                PrayerTemplate.compile(template.getTitle()),
+                PrayerTemplate.compile(template.getMessage())
+            );
+        }
+    }
+
+    private record RenderKey(ReminderKind kind, String zone, PrayerPeriod period, int minuteOfDay) {
+    }
+
+    private final Map<ReminderKind, CompiledTemplate[]> reminderTemplates = new EnumMap<>(ReminderKind.class);
+    private final CompiledTemplate summaryTemplate;
+    private final String[] prayerNames = new String[PrayerPeriod.values().length];
+    private final DateTimeFormatter dateFormat;
+    private final Map<RenderKey, PrayerNotification> rendered = new ConcurrentHashMap<>();
+    private final ThreadLocal<StringBuilder> builders = ThreadLocal.withInitial(() -> new StringBuilder(256));
+    private final ThreadLocal<PrayerTemplateValues> values = ThreadLocal.withInitial(PrayerTemplateValues::new);
+
+    public PrayerNotificationRenderer(PrayerTimingConfiguration prayerTimingConfiguration) {
+        PrayerTimingConfiguration.Templates templates = prayerTimingConfiguration.getTemplates();
+
+        reminderTemplates.put(ReminderKind.PRAYER, compileReminder(templates.getPrayer()));
+        reminderTemplates.put(ReminderKind.PRE_PRAYER, compileReminder(templates.getPrePrayer()));
+        summaryTemplate = CompiledTemplate.compile(templates.getSummary());
+
+        for (PrayerPeriod period : PrayerPeriod.values()) {
+            prayerNames[period.ordinal()] = templates.getPrayerNames() != null
+                ? templates.getPrayerNames().getOrDefault(period, period.name().toLowerCase(Locale.ROOT))
+                : period.name().toLowerCase(Locale.ROOT);
+        }
+
+        dateFormat = DateTimeFormatter.ofPattern(templates.getDatePattern(), Locale.forLanguageTag(templates.getLocale()));
+    }
+
+    private static CompiledTemplate[] compileReminder(PrayerTimingConfiguration.ReminderTemplate template) {
+        CompiledTemplate fallback = CompiledTemplate.compile(template);
+
+        CompiledTemplate[] compiled = new CompiledTemplate[PrayerPeriod.values().length];
+        for (PrayerPeriod period : PrayerPeriod.values()) {
+            PrayerTimingConfiguration.Template periodTemplate = template.getPeriods().get(period);
+            compiled[period.ordinal()] = periodTemplate != null ? CompiledTemplate.compile(periodTemplate) : fallback;
+        }
+        return compiled;
+    }
+
+    private PrayerNotification render(CompiledTemplate template, PrayerTemplateValues values) {
+        StringBuilder builder = builders.get();
+
+        builder.setLength(0);
+        template.title().render(builder, values);
+        String title = builder.toString();
+
+        builder.setLength(0);
+        template.message().render(builder, values);
+        String message = builder.toString();
+
+        return new PrayerNotification(title, message);
+    }
+
+    public PrayerNotification renderReminder(ReminderKind kind, String zone, PrayerPeriod period, int minuteOfDay) {
+        // The same reminder reads the same for every recipient in a zone, so it is rendered once and shared.
+        if (rendered.size() >= MAX_RENDERED) {
+            rendered.clear();
+        }
+        return rendered.computeIfAbsent(new RenderKey(kind, zone, period, minuteOfDay), key -> {
+            PrayerTemplateValues templateValues = values.get();
+            templateValues.zone = zone;
+            templateValues.prayer = prayerNames[period.ordinal()];
+            templateValues.minuteOfDay = minuteOfDay;
+            return render(reminderTemplates.get(kind)[period.ordinal()], templateValues);
+        });
+    }
+
+    public PrayerNotification renderSummary(String zone, LocalDate date, int[] periodMinutes) {
+        PrayerTemplateValues templateValues = values.get();
+        templateValues.zone = zone;
+        templateValues.date = dateFormat.format(date);
+        System.arraycopy(periodMinutes, 0, templateValues.periodMinutes, 0, templateValues.periodMinutes.length);
+        return render(summaryTemplate, templateValues);
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.shazxrin.alif.prayer.template;
+
+import io.github.shazxrin.alif.prayer.exception.PrayerTemplateException;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/*
+    Template compiled once into literal and variable parts, e.g. "It is time to pray {prayer} at {time} ({zone}).".
+    Period variables such as {subuh} render that period's time for summaries.
+ */
+public class PrayerTemplate {
+    private static final int ZONE = -1;
+    private static final int PRAYER = -2;
+    private static final int TIME = -3;
+    private static final int DATE = -4;
+    private static final int LITERAL = -5;
+
+    private final String[] literals;
+    private final int[] variables;
+
+    private PrayerTemplate(String[] literals, int[] variables) {
+        this.literals = literals;
+        this.variables = variables;
+    }
+
+    public static PrayerTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> variables = new ArrayList<>();
+
+        int start = 0;
+        while (start < source.length()) {
+            int open = source.indexOf('{', start);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf('}', open);
+            if (close < 0) {
+                throw new PrayerTemplateException("Unclosed variable in template \"" + source + "\"!");
+            }
+
+            if (open > start) {
+                literals.add(source.substring(start, open));
+                variables.add(LITERAL);
+            }
+            literals.add(null);
+            variables.add(resolveVariable(source, source.substring(open + 1, close)));
+            start = close + 1;
+        }
+        if (start < source.length()) {
+            literals.add(source.substring(start));
+            variables.add(LITERAL);
+        }
+
+        return new PrayerTemplate(
+            literals.toArray(String[]::new),
+            variables.stream().mapToInt(Integer::intValue).toArray()
+        );
+    }
+
+    private static int resolveVariable(String source, String name) {
+        return switch (name) {
+            case "zone" -> ZONE;
+            case "prayer" -> PRAYER;
+            case "time" -> TIME;
+            case "date" -> DATE;
+            default -> {
+                try {
+                    yield PrayerPeriod.valueOf(name.toUpperCase(Locale.ROOT)).ordinal();
+                } catch (IllegalArgumentException ex) {
+                    throw new PrayerTemplateException("Unknown variable {" + name + "} in template \"" + source + "\"!");
+                }
+            }
+        };
+    }
+
+    private static void appendTime(StringBuilder out, int minuteOfDay) {
+        int hour = minuteOfDay / 60;
+        int minute = minuteOfDay % 60;
+        out.append((char) ('0' + hour / 10)).append((char) ('0' + hour % 10)).append(':');
+        out.append((char) ('0' + minute / 10)).append((char) ('0' + minute % 10));
+    }
+
+    public void render(StringBuilder out, PrayerTemplateValues values) {
+        for (int i = 0; i < variables.length; i++) {
+            switch (variables[i]) {
+                case LITERAL -> out.append(literals[i]);
+                case ZONE -> out.append(values.zone);
+                case PRAYER -> out.append(values.prayer);
+                case TIME -> appendTime(out, values.minuteOfDay);
+                case DATE -> out.append(values.date);
+                default -> appendTime(out, values.periodMinutes[variables[i]]);
+            }
+        }
+    }
+}
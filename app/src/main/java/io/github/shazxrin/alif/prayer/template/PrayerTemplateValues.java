@@ -0,0 +1,12 @@
+package io.github.shazxrin.alif.prayer.template;
+
+/*
+    Mutable holder for the values a template may reference, reused per thread so rendering does not allocate.
+ */
+public class PrayerTemplateValues {
+    public String zone;
+    public String prayer;
+    public int minuteOfDay;
+    public String date;
+    public final int[] periodMinutes = new int[6];
+}
@@ -0,0 +1,34 @@
+package io.github.shazxrin.alif.prayer.trigger;
+
+import io.github.shazxrin.alif.prayer.service.PrayerTimingPartitionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PrayerTimingPartitionMaintenance {
+    private static final Logger log = LoggerFactory.getLogger(PrayerTimingPartitionMaintenance.class);
+
+    private final PrayerTimingPartitionService prayerTimingPartitionService;
+
+    public PrayerTimingPartitionMaintenance(PrayerTimingPartitionService prayerTimingPartitionService) {
+        this.prayerTimingPartitionService = prayerTimingPartitionService;
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkInBootstrap() {
+        log.info("Maintaining prayer timing partitions on application startup.");
+        prayerTimingPartitionService.maintain();
+    }
+
+    @Scheduled(cron = "${app.prayer.retention.schedule-cron}")
+    public void runScheduledPrayerTimingPartitionMaintenance() {
+        log.info("Maintaining prayer timing partitions on schedule.");
+        prayerTimingPartitionService.maintain();
+    }
+}
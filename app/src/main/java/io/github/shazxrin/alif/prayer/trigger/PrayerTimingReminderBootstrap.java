@@ -1,28 +1,72 @@
 package io.github.shazxrin.alif.prayer.trigger;
 
+import io.github.shazxrin.alif.prayer.service.PrayerTimetableFileService;
 import io.github.shazxrin.alif.prayer.service.PrayerTimingService;
+import io.github.shazxrin.alif.reminder.configuration.ReminderConfiguration;
+import io.github.shazxrin.alif.reminder.service.ReminderOutboxService;
+import java.time.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
 
 @Component
 public class PrayerTimingReminderBootstrap {
     private static final Logger log = LoggerFactory.getLogger(PrayerTimingReminderBootstrap.class);
 
+    private final ReminderConfiguration reminderConfiguration;
     private final PrayerTimingService prayerTimingService;
+    private final PrayerTimetableFileService prayerTimetableFileService;
+    private final ReminderOutboxService reminderOutboxService;
 
-    public PrayerTimingReminderBootstrap(PrayerTimingService prayerTimingService) {
+    public PrayerTimingReminderBootstrap(
+        ReminderConfiguration reminderConfiguration,
+        PrayerTimingService prayerTimingService,
+        PrayerTimetableFileService prayerTimetableFileService,
+        ReminderOutboxService reminderOutboxService
+    ) {
+        this.reminderConfiguration = reminderConfiguration;
         this.prayerTimingService = prayerTimingService;
+        this.prayerTimetableFileService = prayerTimetableFileService;
+        this.reminderOutboxService = reminderOutboxService;
     }
 
     @Async
     @EventListener(ApplicationReadyEvent.class)
     public void checkInBootstrap() {
-        log.info("Scheduling prayer timing reminders and pre-prayer timing reminders on application startup.");
-        prayerTimingService.scheduleAllNotifyPrayerTimingPeriods();
-        prayerTimingService.scheduleAllNotifyPrePrayerTimingPeriods();
+        Duration retryInterval = reminderConfiguration.getOutbox().getPollInterval();
+
+        boolean scheduled = false;
+        while (true) {
+            try {
+                // Wake-ups are armed from the timetables restored from file, before anything is written to the outbox.
+                if (!scheduled) {
+                    log.info("Scheduling prayer timing reminders and pre-prayer timing reminders on startup.");
+                    prayerTimingService.scheduleReminders();
+                    scheduled = true;
+                }
+
+                reminderOutboxService.persist();
+
+                log.info("Replaying reminders missed while the application was down.");
+                reminderOutboxService.replayMissed();
+
+                prayerTimetableFileService.reconcile();
+                return;
+            } catch (DataAccessException | TransactionException ex) {
+                log.warn("Database is unavailable during bootstrap, retrying in {}.", retryInterval, ex);
+            }
+
+            try {
+                Thread.sleep(retryInterval.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
     }
 }
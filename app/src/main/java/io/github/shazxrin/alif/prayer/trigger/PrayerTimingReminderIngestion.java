@@ -0,0 +1,45 @@
+package io.github.shazxrin.alif.prayer.trigger;
+
+import io.github.shazxrin.alif.cluster.service.ShardOwnershipService;
+import io.github.shazxrin.alif.prayer.cache.PrayerTimingCache;
+import io.github.shazxrin.alif.prayer.service.PrayerTimingService;
+import io.github.shazxrin.alif.timetable.event.TimetableIngestedEvent;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PrayerTimingReminderIngestion {
+    private static final Logger log = LoggerFactory.getLogger(PrayerTimingReminderIngestion.class);
+
+    private final PrayerTimingCache prayerTimingCache;
+    private final PrayerTimingService prayerTimingService;
+    private final ShardOwnershipService shardOwnershipService;
+
+    public PrayerTimingReminderIngestion(
+        PrayerTimingCache prayerTimingCache,
+        PrayerTimingService prayerTimingService,
+        ShardOwnershipService shardOwnershipService
+    ) {
+        this.prayerTimingCache = prayerTimingCache;
+        this.prayerTimingService = prayerTimingService;
+        this.shardOwnershipService = shardOwnershipService;
+    }
+
+    @Async
+    @EventListener
+    public void onTimetableIngested(TimetableIngestedEvent event) {
+        prayerTimingCache.reload(event.startDate().getYear(), event.endDate().getYear());
+
+        if (!shardOwnershipService.ownsZone(event.zone())) {
+            return;
+        }
+
+        // Days that were missing timings until now are picked up, days already scheduled are left as is.
+        log.info("Topping up prayer timing reminders for {} after timetable ingestion.", event.zone());
+        prayerTimingService.topUpReminders(List.of(event.zone()));
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.shazxrin.alif.prayer.trigger;
+
+import io.github.shazxrin.alif.cluster.event.ShardsAcquiredEvent;
+import io.github.shazxrin.alif.cluster.service.ShardOwnershipService;
+import io.github.shazxrin.alif.prayer.service.PrayerTimingService;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PrayerTimingReminderRebalance {
+    private static final Logger log = LoggerFactory.getLogger(PrayerTimingReminderRebalance.class);
+
+    private final PrayerTimingService prayerTimingService;
+    private final ShardOwnershipService shardOwnershipService;
+
+    public PrayerTimingReminderRebalance(
+        PrayerTimingService prayerTimingService,
+        ShardOwnershipService shardOwnershipService
+    ) {
+        this.prayerTimingService = prayerTimingService;
+        this.shardOwnershipService = shardOwnershipService;
+    }
+
+    @Async
+    @EventListener
+    public void onShardsAcquired(ShardsAcquiredEvent event) {
+        List<String> zones = prayerTimingService.getZones()
+            .stream()
+            .filter(zone -> event.shards().contains(shardOwnershipService.getShard(zone)))
+            .toList();
+        if (zones.isEmpty()) {
+            return;
+        }
+
+        log.info("Scheduling prayer timing reminders and pre-prayer timing reminders for acquired zones {}.", zones);
+        prayerTimingService.scheduleReminders(zones);
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.shazxrin.alif.prayer.trigger;
+
+import io.github.shazxrin.alif.cluster.service.ShardOwnershipService;
+import io.github.shazxrin.alif.prayer.event.PrayerTimetableChangedEvent;
+import io.github.shazxrin.alif.prayer.service.PrayerTimingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PrayerTimingReminderReschedule {
+    private static final Logger log = LoggerFactory.getLogger(PrayerTimingReminderReschedule.class);
+
+    private final PrayerTimingService prayerTimingService;
+    private final ShardOwnershipService shardOwnershipService;
+
+    public PrayerTimingReminderReschedule(
+        PrayerTimingService prayerTimingService,
+        ShardOwnershipService shardOwnershipService
+    ) {
+        this.prayerTimingService = prayerTimingService;
+        this.shardOwnershipService = shardOwnershipService;
+    }
+
+    @Async
+    @EventListener
+    public void onPrayerTimetableChanged(PrayerTimetableChangedEvent event) {
+        if (!shardOwnershipService.ownsZone(event.zone())) {
+            return;
+        }
+
+        log.info("Rescheduling reminders for {} on {} changed days.", event.zone(), event.changes().size());
+        prayerTimingService.rescheduleReminders(event.zone(), event.changes());
+    }
+}
@@ -16,11 +16,13 @@ public class PrayerTimingReminderSchedule {
         this.prayerTimingService = prayerTimingService;
     }
 
-    @Scheduled(cron = "0 0 0 * * *")
-    public void runScheduledSchedulePrayerTimingReminders() {
-        log.info("Running scheduling prayer timing reminders and pre-prayer timing reminders on new day schedule.");
-        prayerTimingService.scheduleAllNotifyPrayerTimingPeriods();
-        prayerTimingService.scheduleAllNotifyPrePrayerTimingPeriods();
+    @Scheduled(
+        initialDelayString = "${app.prayer.horizon.top-up-interval}",
+        fixedDelayString = "${app.prayer.horizon.top-up-interval}"
+    )
+    public void runScheduledTopUpPrayerTimingReminders() {
+        log.info("Running top up of prayer timing reminders and pre-prayer timing reminders to the horizon.");
+        prayerTimingService.topUpReminders();
     }
 
     @Scheduled(cron = "${app.prayer.summary.schedule-cron}")
@@ -0,0 +1,42 @@
+package io.github.shazxrin.alif.prayer.trigger;
+
+import io.github.shazxrin.alif.cluster.service.ShardOwnershipService;
+import io.github.shazxrin.alif.prayer.service.PrayerTimingService;
+import io.github.shazxrin.alif.subscriber.event.PreReminderOffsetsAddedEvent;
+import java.util.SortedSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PrayerTimingReminderSubscription {
+    private static final Logger log = LoggerFactory.getLogger(PrayerTimingReminderSubscription.class);
+
+    private final PrayerTimingService prayerTimingService;
+    private final ShardOwnershipService shardOwnershipService;
+
+    public PrayerTimingReminderSubscription(
+        PrayerTimingService prayerTimingService,
+        ShardOwnershipService shardOwnershipService
+    ) {
+        this.prayerTimingService = prayerTimingService;
+        this.shardOwnershipService = shardOwnershipService;
+    }
+
+    @Async
+    @EventListener
+    public void onPreReminderOffsetsAdded(PreReminderOffsetsAddedEvent event) {
+        for (String zone : prayerTimingService.getZones()) {
+            SortedSet<Integer> offsets = event.offsets().get(zone);
+            if (offsets == null || !shardOwnershipService.ownsZone(zone)) {
+                continue;
+            }
+
+            // Only the new lead times are scheduled, the buckets already on the horizon are left as they are.
+            log.info("Scheduling pre-prayer timing reminders for new lead times {} in {}.", offsets, zone);
+            prayerTimingService.schedulePreReminders(zone, offsets);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.shazxrin.alif.reminder.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@ConfigurationProperties(prefix = "app.reminder")
+@Configuration
+public class ReminderConfiguration {
+    public static class Wheel {
+        public int slotCount;
+        public int maxPending;
+
+        public int getSlotCount() {
+            return slotCount;
+        }
+
+        public void setSlotCount(int slotCount) {
+            this.slotCount = slotCount;
+        }
+
+        public int getMaxPending() {
+            return maxPending;
+        }
+
+        public void setMaxPending(int maxPending) {
+            this.maxPending = maxPending;
+        }
+    }
+
+    public static class Outbox {
+        public Duration pollInterval;
+        public int batchSize;
+        public Duration claimTimeout;
+        public int maxAttempts;
+        public Duration replayWindow;
+        public Duration retention;
+        public String purgeCron;
+
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getClaimTimeout() {
+            return claimTimeout;
+        }
+
+        public void setClaimTimeout(Duration claimTimeout) {
+            this.claimTimeout = claimTimeout;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getReplayWindow() {
+            return replayWindow;
+        }
+
+        public void setReplayWindow(Duration replayWindow) {
+            this.replayWindow = replayWindow;
+        }
+
+        public Duration getRetention() {
+            return retention;
+        }
+
+        public void setRetention(Duration retention) {
+            this.retention = retention;
+        }
+
+        public String getPurgeCron() {
+            return purgeCron;
+        }
+
+        public void setPurgeCron(String purgeCron) {
+            this.purgeCron = purgeCron;
+        }
+    }
+
+    public Wheel wheel;
+    public Outbox outbox;
+
+    public void setWheel(Wheel wheel) {
+        this.wheel = wheel;
+    }
+
+    public Wheel getWheel() {
+        return wheel;
+    }
+
+    public void setOutbox(Outbox outbox) {
+        this.outbox = outbox;
+    }
+
+    public Outbox getOutbox() {
+        return outbox;
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.shazxrin.alif.reminder.endpoint;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.reminder.model.ReminderKind;
+import io.github.shazxrin.alif.reminder.model.ReminderSchedule;
+import io.github.shazxrin.alif.reminder.model.ScheduledReminder;
+import io.github.shazxrin.alif.reminder.registry.ReminderRegistry;
+import io.github.shazxrin.alif.reminder.service.ReminderOutboxService;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/*
+    Reminders armed on this instance. With clustering enabled each instance only lists the zones it owns.
+ */
+@Endpoint(id = "reminders")
+@Component
+public class ReminderEndpoint {
+    private final ReminderRegistry reminderRegistry;
+    private final ReminderOutboxService reminderOutboxService;
+
+    public ReminderEndpoint(ReminderRegistry reminderRegistry, ReminderOutboxService reminderOutboxService) {
+        this.reminderRegistry = reminderRegistry;
+        this.reminderOutboxService = reminderOutboxService;
+    }
+
+    private static <T> T parse(String name, String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidEndpointRequestException("Invalid " + name + " " + value + "!", "Invalid " + name);
+        }
+    }
+
+    private static ScheduledReminder.Key toKey(
+        String kind,
+        String zone,
+        String period,
+        String prayerDate,
+        int offsetMinutes
+    ) {
+        return new ScheduledReminder.Key(
+            parse("kind", kind, ReminderKind::valueOf),
+            zone,
+            parse("period", period, PrayerPeriod::valueOf),
+            parse("date", prayerDate, LocalDate::parse),
+            offsetMinutes
+        );
+    }
+
+    @ReadOperation
+    public ReminderSchedule reminders(@Nullable String zone, @Nullable String period) {
+        return reminderRegistry.getSchedule(zone, period != null ? parse("period", period, PrayerPeriod::valueOf) : null);
+    }
+
+    @DeleteOperation
+    public Map<String, Boolean> cancel(
+        @Selector String kind,
+        @Selector String zone,
+        @Selector String period,
+        @Selector String prayerDate,
+        @Selector int offsetMinutes
+    ) {
+        ScheduledReminder.Key key = toKey(kind, zone, period, prayerDate, offsetMinutes);
+        return Map.of("cancelled", reminderOutboxService.cancel(key));
+    }
+
+    @WriteOperation
+    public Map<String, Boolean> reschedule(
+        @Selector String kind,
+        @Selector String zone,
+        @Selector String period,
+        @Selector String prayerDate,
+        @Selector int offsetMinutes,
+        String fireAt
+    ) {
+        ScheduledReminder.Key key = toKey(kind, zone, period, prayerDate, offsetMinutes);
+        return Map.of("rescheduled", reminderOutboxService.reschedule(key, parse("fireAt", fireAt, Instant::parse)));
+    }
+}
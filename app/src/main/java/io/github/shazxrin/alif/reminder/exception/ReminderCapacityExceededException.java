@@ -0,0 +1,7 @@
+package io.github.shazxrin.alif.reminder.exception;
+
+public class ReminderCapacityExceededException extends RuntimeException {
+    public ReminderCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,5 @@
+package io.github.shazxrin.alif.reminder.model;
+
+public enum ReminderKind {
+    PRAYER, PRE_PRAYER
+}
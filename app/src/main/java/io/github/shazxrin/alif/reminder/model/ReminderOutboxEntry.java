@@ -0,0 +1,186 @@
+package io.github.shazxrin.alif.reminder.model;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Table(name = "reminder_outbox")
+@Entity
+public class ReminderOutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ReminderKind kind;
+
+    @Column(nullable = false, length = 16)
+    private String zone;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private PrayerPeriod period;
+
+    @Column(nullable = false)
+    private LocalDate prayerDate;
+
+    @Column(nullable = false)
+    private int offsetMinutes;
+
+    @Column(nullable = false)
+    private Instant fireAt;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ReminderStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    private Instant claimedAt;
+
+    private Instant sentAt;
+
+    public ReminderOutboxEntry() { }
+
+    public ReminderOutboxEntry(
+        ReminderKind kind,
+        String zone,
+        PrayerPeriod period,
+        LocalDate prayerDate,
+        int offsetMinutes,
+        Instant fireAt,
+        String title,
+        String message
+    ) {
+        this.kind = kind;
+        this.zone = zone;
+        this.period = period;
+        this.prayerDate = prayerDate;
+        this.offsetMinutes = offsetMinutes;
+        this.fireAt = fireAt;
+        this.title = title;
+        this.message = message;
+        this.status = ReminderStatus.PENDING;
+        this.attempts = 0;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public ReminderKind getKind() {
+        return kind;
+    }
+
+    public void setKind(ReminderKind kind) {
+        this.kind = kind;
+    }
+
+    public String getZone() {
+        return zone;
+    }
+
+    public void setZone(String zone) {
+        this.zone = zone;
+    }
+
+    public PrayerPeriod getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(PrayerPeriod period) {
+        this.period = period;
+    }
+
+    public LocalDate getPrayerDate() {
+        return prayerDate;
+    }
+
+    public void setPrayerDate(LocalDate prayerDate) {
+        this.prayerDate = prayerDate;
+    }
+
+    public int getOffsetMinutes() {
+        return offsetMinutes;
+    }
+
+    public void setOffsetMinutes(int offsetMinutes) {
+        this.offsetMinutes = offsetMinutes;
+    }
+
+    public Instant getFireAt() {
+        return fireAt;
+    }
+
+    public void setFireAt(Instant fireAt) {
+        this.fireAt = fireAt;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public ReminderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ReminderStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(Instant claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public Instant getSentAt() {
+        return sentAt;
+    }
+
+    public void setSentAt(Instant sentAt) {
+        this.sentAt = sentAt;
+    }
+}
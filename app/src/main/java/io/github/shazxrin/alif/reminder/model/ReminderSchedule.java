@@ -0,0 +1,12 @@
+package io.github.shazxrin.alif.reminder.model;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import java.util.List;
+import java.util.Map;
+
+public record ReminderSchedule(
+    int total,
+    Map<String, Map<PrayerPeriod, Integer>> counts,
+    List<ScheduledReminder> reminders
+) {
+}
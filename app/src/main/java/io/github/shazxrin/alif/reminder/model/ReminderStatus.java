@@ -0,0 +1,5 @@
+package io.github.shazxrin.alif.reminder.model;
+
+public enum ReminderStatus {
+    PENDING, DISPATCHING, SENT, EXPIRED, SKIPPED, CANCELLED, FAILED
+}
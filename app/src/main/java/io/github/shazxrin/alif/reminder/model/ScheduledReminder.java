@@ -0,0 +1,43 @@
+package io.github.shazxrin.alif.reminder.model;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record ScheduledReminder(
+    ReminderKind kind,
+    String zone,
+    PrayerPeriod period,
+    LocalDate prayerDate,
+    int offsetMinutes,
+    Instant fireAt
+) {
+    public record Key(ReminderKind kind, String zone, PrayerPeriod period, LocalDate prayerDate, int offsetMinutes) {
+    }
+
+    public static ScheduledReminder of(ReminderOutboxEntry entry) {
+        return new ScheduledReminder(
+            entry.getKind(),
+            entry.getZone(),
+            entry.getPeriod(),
+            entry.getPrayerDate(),
+            entry.getOffsetMinutes(),
+            entry.getFireAt()
+        );
+    }
+
+    public static ScheduledReminder of(Key key, Instant fireAt) {
+        return new ScheduledReminder(
+            key.kind(),
+            key.zone(),
+            key.period(),
+            key.prayerDate(),
+            key.offsetMinutes(),
+            fireAt
+        );
+    }
+
+    public Key key() {
+        return new Key(kind, zone, period, prayerDate, offsetMinutes);
+    }
+}
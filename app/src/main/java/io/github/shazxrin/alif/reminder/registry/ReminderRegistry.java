@@ -0,0 +1,61 @@
+package io.github.shazxrin.alif.reminder.registry;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.reminder.model.ReminderSchedule;
+import io.github.shazxrin.alif.reminder.model.ScheduledReminder;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/*
+    Reminders this instance has armed and not yet seen through. Reads walk the map without locking, so inspecting
+    the schedule never holds up enqueueing or dispatching.
+ */
+@Component
+public class ReminderRegistry {
+    private static final Comparator<ScheduledReminder> FIRE_ORDER = Comparator
+        .comparing(ScheduledReminder::fireAt)
+        .thenComparing(ScheduledReminder::zone)
+        .thenComparing(ScheduledReminder::period);
+
+    private final Map<ScheduledReminder.Key, ScheduledReminder> reminders = new ConcurrentHashMap<>();
+
+    public void put(ScheduledReminder reminder) {
+        reminders.put(reminder.key(), reminder);
+    }
+
+    public void remove(ScheduledReminder.Key key) {
+        reminders.remove(key);
+    }
+
+    public void removeFiredBefore(Instant fireBefore) {
+        reminders.values().removeIf(reminder -> reminder.fireAt().isBefore(fireBefore));
+    }
+
+    public int size() {
+        return reminders.size();
+    }
+
+    public ReminderSchedule getSchedule(String zone, PrayerPeriod period) {
+        Map<String, Map<PrayerPeriod, Integer>> counts = new TreeMap<>();
+        List<ScheduledReminder> matched = new ArrayList<>();
+        for (ScheduledReminder reminder : reminders.values()) {
+            if ((zone != null && !zone.equals(reminder.zone())) || (period != null && period != reminder.period())) {
+                continue;
+            }
+
+            matched.add(reminder);
+            counts.computeIfAbsent(reminder.zone(), ignored -> new EnumMap<>(PrayerPeriod.class))
+                .merge(reminder.period(), 1, Integer::sum);
+        }
+        matched.sort(FIRE_ORDER);
+
+        return new ReminderSchedule(matched.size(), counts, matched);
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.shazxrin.alif.reminder.repository;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.reminder.model.ReminderKind;
+import io.github.shazxrin.alif.reminder.model.ReminderOutboxEntry;
+import io.github.shazxrin.alif.reminder.model.ReminderStatus;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReminderOutboxRepository extends CrudRepository<ReminderOutboxEntry, Long> {
+    @Modifying
+    @Query(
+        nativeQuery = true,
+        value = """
+            INSERT INTO reminder_outbox
+                (kind, zone, period, prayer_date, offset_minutes, fire_at, title, message, status, attempts)
+            VALUES
+                (:kind, :zone, :period, :prayerDate, :offsetMinutes, :fireAt, :title, :message, 'PENDING', 0)
+            ON CONFLICT (kind, zone, period, prayer_date, offset_minutes) DO NOTHING
+            """
+    )
+    int insertIfAbsent(
+        @Param("kind") String kind,
+        @Param("zone") String zone,
+        @Param("period") String period,
+        @Param("prayerDate") LocalDate prayerDate,
+        @Param("offsetMinutes") int offsetMinutes,
+        @Param("fireAt") Instant fireAt,
+        @Param("title") String title,
+        @Param("message") String message
+    );
+
+    @Modifying
+    @Query(
+        nativeQuery = true,
+        value = """
+            INSERT INTO reminder_outbox
+                (kind, zone, period, prayer_date, offset_minutes, fire_at, title, message, status, attempts)
+            VALUES
+                (:kind, :zone, :period, :prayerDate, :offsetMinutes, :fireAt, :title, :message, 'PENDING', 0)
+            ON CONFLICT (kind, zone, period, prayer_date, offset_minutes) DO UPDATE SET
+                fire_at = EXCLUDED.fire_at,
+                title = EXCLUDED.title,
+                message = EXCLUDED.message
+            WHERE reminder_outbox.status = 'PENDING'
+                AND (reminder_outbox.fire_at, reminder_outbox.title, reminder_outbox.message)
+                    IS DISTINCT FROM (EXCLUDED.fire_at, EXCLUDED.title, EXCLUDED.message)
+            """
+    )
+    int upsertPending(
+        @Param("kind") String kind,
+        @Param("zone") String zone,
+        @Param("period") String period,
+        @Param("prayerDate") LocalDate prayerDate,
+        @Param("offsetMinutes") int offsetMinutes,
+        @Param("fireAt") Instant fireAt,
+        @Param("title") String title,
+        @Param("message") String message
+    );
+
+    @Query(
+        nativeQuery = true,
+        value = """
+            SELECT * FROM reminder_outbox
+            WHERE status = 'PENDING' AND fire_at <= :now
+            ORDER BY fire_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """
+    )
+    List<ReminderOutboxEntry> findDueForUpdate(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+        UPDATE ReminderOutboxEntry e
+        SET e.status = :toStatus, e.claimedAt = NULL
+        WHERE e.status = :fromStatus AND e.claimedAt < :claimedBefore
+        """)
+    int releaseClaimedBefore(
+        @Param("fromStatus") ReminderStatus fromStatus,
+        @Param("toStatus") ReminderStatus toStatus,
+        @Param("claimedBefore") Instant claimedBefore
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE ReminderOutboxEntry e
+        SET e.status = :toStatus, e.sentAt = :sentAt, e.claimedAt = NULL
+        WHERE e.id = :id AND e.status = :fromStatus AND e.claimedAt = :claimedAt
+        """)
+    int updateStatusByIdAndClaimedAt(
+        @Param("id") Long id,
+        @Param("claimedAt") Instant claimedAt,
+        @Param("fromStatus") ReminderStatus fromStatus,
+        @Param("toStatus") ReminderStatus toStatus,
+        @Param("sentAt") Instant sentAt
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE ReminderOutboxEntry e
+        SET e.status = :toStatus
+        WHERE e.status = :fromStatus AND e.fireAt < :fireBefore
+        """)
+    int updateStatusByFireAtBefore(
+        @Param("fromStatus") ReminderStatus fromStatus,
+        @Param("toStatus") ReminderStatus toStatus,
+        @Param("fireBefore") Instant fireBefore
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE ReminderOutboxEntry e
+        SET e.status = :toStatus
+        WHERE e.kind = :kind AND e.zone = :zone AND e.period = :period AND e.prayerDate = :prayerDate
+            AND e.offsetMinutes = :offsetMinutes AND e.status = :fromStatus
+        """)
+    int updateStatusByKey(
+        @Param("kind") ReminderKind kind,
+        @Param("zone") String zone,
+        @Param("period") PrayerPeriod period,
+        @Param("prayerDate") LocalDate prayerDate,
+        @Param("offsetMinutes") int offsetMinutes,
+        @Param("fromStatus") ReminderStatus fromStatus,
+        @Param("toStatus") ReminderStatus toStatus
+    );
+
+    @Modifying
+    @Query("""
+        UPDATE ReminderOutboxEntry e
+        SET e.fireAt = :fireAt
+        WHERE e.kind = :kind AND e.zone = :zone AND e.period = :period AND e.prayerDate = :prayerDate
+            AND e.offsetMinutes = :offsetMinutes AND e.status = :status
+        """)
+    int updateFireAtByKey(
+        @Param("kind") ReminderKind kind,
+        @Param("zone") String zone,
+        @Param("period") PrayerPeriod period,
+        @Param("prayerDate") LocalDate prayerDate,
+        @Param("offsetMinutes") int offsetMinutes,
+        @Param("status") ReminderStatus status,
+        @Param("fireAt") Instant fireAt
+    );
+
+    @Modifying
+    @Query("DELETE FROM ReminderOutboxEntry e WHERE e.status IN :statuses AND e.fireAt < :fireBefore")
+    int deleteByStatusInAndFireAtBefore(
+        @Param("statuses") List<ReminderStatus> statuses,
+        @Param("fireBefore") Instant fireBefore
+    );
+}
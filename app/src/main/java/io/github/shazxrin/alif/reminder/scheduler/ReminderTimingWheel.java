@@ -0,0 +1,135 @@
+package io.github.shazxrin.alif.reminder.scheduler;
+
+import io.github.shazxrin.alif.reminder.exception.ReminderCapacityExceededException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/*
+    Hashed timing wheel with one slot per minute. Entries further out than one revolution stay in
+    their slot and are skipped until their minute comes around. Not thread-safe; callers synchronize.
+ */
+public class ReminderTimingWheel {
+    public static class Entry {
+        private final long epochMinute;
+        private final Runnable task;
+        private Entry previous;
+        private Entry next;
+        private boolean linked;
+
+        private Entry(long epochMinute, Runnable task) {
+            this.epochMinute = epochMinute;
+            this.task = task;
+        }
+
+        public long getEpochMinute() {
+            return epochMinute;
+        }
+
+        public Runnable getTask() {
+            return task;
+        }
+
+        public boolean isPending() {
+            return linked;
+        }
+    }
+
+    private final Entry[] slots;
+    private final int mask;
+    private final int maxPending;
+    private long currentMinute;
+    private int size = 0;
+
+    public ReminderTimingWheel(int slotCount, int maxPending, long currentMinute) {
+        if (slotCount <= 0 || Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("Slot count must be a power of two!");
+        }
+
+        this.slots = new Entry[slotCount];
+        this.mask = slotCount - 1;
+        this.maxPending = maxPending;
+        this.currentMinute = currentMinute;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getCurrentMinute() {
+        return currentMinute;
+    }
+
+    public Entry add(long epochMinute, Runnable task) {
+        if (size >= maxPending) {
+            throw new ReminderCapacityExceededException("Reminder wheel is full!");
+        }
+
+        // Anything at or before the current minute fires on the next tick.
+        Entry entry = new Entry(Math.max(epochMinute, currentMinute + 1), task);
+        int slot = (int) (entry.epochMinute & mask);
+        entry.next = slots[slot];
+        if (entry.next != null) {
+            entry.next.previous = entry;
+        }
+        slots[slot] = entry;
+        entry.linked = true;
+        size++;
+
+        return entry;
+    }
+
+    public boolean cancel(Entry entry) {
+        if (!entry.linked) {
+            return false;
+        }
+
+        unlink(entry);
+        return true;
+    }
+
+    public void advance(long toMinute, Consumer<List<Runnable>> batchConsumer) {
+        // After one full revolution every slot has been visited, so catching up is bounded.
+        long steps = Math.min(toMinute - currentMinute, slots.length);
+        for (long i = 1; i <= steps; i++) {
+            int slot = (int) ((currentMinute + i) & mask);
+
+            List<Runnable> batch = null;
+            Entry entry = slots[slot];
+            while (entry != null) {
+                Entry next = entry.next;
+                if (entry.epochMinute <= toMinute) {
+                    unlink(entry);
+                    if (batch == null) {
+                        batch = new ArrayList<>();
+                    }
+                    batch.add(entry.task);
+                }
+                entry = next;
+            }
+
+            if (batch != null) {
+                batchConsumer.accept(batch);
+            }
+        }
+
+        currentMinute = Math.max(currentMinute, toMinute);
+    }
+
+    private void unlink(Entry entry) {
+        int slot = (int) (entry.epochMinute & mask);
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            slots[slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+
+        entry.previous = null;
+        entry.next = null;
+        entry.linked = false;
+        size--;
+    }
+}
@@ -0,0 +1,472 @@
+package io.github.shazxrin.alif.reminder.service;
+
+import io.github.shazxrin.alif.notification.service.NotificationDispatcher;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.reminder.configuration.ReminderConfiguration;
+import io.github.shazxrin.alif.reminder.exception.ReminderCapacityExceededException;
+import io.github.shazxrin.alif.reminder.model.ReminderKind;
+import io.github.shazxrin.alif.reminder.model.ReminderOutboxEntry;
+import io.github.shazxrin.alif.reminder.model.ReminderStatus;
+import io.github.shazxrin.alif.reminder.model.ScheduledReminder;
+import io.github.shazxrin.alif.reminder.registry.ReminderRegistry;
+import io.github.shazxrin.alif.reminder.repository.ReminderOutboxRepository;
+import io.github.shazxrin.alif.subscriber.index.SubscriberAudienceIndex;
+import io.github.shazxrin.alif.subscriber.service.SubscriberService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class ReminderOutboxService {
+    private static final Logger log = LoggerFactory.getLogger(ReminderOutboxService.class);
+
+    private final ReminderConfiguration reminderConfiguration;
+    private final ReminderOutboxRepository reminderOutboxRepository;
+    private final ReminderSchedulerService reminderSchedulerService;
+    private final ReminderRegistry reminderRegistry;
+    private final NotificationDispatcher notificationDispatcher;
+    private final SubscriberService subscriberService;
+    private final Map<ReminderKind, Map<ReminderStatus, Counter>> completedCounters =
+        new EnumMap<>(ReminderKind.class);
+    private final Map<ReminderKind, Counter> lostClaimCounters = new EnumMap<>(ReminderKind.class);
+    private final Map<ReminderKind, Timer> deliveryTimers = new EnumMap<>(ReminderKind.class);
+    private final Map<ReminderKind, Map<PrayerPeriod, Timer>> driftTimers = new EnumMap<>(ReminderKind.class);
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<Long> armedMinutes = ConcurrentHashMap.newKeySet();
+    private final Map<ScheduledReminder.Key, ReminderOutboxEntry> staged = new ConcurrentHashMap<>();
+    private final Object persistLock = new Object();
+
+    public ReminderOutboxService(
+        ReminderConfiguration reminderConfiguration,
+        ReminderOutboxRepository reminderOutboxRepository,
+        ReminderSchedulerService reminderSchedulerService,
+        ReminderRegistry reminderRegistry,
+        NotificationDispatcher notificationDispatcher,
+        SubscriberService subscriberService,
+        MeterRegistry meterRegistry,
+        Clock clock,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.reminderConfiguration = reminderConfiguration;
+        this.reminderOutboxRepository = reminderOutboxRepository;
+        this.reminderSchedulerService = reminderSchedulerService;
+        this.reminderRegistry = reminderRegistry;
+        this.notificationDispatcher = notificationDispatcher;
+        this.subscriberService = subscriberService;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // Meters are registered up front so dispatching a reminder never looks one up.
+        for (ReminderKind kind : ReminderKind.values()) {
+            Map<ReminderStatus, Counter> statusCounters = new EnumMap<>(ReminderStatus.class);
+            for (ReminderStatus status : ReminderStatus.values()) {
+                statusCounters.put(
+                    status,
+                    Counter.builder("alif.reminder.completed")
+                        .description("Reminders that finished a dispatch attempt, by outcome")
+                        .tag("kind", kind.name())
+                        .tag("status", status.name())
+                        .register(meterRegistry)
+                );
+            }
+            completedCounters.put(kind, statusCounters);
+
+            lostClaimCounters.put(
+                kind,
+                Counter.builder("alif.reminder.claims.lost")
+                    .description("Reminders whose claim was released or changed before their dispatch completed")
+                    .tag("kind", kind.name())
+                    .register(meterRegistry)
+            );
+
+            // From the intended fire time until the broker confirmed it, which is what the on-time SLO is held to.
+            deliveryTimers.put(
+                kind,
+                Timer.builder("alif.reminder.delivery")
+                    .description("Time from the intended fire time of a reminder until the broker confirmed it")
+                    .tag("kind", kind.name())
+                    .register(meterRegistry)
+            );
+
+            Map<PrayerPeriod, Timer> periodTimers = new EnumMap<>(PrayerPeriod.class);
+            for (PrayerPeriod period : PrayerPeriod.values()) {
+                periodTimers.put(
+                    period,
+                    Timer.builder("alif.reminder.drift")
+                        .description(
+                            "Time from the intended fire time of a reminder until it was picked up for dispatch"
+                        )
+                        .tag("kind", kind.name())
+                        .tag("period", period.name())
+                        .register(meterRegistry)
+                );
+            }
+            driftTimers.put(kind, periodTimers);
+        }
+    }
+
+    private void arm(Instant fireAt) {
+        // One wake-up per minute is enough, since a single dispatch drains everything due by then.
+        long epochMinute = Math.floorDiv(fireAt.getEpochSecond(), 60);
+        if (!armedMinutes.add(epochMinute)) {
+            return;
+        }
+
+        try {
+            reminderSchedulerService.schedule(
+                () -> {
+                    armedMinutes.remove(epochMinute);
+                    dispatchDue();
+                },
+                fireAt
+            );
+        } catch (ReminderCapacityExceededException ex) {
+            // The row still reaches the outbox, so the poll sends it, just without the on-time wake-up.
+            armedMinutes.remove(epochMinute);
+            log.warn("Reminder wheel is full, reminders due at {} are left to the outbox poll.", fireAt);
+        }
+    }
+
+    public boolean isExpired(Instant fireAt) {
+        return fireAt.isBefore(clock.instant().minus(reminderConfiguration.getOutbox().getReplayWindow()));
+    }
+
+    public void enqueue(ReminderOutboxEntry entry) {
+        // Armed straight away and written to the outbox on the next persist, so scheduling never waits on the database.
+        ScheduledReminder reminder = ScheduledReminder.of(entry);
+        staged.put(reminder.key(), entry);
+        arm(entry.getFireAt());
+        reminderRegistry.put(reminder);
+    }
+
+    public int getStagedCount() {
+        return staged.size();
+    }
+
+    public int persist() {
+        int batchSize = reminderConfiguration.getOutbox().getBatchSize();
+
+        synchronized (persistLock) {
+            int inserted = 0;
+            List<ReminderOutboxEntry> batch = new ArrayList<>(batchSize);
+            for (ReminderOutboxEntry entry : staged.values()) {
+                batch.add(entry);
+                if (batch.size() == batchSize) {
+                    inserted += persist(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                inserted += persist(batch);
+            }
+            return inserted;
+        }
+    }
+
+    private int persist(List<ReminderOutboxEntry> batch) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            int count = 0;
+            for (ReminderOutboxEntry entry : batch) {
+                // The row may have been enqueued by another instance, which still leaves this one's wake-up armed.
+                count += reminderOutboxRepository.insertIfAbsent(
+                    entry.getKind().name(),
+                    entry.getZone(),
+                    entry.getPeriod().name(),
+                    entry.getPrayerDate(),
+                    entry.getOffsetMinutes(),
+                    entry.getFireAt(),
+                    entry.getTitle(),
+                    entry.getMessage()
+                );
+            }
+            return count;
+        });
+
+        // Entries staged again meanwhile are newer, so they stay for the next persist.
+        for (ReminderOutboxEntry entry : batch) {
+            staged.remove(ScheduledReminder.of(entry).key(), entry);
+        }
+        return inserted == null ? 0 : inserted;
+    }
+
+    public boolean reschedule(ReminderOutboxEntry entry) {
+        // Reminders already sent or being sent are left alone, only pending ones move to the new time.
+        Integer updated = transactionTemplate.execute(status -> reminderOutboxRepository.upsertPending(
+            entry.getKind().name(),
+            entry.getZone(),
+            entry.getPeriod().name(),
+            entry.getPrayerDate(),
+            entry.getOffsetMinutes(),
+            entry.getFireAt(),
+            entry.getTitle(),
+            entry.getMessage()
+        ));
+        if (updated == null || updated == 0) {
+            return false;
+        }
+
+        // The wake-up armed for the old time stays behind, but finds nothing due when it fires.
+        arm(entry.getFireAt());
+        reminderRegistry.put(ScheduledReminder.of(entry));
+        return true;
+    }
+
+    public boolean cancel(ScheduledReminder.Key key) {
+        persist();
+        Integer cancelled = transactionTemplate.execute(status -> reminderOutboxRepository.updateStatusByKey(
+            key.kind(),
+            key.zone(),
+            key.period(),
+            key.prayerDate(),
+            key.offsetMinutes(),
+            ReminderStatus.PENDING,
+            ReminderStatus.CANCELLED
+        ));
+        if (cancelled == null || cancelled == 0) {
+            return false;
+        }
+
+        reminderRegistry.remove(key);
+        log.info("Cancelled {} reminder for {} in {} on {}.", key.kind(), key.period(), key.zone(), key.prayerDate());
+        return true;
+    }
+
+    public boolean reschedule(ScheduledReminder.Key key, Instant fireAt) {
+        persist();
+        Integer updated = transactionTemplate.execute(status -> reminderOutboxRepository.updateFireAtByKey(
+            key.kind(),
+            key.zone(),
+            key.period(),
+            key.prayerDate(),
+            key.offsetMinutes(),
+            ReminderStatus.PENDING,
+            fireAt
+        ));
+        if (updated == null || updated == 0) {
+            return false;
+        }
+
+        arm(fireAt);
+        reminderRegistry.put(ScheduledReminder.of(key, fireAt));
+        log.info(
+            "Rescheduled {} reminder for {} in {} on {} to {}.",
+            key.kind(),
+            key.period(),
+            key.zone(),
+            key.prayerDate(),
+            fireAt
+        );
+        return true;
+    }
+
+    private List<ReminderOutboxEntry> claimDue() {
+        return transactionTemplate.execute(status -> {
+            // Truncated to what the column stores, so completing the claim can match on it exactly.
+            Instant now = clock.instant().truncatedTo(ChronoUnit.MICROS);
+            List<ReminderOutboxEntry> entries = reminderOutboxRepository.findDueForUpdate(
+                now,
+                reminderConfiguration.getOutbox().getBatchSize()
+            );
+            for (ReminderOutboxEntry entry : entries) {
+                entry.setStatus(ReminderStatus.DISPATCHING);
+                entry.setClaimedAt(now);
+                entry.setAttempts(entry.getAttempts() + 1);
+            }
+            return entries;
+        });
+    }
+
+    private void complete(ReminderOutboxEntry entry, ReminderStatus status) {
+        Instant now = clock.instant();
+        Instant sentAt = status == ReminderStatus.SENT ? now : null;
+
+        // Only a claim still held by this dispatch is completed, a row released to another instance or cancelled since
+        // is left as it is.
+        Integer updated = transactionTemplate.execute(
+            transactionStatus -> reminderOutboxRepository.updateStatusByIdAndClaimedAt(
+                entry.getId(),
+                entry.getClaimedAt(),
+                ReminderStatus.DISPATCHING,
+                status,
+                sentAt
+            )
+        );
+        if (updated == null || updated == 0) {
+            lostClaimCounters.get(entry.getKind()).increment();
+            log.warn(
+                "Lost the claim on {} reminder for {} in {} before it could be marked {}.",
+                entry.getKind(),
+                entry.getPeriod(),
+                entry.getZone(),
+                status
+            );
+            return;
+        }
+
+        entry.setStatus(status);
+        entry.setClaimedAt(null);
+        entry.setSentAt(sentAt);
+        if (status != ReminderStatus.PENDING) {
+            reminderRegistry.remove(ScheduledReminder.of(entry).key());
+        }
+
+        completedCounters.get(entry.getKind()).get(status).increment();
+        if (status == ReminderStatus.SENT) {
+            deliveryTimers.get(entry.getKind()).record(Duration.between(entry.getFireAt(), now));
+        }
+    }
+
+    private ReminderStatus getFailedStatus(ReminderOutboxEntry entry) {
+        // Failed reminders go back to pending and are retried on the next poll, until they run out of attempts.
+        if (entry.getAttempts() < reminderConfiguration.getOutbox().getMaxAttempts()) {
+            return ReminderStatus.PENDING;
+        }
+
+        log.error(
+            "Giving up on {} reminder for {} in {} after {} attempts.",
+            entry.getKind(),
+            entry.getPeriod(),
+            entry.getZone(),
+            entry.getAttempts()
+        );
+        return ReminderStatus.FAILED;
+    }
+
+    private void recordDrift(ReminderOutboxEntry entry) {
+        driftTimers.get(entry.getKind())
+            .get(entry.getPeriod())
+            .record(Duration.between(entry.getFireAt(), entry.getClaimedAt()));
+    }
+
+    private RoaringBitmap getAudience(ReminderOutboxEntry entry) {
+        // Audiences are resolved at dispatch so subscription changes after scheduling still apply.
+        return switch (entry.getKind()) {
+            case PRAYER -> subscriberService.getReminderAudience(entry.getZone(), entry.getPeriod());
+            case PRE_PRAYER -> subscriberService.getPreReminderAudience(
+                entry.getZone(),
+                entry.getPeriod(),
+                entry.getOffsetMinutes()
+            );
+        };
+    }
+
+    public void dispatchDue() {
+        int batchSize = reminderConfiguration.getOutbox().getBatchSize();
+
+        // Staged reminders are written first, so the ones this wake-up was armed for can be claimed below.
+        try {
+            persist();
+        } catch (DataAccessException | TransactionException ex) {
+            log.warn("Unable to persist {} staged reminders, will retry on the next poll.", staged.size(), ex);
+            return;
+        }
+
+        List<ReminderOutboxEntry> entries;
+        do {
+            // Leave due reminders pending while the broker is known to be down instead of queueing up doomed sends.
+            if (!notificationDispatcher.isAvailable()) {
+                log.warn("Notification dispatcher is unavailable, deferring due reminders.");
+                return;
+            }
+
+            entries = claimDue();
+            for (ReminderOutboxEntry entry : entries) {
+                recordDrift(entry);
+
+                RoaringBitmap audience = getAudience(entry);
+                if (audience.isEmpty()) {
+                    complete(entry, ReminderStatus.SKIPPED);
+                    continue;
+                }
+
+                byte[] serializedAudience = SubscriberAudienceIndex.serialize(audience);
+                notificationDispatcher.dispatch(entry.getTitle(), entry.getMessage(), serializedAudience)
+                    .whenComplete((ignored, ex) -> {
+                        if (ex != null) {
+                            log.error(
+                                "Failed to send {} reminder for {} in {}.",
+                                entry.getKind(),
+                                entry.getPeriod(),
+                                entry.getZone(),
+                                ex
+                            );
+                        }
+                        complete(entry, ex == null ? ReminderStatus.SENT : getFailedStatus(entry));
+                    });
+            }
+        } while (entries.size() == batchSize);
+    }
+
+    public void replayMissed() {
+        Instant expireBefore = clock.instant().minus(reminderConfiguration.getOutbox().getReplayWindow());
+        Integer expired = transactionTemplate.execute(status -> reminderOutboxRepository.updateStatusByFireAtBefore(
+            ReminderStatus.PENDING,
+            ReminderStatus.EXPIRED,
+            expireBefore
+        ));
+        if (expired != null && expired > 0) {
+            log.info("Expired {} reminders missed beyond the replay window.", expired);
+        }
+        reminderRegistry.removeFiredBefore(expireBefore);
+
+        log.info("Replaying missed reminders.");
+        dispatchDue();
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.reminder.outbox.poll-interval}",
+        fixedDelayString = "${app.reminder.outbox.poll-interval}"
+    )
+    public void poll() {
+        Instant claimedBefore = clock.instant().minus(reminderConfiguration.getOutbox().getClaimTimeout());
+        Integer released = transactionTemplate.execute(status -> reminderOutboxRepository.releaseClaimedBefore(
+            ReminderStatus.DISPATCHING,
+            ReminderStatus.PENDING,
+            claimedBefore
+        ));
+        if (released != null && released > 0) {
+            log.info("Released {} reminders claimed by an unresponsive worker.", released);
+        }
+
+        // Reminders sent by another instance never complete here, so they drop out once past the replay window.
+        reminderRegistry.removeFiredBefore(clock.instant().minus(reminderConfiguration.getOutbox().getReplayWindow()));
+
+        dispatchDue();
+    }
+
+    @Scheduled(cron = "${app.reminder.outbox.purge-cron}")
+    public void purge() {
+        Instant fireBefore = clock.instant().minus(reminderConfiguration.getOutbox().getRetention());
+        Integer purged = transactionTemplate.execute(status -> reminderOutboxRepository.deleteByStatusInAndFireAtBefore(
+            List.of(
+                ReminderStatus.SENT,
+                ReminderStatus.EXPIRED,
+                ReminderStatus.SKIPPED,
+                ReminderStatus.CANCELLED,
+                ReminderStatus.FAILED
+            ),
+            fireBefore
+        ));
+        log.info("Purged {} reminders from the outbox.", purged);
+    }
+}
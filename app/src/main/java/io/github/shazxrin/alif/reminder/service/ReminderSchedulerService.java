@@ -0,0 +1,102 @@
+package io.github.shazxrin.alif.reminder.service;
+
+import io.github.shazxrin.alif.reminder.configuration.ReminderConfiguration;
+import io.github.shazxrin.alif.reminder.scheduler.ReminderTimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ReminderSchedulerService {
+    private static final Logger log = LoggerFactory.getLogger(ReminderSchedulerService.class);
+    private static final Duration TICK_DURATION = Duration.ofMinutes(1);
+
+    private final TaskScheduler taskScheduler;
+    private final Clock clock;
+    private final ReminderTimingWheel reminderTimingWheel;
+
+    private ScheduledFuture<?> tickFuture;
+
+    public ReminderSchedulerService(
+        ReminderConfiguration reminderConfiguration,
+        TaskScheduler taskScheduler,
+        Clock clock
+    ) {
+        this.taskScheduler = taskScheduler;
+        this.clock = clock;
+        this.reminderTimingWheel = new ReminderTimingWheel(
+            reminderConfiguration.getWheel().getSlotCount(),
+            reminderConfiguration.getWheel().getMaxPending(),
+            toEpochMinute(clock.instant())
+        );
+    }
+
+    private static long toEpochMinute(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), 60);
+    }
+
+    @PostConstruct
+    public void start() {
+        Instant nextMinute = Instant.ofEpochSecond((toEpochMinute(clock.instant()) + 1) * 60);
+        tickFuture = taskScheduler.scheduleAtFixedRate(this::tick, nextMinute, TICK_DURATION);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (tickFuture != null) {
+            tickFuture.cancel(false);
+        }
+    }
+
+    public ReminderTimingWheel.Entry schedule(Runnable task, Instant instant) {
+        synchronized (reminderTimingWheel) {
+            return reminderTimingWheel.add(toEpochMinute(instant), task);
+        }
+    }
+
+    public boolean cancel(ReminderTimingWheel.Entry entry) {
+        synchronized (reminderTimingWheel) {
+            return reminderTimingWheel.cancel(entry);
+        }
+    }
+
+    public int getPendingCount() {
+        synchronized (reminderTimingWheel) {
+            return reminderTimingWheel.size();
+        }
+    }
+
+    public void tick() {
+        long toMinute = toEpochMinute(clock.instant());
+
+        // Batches are collected under the lock and run outside it so scheduling is never blocked by sending.
+        List<List<Runnable>> batches = new ArrayList<>();
+        synchronized (reminderTimingWheel) {
+            reminderTimingWheel.advance(toMinute, batches::add);
+        }
+
+        for (List<Runnable> batch : batches) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(List<Runnable> batch) {
+        log.info("Dispatching batch of {} reminders.", batch.size());
+        for (Runnable task : batch) {
+            try {
+                task.run();
+            } catch (RuntimeException ex) {
+                log.error("Reminder failed to run.", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.shazxrin.alif.subscriber.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@ConfigurationProperties(prefix = "app.subscriber")
+@Configuration
+public class SubscriberConfiguration {
+    public Duration refreshInterval;
+    public int maxPreReminderMinutes;
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public int getMaxPreReminderMinutes() {
+        return maxPreReminderMinutes;
+    }
+
+    public void setMaxPreReminderMinutes(int maxPreReminderMinutes) {
+        this.maxPreReminderMinutes = maxPreReminderMinutes;
+    }
+}
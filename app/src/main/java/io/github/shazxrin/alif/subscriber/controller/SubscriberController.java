@@ -0,0 +1,53 @@
+package io.github.shazxrin.alif.subscriber.controller;
+
+import io.github.shazxrin.alif.subscriber.model.Subscriber;
+import io.github.shazxrin.alif.subscriber.model.SubscriberRequest;
+import io.github.shazxrin.alif.subscriber.service.SubscriberService;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/subscribers")
+public class SubscriberController {
+    private final SubscriberService subscriberService;
+
+    public SubscriberController(SubscriberService subscriberService) {
+        this.subscriberService = subscriberService;
+    }
+
+    @GetMapping
+    public List<Subscriber> getSubscribers() {
+        return subscriberService.getSubscribers();
+    }
+
+    @GetMapping("/{id}")
+    public Subscriber getSubscriber(@PathVariable int id) {
+        return subscriberService.getSubscriber(id);
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public Subscriber createSubscriber(@RequestBody SubscriberRequest request) {
+        return subscriberService.createSubscriber(request);
+    }
+
+    @PutMapping("/{id}")
+    public Subscriber updateSubscriber(@PathVariable int id, @RequestBody SubscriberRequest request) {
+        return subscriberService.updateSubscriber(id, request);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void deleteSubscriber(@PathVariable int id) {
+        subscriberService.deleteSubscriber(id);
+    }
+}
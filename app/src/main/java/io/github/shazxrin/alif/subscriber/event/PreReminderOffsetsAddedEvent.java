@@ -0,0 +1,7 @@
+package io.github.shazxrin.alif.subscriber.event;
+
+import java.util.Map;
+import java.util.SortedSet;
+
+public record PreReminderOffsetsAddedEvent(Map<String, SortedSet<Integer>> offsets) {
+}
@@ -0,0 +1,11 @@
+package io.github.shazxrin.alif.subscriber.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class SubscriberInvalidException extends RuntimeException {
+    public SubscriberInvalidException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.shazxrin.alif.subscriber.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class SubscriberNotFoundException extends RuntimeException {
+    public SubscriberNotFoundException(String message) {
+        super(message);
+    }
+}
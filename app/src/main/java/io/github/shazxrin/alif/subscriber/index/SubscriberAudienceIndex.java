@@ -0,0 +1,184 @@
+package io.github.shazxrin.alif.subscriber.index;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.subscriber.model.PrayerPeriodSetConverter;
+import io.github.shazxrin.alif.subscriber.model.Subscriber;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+/*
+    Compressed bitmaps of subscriber ids per zone, period, pre-reminder offset and summary opt-in.
+    An audience is the intersection of the bitmaps for a reminder, and settings changes only touch the bitmaps
+    the subscriber moves between.
+ */
+public class SubscriberAudienceIndex {
+    private record Membership(String zone, int periodMask, int preReminderMinutes, boolean summary) {
+    }
+
+    private final int defaultPreReminderMinutes;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Membership> memberships = new HashMap<>();
+    private final Map<String, RoaringBitmap> zones = new HashMap<>();
+    private final RoaringBitmap[] periods = new RoaringBitmap[PrayerPeriod.values().length];
+    private final Map<Integer, RoaringBitmap> preReminderOffsets = new HashMap<>();
+    private final RoaringBitmap summaries = new RoaringBitmap();
+
+    public static byte[] serialize(RoaringBitmap audience) {
+        // Uses the portable Roaring format so consumers in other languages can read the audience.
+        audience.runOptimize();
+        ByteBuffer buffer = ByteBuffer.allocate(audience.serializedSizeInBytes());
+        audience.serialize(buffer);
+        return buffer.array();
+    }
+
+    public SubscriberAudienceIndex(int defaultPreReminderMinutes) {
+        this.defaultPreReminderMinutes = defaultPreReminderMinutes;
+        for (int i = 0; i < periods.length; i++) {
+            periods[i] = new RoaringBitmap();
+        }
+    }
+
+    private static <K> void add(Map<K, RoaringBitmap> bitmaps, K key, int id) {
+        bitmaps.computeIfAbsent(key, ignored -> new RoaringBitmap()).add(id);
+    }
+
+    private static <K> void remove(Map<K, RoaringBitmap> bitmaps, K key, int id) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private void addMembership(int id, Membership membership) {
+        memberships.put(id, membership);
+        add(zones, membership.zone(), id);
+        add(preReminderOffsets, membership.preReminderMinutes(), id);
+        for (PrayerPeriod period : PrayerPeriod.values()) {
+            if ((membership.periodMask() & (1 << period.ordinal())) != 0) {
+                periods[period.ordinal()].add(id);
+            }
+        }
+        if (membership.summary()) {
+            summaries.add(id);
+        }
+    }
+
+    private void removeMembership(int id) {
+        Membership membership = memberships.remove(id);
+        if (membership == null) {
+            return;
+        }
+
+        remove(zones, membership.zone(), id);
+        remove(preReminderOffsets, membership.preReminderMinutes(), id);
+        for (RoaringBitmap period : periods) {
+            period.remove(id);
+        }
+        summaries.remove(id);
+    }
+
+    public void put(Subscriber subscriber) {
+        lock.writeLock().lock();
+        try {
+            removeMembership(subscriber.getId());
+            if (subscriber.isActive()) {
+                addMembership(subscriber.getId(), new Membership(
+                    subscriber.getZone(),
+                    PrayerPeriodSetConverter.toMask(subscriber.getPeriods()),
+                    subscriber.getPreReminderMinutes() != null
+                        ? subscriber.getPreReminderMinutes()
+                        : defaultPreReminderMinutes,
+                    subscriber.isSummary()
+                ));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeMembership(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return memberships.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public RoaringBitmap getReminderAudience(String zone, PrayerPeriod period) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap zoneBitmap = zones.get(zone);
+            if (zoneBitmap == null) {
+                return new RoaringBitmap();
+            }
+            return RoaringBitmap.and(zoneBitmap, periods[period.ordinal()]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public RoaringBitmap getPreReminderAudience(String zone, PrayerPeriod period, int preReminderMinutes) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap zoneBitmap = zones.get(zone);
+            RoaringBitmap offsetBitmap = preReminderOffsets.get(preReminderMinutes);
+            if (zoneBitmap == null || offsetBitmap == null) {
+                return new RoaringBitmap();
+            }
+            return FastAggregation.and(zoneBitmap, offsetBitmap, periods[period.ordinal()]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public SortedSet<Integer> getPreReminderOffsets(String zone) {
+        lock.readLock().lock();
+        try {
+            SortedSet<Integer> offsets = new TreeSet<>();
+            RoaringBitmap zoneBitmap = zones.get(zone);
+            if (zoneBitmap != null) {
+                preReminderOffsets.forEach((minutes, bitmap) -> {
+                    if (RoaringBitmap.intersects(zoneBitmap, bitmap)) {
+                        offsets.add(minutes);
+                    }
+                });
+            }
+            return offsets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public RoaringBitmap getSummaryAudience(String zone) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap zoneBitmap = zones.get(zone);
+            if (zoneBitmap == null) {
+                return new RoaringBitmap();
+            }
+            return RoaringBitmap.and(zoneBitmap, summaries);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.shazxrin.alif.subscriber.model;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.EnumSet;
+import java.util.Set;
+
+/*
+    Stores a set of periods as a bit mask indexed by ordinal, so new periods must only ever be appended to the enum.
+ */
+@Converter
+public class PrayerPeriodSetConverter implements AttributeConverter<Set<PrayerPeriod>, Integer> {
+    public static int toMask(Set<PrayerPeriod> periods) {
+        int mask = 0;
+        for (PrayerPeriod period : periods) {
+            mask |= 1 << period.ordinal();
+        }
+        return mask;
+    }
+
+    public static Set<PrayerPeriod> fromMask(int mask) {
+        Set<PrayerPeriod> periods = EnumSet.noneOf(PrayerPeriod.class);
+        for (PrayerPeriod period : PrayerPeriod.values()) {
+            if ((mask & (1 << period.ordinal())) != 0) {
+                periods.add(period);
+            }
+        }
+        return periods;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<PrayerPeriod> periods) {
+        return periods == null ? 0 : toMask(periods);
+    }
+
+    @Override
+    public Set<PrayerPeriod> convertToEntityAttribute(Integer mask) {
+        return fromMask(mask == null ? 0 : mask);
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.shazxrin.alif.subscriber.model;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Table(name = "subscribers")
+@Entity
+public class Subscriber {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, length = 64)
+    private String name;
+
+    @Column(nullable = false, length = 16)
+    private String zone;
+
+    @Convert(converter = PrayerPeriodSetConverter.class)
+    @Column(nullable = false)
+    private Set<PrayerPeriod> periods = EnumSet.noneOf(PrayerPeriod.class);
+
+    private Integer preReminderMinutes;
+
+    @Column(nullable = false)
+    private boolean summary;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    public Subscriber() { }
+
+    public Subscriber(
+        String name,
+        String zone,
+        Set<PrayerPeriod> periods,
+        Integer preReminderMinutes,
+        boolean summary
+    ) {
+        this.name = name;
+        this.zone = zone;
+        this.periods = periods;
+        this.preReminderMinutes = preReminderMinutes;
+        this.summary = summary;
+        this.active = true;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getZone() {
+        return zone;
+    }
+
+    public void setZone(String zone) {
+        this.zone = zone;
+    }
+
+    public Set<PrayerPeriod> getPeriods() {
+        return periods;
+    }
+
+    public void setPeriods(Set<PrayerPeriod> periods) {
+        this.periods = periods;
+    }
+
+    public Integer getPreReminderMinutes() {
+        return preReminderMinutes;
+    }
+
+    public void setPreReminderMinutes(Integer preReminderMinutes) {
+        this.preReminderMinutes = preReminderMinutes;
+    }
+
+    public boolean isSummary() {
+        return summary;
+    }
+
+    public void setSummary(boolean summary) {
+        this.summary = summary;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
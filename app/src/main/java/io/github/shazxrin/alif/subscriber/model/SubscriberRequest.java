@@ -0,0 +1,13 @@
+package io.github.shazxrin.alif.subscriber.model;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import java.util.Set;
+
+public record SubscriberRequest(
+    String name,
+    String zone,
+    Set<PrayerPeriod> periods,
+    Integer preReminderMinutes,
+    boolean summary
+) {
+}
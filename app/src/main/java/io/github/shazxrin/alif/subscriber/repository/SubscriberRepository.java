@@ -0,0 +1,17 @@
+package io.github.shazxrin.alif.subscriber.repository;
+
+import io.github.shazxrin.alif.subscriber.model.Subscriber;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SubscriberRepository extends CrudRepository<Subscriber, Integer> {
+    List<Subscriber> findAllByActiveTrue();
+
+    List<Subscriber> findAllByUpdatedAtAfter(Instant updatedAt);
+
+    Optional<Subscriber> findByIdAndActiveTrue(Integer id);
+}
@@ -0,0 +1,196 @@
+package io.github.shazxrin.alif.subscriber.service;
+
+import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.subscriber.configuration.SubscriberConfiguration;
+import io.github.shazxrin.alif.subscriber.event.PreReminderOffsetsAddedEvent;
+import io.github.shazxrin.alif.subscriber.exception.SubscriberInvalidException;
+import io.github.shazxrin.alif.subscriber.exception.SubscriberNotFoundException;
+import io.github.shazxrin.alif.subscriber.index.SubscriberAudienceIndex;
+import io.github.shazxrin.alif.subscriber.model.Subscriber;
+import io.github.shazxrin.alif.subscriber.model.SubscriberRequest;
+import io.github.shazxrin.alif.subscriber.repository.SubscriberRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SubscriberService {
+    private static final Logger log = LoggerFactory.getLogger(SubscriberService.class);
+
+    private final SubscriberConfiguration subscriberConfiguration;
+    private final PrayerTimingConfiguration prayerTimingConfiguration;
+    private final SubscriberRepository subscriberRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Clock clock;
+    private final SubscriberAudienceIndex subscriberAudienceIndex;
+
+    private volatile Instant syncedAt = Instant.EPOCH;
+
+    public SubscriberService(
+        SubscriberConfiguration subscriberConfiguration,
+        PrayerTimingConfiguration prayerTimingConfiguration,
+        SubscriberRepository subscriberRepository,
+        ApplicationEventPublisher applicationEventPublisher,
+        Clock clock
+    ) {
+        this.subscriberConfiguration = subscriberConfiguration;
+        this.prayerTimingConfiguration = prayerTimingConfiguration;
+        this.subscriberRepository = subscriberRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.clock = clock;
+        this.subscriberAudienceIndex = new SubscriberAudienceIndex(
+            (int) prayerTimingConfiguration.getPreReminder().getDurationBefore().toMinutes()
+        );
+    }
+
+    @PostConstruct
+    public void load() {
+        Instant startedAt = clock.instant();
+        List<Subscriber> subscribers = subscriberRepository.findAllByActiveTrue();
+        subscribers.forEach(subscriberAudienceIndex::put);
+        syncedAt = startedAt;
+
+        log.info("Indexed {} subscribers.", subscribers.size());
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.subscriber.refresh-interval}",
+        fixedDelayString = "${app.subscriber.refresh-interval}"
+    )
+    public void refresh() {
+        // Look back a full interval so changes made on other instances with a skewed clock are not missed.
+        Instant startedAt = clock.instant();
+        List<Subscriber> changed = subscriberRepository.findAllByUpdatedAtAfter(
+            syncedAt.minus(subscriberConfiguration.getRefreshInterval())
+        );
+        Map<String, SortedSet<Integer>> offsets = new HashMap<>();
+        for (Subscriber subscriber : changed) {
+            SortedSet<Integer> added = index(subscriber);
+            if (!added.isEmpty()) {
+                offsets.computeIfAbsent(subscriber.getZone(), zone -> new TreeSet<>()).addAll(added);
+            }
+        }
+        syncedAt = startedAt;
+
+        publishPreReminderOffsetsAdded(offsets);
+    }
+
+    private SortedSet<Integer> index(Subscriber subscriber) {
+        // Report the pre-reminder buckets the subscriber opened, which have nothing scheduled yet.
+        SortedSet<Integer> offsets = subscriberAudienceIndex.getPreReminderOffsets(subscriber.getZone());
+        subscriberAudienceIndex.put(subscriber);
+        SortedSet<Integer> added = subscriberAudienceIndex.getPreReminderOffsets(subscriber.getZone());
+        added.removeAll(offsets);
+        return added;
+    }
+
+    private void publishPreReminderOffsetsAdded(Map<String, SortedSet<Integer>> offsets) {
+        if (!offsets.isEmpty()) {
+            applicationEventPublisher.publishEvent(new PreReminderOffsetsAddedEvent(Map.copyOf(offsets)));
+        }
+    }
+
+    private void validate(SubscriberRequest request) {
+        if (request.name() == null || request.name().isBlank()) {
+            throw new SubscriberInvalidException("Subscriber name is required!");
+        }
+
+        boolean knownZone = prayerTimingConfiguration.getZones()
+            .stream()
+            .anyMatch(zone -> zone.getCode().equals(request.zone()));
+        if (!knownZone) {
+            throw new SubscriberInvalidException("Zone " + request.zone() + " is not supported!");
+        }
+
+        Integer preReminderMinutes = request.preReminderMinutes();
+        if (preReminderMinutes != null
+            && (preReminderMinutes < 0 || preReminderMinutes > subscriberConfiguration.getMaxPreReminderMinutes())) {
+            throw new SubscriberInvalidException("Pre-reminder minutes is out of range!");
+        }
+    }
+
+    private Subscriber save(Subscriber subscriber) {
+        subscriber.setUpdatedAt(clock.instant());
+        Subscriber saved = subscriberRepository.save(subscriber);
+        SortedSet<Integer> added = index(saved);
+        if (!added.isEmpty()) {
+            publishPreReminderOffsetsAdded(Map.of(saved.getZone(), added));
+        }
+        return saved;
+    }
+
+    private static EnumSet<PrayerPeriod> copyPeriods(SubscriberRequest request) {
+        return request.periods() == null || request.periods().isEmpty()
+            ? EnumSet.noneOf(PrayerPeriod.class)
+            : EnumSet.copyOf(request.periods());
+    }
+
+    public List<Subscriber> getSubscribers() {
+        return subscriberRepository.findAllByActiveTrue();
+    }
+
+    public Subscriber getSubscriber(int id) {
+        return subscriberRepository.findByIdAndActiveTrue(id)
+            .orElseThrow(() -> new SubscriberNotFoundException("Subscriber not found!"));
+    }
+
+    public Subscriber createSubscriber(SubscriberRequest request) {
+        validate(request);
+
+        return save(new Subscriber(
+            request.name(),
+            request.zone(),
+            copyPeriods(request),
+            request.preReminderMinutes(),
+            request.summary()
+        ));
+    }
+
+    public Subscriber updateSubscriber(int id, SubscriberRequest request) {
+        validate(request);
+
+        Subscriber subscriber = getSubscriber(id);
+        subscriber.setName(request.name());
+        subscriber.setZone(request.zone());
+        subscriber.setPeriods(copyPeriods(request));
+        subscriber.setPreReminderMinutes(request.preReminderMinutes());
+        subscriber.setSummary(request.summary());
+        return save(subscriber);
+    }
+
+    public void deleteSubscriber(int id) {
+        // Rows are deactivated rather than deleted so other instances pick up the removal on refresh.
+        Subscriber subscriber = getSubscriber(id);
+        subscriber.setActive(false);
+        save(subscriber);
+    }
+
+    public RoaringBitmap getReminderAudience(String zone, PrayerPeriod period) {
+        return subscriberAudienceIndex.getReminderAudience(zone, period);
+    }
+
+    public RoaringBitmap getPreReminderAudience(String zone, PrayerPeriod period, int preReminderMinutes) {
+        return subscriberAudienceIndex.getPreReminderAudience(zone, period, preReminderMinutes);
+    }
+
+    public SortedSet<Integer> getPreReminderOffsets(String zone) {
+        return subscriberAudienceIndex.getPreReminderOffsets(zone);
+    }
+
+    public RoaringBitmap getSummaryAudience(String zone) {
+        return subscriberAudienceIndex.getSummaryAudience(zone);
+    }
+}
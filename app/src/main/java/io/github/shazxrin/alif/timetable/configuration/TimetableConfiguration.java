@@ -0,0 +1,30 @@
+package io.github.shazxrin.alif.timetable.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@ConfigurationProperties(prefix = "app.timetable")
+@Configuration
+public class TimetableConfiguration {
+    public static class Ingestion {
+        public int batchSize;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
+
+    public Ingestion ingestion;
+
+    public Ingestion getIngestion() {
+        return ingestion;
+    }
+
+    public void setIngestion(Ingestion ingestion) {
+        this.ingestion = ingestion;
+    }
+}
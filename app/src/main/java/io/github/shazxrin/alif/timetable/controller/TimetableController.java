@@ -0,0 +1,24 @@
+package io.github.shazxrin.alif.timetable.controller;
+
+import io.github.shazxrin.alif.timetable.model.TimetableIngestionResult;
+import io.github.shazxrin.alif.timetable.service.TimetableIngestionService;
+import java.io.InputStream;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/timetables")
+public class TimetableController {
+    private final TimetableIngestionService timetableIngestionService;
+
+    public TimetableController(TimetableIngestionService timetableIngestionService) {
+        this.timetableIngestionService = timetableIngestionService;
+    }
+
+    @PostMapping(value = "/{zone}", consumes = { "text/csv", "text/plain" })
+    public TimetableIngestionResult ingestTimetable(@PathVariable String zone, InputStream inputStream) {
+        return timetableIngestionService.ingest(zone, inputStream);
+    }
+}
@@ -0,0 +1,6 @@
+package io.github.shazxrin.alif.timetable.event;
+
+import java.time.LocalDate;
+
+public record TimetableIngestedEvent(String zone, LocalDate startDate, LocalDate endDate) {
+}
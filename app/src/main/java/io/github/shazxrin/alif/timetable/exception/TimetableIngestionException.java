@@ -0,0 +1,7 @@
+package io.github.shazxrin.alif.timetable.exception;
+
+public class TimetableIngestionException extends RuntimeException {
+    public TimetableIngestionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.shazxrin.alif.timetable.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class TimetableInvalidException extends RuntimeException {
+    public TimetableInvalidException(String message) {
+        super(message);
+    }
+}
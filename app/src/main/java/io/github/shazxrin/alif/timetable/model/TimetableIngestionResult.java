@@ -0,0 +1,14 @@
+package io.github.shazxrin.alif.timetable.model;
+
+import java.time.LocalDate;
+
+public record TimetableIngestionResult(
+    String zone,
+    long rows,
+    long upserted,
+    long anomalies,
+    LocalDate startDate,
+    LocalDate endDate,
+    long durationMillis
+) {
+}
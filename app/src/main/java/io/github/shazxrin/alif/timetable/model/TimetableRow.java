@@ -0,0 +1,6 @@
+package io.github.shazxrin.alif.timetable.model;
+
+import java.time.LocalDate;
+
+public record TimetableRow(long line, LocalDate date, int[] periodMinutes) {
+}
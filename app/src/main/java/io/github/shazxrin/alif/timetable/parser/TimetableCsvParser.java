@@ -0,0 +1,97 @@
+package io.github.shazxrin.alif.timetable.parser;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.timetable.exception.TimetableInvalidException;
+import io.github.shazxrin.alif.timetable.model.TimetableRow;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/*
+    Parses the published timetable CSV, one line per day:
+
+        1/1/2025,5 43,7 07,1 09,4 33,7 10,8 25
+
+    Subuh and syuruk are morning times as written. The remaining periods are written on a 12-hour clock and are moved
+    to the afternoon unless they already fall on the 12 o'clock hour.
+ */
+public final class TimetableCsvParser {
+    private static final PrayerPeriod[] PERIODS = PrayerPeriod.values();
+
+    private TimetableCsvParser() { }
+
+    public static TimetableRow parse(long line, String text) {
+        String[] fields = text.split(",", -1);
+        if (fields.length != PERIODS.length + 1) {
+            throw invalid(line, "Expected " + (PERIODS.length + 1) + " fields but found " + fields.length + "!");
+        }
+
+        LocalDate date = parseDate(line, fields[0]);
+
+        int[] periodMinutes = new int[PERIODS.length];
+        for (PrayerPeriod period : PERIODS) {
+            int minuteOfDay = parseTime(line, fields[period.ordinal() + 1], isAfternoon(period));
+            if (period.ordinal() > 0 && minuteOfDay <= periodMinutes[period.ordinal() - 1]) {
+                throw invalid(line, "Prayer time for " + period + " is not after the previous period!");
+            }
+            periodMinutes[period.ordinal()] = minuteOfDay;
+        }
+
+        return new TimetableRow(line, date, periodMinutes);
+    }
+
+    private static boolean isAfternoon(PrayerPeriod period) {
+        return period != PrayerPeriod.SUBUH && period != PrayerPeriod.SYURUK;
+    }
+
+    private static LocalDate parseDate(long line, String field) {
+        String[] parts = field.trim().split("/", -1);
+        if (parts.length != 3) {
+            throw invalid(line, "Date " + field + " is not in day/month/year format!");
+        }
+
+        try {
+            return LocalDate.of(parseNumber(line, parts[2]), parseNumber(line, parts[1]), parseNumber(line, parts[0]));
+        } catch (DateTimeException ex) {
+            throw invalid(line, "Date " + field + " is not a valid date!");
+        }
+    }
+
+    private static int parseTime(long line, String field, boolean afternoon) {
+        String trimmed = field.trim();
+        int separator = trimmed.indexOf(' ');
+        if (separator < 0) {
+            throw invalid(line, "Time " + field + " is not in hour minute format!");
+        }
+
+        int hour = parseNumber(line, trimmed.substring(0, separator));
+        int minute = parseNumber(line, trimmed.substring(separator + 1).trim());
+        if (afternoon && hour < 12) {
+            hour += 12;
+        }
+        if (hour > 23 || minute > 59) {
+            throw invalid(line, "Time " + field + " is out of range!");
+        }
+
+        return hour * 60 + minute;
+    }
+
+    private static int parseNumber(long line, String text) {
+        if (text.isEmpty() || text.length() > 4) {
+            throw invalid(line, "Value " + text + " is not a number!");
+        }
+
+        int value = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw invalid(line, "Value " + text + " is not a number!");
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static TimetableInvalidException invalid(long line, String message) {
+        return new TimetableInvalidException("Line " + line + ": " + message);
+    }
+}
@@ -0,0 +1,326 @@
+package io.github.shazxrin.alif.timetable.service;
+
+import io.github.shazxrin.alif.prayer.calculation.PrayerTimingCalculator;
+import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
+import io.github.shazxrin.alif.prayer.model.PrayerTimingAnomaly;
+import io.github.shazxrin.alif.timetable.configuration.TimetableConfiguration;
+import io.github.shazxrin.alif.timetable.event.TimetableIngestedEvent;
+import io.github.shazxrin.alif.timetable.exception.TimetableIngestionException;
+import io.github.shazxrin.alif.timetable.exception.TimetableInvalidException;
+import io.github.shazxrin.alif.timetable.model.TimetableIngestionResult;
+import io.github.shazxrin.alif.timetable.model.TimetableRow;
+import io.github.shazxrin.alif.timetable.parser.TimetableCsvParser;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TimetableIngestionService {
+    private static final Logger log = LoggerFactory.getLogger(TimetableIngestionService.class);
+
+    private static final int MAX_LOGGED_ANOMALIES = 10;
+
+    private static final String CREATE_STAGING_SQL = """
+        CREATE TEMPORARY TABLE prayer_timings_staging
+        (
+            line    BIGINT      NOT NULL,
+            zone    VARCHAR(16) NOT NULL,
+            date    DATE        NOT NULL,
+            subuh   TIME        NOT NULL,
+            syuruk  TIME        NOT NULL,
+            zohor   TIME        NOT NULL,
+            asar    TIME        NOT NULL,
+            maghrib TIME        NOT NULL,
+            isyak   TIME        NOT NULL
+        ) ON COMMIT DROP
+        """;
+    private static final String COPY_STAGING_SQL = """
+        COPY prayer_timings_staging (line, zone, date, subuh, syuruk, zohor, asar, maghrib, isyak) FROM STDIN
+        """;
+    // The last line for a date wins, and rows that did not change are left alone.
+    private static final String UPSERT_SQL = """
+        INSERT INTO prayer_timings (zone, date, subuh, syuruk, zohor, asar, maghrib, isyak)
+        SELECT DISTINCT ON (zone, date) zone, date, subuh, syuruk, zohor, asar, maghrib, isyak
+        FROM prayer_timings_staging
+        ORDER BY zone, date, line DESC
+        ON CONFLICT (zone, date) DO UPDATE SET
+            subuh = EXCLUDED.subuh,
+            syuruk = EXCLUDED.syuruk,
+            zohor = EXCLUDED.zohor,
+            asar = EXCLUDED.asar,
+            maghrib = EXCLUDED.maghrib,
+            isyak = EXCLUDED.isyak
+        WHERE (prayer_timings.subuh, prayer_timings.syuruk, prayer_timings.zohor,
+               prayer_timings.asar, prayer_timings.maghrib, prayer_timings.isyak)
+            IS DISTINCT FROM (EXCLUDED.subuh, EXCLUDED.syuruk, EXCLUDED.zohor,
+                              EXCLUDED.asar, EXCLUDED.maghrib, EXCLUDED.isyak)
+        """;
+    // Corrections keep the row count as is, so other instances watch the version to reload the years they cache.
+    private static final String BUMP_VERSIONS_SQL = """
+        INSERT INTO prayer_timetable_versions (year, version)
+        SELECT year, 1 FROM generate_series(?, ?) AS year
+        ON CONFLICT (year) DO UPDATE SET version = prayer_timetable_versions.version + 1
+        """;
+
+    private final TimetableConfiguration timetableConfiguration;
+    private final PrayerTimingConfiguration prayerTimingConfiguration;
+    private final PrayerTimingCalculator prayerTimingCalculator;
+    private final DataSource dataSource;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Clock clock;
+
+    public TimetableIngestionService(
+        TimetableConfiguration timetableConfiguration,
+        PrayerTimingConfiguration prayerTimingConfiguration,
+        PrayerTimingCalculator prayerTimingCalculator,
+        DataSource dataSource,
+        ApplicationEventPublisher applicationEventPublisher,
+        Clock clock
+    ) {
+        this.timetableConfiguration = timetableConfiguration;
+        this.prayerTimingConfiguration = prayerTimingConfiguration;
+        this.prayerTimingCalculator = prayerTimingCalculator;
+        this.dataSource = dataSource;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.clock = clock;
+    }
+
+    private void validate(String zone) {
+        boolean knownZone = prayerTimingConfiguration.getZones()
+            .stream()
+            .anyMatch(configuredZone -> configuredZone.getCode().equals(zone));
+        if (!knownZone) {
+            throw new TimetableInvalidException("Zone " + zone + " is not supported!");
+        }
+    }
+
+    public TimetableIngestionResult ingest(String zone, InputStream inputStream) {
+        validate(zone);
+
+        long startedAt = System.nanoTime();
+        TimetableIngestionResult result;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                result = ingest(connection, zone, inputStream, startedAt);
+                connection.commit();
+            } catch (SQLException | IOException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            }
+        } catch (SQLException | IOException ex) {
+            throw new TimetableIngestionException("Unable to ingest timetable for " + zone + "!", ex);
+        }
+
+        log.info(
+            "Ingested {} timetable rows for {} from {} to {} in {}ms, {} upserted.",
+            result.rows(),
+            zone,
+            result.startDate(),
+            result.endDate(),
+            result.durationMillis(),
+            result.upserted()
+        );
+        if (result.anomalies() > 0) {
+            log.warn(
+                "Timetable for {} has {} timings outside the tolerance of calculated timings.",
+                zone,
+                result.anomalies()
+            );
+        }
+
+        if (result.upserted() > 0) {
+            applicationEventPublisher.publishEvent(
+                new TimetableIngestedEvent(zone, result.startDate(), result.endDate())
+            );
+        }
+
+        return result;
+    }
+
+    private TimetableIngestionResult ingest(
+        Connection connection,
+        String zone,
+        InputStream inputStream,
+        long startedAt
+    ) throws SQLException, IOException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING_SQL);
+        }
+
+        int batchSize = timetableConfiguration.getIngestion().getBatchSize();
+        int oldestKeptYear = LocalDate.now(clock).getYear() - prayerTimingConfiguration.getRetention().getYearsKept();
+        Progress progress = new Progress(oldestKeptYear);
+
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING_SQL);
+        try (
+            BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))
+        ) {
+            List<String> lines = new ArrayList<>(batchSize);
+            List<Long> lineNumbers = new ArrayList<>(batchSize);
+            long line = 0;
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+
+                lines.add(text);
+                lineNumbers.add(line);
+                if (lines.size() == batchSize) {
+                    copy(copyIn, zone, lines, lineNumbers, progress);
+                }
+            }
+            if (!lines.isEmpty()) {
+                copy(copyIn, zone, lines, lineNumbers, progress);
+            }
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+
+        if (progress.rows == 0) {
+            throw new TimetableInvalidException("Timetable for " + zone + " has no rows!");
+        }
+
+        int upserted;
+        try (Statement statement = connection.createStatement()) {
+            upserted = statement.executeUpdate(UPSERT_SQL);
+        }
+        if (upserted > 0) {
+            try (PreparedStatement statement = connection.prepareStatement(BUMP_VERSIONS_SQL)) {
+                statement.setInt(1, progress.startDate.getYear());
+                statement.setInt(2, progress.endDate.getYear());
+                statement.executeUpdate();
+            }
+        }
+
+        return new TimetableIngestionResult(
+            zone,
+            progress.rows,
+            upserted,
+            progress.anomalies,
+            progress.startDate,
+            progress.endDate,
+            (System.nanoTime() - startedAt) / 1_000_000
+        );
+    }
+
+    private void copy(
+        CopyIn copyIn,
+        String zone,
+        List<String> lines,
+        List<Long> lineNumbers,
+        Progress progress
+    ) throws SQLException {
+        // Rows are validated in parallel and streamed to the server one batch at a time.
+        TimetableRow[] batch = parse(lines, lineNumbers);
+        validateRetention(zone, batch, progress);
+        byte[] encoded = encode(zone, batch);
+        copyIn.writeToCopy(encoded, 0, encoded.length);
+
+        progress.add(batch);
+        validate(zone, batch, progress);
+        lines.clear();
+        lineNumbers.clear();
+    }
+
+    private static void validateRetention(String zone, TimetableRow[] batch, Progress progress) {
+        // Years past retention are archived, so their rows would have nowhere to go but the default partition.
+        for (TimetableRow row : batch) {
+            if (row.date().getYear() < progress.oldestKeptYear) {
+                throw new TimetableInvalidException(
+                    "Timetable for " + zone + " on line " + row.line() + " is dated " + row.date()
+                        + ", before the retained years from " + progress.oldestKeptYear + "!"
+                );
+            }
+        }
+    }
+
+    private void validate(String zone, TimetableRow[] batch, Progress progress) {
+        // Advisory only, a published table always wins over the calculation it is checked against.
+        for (TimetableRow row : batch) {
+            for (PrayerTimingAnomaly anomaly : prayerTimingCalculator.validate(zone, row.date(), row.periodMinutes())) {
+                if (progress.anomalies++ < MAX_LOGGED_ANOMALIES) {
+                    log.warn(
+                        "Timetable for {} on line {} has {} on {} at minute {}, calculated at minute {}.",
+                        zone,
+                        row.line(),
+                        anomaly.period(),
+                        anomaly.date(),
+                        anomaly.actualMinuteOfDay(),
+                        anomaly.expectedMinuteOfDay()
+                    );
+                }
+            }
+        }
+    }
+
+    private static TimetableRow[] parse(List<String> lines, List<Long> lineNumbers) {
+        return IntStream.range(0, lines.size())
+            .parallel()
+            .mapToObj(i -> TimetableCsvParser.parse(lineNumbers.get(i), lines.get(i)))
+            .toArray(TimetableRow[]::new);
+    }
+
+    private static byte[] encode(String zone, TimetableRow[] batch) {
+        // Text COPY format, none of the values can contain tabs, newlines or backslashes.
+        StringBuilder builder = new StringBuilder(batch.length * 80);
+        for (TimetableRow row : batch) {
+            builder.append(row.line()).append('\t').append(zone).append('\t').append(row.date());
+            for (int minuteOfDay : row.periodMinutes()) {
+                builder.append('\t');
+                appendTwoDigits(builder, minuteOfDay / 60);
+                builder.append(':');
+                appendTwoDigits(builder, minuteOfDay % 60);
+            }
+            builder.append('\n');
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendTwoDigits(StringBuilder builder, int value) {
+        builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static class Progress {
+        private final int oldestKeptYear;
+        private long rows = 0;
+        private long anomalies = 0;
+        private LocalDate startDate;
+        private LocalDate endDate;
+
+        private Progress(int oldestKeptYear) {
+            this.oldestKeptYear = oldestKeptYear;
+        }
+
+        private void add(TimetableRow[] batch) {
+            for (TimetableRow row : batch) {
+                startDate = startDate == null || row.date().isBefore(startDate) ? row.date() : startDate;
+                endDate = endDate == null || row.date().isAfter(endDate) ? row.date() : endDate;
+            }
+            rows += batch.length;
+        }
+    }
+}
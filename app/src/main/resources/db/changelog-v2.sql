@@ -0,0 +1,7 @@
+ALTER TABLE prayer_timings
+    ALTER COLUMN subuh TYPE TIME USING subuh::TIME,
+    ALTER COLUMN syuruk TYPE TIME USING syuruk::TIME,
+    ALTER COLUMN zohor TYPE TIME USING zohor::TIME,
+    ALTER COLUMN asar TYPE TIME USING asar::TIME,
+    ALTER COLUMN maghrib TYPE TIME USING maghrib::TIME,
+    ALTER COLUMN isyak TYPE TIME USING isyak::TIME;
@@ -0,0 +1,4 @@
+ALTER TABLE prayer_timings ADD COLUMN zone VARCHAR(16) NOT NULL DEFAULT 'SGP';
+ALTER TABLE prayer_timings ALTER COLUMN zone DROP DEFAULT;
+
+CREATE UNIQUE INDEX ux_prayer_timings_zone_date ON prayer_timings (zone, date);
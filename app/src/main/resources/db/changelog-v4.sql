@@ -0,0 +1,19 @@
+CREATE TABLE reminder_outbox
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    kind        VARCHAR(16)                             NOT NULL,
+    zone        VARCHAR(16)                             NOT NULL,
+    period      VARCHAR(16)                             NOT NULL,
+    prayer_date date                                    NOT NULL,
+    fire_at     TIMESTAMP WITH TIME ZONE                NOT NULL,
+    title       VARCHAR(255)                            NOT NULL,
+    message     TEXT                                    NOT NULL,
+    status      VARCHAR(16)                             NOT NULL,
+    attempts    INTEGER                                 NOT NULL,
+    claimed_at  TIMESTAMP WITH TIME ZONE,
+    sent_at     TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT pk_reminder_outbox PRIMARY KEY (id)
+);
+
+CREATE UNIQUE INDEX ux_reminder_outbox_key ON reminder_outbox (kind, zone, period, prayer_date);
+CREATE INDEX ix_reminder_outbox_pending ON reminder_outbox (fire_at) WHERE status = 'PENDING';
@@ -0,0 +1,14 @@
+CREATE TABLE cluster_nodes
+(
+    node_id      VARCHAR(64)              NOT NULL,
+    heartbeat_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_cluster_nodes PRIMARY KEY (node_id)
+);
+
+CREATE TABLE cluster_shard_leases
+(
+    shard      INTEGER                  NOT NULL,
+    owner      VARCHAR(64),
+    expires_at TIMESTAMP WITH TIME ZONE,
+    CONSTRAINT pk_cluster_shard_leases PRIMARY KEY (shard)
+);
@@ -0,0 +1,18 @@
+CREATE TABLE subscribers
+(
+    id                   INTEGER GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    name                 VARCHAR(64)                              NOT NULL,
+    zone                 VARCHAR(16)                              NOT NULL,
+    periods              INTEGER                                  NOT NULL,
+    pre_reminder_minutes INTEGER,
+    summary              BOOLEAN                                  NOT NULL,
+    active               BOOLEAN                                  NOT NULL,
+    updated_at           TIMESTAMP WITH TIME ZONE                 NOT NULL,
+    CONSTRAINT pk_subscribers PRIMARY KEY (id)
+);
+
+CREATE INDEX ix_subscribers_updated_at ON subscribers (updated_at);
+
+-- Keep notifying the audience the app had before subscriptions existed.
+INSERT INTO subscribers (name, zone, periods, pre_reminder_minutes, summary, active, updated_at)
+VALUES ('default', 'SGP', 63, NULL, TRUE, TRUE, now());
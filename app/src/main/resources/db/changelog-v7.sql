@@ -0,0 +1,5 @@
+ALTER TABLE reminder_outbox ADD COLUMN offset_minutes INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE reminder_outbox ALTER COLUMN offset_minutes DROP DEFAULT;
+
+DROP INDEX ux_reminder_outbox_key;
+CREATE UNIQUE INDEX ux_reminder_outbox_key ON reminder_outbox (kind, zone, period, prayer_date, offset_minutes);
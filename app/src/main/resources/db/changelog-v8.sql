@@ -0,0 +1,34 @@
+-- Range partitioned by year so date lookups only touch the years asked for and past years can be detached whole.
+-- Rows start out in the default partition and are split into yearly partitions by the partition maintenance job.
+ALTER TABLE prayer_timings RENAME TO prayer_timings_unpartitioned;
+ALTER TABLE prayer_timings_unpartitioned RENAME CONSTRAINT pk_prayer_timings TO pk_prayer_timings_unpartitioned;
+ALTER INDEX ux_prayer_timings_zone_date RENAME TO ux_prayer_timings_unpartitioned_zone_date;
+
+CREATE TABLE prayer_timings
+(
+    id      BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    date    DATE                                    NOT NULL,
+    subuh   TIME                                    NOT NULL,
+    syuruk  TIME                                    NOT NULL,
+    zohor   TIME                                    NOT NULL,
+    asar    TIME                                    NOT NULL,
+    maghrib TIME                                    NOT NULL,
+    isyak   TIME                                    NOT NULL,
+    zone    VARCHAR(16)                             NOT NULL,
+    CONSTRAINT pk_prayer_timings PRIMARY KEY (id, date)
+) PARTITION BY RANGE (date);
+
+CREATE TABLE prayer_timings_default PARTITION OF prayer_timings DEFAULT;
+
+-- Timetables are ingested zone by zone so dates are not in physical order, which leaves a BRIN index unselective.
+CREATE UNIQUE INDEX ux_prayer_timings_zone_date ON prayer_timings (zone, date);
+CREATE INDEX ix_prayer_timings_date ON prayer_timings (date);
+
+INSERT INTO prayer_timings (id, date, subuh, syuruk, zohor, asar, maghrib, isyak, zone)
+SELECT id, date, subuh, syuruk, zohor, asar, maghrib, isyak, zone
+FROM prayer_timings_unpartitioned;
+
+SELECT setval(pg_get_serial_sequence('prayer_timings', 'id'), COALESCE(MAX(id), 0) + 1, FALSE)
+FROM prayer_timings;
+
+DROP TABLE prayer_timings_unpartitioned;
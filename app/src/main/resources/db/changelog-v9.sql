@@ -0,0 +1,8 @@
+-- Bumped by every ingestion that changes a year, so instances can tell a corrected timetable from an unchanged one
+-- even when the row count stays the same.
+CREATE TABLE prayer_timetable_versions
+(
+    year    INTEGER NOT NULL,
+    version BIGINT  NOT NULL,
+    CONSTRAINT pk_prayer_timetable_versions PRIMARY KEY (year)
+);
@@ -0,0 +1,113 @@
+package io.github.shazxrin.alif.cluster.service;
+
+import io.github.shazxrin.alif.cluster.configuration.ClusterConfiguration;
+import io.github.shazxrin.alif.cluster.event.ShardsAcquiredEvent;
+import io.github.shazxrin.alif.cluster.model.ShardLease;
+import io.github.shazxrin.alif.cluster.repository.ClusterNodeRepository;
+import io.github.shazxrin.alif.cluster.repository.ShardLeaseRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ShardOwnershipServiceTest {
+    private static final String NODE_ID = "node-a";
+
+    @Mock
+    private ClusterNodeRepository clusterNodeRepository;
+
+    @Mock
+    private ShardLeaseRepository shardLeaseRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ShardOwnershipService shardOwnershipService;
+
+    @BeforeEach
+    public void setUp() {
+        ClusterConfiguration clusterConfiguration = new ClusterConfiguration();
+        clusterConfiguration.setEnabled(true);
+        clusterConfiguration.setNodeId(NODE_ID);
+        clusterConfiguration.setShardCount(4);
+        clusterConfiguration.setLeaseDuration(Duration.ofSeconds(30));
+
+        shardOwnershipService = new ShardOwnershipService(
+            clusterConfiguration,
+            clusterNodeRepository,
+            shardLeaseRepository,
+            applicationEventPublisher,
+            Clock.systemUTC(),
+            transactionManager
+        );
+    }
+
+    @Test
+    public void testHeartbeat_whenAloneInCluster_shouldClaimAllShards() {
+        // Given
+        List<ShardLease> claimable = new ArrayList<>();
+        for (int shard = 0; shard < 4; shard++) {
+            claimable.add(new ShardLease(shard, null, null));
+        }
+        when(clusterNodeRepository.countByHeartbeatAtAfter(any())).thenReturn(1L);
+        when(shardLeaseRepository.findOwnedForUpdate(NODE_ID, 4)).thenReturn(List.of());
+        when(shardLeaseRepository.findClaimableForUpdate(any(), eq(4), eq(4))).thenReturn(claimable);
+
+        // When
+        shardOwnershipService.heartbeat();
+
+        // Then
+        assertEquals(Set.of(0, 1, 2, 3), shardOwnershipService.getOwnedShards());
+        assertTrue(claimable.stream().allMatch(lease -> NODE_ID.equals(lease.getOwner())));
+        verify(applicationEventPublisher).publishEvent(new ShardsAcquiredEvent(Set.of(0, 1, 2, 3)));
+    }
+
+    @Test
+    public void testHeartbeat_whenNodeJoins_shouldReleaseShardsAboveFairShare() {
+        // Given
+        List<ShardLease> owned = new ArrayList<>();
+        for (int shard = 0; shard < 4; shard++) {
+            owned.add(new ShardLease(shard, NODE_ID, null));
+        }
+        when(clusterNodeRepository.countByHeartbeatAtAfter(any())).thenReturn(2L);
+        when(shardLeaseRepository.findOwnedForUpdate(NODE_ID, 4)).thenReturn(owned);
+
+        // When
+        shardOwnershipService.heartbeat();
+
+        // Then
+        assertEquals(Set.of(0, 1), shardOwnershipService.getOwnedShards());
+        assertNull(owned.get(2).getOwner());
+        assertNull(owned.get(3).getOwner());
+        verify(shardLeaseRepository, never()).findClaimableForUpdate(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    public void testOwnsZone_beforeFirstHeartbeat_shouldOwnNothing() {
+        // When & Then
+        assertFalse(shardOwnershipService.ownsZone("SGP"));
+    }
+}
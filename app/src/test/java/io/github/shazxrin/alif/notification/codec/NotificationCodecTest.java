@@ -0,0 +1,47 @@
+package io.github.shazxrin.alif.notification.codec;
+
+import io.github.shazxrin.notifier.common.NotificationMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NotificationCodecTest {
+    private static final String TITLE = "It is subuh prayer time.";
+    private static final String MESSAGE = "Quote \" backslash \\ tab \t newline \n bell \u0007 café 🕌 (SGP).";
+
+    @Test
+    public void testJsonEncode_shouldMatchJacksonConverterOutput() {
+        // Given
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        JsonNotificationCodec codec = new JsonNotificationCodec(converter);
+        byte[] expected = converter.toMessage(
+            new NotificationMessage("alif", TITLE, MESSAGE),
+            new MessageProperties()
+        ).getBody();
+
+        // When
+        byte[] actual = codec.encode("alif", TITLE, MESSAGE);
+
+        // Then
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testBinaryEncode_shouldRoundTripAndBeSmallerThanJson() {
+        // Given
+        BinaryNotificationCodec codec = new BinaryNotificationCodec();
+        JsonNotificationCodec jsonCodec = new JsonNotificationCodec(new Jackson2JsonMessageConverter());
+
+        // When
+        byte[] body = codec.encode("alif", TITLE, MESSAGE);
+        NotificationMessage decoded = codec.decode(body);
+
+        // Then
+        assertEquals(new NotificationMessage("alif", TITLE, MESSAGE), decoded);
+        assertTrue(body.length < jsonCodec.encode("alif", TITLE, MESSAGE).length);
+    }
+}
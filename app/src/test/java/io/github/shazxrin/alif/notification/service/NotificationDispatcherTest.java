@@ -0,0 +1,187 @@
+package io.github.shazxrin.alif.notification.service;
+
+import io.github.shazxrin.alif.notification.configuration.NotificationConfiguration;
+import io.github.shazxrin.alif.notification.exception.NotificationRejectedException;
+import io.github.shazxrin.alif.notification.model.NotificationOverflowPolicy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationDispatcherTest {
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private NotificationSpoolService notificationSpoolService;
+
+    private NotificationDispatcher createDispatcher(NotificationOverflowPolicy overflowPolicy) {
+        NotificationConfiguration.Dispatcher.Retry retry = new NotificationConfiguration.Dispatcher.Retry();
+        retry.setMaxAttempts(3);
+        retry.setInitialBackoff(Duration.ofMillis(200));
+        retry.setMaxBackoff(Duration.ofSeconds(1));
+        NotificationConfiguration.Dispatcher dispatcher = new NotificationConfiguration.Dispatcher();
+        dispatcher.setQueueCapacity(2);
+        dispatcher.setWorkers(1);
+        dispatcher.setMaxInFlight(10);
+        dispatcher.setOverflowPolicy(overflowPolicy);
+        dispatcher.setOfferTimeout(Duration.ofMillis(10));
+        dispatcher.setRetry(retry);
+        NotificationConfiguration notificationConfiguration = new NotificationConfiguration();
+        notificationConfiguration.setDispatcher(dispatcher);
+
+        // Workers are never started so requests stay queued.
+        return new NotificationDispatcher(
+            notificationConfiguration,
+            notificationService,
+            notificationSpoolService,
+            new NotificationCircuitBreaker(2, Duration.ofSeconds(30)),
+            Clock.systemUTC()
+        );
+    }
+
+    @Test
+    public void testDispatch_whenQueueFullAndDropNewest_shouldRejectNewest() {
+        // Given
+        NotificationDispatcher notificationDispatcher = createDispatcher(NotificationOverflowPolicy.DROP_NEWEST);
+        CompletableFuture<Void> first = notificationDispatcher.dispatch("Title", "First");
+        notificationDispatcher.dispatch("Title", "Second");
+
+        // When
+        CompletableFuture<Void> third = notificationDispatcher.dispatch("Title", "Third");
+
+        // Then
+        CompletionException ex = assertThrows(CompletionException.class, third::join);
+        assertInstanceOf(NotificationRejectedException.class, ex.getCause());
+        assertFalse(first.isDone());
+        assertEquals(2, notificationDispatcher.getQueuedCount());
+    }
+
+    @Test
+    public void testDispatch_whenQueueFullAndDropOldest_shouldEvictOldest() {
+        // Given
+        NotificationDispatcher notificationDispatcher = createDispatcher(NotificationOverflowPolicy.DROP_OLDEST);
+        CompletableFuture<Void> first = notificationDispatcher.dispatch("Title", "First");
+        notificationDispatcher.dispatch("Title", "Second");
+
+        // When
+        CompletableFuture<Void> third = notificationDispatcher.dispatch("Title", "Third");
+
+        // Then
+        CompletionException ex = assertThrows(CompletionException.class, first::join);
+        assertInstanceOf(NotificationRejectedException.class, ex.getCause());
+        assertFalse(third.isDone());
+        assertEquals(2, notificationDispatcher.getQueuedCount());
+    }
+
+    @Test
+    public void testDispatch_whenQueueFullAndBlock_shouldRejectAfterOfferTimeout() {
+        // Given
+        NotificationDispatcher notificationDispatcher = createDispatcher(NotificationOverflowPolicy.BLOCK);
+        notificationDispatcher.dispatch("Title", "First");
+        notificationDispatcher.dispatch("Title", "Second");
+
+        // When
+        CompletableFuture<Void> third = notificationDispatcher.dispatch("Title", "Third");
+
+        // Then
+        CompletionException ex = assertThrows(CompletionException.class, third::join);
+        assertInstanceOf(NotificationRejectedException.class, ex.getCause());
+    }
+
+    @Test
+    public void testDispatch_whenSendThrows_shouldSpoolAndKeepWorkerRunning() {
+        // Given
+        NotificationDispatcher notificationDispatcher = createDispatcher(NotificationOverflowPolicy.BLOCK);
+        when(notificationService.sendNotification(any(), any(), any()))
+            .thenThrow(new IllegalStateException("Unable to encode notification"));
+        notificationDispatcher.start(runnable -> new Thread(runnable).start());
+
+        try {
+            // When
+            CompletableFuture<Void> first = notificationDispatcher.dispatch("Title", "First");
+            CompletableFuture<Void> second = notificationDispatcher.dispatch("Title", "Second");
+
+            // Then
+            first.orTimeout(5, TimeUnit.SECONDS).join();
+            second.orTimeout(5, TimeUnit.SECONDS).join();
+            verify(notificationSpoolService).spool("Title", "First", null);
+            verify(notificationSpoolService).spool("Title", "Second", null);
+        } finally {
+            notificationDispatcher.stop();
+        }
+    }
+
+    @Test
+    public void testDispatch_whenConfirmsPending_shouldKeepSendingUpToMaxInFlight() {
+        // Given
+        NotificationDispatcher notificationDispatcher = createDispatcher(NotificationOverflowPolicy.BLOCK);
+        when(notificationService.sendNotification(any(), any(), any()))
+            .thenAnswer(invocation -> new CompletableFuture<Void>());
+        notificationDispatcher.start(runnable -> new Thread(runnable).start());
+
+        try {
+            // When
+            for (int i = 0; i < 3; i++) {
+                notificationDispatcher.dispatch("Title", "Message " + i);
+            }
+
+            // Then
+            verify(notificationService, timeout(5000).times(3)).sendNotification(any(), any(), any());
+        } finally {
+            notificationDispatcher.stop();
+        }
+    }
+
+    @Test
+    public void testCircuitBreaker_whenFailuresReachThreshold_shouldOpenUntilTrialSucceeds() {
+        // Given
+        NotificationCircuitBreaker circuitBreaker = new NotificationCircuitBreaker(2, Duration.ofSeconds(30));
+        Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        // When
+        circuitBreaker.recordFailure(now);
+        circuitBreaker.recordFailure(now);
+
+        // Then
+        assertFalse(circuitBreaker.allowRequest(now.plusSeconds(10)));
+        assertTrue(circuitBreaker.allowRequest(now.plusSeconds(30)));
+        assertEquals(NotificationCircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.allowRequest(now.plusSeconds(30)));
+
+        circuitBreaker.recordSuccess();
+        assertEquals(NotificationCircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.allowRequest(now.plusSeconds(31)));
+    }
+
+    @Test
+    public void testGetBackoff_shouldStayWithinCappedExponentialBound() {
+        // Given
+        NotificationConfiguration.Dispatcher.Retry retry = new NotificationConfiguration.Dispatcher.Retry();
+        retry.setInitialBackoff(Duration.ofMillis(200));
+        retry.setMaxBackoff(Duration.ofSeconds(1));
+
+        // When & Then
+        for (int i = 0; i < 100; i++) {
+            assertTrue(NotificationDispatcher.getBackoff(retry, 2).toMillis() <= 400);
+            assertTrue(NotificationDispatcher.getBackoff(retry, 10).toMillis() <= 1000);
+        }
+    }
+}
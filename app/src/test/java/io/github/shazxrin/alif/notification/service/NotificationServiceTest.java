@@ -0,0 +1,107 @@
+package io.github.shazxrin.alif.notification.service;
+
+import io.github.shazxrin.alif.notification.codec.BinaryNotificationCodec;
+import io.github.shazxrin.alif.notification.configuration.NotificationConfiguration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.scheduling.TaskScheduler;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationServiceTest {
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations rabbitOperations;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private NotificationService notificationService;
+
+    @BeforeEach
+    public void setUp() {
+        NotificationConfiguration.Publisher publisher = new NotificationConfiguration.Publisher();
+        publisher.setBatchSize(2);
+        publisher.setFlushInterval(Duration.ofMillis(20));
+        publisher.setConfirmTimeout(Duration.ofSeconds(5));
+        NotificationConfiguration notificationConfiguration = new NotificationConfiguration();
+        notificationConfiguration.setPublisher(publisher);
+
+        notificationService = new NotificationService(
+            notificationConfiguration,
+            new BinaryNotificationCodec(),
+            rabbitTemplate,
+            taskScheduler,
+            new SimpleMeterRegistry()
+        );
+    }
+
+    private void givenRabbitInvokesCallback() {
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation -> {
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(rabbitOperations);
+        });
+    }
+
+    @Test
+    public void testSendNotification_whenBatchSizeReached_shouldPublishBatchWithOneConfirm() {
+        // Given
+        givenRabbitInvokesCallback();
+
+        // When
+        CompletableFuture<Void> first = notificationService.sendNotification("title", "first");
+        CompletableFuture<Void> second = notificationService.sendNotification("title", "second");
+
+        // Then
+        assertTrue(first.isDone() && !first.isCompletedExceptionally());
+        assertTrue(second.isDone() && !second.isCompletedExceptionally());
+        verify(rabbitOperations, times(2)).send(anyString(), anyString(), any(Message.class));
+        verify(rabbitOperations, times(1)).waitForConfirmsOrDie(anyLong());
+    }
+
+    @Test
+    public void testSendNotification_whenBelowBatchSize_shouldWaitForFlush() {
+        // When
+        CompletableFuture<Void> future = notificationService.sendNotification("title", "message");
+
+        // Then
+        assertFalse(future.isDone());
+        verify(rabbitTemplate, never()).invoke(any());
+    }
+
+    @Test
+    public void testFlush_whenConfirmFails_shouldFailFutures() {
+        // Given
+        givenRabbitInvokesCallback();
+        doThrow(new AmqpException("Nacked")).when(rabbitOperations).waitForConfirmsOrDie(anyLong());
+        CompletableFuture<Void> future = notificationService.sendNotification("title", "message");
+
+        // When
+        notificationService.flush();
+
+        // Then
+        assertTrue(future.isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.shazxrin.alif.notification.spool;
+
+import io.github.shazxrin.alif.notification.model.NotificationSpoolRecord;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NotificationSpoolTest {
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    private Path directory;
+
+    private long countSegments() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".spool")).count();
+        }
+    }
+
+    @Test
+    public void testRead_shouldReturnRecordsInAppendOrderUntilAcknowledged() throws IOException {
+        // Given
+        try (NotificationSpool spool = new NotificationSpool(directory, SEGMENT_SIZE)) {
+            spool.append("First", "One", null);
+            spool.append("Second", "Two", new byte[] { 1, 2, 3 });
+
+            // When
+            List<NotificationSpoolRecord> records = spool.read(10);
+
+            // Then
+            assertEquals(2, records.size());
+            assertEquals("First", records.get(0).title());
+            assertEquals("One", records.get(0).message());
+            assertNull(records.get(0).audience());
+            assertEquals("Second", records.get(1).title());
+            assertEquals("Two", records.get(1).message());
+            assertArrayEquals(new byte[] { 1, 2, 3 }, records.get(1).audience());
+            assertEquals(2, spool.read(10).size());
+
+            spool.acknowledge(records.get(0));
+            assertEquals("Second", spool.read(10).get(0).title());
+
+            spool.acknowledge(records.get(1));
+            assertFalse(spool.hasPending());
+        }
+    }
+
+    @Test
+    public void testAppend_whenSegmentFull_shouldRotateAndDeleteReadSegments() throws IOException {
+        // Given
+        try (NotificationSpool spool = new NotificationSpool(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 10; i++) {
+                spool.append("Title " + i, "A message long enough to fill the segment.", null);
+            }
+            assertTrue(countSegments() > 1);
+
+            // When
+            int read = 0;
+            List<NotificationSpoolRecord> records;
+            while (!(records = spool.read(100)).isEmpty()) {
+                assertEquals("Title " + read, records.get(0).title());
+                read += records.size();
+                spool.acknowledge(records.get(records.size() - 1));
+            }
+
+            // Then
+            assertEquals(10, read);
+            assertFalse(spool.hasPending());
+            assertEquals(1, countSegments());
+        }
+    }
+
+    @Test
+    public void testOpen_whenReopened_shouldResumeFromCheckpoint() throws IOException {
+        // Given
+        try (NotificationSpool spool = new NotificationSpool(directory, SEGMENT_SIZE)) {
+            spool.append("First", "One", null);
+            spool.append("Second", "Two", null);
+            spool.acknowledge(spool.read(1).get(0));
+        }
+
+        // When
+        try (NotificationSpool spool = new NotificationSpool(directory, SEGMENT_SIZE)) {
+            List<NotificationSpoolRecord> records = spool.read(10);
+
+            // Then
+            assertEquals(1, records.size());
+            assertEquals("Second", records.get(0).title());
+        }
+    }
+
+    @Test
+    public void testOpen_whenLastRecordCorrupt_shouldDropItAndKeepAppending() throws IOException {
+        // Given
+        try (NotificationSpool spool = new NotificationSpool(directory, SEGMENT_SIZE)) {
+            spool.append("First", "One", null);
+            spool.append("Second", "Two", null);
+        }
+        Path segment;
+        try (Stream<Path> paths = Files.list(directory)) {
+            segment = paths.filter(path -> path.getFileName().toString().endsWith(".spool")).findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // Flip a byte in the second record's payload so its checksum no longer matches.
+            int secondOffset = 8 + 8 + "First".length() + "One".length();
+            channel.write(ByteBuffer.wrap(new byte[] { 'X' }), secondOffset + 16);
+        }
+
+        // When
+        try (NotificationSpool spool = new NotificationSpool(directory, SEGMENT_SIZE)) {
+            spool.append("Third", "Three", null);
+            List<NotificationSpoolRecord> records = spool.read(10);
+
+            // Then
+            assertEquals(2, records.size());
+            assertEquals("First", records.get(0).title());
+            assertEquals("Third", records.get(1).title());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.shazxrin.alif.prayer.cache;
+
+import io.github.shazxrin.alif.prayer.exception.PrayerTimetableFileException;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrayerTimetableFileTest {
+    @TempDir
+    private Path directory;
+
+    private static PrayerTimetable createTimetable(String zone, int minuteOfDay, boolean calculated) {
+        PrayerTimetable.Builder builder = PrayerTimetable.builder(zone, 2026);
+        if (calculated) {
+            builder.calculated();
+        }
+        for (PrayerPeriod period : PrayerPeriod.values()) {
+            builder.put(LocalDate.of(2026, 1, 1), period, minuteOfDay + period.ordinal());
+            builder.put(LocalDate.of(2026, 12, 31), period, minuteOfDay + period.ordinal() * 2);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testRead_shouldReturnWrittenTimetables() {
+        // Given
+        Path path = directory.resolve("timetables.bin");
+        PrayerTimetableFile.write(path, List.of(
+            createTimetable("SGP", 300, false),
+            createTimetable("JHR01", 310, true)
+        ));
+
+        // When
+        List<PrayerTimetable> timetables = PrayerTimetableFile.read(path);
+
+        // Then
+        assertEquals(2, timetables.size());
+        PrayerTimetable singapore = timetables.get(0);
+        assertEquals("SGP", singapore.getZone());
+        assertEquals(2026, singapore.getYear());
+        assertEquals(2, singapore.getDayCount());
+        assertFalse(singapore.isCalculated());
+        assertEquals(302, singapore.getMinuteOfDay(LocalDate.of(2026, 1, 1), PrayerPeriod.ZOHOR));
+        assertEquals(304, singapore.getMinuteOfDay(LocalDate.of(2026, 12, 31), PrayerPeriod.ZOHOR));
+        assertFalse(singapore.hasDate(LocalDate.of(2026, 6, 1)));
+
+        PrayerTimetable johor = timetables.get(1);
+        assertEquals("JHR01", johor.getZone());
+        assertTrue(johor.isCalculated());
+        assertEquals(315, johor.getMinuteOfDay(LocalDate.of(2026, 1, 1), PrayerPeriod.ISYAK));
+        assertTrue(johor.getChanges(createTimetable("JHR01", 310, true)).isEmpty());
+    }
+
+    @Test
+    public void testRead_whenCorrupted_shouldThrowException() throws IOException {
+        // Given
+        Path path = directory.resolve("timetables.bin");
+        PrayerTimetableFile.write(path, List.of(createTimetable("SGP", 300, false)));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 7 }), 40);
+        }
+
+        // When & Then
+        assertThrows(PrayerTimetableFileException.class, () -> PrayerTimetableFile.read(path));
+    }
+}
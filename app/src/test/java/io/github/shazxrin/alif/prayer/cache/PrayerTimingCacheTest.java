@@ -0,0 +1,410 @@
+package io.github.shazxrin.alif.prayer.cache;
+
+import io.github.shazxrin.alif.prayer.calculation.PrayerTimingCalculator;
+import io.github.shazxrin.alif.prayer.event.PrayerTimetableChangedEvent;
+import io.github.shazxrin.alif.prayer.exception.PrayerTimingNotFoundException;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.prayer.model.PrayerTiming;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetable;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetableVersion;
+import io.github.shazxrin.alif.prayer.repository.PrayerTimetableVersionRepository;
+import io.github.shazxrin.alif.prayer.repository.PrayerTimingRepository;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PrayerTimingCacheTest {
+    private static final String ZONE = "SGP";
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2025, 12, 31);
+
+    @Mock
+    private PrayerTimingRepository prayerTimingRepository;
+
+    @Mock
+    private PrayerTimetableVersionRepository prayerTimetableVersionRepository;
+
+    @Mock
+    private PrayerTimingCalculator prayerTimingCalculator;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private PrayerTimingCache prayerTimingCache;
+
+    @BeforeEach
+    public void setUp() {
+        prayerTimingCache = new PrayerTimingCache(
+            prayerTimingRepository,
+            prayerTimetableVersionRepository,
+            prayerTimingCalculator,
+            applicationEventPublisher
+        );
+    }
+
+    @Test
+    public void testGetMinuteOfDay_whenYearLoaded_shouldQueryRepositoryOnce() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 3, 1);
+        PrayerTiming prayerTiming = new PrayerTiming(
+            ZONE,
+            date,
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+        when(prayerTimingRepository.findAllByDateBetween(START_DATE, END_DATE)).thenReturn(List.of(prayerTiming));
+
+        // When
+        int subuh = prayerTimingCache.getMinuteOfDay(ZONE, date, PrayerPeriod.SUBUH);
+        int isyak = prayerTimingCache.getMinuteOfDay(ZONE, date, PrayerPeriod.ISYAK);
+
+        // Then
+        assertEquals(5 * 60 + 30, subuh);
+        assertEquals(20 * 60, isyak);
+        verify(prayerTimingRepository, times(1)).findAllByDateBetween(START_DATE, END_DATE);
+    }
+
+    @Test
+    public void testPreload_whenRangeCrossesYears_shouldLoadBothYearsWithOneQuery() {
+        // Given
+        PrayerTiming lastDay = new PrayerTiming(
+            ZONE,
+            END_DATE,
+            LocalTime.of(5, 40),
+            LocalTime.of(7, 0),
+            LocalTime.of(13, 5),
+            LocalTime.of(16, 30),
+            LocalTime.of(19, 10),
+            LocalTime.of(20, 25)
+        );
+        PrayerTiming firstDay = new PrayerTiming(
+            ZONE,
+            END_DATE.plusDays(1),
+            LocalTime.of(5, 41),
+            LocalTime.of(7, 1),
+            LocalTime.of(13, 6),
+            LocalTime.of(16, 31),
+            LocalTime.of(19, 11),
+            LocalTime.of(20, 26)
+        );
+        when(prayerTimingRepository.findAllByDateBetween(START_DATE, LocalDate.of(2026, 12, 31)))
+            .thenReturn(List.of(lastDay, firstDay));
+
+        // When
+        prayerTimingCache.preload(END_DATE, END_DATE.plusDays(1));
+        int lastSubuh = prayerTimingCache.getMinuteOfDay(ZONE, END_DATE, PrayerPeriod.SUBUH);
+        int firstSubuh = prayerTimingCache.getMinuteOfDay(ZONE, END_DATE.plusDays(1), PrayerPeriod.SUBUH);
+
+        // Then
+        assertEquals(5 * 60 + 40, lastSubuh);
+        assertEquals(5 * 60 + 41, firstSubuh);
+        verify(prayerTimingRepository, times(1)).findAllByDateBetween(any(), any());
+    }
+
+    @Test
+    public void testGetMinuteOfDay_whenDateMissingFromLoadedYear_shouldThrowException() {
+        // Given
+        PrayerTiming prayerTiming = new PrayerTiming(
+            ZONE,
+            LocalDate.of(2025, 3, 1),
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+        when(prayerTimingRepository.findAllByDateBetween(START_DATE, END_DATE)).thenReturn(List.of(prayerTiming));
+
+        // When & Then
+        assertThrows(
+            PrayerTimingNotFoundException.class, () -> {
+                prayerTimingCache.getMinuteOfDay(ZONE, LocalDate.of(2025, 3, 2), PrayerPeriod.SUBUH);
+            }
+        );
+    }
+
+    @Test
+    public void testGetTimetable_whenZoneMissingFromLoadedYear_shouldNotQueryRepositoryAgain() {
+        // Given
+        PrayerTiming prayerTiming = new PrayerTiming(
+            ZONE,
+            LocalDate.of(2025, 3, 1),
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+        when(prayerTimingRepository.findAllByDateBetween(START_DATE, END_DATE)).thenReturn(List.of(prayerTiming));
+        prayerTimingCache.getTimetable(ZONE, 2025);
+
+        // When & Then
+        assertThrows(
+            PrayerTimingNotFoundException.class, () -> {
+                prayerTimingCache.getTimetable("JHR", 2025);
+            }
+        );
+        verify(prayerTimingRepository, times(1)).findAllByDateBetween(START_DATE, END_DATE);
+    }
+
+    @Test
+    public void testReload_whenTimesChange_shouldSwapSnapshotAndPublishOnlyChangedPeriods() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 3, 1);
+        PrayerTiming original = new PrayerTiming(
+            ZONE,
+            date,
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+        PrayerTiming corrected = new PrayerTiming(
+            ZONE,
+            date,
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 32),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+        when(prayerTimingRepository.findAllByDateBetween(START_DATE, END_DATE))
+            .thenReturn(List.of(original))
+            .thenReturn(List.of(corrected));
+        PrayerTimetable pinned = prayerTimingCache.getTimetable(ZONE, 2025);
+        long version = prayerTimingCache.getSnapshot().getVersion();
+
+        // When
+        prayerTimingCache.reload(2025, 2025);
+
+        // Then
+        ArgumentCaptor<PrayerTimetableChangedEvent> eventCaptor =
+            ArgumentCaptor.forClass(PrayerTimetableChangedEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(Map.of(date, Set.of(PrayerPeriod.ASAR)), eventCaptor.getValue().changes());
+        assertEquals(version + 1, prayerTimingCache.getSnapshot().getVersion());
+        assertEquals(15 * 60 + 32, prayerTimingCache.getMinuteOfDay(ZONE, date, PrayerPeriod.ASAR));
+        assertEquals(15 * 60 + 30, pinned.getMinuteOfDay(date, PrayerPeriod.ASAR));
+    }
+
+    @Test
+    public void testReload_whenTimesUnchanged_shouldNotPublishEvent() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 3, 1);
+        PrayerTiming prayerTiming = new PrayerTiming(
+            ZONE,
+            date,
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+        when(prayerTimingRepository.findAllByDateBetween(START_DATE, END_DATE)).thenReturn(List.of(prayerTiming));
+        prayerTimingCache.getTimetable(ZONE, 2025);
+
+        // When
+        prayerTimingCache.reload(2025, 2025);
+
+        // Then
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    public void testRefresh_whenMissingYearLands_shouldLoadYear() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 3, 1);
+        PrayerTiming prayerTiming = new PrayerTiming(
+            ZONE,
+            date,
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+        when(prayerTimingRepository.findAllByDateBetween(START_DATE, END_DATE))
+            .thenReturn(List.of())
+            .thenReturn(List.of(prayerTiming));
+
+        assertThrows(
+            PrayerTimingNotFoundException.class, () -> {
+                prayerTimingCache.getMinuteOfDay(ZONE, date, PrayerPeriod.SUBUH);
+            }
+        );
+        assertThrows(
+            PrayerTimingNotFoundException.class, () -> {
+                prayerTimingCache.getMinuteOfDay(ZONE, date, PrayerPeriod.SUBUH);
+            }
+        );
+
+        // When
+        prayerTimingCache.refresh();
+
+        // Then
+        assertEquals(5 * 60 + 30, prayerTimingCache.getMinuteOfDay(ZONE, date, PrayerPeriod.SUBUH));
+        verify(prayerTimingRepository, times(2)).findAllByDateBetween(START_DATE, END_DATE);
+    }
+
+    @Test
+    public void testRefresh_whenRowCountChanges_shouldReloadYear() {
+        // Given
+        LocalDate firstDate = LocalDate.of(2025, 3, 1);
+        LocalDate secondDate = LocalDate.of(2025, 3, 2);
+        PrayerTiming firstTiming = new PrayerTiming(
+            ZONE,
+            firstDate,
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+        PrayerTiming secondTiming = new PrayerTiming(
+            ZONE,
+            secondDate,
+            LocalTime.of(5, 31),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+        when(prayerTimingRepository.findAllByDateBetween(START_DATE, END_DATE))
+            .thenReturn(List.of(firstTiming))
+            .thenReturn(List.of(firstTiming, secondTiming));
+        when(prayerTimingRepository.countByDateBetween(START_DATE, END_DATE)).thenReturn(2L);
+        prayerTimingCache.getTimetable(ZONE, 2025);
+
+        // When
+        prayerTimingCache.refresh();
+
+        // Then
+        assertEquals(5 * 60 + 31, prayerTimingCache.getMinuteOfDay(ZONE, secondDate, PrayerPeriod.SUBUH));
+    }
+
+    @Test
+    public void testRefresh_whenVersionBumpedWithSameRowCount_shouldReloadYearAndPublishChanges() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 3, 1);
+        PrayerTiming prayerTiming = new PrayerTiming(
+            ZONE,
+            date,
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+        PrayerTiming correctedTiming = new PrayerTiming(
+            ZONE,
+            date,
+            LocalTime.of(5, 32),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+        when(prayerTimetableVersionRepository.findAllByYearBetween(2025, 2025))
+            .thenReturn(List.of(new PrayerTimetableVersion(2025, 1)));
+        when(prayerTimetableVersionRepository.findAllById(Set.of(2025)))
+            .thenReturn(List.of(new PrayerTimetableVersion(2025, 2)));
+        when(prayerTimingRepository.findAllByDateBetween(START_DATE, END_DATE))
+            .thenReturn(List.of(prayerTiming))
+            .thenReturn(List.of(correctedTiming));
+        when(prayerTimingRepository.countByDateBetween(START_DATE, END_DATE)).thenReturn(1L);
+        prayerTimingCache.getTimetable(ZONE, 2025);
+
+        // When
+        prayerTimingCache.refresh();
+        prayerTimingCache.refresh();
+
+        // Then
+        assertEquals(5 * 60 + 32, prayerTimingCache.getMinuteOfDay(ZONE, date, PrayerPeriod.SUBUH));
+        verify(prayerTimingRepository, times(2)).findAllByDateBetween(START_DATE, END_DATE);
+
+        ArgumentCaptor<PrayerTimetableChangedEvent> eventCaptor =
+            ArgumentCaptor.forClass(PrayerTimetableChangedEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals(Map.of(date, Set.of(PrayerPeriod.SUBUH)), eventCaptor.getValue().changes());
+    }
+
+    @Test
+    public void testRefresh_whenYearDetached_shouldNotReloadYear() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 3, 1);
+        PrayerTiming prayerTiming = new PrayerTiming(
+            ZONE,
+            date,
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+        when(prayerTimingRepository.findAllByDateBetween(START_DATE, END_DATE)).thenReturn(List.of(prayerTiming));
+        prayerTimingCache.getTimetable(ZONE, 2025);
+
+        // When
+        prayerTimingCache.evictBefore(2026);
+        prayerTimingCache.refresh();
+
+        // Then
+        assertEquals(0, prayerTimingCache.getSnapshot().countDays(2025));
+        verify(prayerTimingRepository, never()).countByDateBetween(START_DATE, END_DATE);
+        verify(prayerTimingRepository, times(1)).findAllByDateBetween(START_DATE, END_DATE);
+        verify(applicationEventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    public void testGetTimetable_whenYearMissingAndFallbackZone_shouldUseCalculatedTimetable() {
+        // Given
+        PrayerTimetable calculated = PrayerTimetable.builder(ZONE, 2026)
+            .calculated()
+            .put(LocalDate.of(2026, 1, 1), PrayerPeriod.SUBUH, 5 * 60 + 44)
+            .build();
+        when(prayerTimingRepository.findAllByDateBetween(any(), any())).thenReturn(List.of());
+        when(prayerTimingCalculator.getFallbackZones()).thenReturn(List.of(ZONE));
+        when(prayerTimingCalculator.calculate(ZONE, 2026)).thenReturn(calculated);
+
+        // When
+        int subuh = prayerTimingCache.getMinuteOfDay(ZONE, LocalDate.of(2026, 1, 1), PrayerPeriod.SUBUH);
+
+        // Then
+        assertEquals(5 * 60 + 44, subuh);
+        assertEquals(0, prayerTimingCache.getSnapshot().countDays(2026));
+    }
+}
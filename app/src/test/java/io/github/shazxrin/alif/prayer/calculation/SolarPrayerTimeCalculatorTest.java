@@ -0,0 +1,63 @@
+package io.github.shazxrin.alif.prayer.calculation;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetable;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SolarPrayerTimeCalculatorTest {
+    private static final SolarPrayerTimeCalculator CALCULATOR =
+        new SolarPrayerTimeCalculator(20, 18, 1, new int[] { 0, 0, 1, 0, 0, 0 });
+
+    private static void assertWithinMinute(
+        LocalTime expected,
+        PrayerTimetable timetable,
+        LocalDate date,
+        PrayerPeriod period
+    ) {
+        int expectedMinuteOfDay = expected.getHour() * 60 + expected.getMinute();
+        int actualMinuteOfDay = timetable.getMinuteOfDay(date, period);
+        assertTrue(
+            Math.abs(expectedMinuteOfDay - actualMinuteOfDay) <= 1,
+            period + " expected " + expected + " but was minute " + actualMinuteOfDay
+        );
+    }
+
+    @Test
+    public void testCalculate_whenSingapore_shouldMatchPublishedTimetable() {
+        // Given
+        LocalDate date = LocalDate.of(2025, 1, 1);
+
+        // When
+        PrayerTimetable timetable = CALCULATOR.calculate("SGP", 2025, 1.3521, 103.8198, ZoneId.of("Asia/Singapore"));
+
+        // Then
+        assertTrue(timetable.isCalculated());
+        assertEquals(365, timetable.getDayCount());
+        assertWithinMinute(LocalTime.of(5, 43), timetable, date, PrayerPeriod.SUBUH);
+        assertWithinMinute(LocalTime.of(7, 7), timetable, date, PrayerPeriod.SYURUK);
+        assertWithinMinute(LocalTime.of(13, 9), timetable, date, PrayerPeriod.ZOHOR);
+        assertWithinMinute(LocalTime.of(16, 33), timetable, date, PrayerPeriod.ASAR);
+        assertWithinMinute(LocalTime.of(19, 10), timetable, date, PrayerPeriod.MAGHRIB);
+        assertWithinMinute(LocalTime.of(20, 25), timetable, date, PrayerPeriod.ISYAK);
+    }
+
+    @Test
+    public void testCalculate_whenSunNeverReachesAngle_shouldLeavePeriodMissing() {
+        // Given
+        LocalDate midsummer = LocalDate.of(2025, 6, 21);
+
+        // When
+        PrayerTimetable timetable = CALCULATOR.calculate("OSL", 2025, 59.9139, 10.7522, ZoneId.of("Europe/Oslo"));
+
+        // Then
+        assertEquals(PrayerTimetable.MISSING, timetable.getMinuteOfDay(midsummer, PrayerPeriod.ISYAK));
+        assertNotEquals(PrayerTimetable.MISSING, timetable.getMinuteOfDay(midsummer, PrayerPeriod.MAGHRIB));
+    }
+}
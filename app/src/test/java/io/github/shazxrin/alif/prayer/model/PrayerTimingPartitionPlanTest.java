@@ -0,0 +1,86 @@
+package io.github.shazxrin.alif.prayer.model;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrayerTimingPartitionPlanTest {
+    @Test
+    public void testOf_whenNoPartitions_shouldCreateRetainedYears() {
+        // Given
+        Set<Integer> partitionedYears = Set.of();
+        Set<Integer> defaultYears = Set.of(2025, 2026);
+
+        // When
+        PrayerTimingPartitionPlan plan = PrayerTimingPartitionPlan.of(partitionedYears, defaultYears, Set.of(), 2026, 2, 1);
+
+        // Then
+        assertEquals(Set.of(2024, 2025, 2026, 2027), plan.create());
+        assertTrue(plan.detach().isEmpty());
+    }
+
+    @Test
+    public void testOf_whenYearFallsOutOfRetention_shouldDetachIt() {
+        // Given
+        Set<Integer> partitionedYears = Set.of(2023, 2024, 2025, 2026, 2027);
+
+        // When
+        PrayerTimingPartitionPlan plan = PrayerTimingPartitionPlan.of(partitionedYears, Set.of(), Set.of(), 2026, 2, 1);
+
+        // Then
+        assertTrue(plan.create().isEmpty());
+        assertEquals(Set.of(2023), plan.detach());
+    }
+
+    @Test
+    public void testOf_whenStaleYearInDefaultPartition_shouldCreateAndDetachIt() {
+        // Given
+        Set<Integer> partitionedYears = Set.of(2024, 2025, 2026, 2027);
+        Set<Integer> defaultYears = Set.of(2020);
+
+        // When
+        PrayerTimingPartitionPlan plan = PrayerTimingPartitionPlan.of(partitionedYears, defaultYears, Set.of(), 2026, 2, 1);
+
+        // Then
+        assertEquals(Set.of(2020), plan.create());
+        assertEquals(Set.of(2020), plan.detach());
+        assertTrue(plan.merge().isEmpty());
+    }
+
+    @Test
+    public void testOf_whenStaleYearAlreadyArchived_shouldMergeIntoArchive() {
+        // Given
+        Set<Integer> partitionedYears = Set.of(2024, 2025, 2026, 2027);
+        Set<Integer> defaultYears = Set.of(2022, 2023);
+        Set<Integer> archivedYears = Set.of(2022);
+
+        // When
+        PrayerTimingPartitionPlan plan = PrayerTimingPartitionPlan.of(
+            partitionedYears,
+            defaultYears,
+            archivedYears,
+            2026,
+            2,
+            1
+        );
+
+        // Then
+        assertEquals(Set.of(2022), plan.merge());
+        assertEquals(Set.of(2023), plan.create());
+        assertEquals(Set.of(2023), plan.detach());
+    }
+
+    @Test
+    public void testOf_whenUpToDate_shouldBeEmpty() {
+        // Given
+        Set<Integer> partitionedYears = Set.of(2024, 2025, 2026, 2027);
+
+        // When
+        PrayerTimingPartitionPlan plan = PrayerTimingPartitionPlan.of(partitionedYears, Set.of(), Set.of(), 2026, 2, 1);
+
+        // Then
+        assertTrue(plan.isEmpty());
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.shazxrin.alif.prayer.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.shazxrin.alif.prayer.cache.PrayerTimingCache;
+import io.github.shazxrin.alif.prayer.calculation.PrayerTimingCalculator;
+import io.github.shazxrin.alif.prayer.model.PrayerTiming;
+import io.github.shazxrin.alif.prayer.repository.PrayerTimetableVersionRepository;
+import io.github.shazxrin.alif.prayer.repository.PrayerTimingRepository;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PrayerTimingResponseCacheTest {
+    @Mock
+    private PrayerTimingRepository prayerTimingRepository;
+
+    @Mock
+    private PrayerTimetableVersionRepository prayerTimetableVersionRepository;
+
+    @Mock
+    private PrayerTimingCalculator prayerTimingCalculator;
+
+    private PrayerTimingCache prayerTimingCache;
+    private PrayerTimingResponseCache prayerTimingResponseCache;
+
+    @BeforeEach
+    public void setUp() {
+        prayerTimingCache = new PrayerTimingCache(
+            prayerTimingRepository,
+            prayerTimetableVersionRepository,
+            prayerTimingCalculator,
+            event -> { }
+        );
+        prayerTimingResponseCache = new PrayerTimingResponseCache(new ObjectMapper(), prayerTimingCache);
+    }
+
+    @Test
+    public void testGetResponse_whenSnapshotUnchanged_shouldReuseEncodedResponse() throws IOException {
+        // Given
+        AtomicInteger builds = new AtomicInteger();
+
+        // When
+        PrayerTimingResponse first = prayerTimingResponseCache.getResponse("SGP/2025", () -> {
+            builds.incrementAndGet();
+            return Map.of("zone", "SGP");
+        });
+        PrayerTimingResponse second = prayerTimingResponseCache.getResponse("SGP/2025", () -> {
+            builds.incrementAndGet();
+            return Map.of("zone", "SGP");
+        });
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+        assertNotEquals(first.etag(), first.gzipEtag());
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(first.gzipBody()))) {
+            assertArrayEquals(first.body(), inputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testGetResponse_whenSnapshotSwapped_shouldRebuildWithSameEtagForSameContent() {
+        // Given
+        when(prayerTimingRepository.findAllByDateBetween(any(), any())).thenReturn(List.of(new PrayerTiming(
+            "SGP",
+            LocalDate.of(2025, 1, 1),
+            LocalTime.of(5, 43),
+            LocalTime.of(7, 7),
+            LocalTime.of(13, 9),
+            LocalTime.of(16, 33),
+            LocalTime.of(19, 10),
+            LocalTime.of(20, 25)
+        )));
+        PrayerTimingResponse first = prayerTimingResponseCache.getResponse("SGP/2025", () -> Map.of("zone", "SGP"));
+
+        // When
+        prayerTimingCache.getTimetable("SGP", 2025);
+        PrayerTimingResponse second = prayerTimingResponseCache.getResponse("SGP/2025", () -> Map.of("zone", "SGP"));
+
+        // Then
+        assertNotEquals(first.version(), second.version());
+        assertEquals(first.etag(), second.etag());
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.shazxrin.alif.prayer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
+import io.github.shazxrin.alif.prayer.model.PrayerTimingExportFormat;
+import io.github.shazxrin.alif.prayer.model.PrayerTimingView;
+import io.github.shazxrin.alif.prayer.repository.PrayerTimingRepository;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PrayerTimingExportServiceTest {
+    private static final List<String> ZONES = List.of("JHR", "SGP");
+    private static final LocalDate START_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2025, 1, 2);
+
+    @Mock
+    private PrayerTimingRepository prayerTimingRepository;
+
+    @Mock
+    private PrayerTimingConfiguration prayerTimingConfiguration;
+
+    private PrayerTimingExportService prayerTimingExportService;
+
+    @BeforeEach
+    public void setUp() {
+        PrayerTimingConfiguration.Export export = new PrayerTimingConfiguration.Export();
+        export.setPageSize(2);
+        Mockito.lenient().when(prayerTimingConfiguration.getExport()).thenReturn(export);
+
+        prayerTimingExportService = new PrayerTimingExportService(
+            prayerTimingConfiguration,
+            prayerTimingRepository,
+            new ObjectMapper()
+        );
+    }
+
+    private static PrayerTimingView createView(String zone, LocalDate date) {
+        return new PrayerTimingView(
+            zone,
+            date,
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
+        );
+    }
+
+    @Test
+    public void testExport_whenRowsSpanPages_shouldResumeAfterLastRowOfEachPage() throws IOException {
+        // Given
+        when(prayerTimingRepository.findViewsAfter(
+            ZONES, START_DATE, END_DATE, "", START_DATE.minusDays(1), Limit.of(2)
+        )).thenReturn(List.of(createView("JHR", START_DATE), createView("JHR", END_DATE)));
+        when(prayerTimingRepository.findViewsAfter(
+            ZONES, START_DATE, END_DATE, "JHR", END_DATE, Limit.of(2)
+        )).thenReturn(List.of(createView("SGP", START_DATE)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        prayerTimingExportService.export(ZONES, START_DATE, END_DATE, PrayerTimingExportFormat.CSV, outputStream);
+
+        // Then
+        assertEquals(
+            """
+            zone,date,subuh,syuruk,zohor,asar,maghrib,isyak
+            JHR,2025-01-01,05:30,06:45,12:15,15:30,18:45,20:00
+            JHR,2025-01-02,05:30,06:45,12:15,15:30,18:45,20:00
+            SGP,2025-01-01,05:30,06:45,12:15,15:30,18:45,20:00
+            """,
+            outputStream.toString(StandardCharsets.UTF_8)
+        );
+        verify(prayerTimingRepository, times(2)).findViewsAfter(any(), any(), any(), any(), any(), any());
+    }
+}
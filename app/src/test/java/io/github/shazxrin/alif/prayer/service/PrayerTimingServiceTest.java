@@ -1,34 +1,49 @@
 package io.github.shazxrin.alif.prayer.service;
 
-import io.github.shazxrin.alif.notification.service.NotificationService;
+import io.github.shazxrin.alif.cluster.service.ShardOwnershipService;
+import io.github.shazxrin.alif.notification.service.NotificationDispatcher;
+import io.github.shazxrin.alif.prayer.cache.PrayerTimingCache;
+import io.github.shazxrin.alif.prayer.calculation.PrayerTimingCalculator;
 import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
 import io.github.shazxrin.alif.prayer.exception.PrayerTimingNotFoundException;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetable;
 import io.github.shazxrin.alif.prayer.model.PrayerTiming;
+import io.github.shazxrin.alif.prayer.repository.PrayerTimetableVersionRepository;
 import io.github.shazxrin.alif.prayer.repository.PrayerTimingRepository;
+import io.github.shazxrin.alif.prayer.template.PrayerNotificationRenderer;
+import io.github.shazxrin.alif.prayer.template.PrayerNotificationRendererTest;
+import io.github.shazxrin.alif.reminder.model.ReminderOutboxEntry;
+import io.github.shazxrin.alif.reminder.service.ReminderOutboxService;
+import io.github.shazxrin.alif.subscriber.service.SubscriberService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Clock;
-import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import org.junit.jupiter.api.Disabled;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.scheduling.TaskScheduler;
+import org.roaringbitmap.RoaringBitmap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,78 +51,134 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class PrayerTimingServiceTest {
     private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+    private static final String ZONE = "SGP";
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Singapore");
+    private static final LocalDate TODAY = LocalDate.of(2025, 1, 1);
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-12-31T16:00:00Z"), ZONE_ID);
 
     @Mock
     private PrayerTimingRepository prayerTimingRepository;
 
     @Mock
-    private NotificationService notificationService;
+    private PrayerTimetableVersionRepository prayerTimetableVersionRepository;
 
     @Mock
-    private TaskScheduler taskScheduler;
+    private PrayerTimingCalculator prayerTimingCalculator;
 
     @Mock
-    private PrayerTimingConfiguration prayerTimingConfiguration;
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private ReminderOutboxService reminderOutboxService;
+
+    @Mock
+    private ShardOwnershipService shardOwnershipService;
 
     @Mock
-    private PrayerTimingConfiguration.PreReminder preReminder;
+    private SubscriberService subscriberService;
 
-    @InjectMocks
+    @Mock
+    private PrayerTimingConfiguration prayerTimingConfiguration;
+
+    private SimpleMeterRegistry meterRegistry;
     private PrayerTimingService prayerTimingService;
 
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PrayerTimingConfiguration.Zone zone = new PrayerTimingConfiguration.Zone();
+        zone.setCode(ZONE);
+        zone.setTimeZone(ZONE_ID);
+        PrayerTimingConfiguration.Horizon horizon = new PrayerTimingConfiguration.Horizon();
+        horizon.setDays(2);
+        Mockito.lenient().when(prayerTimingConfiguration.getZones()).thenReturn(List.of(zone));
+        Mockito.lenient().when(prayerTimingConfiguration.getHorizon()).thenReturn(horizon);
+        Mockito.lenient().when(shardOwnershipService.ownsZone(ZONE)).thenReturn(true);
+        Mockito.lenient().when(prayerTimingConfiguration.getTemplates())
+            .thenReturn(PrayerNotificationRendererTest.createTemplates());
+
+        prayerTimingService = new PrayerTimingService(
+            prayerTimingConfiguration,
+            new PrayerTimingCache(
+                prayerTimingRepository,
+                prayerTimetableVersionRepository,
+                prayerTimingCalculator,
+                event -> { }
+            ),
+            new PrayerNotificationRenderer(prayerTimingConfiguration),
+            notificationDispatcher,
+            reminderOutboxService,
+            shardOwnershipService,
+            subscriberService,
+            meterRegistry,
+            CLOCK
+        );
+    }
+
     @Test
     public void testGetPrayerTimingByDate_whenTimingExists_shouldReturnTiming() {
         // Given
         LocalDate date = LocalDate.of(2023, 1, 1);
         PrayerTiming expectedTiming = new PrayerTiming(
+            ZONE,
             date,
-            "05:30",
-            "06:45",
-            "12:15",
-            "15:30",
-            "18:45",
-            "20:00"
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
         );
-        when(prayerTimingRepository.getByDate(date)).thenReturn(expectedTiming);
+        when(prayerTimingRepository.findAllByDateBetween(any(), any())).thenReturn(List.of(expectedTiming));
 
         // When
-        PrayerTiming actualTiming = prayerTimingService.getPrayerTimingByDate(date);
+        PrayerTiming actualTiming = prayerTimingService.getPrayerTimingByDate(ZONE, date);
 
         // Then
         assertNotNull(actualTiming);
-        assertEquals(expectedTiming, actualTiming);
-        verify(prayerTimingRepository).getByDate(date);
+        assertEquals(expectedTiming.getZone(), actualTiming.getZone());
+        assertEquals(expectedTiming.getDate(), actualTiming.getDate());
+        assertEquals(expectedTiming.getSubuh(), actualTiming.getSubuh());
+        assertEquals(expectedTiming.getSyuruk(), actualTiming.getSyuruk());
+        assertEquals(expectedTiming.getZohor(), actualTiming.getZohor());
+        assertEquals(expectedTiming.getAsar(), actualTiming.getAsar());
+        assertEquals(expectedTiming.getMaghrib(), actualTiming.getMaghrib());
+        assertEquals(expectedTiming.getIsyak(), actualTiming.getIsyak());
+        verify(prayerTimingRepository).findAllByDateBetween(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31));
     }
 
     @Test
     public void testGetPrayerTimingByDate_whenTimingDoesNotExist_shouldThrowException() {
         // Given
         LocalDate date = LocalDate.of(2023, 1, 1);
-        when(prayerTimingRepository.getByDate(date)).thenReturn(null);
+        when(prayerTimingRepository.findAllByDateBetween(any(), any())).thenReturn(List.of());
 
         // When & Then
         assertThrows(
             PrayerTimingNotFoundException.class, () -> {
-                prayerTimingService.getPrayerTimingByDate(date);
+                prayerTimingService.getPrayerTimingByDate(ZONE, date);
             }
         );
-        verify(prayerTimingRepository).getByDate(date);
+        verify(prayerTimingRepository).findAllByDateBetween(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 12, 31));
     }
 
     @Test
     public void testNotifyPrayerTimingPeriodSummary_shouldSendNotificationWithSummary() {
         // Given
-        LocalDate today = LocalDate.now();
         PrayerTiming prayerTiming = new PrayerTiming(
-            today,
-            "05:30",
-            "06:45",
-            "12:15",
-            "15:30",
-            "18:45",
-            "20:00"
+            ZONE,
+            TODAY,
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
         );
-        when(prayerTimingRepository.getByDate(today)).thenReturn(prayerTiming);
+        when(prayerTimingRepository.findAllByDateBetween(any(), any())).thenReturn(List.of(prayerTiming));
+
+        when(subscriberService.getSummaryAudience(ZONE)).thenReturn(RoaringBitmap.bitmapOf(1));
+        when(notificationDispatcher.dispatch(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
 
         // When
         prayerTimingService.notifyAllPrayerTimingPeriods();
@@ -115,7 +186,7 @@ public class PrayerTimingServiceTest {
         // Then
         ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
 
-        verify(notificationService).sendNotification(any(), messageCaptor.capture());
+        verify(notificationDispatcher).dispatch(any(), messageCaptor.capture(), any());
 
         String message = messageCaptor.getValue();
         assertTrue(message.contains("Subuh: 05:30"));
@@ -126,153 +197,170 @@ public class PrayerTimingServiceTest {
         assertTrue(message.contains("Isyak: 20:00"));
     }
 
-    @Disabled("Unable to stop time in a clean manner for now.")
     @Test
-    public void testScheduleAllNotifyPrayerTimingPeriods_shouldScheduleNotificationForAllPrayerTimes() {
+    public void testIsPublished_whenEveryDayIngested_shouldReturnTrue() {
         // Given
-        LocalDate today = LocalDate.now();
-
         PrayerTiming prayerTiming = new PrayerTiming(
-            today,
-            "05:30",
-            "06:45",
-            "12:15",
-            "15:30",
-            "18:45",
-            "20:00"
+            ZONE,
+            TODAY,
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
         );
-        when(prayerTimingRepository.getByDate(today)).thenReturn(prayerTiming);
+        when(prayerTimingRepository.findAllByDateBetween(any(), any())).thenReturn(List.of(prayerTiming));
 
         // When
-        prayerTimingService.scheduleAllNotifyPrayerTimingPeriods();
+        boolean published = prayerTimingService.isPublished(ZONE, TODAY, TODAY);
+        boolean publishedWithGap = prayerTimingService.isPublished(ZONE, TODAY, TODAY.plusDays(1));
 
         // Then
-        ArgumentCaptor<Instant> instantCaptor = ArgumentCaptor.forClass(Instant.class);
+        assertTrue(published);
+        assertFalse(publishedWithGap);
+    }
 
-        verify(taskScheduler, times(6)).schedule(any(), instantCaptor.capture());
+    @Test
+    public void testIsPublished_whenYearCalculated_shouldReturnFalse() {
+        // Given
+        PrayerTimetable calculated = PrayerTimetable.builder(ZONE, TODAY.getYear())
+            .calculated()
+            .put(TODAY, PrayerPeriod.SUBUH, 5 * 60 + 30)
+            .build();
+        when(prayerTimingRepository.findAllByDateBetween(any(), any())).thenReturn(List.of());
+        when(prayerTimingCalculator.getFallbackZones()).thenReturn(List.of(ZONE));
+        when(prayerTimingCalculator.calculate(ZONE, TODAY.getYear())).thenReturn(calculated);
 
-        var instants = instantCaptor.getAllValues();
+        // When
+        boolean published = prayerTimingService.isPublished(ZONE, TODAY, TODAY);
 
-        var times = instants.stream()
-            .map(instant -> instant.atZone(ZoneId.systemDefault()).toLocalTime())
-            .map(time -> time.format(TIME_FORMAT))
+        // Then
+        assertFalse(published);
+    }
+
+    @Test
+    public void testTopUpReminders_whenCalledTwice_shouldScheduleHorizonOnce() {
+        // Given
+        List<PrayerTiming> prayerTimings = List.of(TODAY, TODAY.plusDays(1))
+            .stream()
+            .map(date -> new PrayerTiming(
+                ZONE,
+                date,
+                LocalTime.of(5, 30),
+                LocalTime.of(6, 45),
+                LocalTime.of(12, 15),
+                LocalTime.of(15, 30),
+                LocalTime.of(18, 45),
+                LocalTime.of(20, 0)
+            ))
             .toList();
-        assertTrue(times.contains("05:30"));
-        assertTrue(times.contains("06:45"));
-        assertTrue(times.contains("12:15"));
-        assertTrue(times.contains("15:30"));
-        assertTrue(times.contains("18:45"));
-        assertTrue(times.contains("20:00"));
+        when(prayerTimingRepository.findAllByDateBetween(any(), any())).thenReturn(prayerTimings);
+        when(subscriberService.getPreReminderOffsets(ZONE)).thenReturn(new TreeSet<>(List.of(15)));
+
+        // When
+        prayerTimingService.topUpReminders();
+        prayerTimingService.topUpReminders();
+
+        // Then
+        verify(prayerTimingRepository, times(1)).findAllByDateBetween(any(), any());
+        verify(reminderOutboxService, times(2 * 6 * 2)).enqueue(any());
     }
 
-    @Disabled("Unable to stop time in a clean manner for now.")
     @Test
-    public void testScheduleAllPrePrayerTimingPeriods_shouldScheduleAllNotificationsBeforeAllPrayerTimes() {
+    public void testTopUpReminders_shouldScheduleNotificationForAllPrayerTimes() {
         // Given
-        LocalDate today = LocalDate.now();
         PrayerTiming prayerTiming = new PrayerTiming(
-            today,
-            "05:30",
-            "06:45",
-            "12:15",
-            "15:30",
-            "18:45",
-            "20:00"
+            ZONE,
+            TODAY,
+            LocalTime.of(5, 30),
+            LocalTime.of(6, 45),
+            LocalTime.of(12, 15),
+            LocalTime.of(15, 30),
+            LocalTime.of(18, 45),
+            LocalTime.of(20, 0)
         );
-        Duration durationBefore = Duration.ofMinutes(15);
-
-        when(prayerTimingRepository.getByDate(today)).thenReturn(prayerTiming);
-        when(prayerTimingConfiguration.getPreReminder()).thenReturn(preReminder);
-        when(preReminder.getDurationBefore()).thenReturn(durationBefore);
+        when(prayerTimingRepository.findAllByDateBetween(any(), any())).thenReturn(List.of(prayerTiming));
+        when(subscriberService.getPreReminderOffsets(ZONE)).thenReturn(new TreeSet<>());
 
         // When
-        prayerTimingService.scheduleAllNotifyPrePrayerTimingPeriods();
+        prayerTimingService.topUpReminders();
 
         // Then
-        ArgumentCaptor<Instant> instantCaptor = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<ReminderOutboxEntry> entryCaptor = ArgumentCaptor.forClass(ReminderOutboxEntry.class);
 
-        verify(taskScheduler, times(6)).schedule(any(), instantCaptor.capture());
+        verify(reminderOutboxService, times(6)).enqueue(entryCaptor.capture());
 
-        var instants = instantCaptor.getAllValues();
+        var entries = entryCaptor.getAllValues();
 
-        var times = instants.stream()
-            .map(instant -> instant.atZone(ZoneId.systemDefault()).toLocalTime())
+        var times = entries.stream()
+            .map(ReminderOutboxEntry::getFireAt)
+            .map(instant -> instant.atZone(ZONE_ID).toLocalTime())
             .map(time -> time.format(TIME_FORMAT))
             .toList();
-        assertTrue(times.contains("05:15"));
-        assertTrue(times.contains("06:30"));
-        assertTrue(times.contains("12:00"));
-        assertTrue(times.contains("15:15"));
-        assertTrue(times.contains("18:30"));
-        assertTrue(times.contains("19:45"));
+        assertTrue(times.contains("05:30"));
+        assertTrue(times.contains("06:45"));
+        assertTrue(times.contains("12:15"));
+        assertTrue(times.contains("15:30"));
+        assertTrue(times.contains("18:45"));
+        assertTrue(times.contains("20:00"));
     }
 
     @Test
-    public void testNotifyAllPrayerTimingPeriods_withInvalidTimeFormat_shouldThrowException() {
+    public void testSchedulePreReminders_whenOffsetAdded_shouldScheduleOnlyNewOffsetOnHorizon() {
         // Given
-        LocalDate today = LocalDate.now();
-        PrayerTiming prayerTiming = new PrayerTiming(
-            today,
-            "invalid",
-            "06:45",
-            "12:15",
-            "15:30",
-            "18:45",
-            "20:00"
-        );
-        when(prayerTimingRepository.getByDate(today)).thenReturn(prayerTiming);
+        List<PrayerTiming> prayerTimings = List.of(TODAY, TODAY.plusDays(1))
+            .stream()
+            .map(date -> new PrayerTiming(
+                ZONE,
+                date,
+                LocalTime.of(5, 30),
+                LocalTime.of(6, 45),
+                LocalTime.of(12, 15),
+                LocalTime.of(15, 30),
+                LocalTime.of(18, 45),
+                LocalTime.of(20, 0)
+            ))
+            .toList();
+        when(prayerTimingRepository.findAllByDateBetween(any(), any())).thenReturn(prayerTimings);
+        when(subscriberService.getPreReminderOffsets(ZONE)).thenReturn(new TreeSet<>(List.of(15)));
+        prayerTimingService.topUpReminders();
+        clearInvocations(reminderOutboxService);
 
-        // When & Then
-        assertThrows(
-            IllegalArgumentException.class, () -> {
-                prayerTimingService.notifyAllPrayerTimingPeriods();
-            }
-        );
-    }
+        // When
+        prayerTimingService.schedulePreReminders(ZONE, new TreeSet<>(List.of(10)));
 
-    @Test
-    public void testNotifyAllPrayerTimingPeriods_withInvalidHour_shouldThrowException() {
-        // Given
-        LocalDate today = LocalDate.now();
-        PrayerTiming prayerTiming = new PrayerTiming(
-            today,
-            "24:30",
-            "06:45",
-            "12:15",
-            "15:30",
-            "18:45",
-            "20:00"
-        );
-        when(prayerTimingRepository.getByDate(today)).thenReturn(prayerTiming);
+        // Then
+        ArgumentCaptor<ReminderOutboxEntry> entryCaptor = ArgumentCaptor.forClass(ReminderOutboxEntry.class);
 
-        // When & Then
-        assertThrows(
-            IllegalArgumentException.class, () -> {
-                prayerTimingService.notifyAllPrayerTimingPeriods();
-            }
+        verify(reminderOutboxService, times(2 * 6)).enqueue(entryCaptor.capture());
+
+        var entries = entryCaptor.getAllValues();
+
+        assertTrue(entries.stream().allMatch(entry -> entry.getOffsetMinutes() == 10));
+        var times = entries.stream()
+            .map(ReminderOutboxEntry::getFireAt)
+            .map(instant -> instant.atZone(ZONE_ID).toLocalTime())
+            .map(time -> time.format(TIME_FORMAT))
+            .toList();
+        assertTrue(times.contains("05:20"));
+        assertTrue(times.contains("06:35"));
+        assertTrue(times.contains("12:05"));
+        assertTrue(times.contains("15:20"));
+        assertTrue(times.contains("18:35"));
+        assertTrue(times.contains("19:50"));
+        assertEquals(
+            2 * 2,
+            meterRegistry.get("alif.reminder.scheduled").tag("kind", "PRE_PRAYER").tag("period", "SUBUH").counter().count()
         );
     }
 
     @Test
-    public void testNotifyAllPrayerTimingPeriods_withInvalidMinute_shouldThrowException() {
-        // Given
-        LocalDate today = LocalDate.now();
-        PrayerTiming prayerTiming = new PrayerTiming(
-            today,
-            "05:60",
-            "06:45",
-            "12:15",
-            "15:30",
-            "18:45",
-            "20:00"
-        );
-        when(prayerTimingRepository.getByDate(today)).thenReturn(prayerTiming);
+    public void testSchedulePreReminders_whenNothingScheduled_shouldLeaveOffsetToTopUp() {
+        // When
+        prayerTimingService.schedulePreReminders(ZONE, new TreeSet<>(List.of(10)));
 
-        // When & Then
-        assertThrows(
-            IllegalArgumentException.class, () -> {
-                prayerTimingService.notifyAllPrayerTimingPeriods();
-            }
-        );
+        // Then
+        verify(reminderOutboxService, never()).enqueue(any());
     }
 }
@@ -0,0 +1,129 @@
+package io.github.shazxrin.alif.prayer.template;
+
+import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
+import io.github.shazxrin.alif.prayer.exception.PrayerTemplateException;
+import io.github.shazxrin.alif.prayer.model.PrayerNotification;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.reminder.model.ReminderKind;
+import java.time.LocalDate;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PrayerNotificationRendererTest {
+    private PrayerNotificationRenderer prayerNotificationRenderer;
+
+    private static PrayerTimingConfiguration.Template createTemplate(String title, String message) {
+        PrayerTimingConfiguration.Template template = new PrayerTimingConfiguration.Template();
+        template.setTitle(title);
+        template.setMessage(message);
+        return template;
+    }
+
+    public static PrayerTimingConfiguration.Templates createTemplates() {
+        PrayerTimingConfiguration.ReminderTemplate prayer = new PrayerTimingConfiguration.ReminderTemplate();
+        prayer.setTitle("It is {prayer} prayer time.");
+        prayer.setMessage("It is time to pray {prayer} at {time} ({zone}).");
+        prayer.setPeriods(Map.of(
+            PrayerPeriod.SYURUK,
+            createTemplate("It is syuruk.", "It is syuruk at {time} ({zone}).")
+        ));
+
+        PrayerTimingConfiguration.ReminderTemplate prePrayer = new PrayerTimingConfiguration.ReminderTemplate();
+        prePrayer.setTitle("It is almost {prayer} prayer time.");
+        prePrayer.setMessage("It is almost time to pray {prayer} at {time} ({zone}).");
+
+        PrayerTimingConfiguration.Templates templates = new PrayerTimingConfiguration.Templates();
+        templates.setLocale("en-SG");
+        templates.setDatePattern("dd MMM yyyy");
+        templates.setPrayer(prayer);
+        templates.setPrePrayer(prePrayer);
+        templates.setSummary(createTemplate(
+            "Prayer timings for {date} ({zone})",
+            "Subuh: {subuh}\nSyuruk: {syuruk}\nZohor: {zohor}\nAsar: {asar}\nMaghrib: {maghrib}\nIsyak: {isyak}\n"
+        ));
+        return templates;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        PrayerTimingConfiguration prayerTimingConfiguration = new PrayerTimingConfiguration();
+        prayerTimingConfiguration.setTemplates(createTemplates());
+        prayerNotificationRenderer = new PrayerNotificationRenderer(prayerTimingConfiguration);
+    }
+
+    @Test
+    public void testRenderReminder_shouldUsePeriodTemplateOrFallback() {
+        // When
+        PrayerNotification subuh = prayerNotificationRenderer.renderReminder(
+            ReminderKind.PRAYER,
+            "SGP",
+            PrayerPeriod.SUBUH,
+            5 * 60 + 43
+        );
+        PrayerNotification syuruk = prayerNotificationRenderer.renderReminder(
+            ReminderKind.PRAYER,
+            "SGP",
+            PrayerPeriod.SYURUK,
+            7 * 60 + 5
+        );
+
+        // Then
+        assertEquals("It is subuh prayer time.", subuh.title());
+        assertEquals("It is time to pray subuh at 05:43 (SGP).", subuh.message());
+        assertEquals("It is syuruk.", syuruk.title());
+        assertEquals("It is syuruk at 07:05 (SGP).", syuruk.message());
+    }
+
+    @Test
+    public void testRenderReminder_whenRenderedBefore_shouldShareInstance() {
+        // When
+        PrayerNotification first = prayerNotificationRenderer.renderReminder(
+            ReminderKind.PRE_PRAYER,
+            "SGP",
+            PrayerPeriod.ISYAK,
+            20 * 60
+        );
+        PrayerNotification second = prayerNotificationRenderer.renderReminder(
+            ReminderKind.PRE_PRAYER,
+            "SGP",
+            PrayerPeriod.ISYAK,
+            20 * 60
+        );
+
+        // Then
+        assertSame(first, second);
+        assertEquals("It is almost time to pray isyak at 20:00 (SGP).", first.message());
+    }
+
+    @Test
+    public void testRenderSummary_shouldRenderDateAndAllPeriods() {
+        // When
+        PrayerNotification summary = prayerNotificationRenderer.renderSummary(
+            "SGP",
+            LocalDate.of(2024, 12, 30),
+            new int[] { 330, 405, 735, 930, 1125, 1200 }
+        );
+
+        // Then
+        assertEquals("Prayer timings for 30 Dec 2024 (SGP)", summary.title());
+        assertEquals(
+            "Subuh: 05:30\nSyuruk: 06:45\nZohor: 12:15\nAsar: 15:30\nMaghrib: 18:45\nIsyak: 20:00\n",
+            summary.message()
+        );
+    }
+
+    @Test
+    public void testCompile_whenVariableUnknown_shouldThrowException() {
+        // When & Then
+        assertThrows(
+            PrayerTemplateException.class, () -> {
+                PrayerTemplate.compile("It is {unknown}.");
+            }
+        );
+    }
+}
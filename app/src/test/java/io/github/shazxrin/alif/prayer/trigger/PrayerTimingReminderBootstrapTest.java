@@ -0,0 +1,68 @@
+package io.github.shazxrin.alif.prayer.trigger;
+
+import io.github.shazxrin.alif.prayer.service.PrayerTimetableFileService;
+import io.github.shazxrin.alif.prayer.service.PrayerTimingService;
+import io.github.shazxrin.alif.reminder.configuration.ReminderConfiguration;
+import io.github.shazxrin.alif.reminder.service.ReminderOutboxService;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PrayerTimingReminderBootstrapTest {
+    @Mock
+    private PrayerTimingService prayerTimingService;
+
+    @Mock
+    private PrayerTimetableFileService prayerTimetableFileService;
+
+    @Mock
+    private ReminderOutboxService reminderOutboxService;
+
+    private PrayerTimingReminderBootstrap prayerTimingReminderBootstrap;
+
+    @BeforeEach
+    public void setUp() {
+        ReminderConfiguration.Outbox outbox = new ReminderConfiguration.Outbox();
+        outbox.setPollInterval(Duration.ofMillis(10));
+        ReminderConfiguration reminderConfiguration = new ReminderConfiguration();
+        reminderConfiguration.setOutbox(outbox);
+
+        prayerTimingReminderBootstrap = new PrayerTimingReminderBootstrap(
+            reminderConfiguration,
+            prayerTimingService,
+            prayerTimetableFileService,
+            reminderOutboxService
+        );
+    }
+
+    @Test
+    public void testCheckInBootstrap_whenDatabaseUnavailable_shouldArmFirstAndRetryPersisting() {
+        // Given
+        when(reminderOutboxService.persist())
+            .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+            .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+            .thenReturn(12);
+
+        // When
+        prayerTimingReminderBootstrap.checkInBootstrap();
+
+        // Then
+        InOrder inOrder = inOrder(prayerTimingService, reminderOutboxService, prayerTimetableFileService);
+        inOrder.verify(prayerTimingService).scheduleReminders();
+        inOrder.verify(reminderOutboxService, times(3)).persist();
+        inOrder.verify(reminderOutboxService).replayMissed();
+        inOrder.verify(prayerTimetableFileService).reconcile();
+        verify(prayerTimingService, times(1)).scheduleReminders();
+    }
+}
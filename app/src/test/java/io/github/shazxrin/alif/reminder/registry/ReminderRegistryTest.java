@@ -0,0 +1,70 @@
+package io.github.shazxrin.alif.reminder.registry;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.reminder.model.ReminderKind;
+import io.github.shazxrin.alif.reminder.model.ReminderSchedule;
+import io.github.shazxrin.alif.reminder.model.ScheduledReminder;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ReminderRegistryTest {
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 1);
+
+    private ReminderRegistry reminderRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        reminderRegistry = new ReminderRegistry();
+    }
+
+    @Test
+    public void testGetSchedule_whenFilteredByZone_shouldCountAndOrderByFireTime() {
+        // Given
+        ScheduledReminder maghrib = new ScheduledReminder(
+            ReminderKind.PRAYER, "SGP", PrayerPeriod.MAGHRIB, DATE, 0, Instant.parse("2025-01-01T11:10:00Z")
+        );
+        ScheduledReminder preMaghrib = new ScheduledReminder(
+            ReminderKind.PRE_PRAYER, "SGP", PrayerPeriod.MAGHRIB, DATE, 15, Instant.parse("2025-01-01T10:55:00Z")
+        );
+        ScheduledReminder subuh = new ScheduledReminder(
+            ReminderKind.PRAYER, "SGP", PrayerPeriod.SUBUH, DATE, 0, Instant.parse("2024-12-31T21:43:00Z")
+        );
+        ScheduledReminder otherZone = new ScheduledReminder(
+            ReminderKind.PRAYER, "JHR", PrayerPeriod.SUBUH, DATE, 0, Instant.parse("2024-12-31T21:45:00Z")
+        );
+        List.of(maghrib, preMaghrib, subuh, otherZone).forEach(reminderRegistry::put);
+
+        // When
+        ReminderSchedule schedule = reminderRegistry.getSchedule("SGP", null);
+
+        // Then
+        assertEquals(3, schedule.total());
+        assertEquals(Map.of("SGP", Map.of(PrayerPeriod.SUBUH, 1, PrayerPeriod.MAGHRIB, 2)), schedule.counts());
+        assertEquals(List.of(subuh, preMaghrib, maghrib), schedule.reminders());
+    }
+
+    @Test
+    public void testRemoveFiredBefore_shouldOnlyDropOlderReminders() {
+        // Given
+        ScheduledReminder fired = new ScheduledReminder(
+            ReminderKind.PRAYER, "SGP", PrayerPeriod.SUBUH, DATE, 0, Instant.parse("2024-12-31T21:43:00Z")
+        );
+        ScheduledReminder pending = new ScheduledReminder(
+            ReminderKind.PRAYER, "SGP", PrayerPeriod.MAGHRIB, DATE, 0, Instant.parse("2025-01-01T11:10:00Z")
+        );
+        reminderRegistry.put(fired);
+        reminderRegistry.put(pending);
+
+        // When
+        reminderRegistry.removeFiredBefore(Instant.parse("2025-01-01T00:00:00Z"));
+
+        // Then
+        assertEquals(List.of(pending), reminderRegistry.getSchedule(null, null).reminders());
+    }
+}
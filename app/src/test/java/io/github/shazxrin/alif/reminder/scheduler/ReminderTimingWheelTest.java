@@ -0,0 +1,101 @@
+package io.github.shazxrin.alif.reminder.scheduler;
+
+import io.github.shazxrin.alif.reminder.exception.ReminderCapacityExceededException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReminderTimingWheelTest {
+    private static final long START_MINUTE = 1_000_000L;
+
+    @Test
+    public void testAdvance_whenRemindersShareMinute_shouldDispatchOneBatch() {
+        // Given
+        ReminderTimingWheel wheel = new ReminderTimingWheel(16, 100, START_MINUTE);
+        List<String> fired = new ArrayList<>();
+        wheel.add(START_MINUTE + 2, () -> fired.add("a"));
+        wheel.add(START_MINUTE + 2, () -> fired.add("b"));
+        wheel.add(START_MINUTE + 3, () -> fired.add("c"));
+
+        // When
+        List<List<Runnable>> batches = new ArrayList<>();
+        wheel.advance(START_MINUTE + 2, batches::add);
+        batches.forEach(batch -> batch.forEach(Runnable::run));
+
+        // Then
+        assertEquals(1, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertTrue(fired.containsAll(List.of("a", "b")));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void testAdvance_whenReminderBeyondOneRevolution_shouldWaitForItsMinute() {
+        // Given
+        ReminderTimingWheel wheel = new ReminderTimingWheel(16, 100, START_MINUTE);
+        wheel.add(START_MINUTE + 20, () -> { });
+
+        // When
+        List<List<Runnable>> early = new ArrayList<>();
+        wheel.advance(START_MINUTE + 4, early::add);
+        List<List<Runnable>> onTime = new ArrayList<>();
+        wheel.advance(START_MINUTE + 20, onTime::add);
+
+        // Then
+        assertTrue(early.isEmpty());
+        assertEquals(1, onTime.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testAdd_whenMinuteAlreadyPassed_shouldFireOnNextTick() {
+        // Given
+        ReminderTimingWheel wheel = new ReminderTimingWheel(16, 100, START_MINUTE);
+        ReminderTimingWheel.Entry entry = wheel.add(START_MINUTE - 5, () -> { });
+
+        // When
+        List<List<Runnable>> batches = new ArrayList<>();
+        wheel.advance(START_MINUTE + 1, batches::add);
+
+        // Then
+        assertEquals(START_MINUTE + 1, entry.getEpochMinute());
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    public void testCancel_whenPending_shouldNotDispatch() {
+        // Given
+        ReminderTimingWheel wheel = new ReminderTimingWheel(16, 100, START_MINUTE);
+        ReminderTimingWheel.Entry entry = wheel.add(START_MINUTE + 1, () -> { });
+
+        // When
+        boolean cancelled = wheel.cancel(entry);
+        List<List<Runnable>> batches = new ArrayList<>();
+        wheel.advance(START_MINUTE + 1, batches::add);
+
+        // Then
+        assertTrue(cancelled);
+        assertFalse(wheel.cancel(entry));
+        assertTrue(batches.isEmpty());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testAdd_whenFull_shouldThrowException() {
+        // Given
+        ReminderTimingWheel wheel = new ReminderTimingWheel(16, 1, START_MINUTE);
+        wheel.add(START_MINUTE + 1, () -> { });
+
+        // When & Then
+        assertThrows(
+            ReminderCapacityExceededException.class, () -> {
+                wheel.add(START_MINUTE + 1, () -> { });
+            }
+        );
+    }
+}
@@ -0,0 +1,366 @@
+package io.github.shazxrin.alif.reminder.service;
+
+import io.github.shazxrin.alif.notification.service.NotificationDispatcher;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.reminder.configuration.ReminderConfiguration;
+import io.github.shazxrin.alif.reminder.exception.ReminderCapacityExceededException;
+import io.github.shazxrin.alif.reminder.model.ReminderKind;
+import io.github.shazxrin.alif.reminder.model.ReminderOutboxEntry;
+import io.github.shazxrin.alif.reminder.model.ReminderStatus;
+import io.github.shazxrin.alif.reminder.model.ScheduledReminder;
+import io.github.shazxrin.alif.reminder.registry.ReminderRegistry;
+import io.github.shazxrin.alif.reminder.repository.ReminderOutboxRepository;
+import io.github.shazxrin.alif.subscriber.service.SubscriberService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.notNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReminderOutboxServiceTest {
+    @Mock
+    private ReminderOutboxRepository reminderOutboxRepository;
+
+    @Mock
+    private ReminderSchedulerService reminderSchedulerService;
+
+    @Mock
+    private NotificationDispatcher notificationDispatcher;
+
+    @Mock
+    private SubscriberService subscriberService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReminderRegistry reminderRegistry;
+    private SimpleMeterRegistry meterRegistry;
+    private ReminderOutboxService reminderOutboxService;
+
+    @BeforeEach
+    public void setUp() {
+        ReminderConfiguration.Outbox outbox = new ReminderConfiguration.Outbox();
+        outbox.setBatchSize(10);
+        outbox.setMaxAttempts(3);
+        ReminderConfiguration reminderConfiguration = new ReminderConfiguration();
+        reminderConfiguration.setOutbox(outbox);
+
+        reminderRegistry = new ReminderRegistry();
+        meterRegistry = new SimpleMeterRegistry();
+        reminderOutboxService = new ReminderOutboxService(
+            reminderConfiguration,
+            reminderOutboxRepository,
+            reminderSchedulerService,
+            reminderRegistry,
+            notificationDispatcher,
+            subscriberService,
+            meterRegistry,
+            Clock.systemUTC(),
+            transactionManager
+        );
+    }
+
+    private ReminderOutboxEntry createEntry() {
+        return new ReminderOutboxEntry(
+            ReminderKind.PRAYER,
+            "SGP",
+            PrayerPeriod.SUBUH,
+            LocalDate.of(2025, 1, 1),
+            0,
+            Instant.parse("2024-12-31T21:43:00Z"),
+            "It is subuh prayer time.",
+            "It is time to pray subuh at 05:43 (SGP)."
+        );
+    }
+
+    @Test
+    public void testEnqueue_shouldInsertAndArmWakeUp() {
+        // Given
+        ReminderOutboxEntry entry = createEntry();
+        when(reminderOutboxRepository.insertIfAbsent(
+            eq("PRAYER"),
+            eq("SGP"),
+            eq("SUBUH"),
+            eq(entry.getPrayerDate()),
+            eq(0),
+            eq(entry.getFireAt()),
+            any(),
+            any()
+        )).thenReturn(1);
+
+        // When
+        reminderOutboxService.enqueue(entry);
+        int inserted = reminderOutboxService.persist();
+
+        // Then
+        assertEquals(1, inserted);
+        assertEquals(0, reminderOutboxService.getStagedCount());
+        verify(reminderSchedulerService).schedule(any(), eq(entry.getFireAt()));
+    }
+
+    @Test
+    public void testEnqueue_whenRepositoryUnavailable_shouldArmWakeUpAndPersistLater() {
+        // Given
+        ReminderOutboxEntry entry = createEntry();
+        when(reminderOutboxRepository.insertIfAbsent(any(), any(), any(), any(), anyInt(), any(), any(), any()))
+            .thenThrow(new DataAccessResourceFailureException("Connection refused"))
+            .thenReturn(1);
+
+        // When
+        reminderOutboxService.enqueue(entry);
+        reminderOutboxService.dispatchDue();
+
+        // Then
+        verify(reminderSchedulerService).schedule(any(), eq(entry.getFireAt()));
+        assertEquals(1, reminderRegistry.size());
+        assertEquals(1, reminderOutboxService.getStagedCount());
+        verify(reminderOutboxRepository, never()).findDueForUpdate(any(), anyInt());
+
+        assertEquals(1, reminderOutboxService.persist());
+        assertEquals(0, reminderOutboxService.getStagedCount());
+    }
+
+    @Test
+    public void testEnqueue_whenFireMinuteAlreadyArmed_shouldArmOneWakeUp() {
+        // Given
+        ReminderOutboxEntry entry = createEntry();
+        ReminderOutboxEntry sameMinuteEntry = new ReminderOutboxEntry(
+            ReminderKind.PRE_PRAYER,
+            "SGP",
+            PrayerPeriod.SUBUH,
+            LocalDate.of(2025, 1, 1),
+            0,
+            entry.getFireAt().plusSeconds(30),
+            "Subuh prayer is coming up.",
+            "Subuh prayer is at 05:43 (SGP)."
+        );
+
+        // When
+        reminderOutboxService.enqueue(entry);
+        reminderOutboxService.enqueue(sameMinuteEntry);
+
+        // Then
+        verify(reminderSchedulerService, times(1)).schedule(any(), any());
+        assertEquals(2, reminderRegistry.size());
+    }
+
+    @Test
+    public void testEnqueue_whenWheelFull_shouldKeepEntryForPoll() {
+        // Given
+        ReminderOutboxEntry entry = createEntry();
+        when(reminderSchedulerService.schedule(any(), any()))
+            .thenThrow(new ReminderCapacityExceededException("Reminder wheel is full!"));
+
+        // When
+        reminderOutboxService.enqueue(entry);
+        reminderOutboxService.enqueue(entry);
+
+        // Then
+        assertEquals(1, reminderOutboxService.getStagedCount());
+        assertEquals(1, reminderRegistry.size());
+        verify(reminderSchedulerService, times(2)).schedule(any(), eq(entry.getFireAt()));
+    }
+
+    @Test
+    public void testReschedule_whenNothingChanged_shouldNotArmWakeUp() {
+        // Given
+        ReminderOutboxEntry entry = createEntry();
+        when(reminderOutboxRepository.upsertPending(
+            eq("PRAYER"),
+            eq("SGP"),
+            eq("SUBUH"),
+            eq(entry.getPrayerDate()),
+            eq(0),
+            eq(entry.getFireAt()),
+            any(),
+            any()
+        )).thenReturn(0);
+
+        // When
+        boolean rescheduled = reminderOutboxService.reschedule(entry);
+
+        // Then
+        assertFalse(rescheduled);
+        verify(reminderSchedulerService, never()).schedule(any(), any());
+    }
+
+    @Test
+    public void testCancel_whenPending_shouldRemoveFromRegistry() {
+        // Given
+        ReminderOutboxEntry entry = createEntry();
+        when(reminderOutboxRepository.insertIfAbsent(any(), any(), any(), any(), anyInt(), any(), any(), any()))
+            .thenReturn(1);
+        reminderOutboxService.enqueue(entry);
+        ScheduledReminder.Key key = ScheduledReminder.of(entry).key();
+        when(reminderOutboxRepository.updateStatusByKey(
+            ReminderKind.PRAYER,
+            "SGP",
+            PrayerPeriod.SUBUH,
+            entry.getPrayerDate(),
+            0,
+            ReminderStatus.PENDING,
+            ReminderStatus.CANCELLED
+        )).thenReturn(1);
+
+        // When
+        boolean cancelled = reminderOutboxService.cancel(key);
+
+        // Then
+        assertTrue(cancelled);
+        assertEquals(0, reminderRegistry.size());
+    }
+
+    @Test
+    public void testDispatchDue_whenSent_shouldMarkEntrySent() {
+        // Given
+        ReminderOutboxEntry entry = createEntry();
+        when(notificationDispatcher.isAvailable()).thenReturn(true);
+        when(reminderOutboxRepository.findDueForUpdate(any(), anyInt())).thenReturn(List.of(entry));
+        when(subscriberService.getReminderAudience("SGP", PrayerPeriod.SUBUH)).thenReturn(RoaringBitmap.bitmapOf(1, 2));
+        when(notificationDispatcher.dispatch(eq(entry.getTitle()), eq(entry.getMessage()), any()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        when(reminderOutboxRepository.updateStatusByIdAndClaimedAt(any(), any(), any(), any(), any())).thenReturn(1);
+
+        // When
+        reminderOutboxService.dispatchDue();
+
+        // Then
+        verify(notificationDispatcher).dispatch(eq(entry.getTitle()), eq(entry.getMessage()), any());
+        verify(reminderOutboxRepository).updateStatusByIdAndClaimedAt(
+            any(),
+            notNull(),
+            eq(ReminderStatus.DISPATCHING),
+            eq(ReminderStatus.SENT),
+            eq(entry.getSentAt())
+        );
+        assertEquals(ReminderStatus.SENT, entry.getStatus());
+        assertEquals(1, entry.getAttempts());
+        assertNotNull(entry.getSentAt());
+        assertEquals(
+            1,
+            meterRegistry.get("alif.reminder.drift").tag("kind", "PRAYER").tag("period", "SUBUH").timer().count()
+        );
+        assertEquals(1, meterRegistry.get("alif.reminder.delivery").tag("kind", "PRAYER").timer().count());
+        assertEquals(0, reminderRegistry.size());
+    }
+
+    @Test
+    public void testDispatchDue_whenSendFails_shouldReturnEntryToPending() {
+        // Given
+        ReminderOutboxEntry entry = createEntry();
+        when(notificationDispatcher.isAvailable()).thenReturn(true);
+        when(reminderOutboxRepository.findDueForUpdate(any(), anyInt())).thenReturn(List.of(entry));
+        when(subscriberService.getReminderAudience("SGP", PrayerPeriod.SUBUH)).thenReturn(RoaringBitmap.bitmapOf(1));
+        when(notificationDispatcher.dispatch(eq(entry.getTitle()), eq(entry.getMessage()), any()))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker down")));
+        when(reminderOutboxRepository.updateStatusByIdAndClaimedAt(any(), any(), any(), any(), any())).thenReturn(1);
+
+        // When
+        reminderOutboxService.dispatchDue();
+
+        // Then
+        verify(reminderOutboxRepository, times(1)).findDueForUpdate(any(), anyInt());
+        assertEquals(ReminderStatus.PENDING, entry.getStatus());
+        assertEquals(1, entry.getAttempts());
+    }
+
+    @Test
+    public void testDispatchDue_whenSendFailsOnLastAttempt_shouldMarkEntryFailed() {
+        // Given
+        ReminderOutboxEntry entry = createEntry();
+        entry.setAttempts(2);
+        when(notificationDispatcher.isAvailable()).thenReturn(true);
+        when(reminderOutboxRepository.findDueForUpdate(any(), anyInt())).thenReturn(List.of(entry));
+        when(subscriberService.getReminderAudience("SGP", PrayerPeriod.SUBUH)).thenReturn(RoaringBitmap.bitmapOf(1));
+        when(notificationDispatcher.dispatch(eq(entry.getTitle()), eq(entry.getMessage()), any()))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Broker down")));
+        when(reminderOutboxRepository.updateStatusByIdAndClaimedAt(any(), any(), any(), any(), any())).thenReturn(1);
+
+        // When
+        reminderOutboxService.dispatchDue();
+
+        // Then
+        verify(reminderOutboxRepository)
+            .updateStatusByIdAndClaimedAt(any(), any(), eq(ReminderStatus.DISPATCHING), eq(ReminderStatus.FAILED), any());
+        assertEquals(ReminderStatus.FAILED, entry.getStatus());
+        assertEquals(3, entry.getAttempts());
+    }
+
+    @Test
+    public void testDispatchDue_whenAudienceEmpty_shouldSkipEntry() {
+        // Given
+        ReminderOutboxEntry entry = createEntry();
+        when(notificationDispatcher.isAvailable()).thenReturn(true);
+        when(reminderOutboxRepository.findDueForUpdate(any(), anyInt())).thenReturn(List.of(entry));
+        when(subscriberService.getReminderAudience("SGP", PrayerPeriod.SUBUH)).thenReturn(new RoaringBitmap());
+        when(reminderOutboxRepository.updateStatusByIdAndClaimedAt(any(), any(), any(), any(), any())).thenReturn(1);
+
+        // When
+        reminderOutboxService.dispatchDue();
+
+        // Then
+        verify(notificationDispatcher, never()).dispatch(any(), any(), any());
+        verify(reminderOutboxRepository)
+            .updateStatusByIdAndClaimedAt(any(), any(), eq(ReminderStatus.DISPATCHING), eq(ReminderStatus.SKIPPED), any());
+        assertEquals(ReminderStatus.SKIPPED, entry.getStatus());
+    }
+
+    @Test
+    public void testDispatchDue_whenClaimLost_shouldLeaveEntryToNewOwner() {
+        // Given
+        ReminderOutboxEntry entry = createEntry();
+        when(notificationDispatcher.isAvailable()).thenReturn(true);
+        when(reminderOutboxRepository.findDueForUpdate(any(), anyInt())).thenReturn(List.of(entry));
+        when(subscriberService.getReminderAudience("SGP", PrayerPeriod.SUBUH)).thenReturn(RoaringBitmap.bitmapOf(1));
+        when(notificationDispatcher.dispatch(eq(entry.getTitle()), eq(entry.getMessage()), any()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        when(reminderOutboxRepository.updateStatusByIdAndClaimedAt(any(), any(), any(), any(), any())).thenReturn(0);
+
+        // When
+        reminderOutboxService.dispatchDue();
+
+        // Then
+        verify(reminderOutboxRepository, never()).save(any());
+        assertEquals(ReminderStatus.DISPATCHING, entry.getStatus());
+        assertEquals(1, meterRegistry.get("alif.reminder.claims.lost").tag("kind", "PRAYER").counter().count());
+        assertEquals(
+            0,
+            meterRegistry.get("alif.reminder.completed").tag("kind", "PRAYER").tag("status", "SENT").counter().count()
+        );
+    }
+
+    @Test
+    public void testDispatchDue_whenDispatcherUnavailable_shouldNotClaimEntries() {
+        // Given
+        when(notificationDispatcher.isAvailable()).thenReturn(false);
+
+        // When
+        reminderOutboxService.dispatchDue();
+
+        // Then
+        verify(reminderOutboxRepository, never()).findDueForUpdate(any(), anyInt());
+    }
+}
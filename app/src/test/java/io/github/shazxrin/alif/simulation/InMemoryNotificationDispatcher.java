@@ -0,0 +1,87 @@
+package io.github.shazxrin.alif.simulation;
+
+import io.github.shazxrin.alif.notification.configuration.NotificationConfiguration;
+import io.github.shazxrin.alif.notification.service.NotificationDispatcher;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+
+/*
+    Sink in place of the broker that confirms every notification straight away and keeps count of the fan-out.
+ */
+public class InMemoryNotificationDispatcher extends NotificationDispatcher {
+    private final Clock clock;
+
+    private long notifications;
+    private long recipients;
+    private long minute = Long.MIN_VALUE;
+    private long minuteNotifications;
+    private long minuteRecipients;
+    private long maxNotificationsPerMinute;
+    private long maxRecipientsPerMinute;
+    private Instant busiestMinute;
+
+    private static NotificationConfiguration createNotificationConfiguration() {
+        NotificationConfiguration.Dispatcher dispatcher = new NotificationConfiguration.Dispatcher();
+        dispatcher.setQueueCapacity(1);
+        NotificationConfiguration notificationConfiguration = new NotificationConfiguration();
+        notificationConfiguration.setDispatcher(dispatcher);
+        return notificationConfiguration;
+    }
+
+    public InMemoryNotificationDispatcher(Clock clock) {
+        super(createNotificationConfiguration(), null, null, null, clock);
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> dispatch(String title, String message, byte[] audience) {
+        long currentMinute = Math.floorDiv(clock.instant().getEpochSecond(), 60);
+        if (currentMinute != minute) {
+            minute = currentMinute;
+            minuteNotifications = 0;
+            minuteRecipients = 0;
+        }
+
+        int cardinality = audience == null ? 0 : new ImmutableRoaringBitmap(ByteBuffer.wrap(audience)).getCardinality();
+        notifications++;
+        recipients += cardinality;
+        minuteNotifications++;
+        minuteRecipients += cardinality;
+
+        maxNotificationsPerMinute = Math.max(maxNotificationsPerMinute, minuteNotifications);
+        if (minuteRecipients > maxRecipientsPerMinute) {
+            maxRecipientsPerMinute = minuteRecipients;
+            busiestMinute = clock.instant();
+        }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public long getNotifications() {
+        return notifications;
+    }
+
+    public long getRecipients() {
+        return recipients;
+    }
+
+    public long getMaxNotificationsPerMinute() {
+        return maxNotificationsPerMinute;
+    }
+
+    public long getMaxRecipientsPerMinute() {
+        return maxRecipientsPerMinute;
+    }
+
+    public Instant getBusiestMinute() {
+        return busiestMinute;
+    }
+}
@@ -0,0 +1,349 @@
+package io.github.shazxrin.alif.simulation;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.reminder.model.ReminderKind;
+import io.github.shazxrin.alif.reminder.model.ReminderOutboxEntry;
+import io.github.shazxrin.alif.reminder.model.ReminderStatus;
+import io.github.shazxrin.alif.reminder.model.ScheduledReminder;
+import io.github.shazxrin.alif.reminder.repository.ReminderOutboxRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/*
+    Outbox kept in memory with the same semantics as the native queries, indexed so that due reminders are found
+    without scanning every row.
+ */
+public class InMemoryReminderOutboxRepository implements ReminderOutboxRepository {
+    private final Map<Long, ReminderOutboxEntry> entries = new HashMap<>();
+    private final Map<ScheduledReminder.Key, ReminderOutboxEntry> keys = new HashMap<>();
+    private final NavigableSet<ReminderOutboxEntry> pending = new TreeSet<>(
+        Comparator.comparing(ReminderOutboxEntry::getFireAt).thenComparing(ReminderOutboxEntry::getId)
+    );
+    private final Set<ReminderOutboxEntry> dispatching = new HashSet<>();
+
+    private long nextId = 1;
+
+    private static ScheduledReminder.Key toKey(
+        String kind,
+        String zone,
+        String period,
+        LocalDate prayerDate,
+        int offsetMinutes
+    ) {
+        return new ScheduledReminder.Key(
+            ReminderKind.valueOf(kind),
+            zone,
+            PrayerPeriod.valueOf(period),
+            prayerDate,
+            offsetMinutes
+        );
+    }
+
+    private void index(ReminderOutboxEntry entry) {
+        switch (entry.getStatus()) {
+            case PENDING -> pending.add(entry);
+            case DISPATCHING -> dispatching.add(entry);
+            default -> { }
+        }
+    }
+
+    private void unindex(ReminderOutboxEntry entry) {
+        pending.remove(entry);
+        dispatching.remove(entry);
+    }
+
+    private void insert(ReminderOutboxEntry entry) {
+        entry.setId(nextId++);
+        entries.put(entry.getId(), entry);
+        keys.put(ScheduledReminder.of(entry).key(), entry);
+        index(entry);
+    }
+
+    private void remove(ReminderOutboxEntry entry) {
+        unindex(entry);
+        entries.remove(entry.getId());
+        keys.remove(ScheduledReminder.of(entry).key());
+    }
+
+    private List<ReminderOutboxEntry> findByStatus(ReminderStatus status, Predicate<ReminderOutboxEntry> predicate) {
+        Iterable<ReminderOutboxEntry> candidates = switch (status) {
+            case PENDING -> pending;
+            case DISPATCHING -> dispatching;
+            default -> entries.values();
+        };
+
+        List<ReminderOutboxEntry> found = new ArrayList<>();
+        for (ReminderOutboxEntry entry : candidates) {
+            if (entry.getStatus() == status && predicate.test(entry)) {
+                found.add(entry);
+            }
+        }
+        return found;
+    }
+
+    private int updateStatus(List<ReminderOutboxEntry> found, ReminderStatus toStatus) {
+        for (ReminderOutboxEntry entry : found) {
+            unindex(entry);
+            entry.setStatus(toStatus);
+            index(entry);
+        }
+        return found.size();
+    }
+
+    @Override
+    public synchronized int insertIfAbsent(
+        String kind,
+        String zone,
+        String period,
+        LocalDate prayerDate,
+        int offsetMinutes,
+        Instant fireAt,
+        String title,
+        String message
+    ) {
+        if (keys.containsKey(toKey(kind, zone, period, prayerDate, offsetMinutes))) {
+            return 0;
+        }
+
+        insert(new ReminderOutboxEntry(
+            ReminderKind.valueOf(kind),
+            zone,
+            PrayerPeriod.valueOf(period),
+            prayerDate,
+            offsetMinutes,
+            fireAt,
+            title,
+            message
+        ));
+        return 1;
+    }
+
+    @Override
+    public synchronized int upsertPending(
+        String kind,
+        String zone,
+        String period,
+        LocalDate prayerDate,
+        int offsetMinutes,
+        Instant fireAt,
+        String title,
+        String message
+    ) {
+        ReminderOutboxEntry entry = keys.get(toKey(kind, zone, period, prayerDate, offsetMinutes));
+        if (entry == null) {
+            return insertIfAbsent(kind, zone, period, prayerDate, offsetMinutes, fireAt, title, message);
+        }
+
+        boolean unchanged = entry.getFireAt().equals(fireAt)
+            && entry.getTitle().equals(title)
+            && entry.getMessage().equals(message);
+        if (entry.getStatus() != ReminderStatus.PENDING || unchanged) {
+            return 0;
+        }
+
+        unindex(entry);
+        entry.setFireAt(fireAt);
+        entry.setTitle(title);
+        entry.setMessage(message);
+        index(entry);
+        return 1;
+    }
+
+    @Override
+    public synchronized List<ReminderOutboxEntry> findDueForUpdate(Instant now, int limit) {
+        // Everything returned is claimed by the caller, so it moves out of the pending index straight away.
+        List<ReminderOutboxEntry> due = new ArrayList<>();
+        Iterator<ReminderOutboxEntry> iterator = pending.iterator();
+        while (iterator.hasNext() && due.size() < limit) {
+            ReminderOutboxEntry entry = iterator.next();
+            if (entry.getFireAt().isAfter(now)) {
+                break;
+            }
+
+            iterator.remove();
+            entry.setStatus(ReminderStatus.DISPATCHING);
+            dispatching.add(entry);
+            due.add(entry);
+        }
+        return due;
+    }
+
+    @Override
+    public synchronized int releaseClaimedBefore(
+        ReminderStatus fromStatus,
+        ReminderStatus toStatus,
+        Instant claimedBefore
+    ) {
+        List<ReminderOutboxEntry> found = findByStatus(
+            fromStatus,
+            entry -> entry.getClaimedAt() != null && entry.getClaimedAt().isBefore(claimedBefore)
+        );
+        found.forEach(entry -> entry.setClaimedAt(null));
+        return updateStatus(found, toStatus);
+    }
+
+    @Override
+    public synchronized int updateStatusByIdAndClaimedAt(
+        Long id,
+        Instant claimedAt,
+        ReminderStatus fromStatus,
+        ReminderStatus toStatus,
+        Instant sentAt
+    ) {
+        ReminderOutboxEntry entry = entries.get(id);
+        if (entry == null || entry.getStatus() != fromStatus || !claimedAt.equals(entry.getClaimedAt())) {
+            return 0;
+        }
+
+        entry.setSentAt(sentAt);
+        entry.setClaimedAt(null);
+        return updateStatus(List.of(entry), toStatus);
+    }
+
+    @Override
+    public synchronized int updateStatusByFireAtBefore(
+        ReminderStatus fromStatus,
+        ReminderStatus toStatus,
+        Instant fireBefore
+    ) {
+        return updateStatus(findByStatus(fromStatus, entry -> entry.getFireAt().isBefore(fireBefore)), toStatus);
+    }
+
+    @Override
+    public synchronized int updateStatusByKey(
+        ReminderKind kind,
+        String zone,
+        PrayerPeriod period,
+        LocalDate prayerDate,
+        int offsetMinutes,
+        ReminderStatus fromStatus,
+        ReminderStatus toStatus
+    ) {
+        ReminderOutboxEntry entry = keys.get(new ScheduledReminder.Key(kind, zone, period, prayerDate, offsetMinutes));
+        if (entry == null || entry.getStatus() != fromStatus) {
+            return 0;
+        }
+
+        return updateStatus(List.of(entry), toStatus);
+    }
+
+    @Override
+    public synchronized int updateFireAtByKey(
+        ReminderKind kind,
+        String zone,
+        PrayerPeriod period,
+        LocalDate prayerDate,
+        int offsetMinutes,
+        ReminderStatus status,
+        Instant fireAt
+    ) {
+        ReminderOutboxEntry entry = keys.get(new ScheduledReminder.Key(kind, zone, period, prayerDate, offsetMinutes));
+        if (entry == null || entry.getStatus() != status) {
+            return 0;
+        }
+
+        unindex(entry);
+        entry.setFireAt(fireAt);
+        index(entry);
+        return 1;
+    }
+
+    @Override
+    public synchronized int deleteByStatusInAndFireAtBefore(List<ReminderStatus> statuses, Instant fireBefore) {
+        List<ReminderOutboxEntry> found = new ArrayList<>();
+        for (ReminderOutboxEntry entry : entries.values()) {
+            if (statuses.contains(entry.getStatus()) && entry.getFireAt().isBefore(fireBefore)) {
+                found.add(entry);
+            }
+        }
+        found.forEach(this::remove);
+        return found.size();
+    }
+
+    @Override
+    public synchronized <S extends ReminderOutboxEntry> S save(S entry) {
+        if (entry.getId() == null) {
+            insert(entry);
+            return entry;
+        }
+
+        unindex(entry);
+        entries.put(entry.getId(), entry);
+        index(entry);
+        return entry;
+    }
+
+    @Override
+    public synchronized <S extends ReminderOutboxEntry> Iterable<S> saveAll(Iterable<S> entries) {
+        List<S> saved = new ArrayList<>();
+        entries.forEach(entry -> saved.add(save(entry)));
+        return saved;
+    }
+
+    @Override
+    public synchronized Optional<ReminderOutboxEntry> findById(Long id) {
+        return Optional.ofNullable(entries.get(id));
+    }
+
+    @Override
+    public synchronized boolean existsById(Long id) {
+        return entries.containsKey(id);
+    }
+
+    @Override
+    public synchronized Iterable<ReminderOutboxEntry> findAll() {
+        return List.copyOf(entries.values());
+    }
+
+    @Override
+    public synchronized Iterable<ReminderOutboxEntry> findAllById(Iterable<Long> ids) {
+        List<ReminderOutboxEntry> found = new ArrayList<>();
+        ids.forEach(id -> findById(id).ifPresent(found::add));
+        return found;
+    }
+
+    @Override
+    public synchronized long count() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized void deleteById(Long id) {
+        findById(id).ifPresent(this::remove);
+    }
+
+    @Override
+    public synchronized void delete(ReminderOutboxEntry entry) {
+        deleteById(entry.getId());
+    }
+
+    @Override
+    public synchronized void deleteAllById(Iterable<? extends Long> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public synchronized void deleteAll(Iterable<? extends ReminderOutboxEntry> entries) {
+        entries.forEach(this::delete);
+    }
+
+    @Override
+    public synchronized void deleteAll() {
+        entries.clear();
+        keys.clear();
+        pending.clear();
+        dispatching.clear();
+    }
+}
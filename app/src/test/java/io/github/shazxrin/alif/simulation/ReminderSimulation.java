@@ -0,0 +1,411 @@
+package io.github.shazxrin.alif.simulation;
+
+import io.github.shazxrin.alif.cluster.service.ShardOwnershipService;
+import io.github.shazxrin.alif.prayer.cache.PrayerTimingCache;
+import io.github.shazxrin.alif.prayer.calculation.PrayerTimingCalculator;
+import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.prayer.repository.PrayerTimetableVersionRepository;
+import io.github.shazxrin.alif.prayer.repository.PrayerTimingRepository;
+import io.github.shazxrin.alif.prayer.service.PrayerTimingService;
+import io.github.shazxrin.alif.prayer.template.PrayerNotificationRenderer;
+import io.github.shazxrin.alif.prayer.template.PrayerNotificationRendererTest;
+import io.github.shazxrin.alif.reminder.configuration.ReminderConfiguration;
+import io.github.shazxrin.alif.reminder.model.ReminderKind;
+import io.github.shazxrin.alif.reminder.model.ReminderOutboxEntry;
+import io.github.shazxrin.alif.reminder.model.ReminderStatus;
+import io.github.shazxrin.alif.reminder.model.ScheduledReminder;
+import io.github.shazxrin.alif.reminder.registry.ReminderRegistry;
+import io.github.shazxrin.alif.reminder.service.ReminderOutboxService;
+import io.github.shazxrin.alif.reminder.service.ReminderSchedulerService;
+import io.github.shazxrin.alif.subscriber.configuration.SubscriberConfiguration;
+import io.github.shazxrin.alif.subscriber.model.Subscriber;
+import io.github.shazxrin.alif.subscriber.repository.SubscriberRepository;
+import io.github.shazxrin.alif.subscriber.service.SubscriberService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/*
+    Replays the reminder path for many zones and subscribers against a virtual clock. Timetables are calculated from
+    the solar position, reminders go through the real services and timing wheel, the outbox is kept in memory and
+    notifications land in an in-memory sink instead of the broker.
+ */
+public class ReminderSimulation {
+    private static final Logger log = LoggerFactory.getLogger(ReminderSimulation.class);
+    private static final ZoneId TIME_ZONE = ZoneId.of("Asia/Kuala_Lumpur");
+    private static final Integer[] OFFSETS = { null, 5, 10, 30 };
+    private static final Duration TICK_DURATION = Duration.ofMinutes(1);
+    private static final LocalTime SUMMARY_TIME = LocalTime.of(5, 0);
+    private static final LocalTime PURGE_TIME = LocalTime.of(0, 30);
+
+    public record Report(
+        int zoneCount,
+        int subscriberCount,
+        int days,
+        long expected,
+        long sent,
+        long skipped,
+        long missed,
+        long duplicated,
+        long mistimed,
+        long notifications,
+        long recipients,
+        long maxNotificationsPerMinute,
+        long maxRecipientsPerMinute,
+        Instant busiestMinute,
+        Duration elapsed
+    ) {
+        public double getRemindersPerSecond() {
+            return (sent + skipped) * 1e9 / Math.max(elapsed.toNanos(), 1);
+        }
+
+        public boolean isCorrect() {
+            return missed == 0 && duplicated == 0 && mistimed == 0;
+        }
+    }
+
+    // Called on every tick, so kept out of Mockito to avoid recording each invocation.
+    private static class SimulationTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+
+    private final int zoneCount;
+    private final int subscriberCount;
+    private final LocalDate startDate;
+    private final int days;
+    private final SimulationClock clock;
+
+    private final Map<ScheduledReminder.Key, Instant> expected = new HashMap<>();
+    private final Set<ScheduledReminder.Key> delivered = new HashSet<>();
+    private long sent;
+    private long skipped;
+    private long duplicated;
+    private long mistimed;
+
+    public ReminderSimulation(int zoneCount, int subscriberCount, LocalDate startDate, int days) {
+        this.zoneCount = zoneCount;
+        this.subscriberCount = subscriberCount;
+        this.startDate = startDate;
+        this.days = days;
+        this.clock = new SimulationClock(startDate.atStartOfDay(TIME_ZONE).toInstant(), TIME_ZONE);
+    }
+
+    private List<String> getZones() {
+        List<String> zones = new ArrayList<>();
+        for (int i = 0; i < zoneCount; i++) {
+            zones.add("Z%03d".formatted(i));
+        }
+        return zones;
+    }
+
+    private PrayerTimingConfiguration createPrayerTimingConfiguration() {
+        // Zones are spread over roughly the latitudes and longitudes of Malaysia.
+        List<String> codes = getZones();
+        List<PrayerTimingConfiguration.Zone> zones = new ArrayList<>();
+        for (int i = 0; i < zoneCount; i++) {
+            PrayerTimingConfiguration.Zone zone = new PrayerTimingConfiguration.Zone();
+            zone.setCode(codes.get(i));
+            zone.setTimeZone(TIME_ZONE);
+            zone.setLatitude(1.2 + 5.5 * i / zoneCount);
+            zone.setLongitude(100.2 + 19.0 * (i * 7 % zoneCount) / zoneCount);
+            zones.add(zone);
+        }
+
+        PrayerTimingConfiguration.Calculation calculation = new PrayerTimingConfiguration.Calculation();
+        calculation.setFallbackEnabled(true);
+        calculation.setSubuhAngle(20);
+        calculation.setIsyakAngle(18);
+        calculation.setAsarShadowFactor(1);
+        calculation.setAdjustments(Map.of(PrayerPeriod.ZOHOR, Duration.ofMinutes(1)));
+
+        PrayerTimingConfiguration.Horizon horizon = new PrayerTimingConfiguration.Horizon();
+        horizon.setDays(2);
+        horizon.setTopUpInterval(Duration.ofMinutes(15));
+
+        PrayerTimingConfiguration.PreReminder preReminder = new PrayerTimingConfiguration.PreReminder();
+        preReminder.setDurationBefore(Duration.ofMinutes(15));
+
+        PrayerTimingConfiguration prayerTimingConfiguration = new PrayerTimingConfiguration();
+        prayerTimingConfiguration.setZones(zones);
+        prayerTimingConfiguration.setCalculation(calculation);
+        prayerTimingConfiguration.setHorizon(horizon);
+        prayerTimingConfiguration.setPreReminder(preReminder);
+        prayerTimingConfiguration.setTemplates(PrayerNotificationRendererTest.createTemplates());
+        return prayerTimingConfiguration;
+    }
+
+    private static ReminderConfiguration createReminderConfiguration() {
+        ReminderConfiguration.Wheel wheel = new ReminderConfiguration.Wheel();
+        wheel.setSlotCount(2048);
+        wheel.setMaxPending(100000);
+
+        ReminderConfiguration.Outbox outbox = new ReminderConfiguration.Outbox();
+        outbox.setPollInterval(Duration.ofSeconds(30));
+        outbox.setBatchSize(100);
+        outbox.setClaimTimeout(Duration.ofMinutes(5));
+        outbox.setMaxAttempts(10);
+        outbox.setReplayWindow(Duration.ofMinutes(30));
+        outbox.setRetention(Duration.ofDays(30));
+
+        ReminderConfiguration reminderConfiguration = new ReminderConfiguration();
+        reminderConfiguration.setWheel(wheel);
+        reminderConfiguration.setOutbox(outbox);
+        return reminderConfiguration;
+    }
+
+    private List<Subscriber> createSubscribers() {
+        Random random = new Random(42);
+        List<String> zones = getZones();
+        List<Subscriber> subscribers = new ArrayList<>();
+        for (int id = 1; id <= subscriberCount; id++) {
+            EnumSet<PrayerPeriod> periods = EnumSet.noneOf(PrayerPeriod.class);
+            for (PrayerPeriod period : PrayerPeriod.values()) {
+                if (random.nextBoolean()) {
+                    periods.add(period);
+                }
+            }
+
+            Subscriber subscriber = new Subscriber(
+                "subscriber-" + id,
+                zones.get(random.nextInt(zoneCount)),
+                periods,
+                OFFSETS[random.nextInt(OFFSETS.length)],
+                random.nextBoolean()
+            );
+            subscriber.setId(id);
+            subscribers.add(subscriber);
+        }
+        return subscribers;
+    }
+
+    private void expect(PrayerTimingCache prayerTimingCache, SubscriberService subscriberService) {
+        // Every reminder due inside the simulated days, with the minute it has to go out in.
+        for (String zone : getZones()) {
+            Set<Integer> offsets = subscriberService.getPreReminderOffsets(zone);
+            for (LocalDate date = startDate; date.isBefore(startDate.plusDays(days)); date = date.plusDays(1)) {
+                for (PrayerPeriod period : PrayerPeriod.values()) {
+                    Instant prayerAt = LocalDateTime.of(date, LocalTime.MIDNIGHT)
+                        .plusMinutes(prayerTimingCache.getMinuteOfDay(zone, date, period))
+                        .atZone(TIME_ZONE)
+                        .toInstant();
+                    expected.put(new ScheduledReminder.Key(ReminderKind.PRAYER, zone, period, date, 0), prayerAt);
+                    for (int offset : offsets) {
+                        expected.put(
+                            new ScheduledReminder.Key(ReminderKind.PRE_PRAYER, zone, period, date, offset),
+                            prayerAt.minus(Duration.ofMinutes(offset))
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    private void complete(ReminderOutboxEntry entry) {
+        if (entry.getStatus() != ReminderStatus.SENT && entry.getStatus() != ReminderStatus.SKIPPED) {
+            return;
+        }
+
+        if (entry.getStatus() == ReminderStatus.SENT) {
+            sent++;
+        } else {
+            skipped++;
+        }
+
+        ScheduledReminder.Key key = ScheduledReminder.of(entry).key();
+        if (!delivered.add(key)) {
+            duplicated++;
+        }
+
+        Instant now = clock.instant();
+        Instant fireAt = expected.get(key);
+        if (fireAt == null || now.isBefore(fireAt) || !now.isBefore(fireAt.plus(TICK_DURATION))) {
+            mistimed++;
+        }
+    }
+
+    public Report run() {
+        PrayerTimingConfiguration prayerTimingConfiguration = createPrayerTimingConfiguration();
+        ReminderConfiguration reminderConfiguration = createReminderConfiguration();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        SubscriberRepository subscriberRepository = mock(SubscriberRepository.class, withSettings().stubOnly());
+        when(subscriberRepository.findAllByActiveTrue()).thenReturn(createSubscribers());
+        SubscriberService subscriberService = new SubscriberService(
+            new SubscriberConfiguration(),
+            prayerTimingConfiguration,
+            subscriberRepository,
+            event -> { },
+            clock
+        );
+        subscriberService.load();
+
+        InMemoryNotificationDispatcher notificationDispatcher = new InMemoryNotificationDispatcher(clock);
+
+        ShardOwnershipService shardOwnershipService = mock(ShardOwnershipService.class, withSettings().stubOnly());
+        when(shardOwnershipService.ownsZone(any())).thenReturn(true);
+
+        InMemoryReminderOutboxRepository reminderOutboxRepository = new InMemoryReminderOutboxRepository() {
+            @Override
+            public int updateStatusByIdAndClaimedAt(
+                Long id,
+                Instant claimedAt,
+                ReminderStatus fromStatus,
+                ReminderStatus toStatus,
+                Instant sentAt
+            ) {
+                int updated = super.updateStatusByIdAndClaimedAt(id, claimedAt, fromStatus, toStatus, sentAt);
+                if (updated > 0) {
+                    findById(id).ifPresent(ReminderSimulation.this::complete);
+                }
+                return updated;
+            }
+        };
+
+        // Never started, the simulation drives the ticks itself.
+        ReminderSchedulerService reminderSchedulerService = new ReminderSchedulerService(
+            reminderConfiguration,
+            mock(TaskScheduler.class, withSettings().stubOnly()),
+            clock
+        );
+        ReminderOutboxService reminderOutboxService = new ReminderOutboxService(
+            reminderConfiguration,
+            reminderOutboxRepository,
+            reminderSchedulerService,
+            new ReminderRegistry(),
+            notificationDispatcher,
+            subscriberService,
+            meterRegistry,
+            clock,
+            new SimulationTransactionManager()
+        );
+        PrayerTimingCache prayerTimingCache = new PrayerTimingCache(
+            mock(PrayerTimingRepository.class, withSettings().stubOnly()),
+            mock(PrayerTimetableVersionRepository.class, withSettings().stubOnly()),
+            new PrayerTimingCalculator(prayerTimingConfiguration),
+            event -> { }
+        );
+        PrayerTimingService prayerTimingService = new PrayerTimingService(
+            prayerTimingConfiguration,
+            prayerTimingCache,
+            new PrayerNotificationRenderer(prayerTimingConfiguration),
+            notificationDispatcher,
+            reminderOutboxService,
+            shardOwnershipService,
+            subscriberService,
+            meterRegistry,
+            clock
+        );
+
+        expect(prayerTimingCache, subscriberService);
+
+        Duration topUpInterval = prayerTimingConfiguration.getHorizon().getTopUpInterval();
+        Instant end = startDate.plusDays(days).atStartOfDay(TIME_ZONE).toInstant();
+        Instant nextTopUp = clock.instant();
+
+        long startedAt = System.nanoTime();
+        for (Instant now = clock.instant(); now.isBefore(end); now = now.plus(TICK_DURATION)) {
+            clock.setInstant(now);
+            LocalTime time = LocalTime.ofInstant(now, TIME_ZONE);
+
+            if (!now.isBefore(nextTopUp)) {
+                prayerTimingService.topUpReminders();
+                nextTopUp = now.plus(topUpInterval);
+            }
+            if (time.equals(SUMMARY_TIME)) {
+                prayerTimingService.notifyAllPrayerTimingPeriods();
+            }
+            if (time.equals(PURGE_TIME)) {
+                reminderOutboxService.purge();
+            }
+
+            reminderSchedulerService.tick();
+            reminderOutboxService.poll();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        long missed = expected.keySet()
+            .stream()
+            .filter(key -> !delivered.contains(key))
+            .count();
+        Report report = new Report(
+            zoneCount,
+            subscriberCount,
+            days,
+            expected.size(),
+            sent,
+            skipped,
+            missed,
+            duplicated,
+            mistimed,
+            notificationDispatcher.getNotifications(),
+            notificationDispatcher.getRecipients(),
+            notificationDispatcher.getMaxNotificationsPerMinute(),
+            notificationDispatcher.getMaxRecipientsPerMinute(),
+            notificationDispatcher.getBusiestMinute(),
+            elapsed
+        );
+
+        log.info(
+            "Simulated {} days for {} zones and {} subscribers in {} ms, {} reminders per second.",
+            days,
+            zoneCount,
+            subscriberCount,
+            elapsed.toMillis(),
+            Math.round(report.getRemindersPerSecond())
+        );
+        log.info(
+            "Expected {} reminders, sent {}, skipped {}, missed {}, duplicated {} and mistimed {}.",
+            report.expected(),
+            sent,
+            skipped,
+            missed,
+            duplicated,
+            mistimed
+        );
+        log.info(
+            "Fanned out {} notifications to {} recipients, peaking at {} notifications and {} recipients at {}.",
+            report.notifications(),
+            report.recipients(),
+            report.maxNotificationsPerMinute(),
+            report.maxRecipientsPerMinute(),
+            report.busiestMinute()
+        );
+        return report;
+    }
+}
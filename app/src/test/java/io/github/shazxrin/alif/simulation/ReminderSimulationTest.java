@@ -0,0 +1,31 @@
+package io.github.shazxrin.alif.simulation;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReminderSimulationTest {
+    @Test
+    public void testRun_whenReplayingTimetables_shouldDeliverEveryReminderOnceOnTime() {
+        // Given
+        // Kept small by default, pass the simulation properties through the simulate task to capacity-plan.
+        ReminderSimulation reminderSimulation = new ReminderSimulation(
+            Integer.getInteger("simulation.zones", 3),
+            Integer.getInteger("simulation.subscribers", 1000),
+            LocalDate.parse(System.getProperty("simulation.start-date", "2025-01-01")),
+            Integer.getInteger("simulation.days", 14)
+        );
+
+        // When
+        ReminderSimulation.Report report = reminderSimulation.run();
+
+        // Then
+        assertEquals(0, report.missed());
+        assertEquals(0, report.duplicated());
+        assertEquals(0, report.mistimed());
+        assertEquals(report.expected(), report.sent() + report.skipped());
+        assertTrue(report.isCorrect());
+    }
+}
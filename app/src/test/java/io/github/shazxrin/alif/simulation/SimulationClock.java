@@ -0,0 +1,35 @@
+package io.github.shazxrin.alif.simulation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+public class SimulationClock extends Clock {
+    private final ZoneId zone;
+    private volatile Instant instant;
+
+    public SimulationClock(Instant instant, ZoneId zone) {
+        this.instant = instant;
+        this.zone = zone;
+    }
+
+    public void setInstant(Instant instant) {
+        this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        // Only ever read straight away, so a copy of the current time in the other zone is enough.
+        return Clock.fixed(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
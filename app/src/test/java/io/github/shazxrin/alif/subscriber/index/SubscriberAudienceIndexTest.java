@@ -0,0 +1,94 @@
+package io.github.shazxrin.alif.subscriber.index;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.subscriber.model.Subscriber;
+import java.util.EnumSet;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SubscriberAudienceIndexTest {
+    private SubscriberAudienceIndex subscriberAudienceIndex;
+
+    private static Subscriber createSubscriber(
+        int id,
+        String zone,
+        Set<PrayerPeriod> periods,
+        Integer preReminderMinutes,
+        boolean summary
+    ) {
+        Subscriber subscriber = new Subscriber("subscriber-" + id, zone, periods, preReminderMinutes, summary);
+        subscriber.setId(id);
+        return subscriber;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        subscriberAudienceIndex = new SubscriberAudienceIndex(15);
+    }
+
+    @Test
+    public void testGetReminderAudience_shouldIntersectZoneAndPeriod() {
+        // Given
+        subscriberAudienceIndex.put(createSubscriber(1, "SGP", EnumSet.allOf(PrayerPeriod.class), null, true));
+        subscriberAudienceIndex.put(createSubscriber(2, "SGP", EnumSet.of(PrayerPeriod.MAGHRIB), null, false));
+        subscriberAudienceIndex.put(createSubscriber(3, "JHR01", EnumSet.of(PrayerPeriod.SUBUH), null, true));
+
+        // When
+        RoaringBitmap subuh = subscriberAudienceIndex.getReminderAudience("SGP", PrayerPeriod.SUBUH);
+        RoaringBitmap maghrib = subscriberAudienceIndex.getReminderAudience("SGP", PrayerPeriod.MAGHRIB);
+        RoaringBitmap summary = subscriberAudienceIndex.getSummaryAudience("SGP");
+
+        // Then
+        assertEquals(RoaringBitmap.bitmapOf(1), subuh);
+        assertEquals(RoaringBitmap.bitmapOf(1, 2), maghrib);
+        assertEquals(RoaringBitmap.bitmapOf(1), summary);
+        assertTrue(subscriberAudienceIndex.getReminderAudience("KDH01", PrayerPeriod.SUBUH).isEmpty());
+    }
+
+    @Test
+    public void testGetPreReminderAudience_shouldGroupByOffsetWithDefault() {
+        // Given
+        subscriberAudienceIndex.put(createSubscriber(1, "SGP", EnumSet.of(PrayerPeriod.ASAR), null, false));
+        subscriberAudienceIndex.put(createSubscriber(2, "SGP", EnumSet.of(PrayerPeriod.ASAR), 30, false));
+        subscriberAudienceIndex.put(createSubscriber(3, "SGP", EnumSet.of(PrayerPeriod.ASAR), 15, false));
+
+        // When
+        RoaringBitmap fifteen = subscriberAudienceIndex.getPreReminderAudience("SGP", PrayerPeriod.ASAR, 15);
+        RoaringBitmap thirty = subscriberAudienceIndex.getPreReminderAudience("SGP", PrayerPeriod.ASAR, 30);
+
+        // Then
+        assertEquals(RoaringBitmap.bitmapOf(1, 3), fifteen);
+        assertEquals(RoaringBitmap.bitmapOf(2), thirty);
+        assertEquals(Set.of(15, 30), subscriberAudienceIndex.getPreReminderOffsets("SGP"));
+    }
+
+    @Test
+    public void testPut_whenSettingsChangedOrInactive_shouldMoveOrDropSubscriber() {
+        // Given
+        Subscriber subscriber = createSubscriber(1, "SGP", EnumSet.of(PrayerPeriod.ZOHOR), 10, true);
+        subscriberAudienceIndex.put(subscriber);
+
+        // When
+        subscriber.setZone("JHR01");
+        subscriber.setPreReminderMinutes(20);
+        subscriberAudienceIndex.put(subscriber);
+
+        // Then
+        assertTrue(subscriberAudienceIndex.getReminderAudience("SGP", PrayerPeriod.ZOHOR).isEmpty());
+        assertTrue(subscriberAudienceIndex.getPreReminderOffsets("SGP").isEmpty());
+        assertEquals(
+            RoaringBitmap.bitmapOf(1),
+            subscriberAudienceIndex.getPreReminderAudience("JHR01", PrayerPeriod.ZOHOR, 20)
+        );
+
+        subscriber.setActive(false);
+        subscriberAudienceIndex.put(subscriber);
+        assertEquals(0, subscriberAudienceIndex.size());
+        assertTrue(subscriberAudienceIndex.getSummaryAudience("JHR01").isEmpty());
+    }
+}
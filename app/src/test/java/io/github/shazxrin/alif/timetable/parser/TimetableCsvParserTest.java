@@ -0,0 +1,55 @@
+package io.github.shazxrin.alif.timetable.parser;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.timetable.exception.TimetableInvalidException;
+import io.github.shazxrin.alif.timetable.model.TimetableRow;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimetableCsvParserTest {
+    @Test
+    public void testParse_whenRowValid_shouldMoveAfternoonPeriodsPastNoon() {
+        // When
+        TimetableRow row = TimetableCsvParser.parse(1, "1/1/2025,5 43,7 07,1 09,4 33,7 10,8 25");
+
+        // Then
+        assertEquals(LocalDate.of(2025, 1, 1), row.date());
+        assertArrayEquals(
+            new int[] { 5 * 60 + 43, 7 * 60 + 7, 13 * 60 + 9, 16 * 60 + 33, 19 * 60 + 10, 20 * 60 + 25 },
+            row.periodMinutes()
+        );
+    }
+
+    @Test
+    public void testParse_whenZohorOnNoonHour_shouldKeepHour() {
+        // When
+        TimetableRow row = TimetableCsvParser.parse(1, "15/6/2025,5 35,6 59,12 59,4 22,7 13,8 28");
+
+        // Then
+        assertEquals(12 * 60 + 59, row.periodMinutes()[PrayerPeriod.ZOHOR.ordinal()]);
+    }
+
+    @Test
+    public void testParse_whenRowInvalid_shouldThrowExceptionWithLine() {
+        // When & Then
+        TimetableInvalidException missingField = assertThrows(
+            TimetableInvalidException.class,
+            () -> TimetableCsvParser.parse(7, "1/1/2025,5 43,7 07,1 09,4 33,7 10")
+        );
+        TimetableInvalidException outOfOrder = assertThrows(
+            TimetableInvalidException.class,
+            () -> TimetableCsvParser.parse(8, "1/1/2025,7 43,7 07,1 09,4 33,7 10,8 25")
+        );
+        assertThrows(
+            TimetableInvalidException.class,
+            () -> TimetableCsvParser.parse(9, "31/2/2025,5 43,7 07,1 09,4 33,7 10,8 25")
+        );
+        assertTrue(missingField.getMessage().startsWith("Line 7:"));
+        assertTrue(outOfOrder.getMessage().contains("SYURUK"));
+    }
+}
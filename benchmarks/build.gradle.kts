@@ -0,0 +1,34 @@
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(25)
+    }
+}
+
+repositories {
+    mavenCentral()
+
+    maven {
+        url = uri("https://maven.pkg.github.com/shazxrin/notifier")
+        credentials {
+            username = project.findProperty("gpr.username") as String? ?: System.getenv("GPR_USERNAME")
+            password = project.findProperty("gpr.token") as String? ?: System.getenv("GPR_TOKEN")
+        }
+    }
+}
+
+dependencies {
+    jmh(project(":app"))
+}
+
+jmh {
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+}
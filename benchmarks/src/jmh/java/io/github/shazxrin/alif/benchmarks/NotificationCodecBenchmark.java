@@ -0,0 +1,57 @@
+package io.github.shazxrin.alif.benchmarks;
+
+import io.github.shazxrin.alif.notification.codec.BinaryNotificationCodec;
+import io.github.shazxrin.alif.notification.codec.JsonNotificationCodec;
+import io.github.shazxrin.notifier.common.NotificationMessage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+/*
+    Compares encode time of the previous Jackson converter against the JSON fast path and the binary codec.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class NotificationCodecBenchmark {
+    private static final String APP_NAME = "alif";
+    private static final String TITLE = "It is maghrib prayer time.";
+    private static final String MESSAGE = "It is time to pray maghrib at 19:12 (SGP).";
+
+    private Jackson2JsonMessageConverter jackson2JsonMessageConverter;
+    private JsonNotificationCodec jsonNotificationCodec;
+    private BinaryNotificationCodec binaryNotificationCodec;
+
+    @Setup
+    public void setUp() {
+        jackson2JsonMessageConverter = new Jackson2JsonMessageConverter();
+        jsonNotificationCodec = new JsonNotificationCodec(jackson2JsonMessageConverter);
+        binaryNotificationCodec = new BinaryNotificationCodec();
+    }
+
+    @Benchmark
+    public Message jackson2JsonMessageConverter() {
+        return jackson2JsonMessageConverter.toMessage(
+            new NotificationMessage(APP_NAME, TITLE, MESSAGE),
+            new MessageProperties()
+        );
+    }
+
+    @Benchmark
+    public byte[] jsonNotificationCodec() {
+        return jsonNotificationCodec.encode(APP_NAME, TITLE, MESSAGE);
+    }
+
+    @Benchmark
+    public byte[] binaryNotificationCodec() {
+        return binaryNotificationCodec.encode(APP_NAME, TITLE, MESSAGE);
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.shazxrin.alif.benchmarks;
+
+import io.github.shazxrin.alif.prayer.configuration.PrayerTimingConfiguration;
+import io.github.shazxrin.alif.prayer.model.PrayerNotification;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.prayer.service.PrayerTimingService;
+import io.github.shazxrin.alif.prayer.template.PrayerNotificationRenderer;
+import io.github.shazxrin.alif.prayer.template.PrayerTemplate;
+import io.github.shazxrin.alif.prayer.template.PrayerTemplateValues;
+import io.github.shazxrin.alif.reminder.model.ReminderKind;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+    Time conversion and message formatting done for every reminder. The renderer shares rendered reminders, so the
+    uncached cost is measured on the compiled template directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PrayerNotificationBenchmark {
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Singapore");
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 1);
+    private static final int MINUTE_OF_DAY = 19 * 60 + 21;
+    private static final int[] PERIOD_MINUTES = {
+        5 * 60 + 58, 7 * 60 + 15, 13 * 60 + 19, 16 * 60 + 32, 19 * 60 + 21, 20 * 60 + 30
+    };
+
+    private PrayerNotificationRenderer prayerNotificationRenderer;
+    private PrayerTemplate prayerTemplate;
+    private PrayerTemplateValues prayerTemplateValues;
+    private StringBuilder builder;
+
+    private static PrayerTimingConfiguration.Template createTemplate(String title, String message) {
+        PrayerTimingConfiguration.Template template = new PrayerTimingConfiguration.Template();
+        template.setTitle(title);
+        template.setMessage(message);
+        return template;
+    }
+
+    @Setup
+    public void setUp() {
+        PrayerTimingConfiguration.ReminderTemplate prayer = new PrayerTimingConfiguration.ReminderTemplate();
+        prayer.setTitle("It is {prayer} prayer time.");
+        prayer.setMessage("It is time to pray {prayer} at {time} ({zone}).");
+        prayer.setPeriods(Map.of(
+            PrayerPeriod.SYURUK,
+            createTemplate("It is syuruk.", "It is syuruk at {time} ({zone}).")
+        ));
+
+        PrayerTimingConfiguration.ReminderTemplate prePrayer = new PrayerTimingConfiguration.ReminderTemplate();
+        prePrayer.setTitle("It is almost {prayer} prayer time.");
+        prePrayer.setMessage("It is almost time to pray {prayer} at {time} ({zone}).");
+
+        PrayerTimingConfiguration.Templates templates = new PrayerTimingConfiguration.Templates();
+        templates.setLocale("en-SG");
+        templates.setDatePattern("dd MMM yyyy");
+        templates.setPrayer(prayer);
+        templates.setPrePrayer(prePrayer);
+        templates.setSummary(createTemplate(
+            "Prayer timings for {date} ({zone})",
+            "Subuh: {subuh}\nSyuruk: {syuruk}\nZohor: {zohor}\nAsar: {asar}\nMaghrib: {maghrib}\nIsyak: {isyak}\n"
+        ));
+
+        PrayerTimingConfiguration prayerTimingConfiguration = new PrayerTimingConfiguration();
+        prayerTimingConfiguration.setTemplates(templates);
+        prayerNotificationRenderer = new PrayerNotificationRenderer(prayerTimingConfiguration);
+
+        prayerTemplate = PrayerTemplate.compile(prayer.getMessage());
+        prayerTemplateValues = new PrayerTemplateValues();
+        prayerTemplateValues.zone = "SGP";
+        prayerTemplateValues.prayer = "maghrib";
+        prayerTemplateValues.minuteOfDay = MINUTE_OF_DAY;
+        builder = new StringBuilder(256);
+    }
+
+    @Benchmark
+    public Instant convertTime() {
+        return PrayerTimingService.getInstant(
+            LocalDateTime.of(DATE, LocalTime.of(MINUTE_OF_DAY / 60, MINUTE_OF_DAY % 60)),
+            ZONE_ID
+        );
+    }
+
+    @Benchmark
+    public String renderTemplate() {
+        builder.setLength(0);
+        prayerTemplate.render(builder, prayerTemplateValues);
+        return builder.toString();
+    }
+
+    @Benchmark
+    public PrayerNotification renderReminder() {
+        return prayerNotificationRenderer.renderReminder(ReminderKind.PRAYER, "SGP", PrayerPeriod.MAGHRIB, MINUTE_OF_DAY);
+    }
+
+    @Benchmark
+    public PrayerNotification renderSummary() {
+        return prayerNotificationRenderer.renderSummary("SGP", DATE, PERIOD_MINUTES);
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.shazxrin.alif.benchmarks;
+
+import io.github.shazxrin.alif.prayer.calculation.SolarPrayerTimeCalculator;
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetable;
+import io.github.shazxrin.alif.prayer.model.PrayerTimetableSnapshot;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+    Timetable lookups served from the snapshot on every schedule and API call, and the cost of calculating a year
+    when no published table is available.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrayerTimetableBenchmark {
+    private static final int YEAR = 2025;
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Singapore");
+    private static final PrayerPeriod[] PERIODS = PrayerPeriod.values();
+    private static final SolarPrayerTimeCalculator SOLAR_PRAYER_TIME_CALCULATOR =
+        new SolarPrayerTimeCalculator(20, 18, 1, new int[] { 0, 0, 1, 0, 0, 0 });
+
+    @State(Scope.Thread)
+    public static class Snapshot {
+        @Param({ "1", "64" })
+        public int zoneCount;
+
+        private PrayerTimetableSnapshot snapshot;
+        private String[] zones;
+        private int next = 0;
+
+        @Setup
+        public void setUp() {
+            zones = new String[zoneCount];
+            List<PrayerTimetable> timetables = new ArrayList<>();
+            for (int i = 0; i < zoneCount; i++) {
+                zones[i] = "Z" + i;
+                double latitude = 1.3521 + i * 0.1;
+                timetables.add(SOLAR_PRAYER_TIME_CALCULATOR.calculate(zones[i], YEAR, latitude, 103.8198, ZONE_ID));
+            }
+            snapshot = PrayerTimetableSnapshot.empty().with(timetables);
+        }
+    }
+
+    @Benchmark
+    public int lookupMinuteOfDay(Snapshot state) {
+        int i = state.next++;
+        String zone = state.zones[i % state.zoneCount];
+        LocalDate date = LocalDate.ofYearDay(YEAR, i % 365 + 1);
+        return state.snapshot.find(zone, YEAR).getMinuteOfDay(date, PERIODS[i % PERIODS.length]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public PrayerTimetable calculateYear() {
+        return SOLAR_PRAYER_TIME_CALCULATOR.calculate("SGP", YEAR, 1.3521, 103.8198, ZONE_ID);
+    }
+}
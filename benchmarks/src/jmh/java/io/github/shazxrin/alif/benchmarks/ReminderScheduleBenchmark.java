@@ -0,0 +1,111 @@
+package io.github.shazxrin.alif.benchmarks;
+
+import io.github.shazxrin.alif.prayer.model.PrayerPeriod;
+import io.github.shazxrin.alif.reminder.scheduler.ReminderTimingWheel;
+import io.github.shazxrin.alif.subscriber.index.SubscriberAudienceIndex;
+import io.github.shazxrin.alif.subscriber.model.Subscriber;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+    Building a horizon of reminders for many zones, and resolving the audience of each one from the subscriber index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReminderScheduleBenchmark {
+    private static final int[] OFFSETS = { 5, 10, 15, 30 };
+    private static final int HORIZON_DAYS = 2;
+    private static final Runnable NOOP = () -> { };
+
+    @Param({ "1", "64" })
+    public int zoneCount;
+
+    private String[] zones;
+
+    @State(Scope.Benchmark)
+    public static class Subscribers {
+        @Param({ "10000", "1000000" })
+        public int subscriberCount;
+
+        private SubscriberAudienceIndex subscriberAudienceIndex;
+
+        @Setup
+        public void setUp(ReminderScheduleBenchmark benchmark) {
+            Random random = new Random(42);
+            PrayerPeriod[] periods = PrayerPeriod.values();
+            subscriberAudienceIndex = new SubscriberAudienceIndex(15);
+            for (int id = 1; id <= subscriberCount; id++) {
+                EnumSet<PrayerPeriod> subscribed = EnumSet.noneOf(PrayerPeriod.class);
+                for (PrayerPeriod period : periods) {
+                    if (random.nextBoolean()) {
+                        subscribed.add(period);
+                    }
+                }
+
+                Subscriber subscriber = new Subscriber(
+                    "subscriber-" + id,
+                    benchmark.zones[random.nextInt(benchmark.zoneCount)],
+                    subscribed,
+                    OFFSETS[random.nextInt(OFFSETS.length)],
+                    random.nextBoolean()
+                );
+                subscriber.setId(id);
+                subscriberAudienceIndex.put(subscriber);
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        zones = new String[zoneCount];
+        for (int i = 0; i < zoneCount; i++) {
+            zones[i] = "Z" + i;
+        }
+    }
+
+    @Benchmark
+    public ReminderTimingWheel scheduleHorizon() {
+        // One prayer and one pre-reminder per offset for every period, zone and day in the horizon.
+        ReminderTimingWheel wheel = new ReminderTimingWheel(2048, Integer.MAX_VALUE, 0);
+        for (int zone = 0; zone < zoneCount; zone++) {
+            for (int day = 0; day < HORIZON_DAYS; day++) {
+                for (int period = 0; period < PrayerPeriod.values().length; period++) {
+                    long epochMinute = day * 24 * 60 + 5 * 60 + period * 150 + zone;
+                    wheel.add(epochMinute, NOOP);
+                    for (int offset : OFFSETS) {
+                        wheel.add(epochMinute - offset, NOOP);
+                    }
+                }
+            }
+        }
+        return wheel;
+    }
+
+    @Benchmark
+    public void resolveAudiences(Subscribers subscribers, Blackhole blackhole) {
+        SubscriberAudienceIndex subscriberAudienceIndex = subscribers.subscriberAudienceIndex;
+        for (String zone : zones) {
+            for (PrayerPeriod period : PrayerPeriod.values()) {
+                blackhole.consume(SubscriberAudienceIndex.serialize(
+                    subscriberAudienceIndex.getReminderAudience(zone, period)
+                ));
+                for (int offset : subscriberAudienceIndex.getPreReminderOffsets(zone)) {
+                    blackhole.consume(SubscriberAudienceIndex.serialize(
+                        subscriberAudienceIndex.getPreReminderAudience(zone, period, offset)
+                    ));
+                }
+            }
+        }
+    }
+}
@@ -24,7 +24,7 @@ def process_pm_time(string: str) -> str:
     return f"{hour:02d}:{minute:02d}"
 
 
-def process_prayer_timings(file: str) -> DataFrame:
+def process_prayer_timings(file: str, zone: str) -> DataFrame:
     try:
         df = pd.read_csv(file, header=None)
 
@@ -43,6 +43,8 @@ def process_prayer_timings(file: str) -> DataFrame:
         df["maghrib"] = df["maghrib"].apply(process_pm_time)
         df["isyak"] = df["isyak"].apply(process_pm_time)
 
+        df.insert(0, "zone", zone)
+
         return df
     except FileNotFoundError:
         print(f"File {file} was not found.")
@@ -72,7 +74,7 @@ def convert_to_sql(df: DataFrame) -> str:
     return f"INSERT INTO prayer_timings ({columns})\nVALUES\n{",\n".join(insert_statements)};"
 
 if __name__ == "__main__":
-    df = process_prayer_timings("prayer-timetable-2025.csv")
+    df = process_prayer_timings("prayer-timetable-2025.csv", "SGP")
     sql = convert_to_sql(df)
     try:
         with open("prayer-timetable-2025.sql", "w") as f:
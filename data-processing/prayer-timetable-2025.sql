@@ -1,367 +1,367 @@
-INSERT INTO prayer_timings ("date", "subuh", "syuruk", "zohor", "asar", "maghrib", "isyak")
+INSERT INTO prayer_timings ("zone", "date", "subuh", "syuruk", "zohor", "asar", "maghrib", "isyak")
 VALUES
-	('2025-01-01', '05:43', '07:07', '13:09', '16:33', '19:10', '20:25'),
-	('2025-01-02', '05:44', '07:07', '13:10', '16:34', '19:10', '20:25'),
-	('2025-01-03', '05:44', '07:08', '13:10', '16:34', '19:11', '20:25'),
-	('2025-01-04', '05:45', '07:08', '13:11', '16:35', '19:11', '20:26'),
-	('2025-01-05', '05:45', '07:09', '13:11', '16:35', '19:12', '20:26'),
-	('2025-01-06', '05:46', '07:09', '13:12', '16:35', '19:12', '20:27'),
-	('2025-01-07', '05:46', '07:10', '13:12', '16:36', '19:13', '20:27'),
-	('2025-01-08', '05:47', '07:10', '13:13', '16:36', '19:13', '20:27'),
-	('2025-01-09', '05:47', '07:10', '13:13', '16:37', '19:13', '20:28'),
-	('2025-01-10', '05:48', '07:11', '13:13', '16:37', '19:14', '20:28'),
-	('2025-01-11', '05:48', '07:11', '13:14', '16:37', '19:14', '20:28'),
-	('2025-01-12', '05:49', '07:12', '13:14', '16:38', '19:15', '20:29'),
-	('2025-01-13', '05:49', '07:12', '13:15', '16:38', '19:15', '20:29'),
-	('2025-01-14', '05:50', '07:12', '13:15', '16:38', '19:15', '20:29'),
-	('2025-01-15', '05:50', '07:13', '13:15', '16:39', '19:16', '20:30'),
-	('2025-01-16', '05:51', '07:13', '13:16', '16:39', '19:16', '20:30'),
-	('2025-01-17', '05:51', '07:13', '13:16', '16:39', '19:17', '20:30'),
-	('2025-01-18', '05:52', '07:14', '13:16', '16:39', '19:17', '20:30'),
-	('2025-01-19', '05:52', '07:14', '13:17', '16:40', '19:17', '20:31'),
-	('2025-01-20', '05:52', '07:14', '13:17', '16:40', '19:18', '20:31'),
-	('2025-01-21', '05:53', '07:15', '13:17', '16:40', '19:18', '20:31'),
-	('2025-01-22', '05:53', '07:15', '13:18', '16:40', '19:18', '20:31'),
-	('2025-01-23', '05:54', '07:15', '13:18', '16:40', '19:19', '20:32'),
-	('2025-01-24', '05:54', '07:15', '13:18', '16:41', '19:19', '20:32'),
-	('2025-01-25', '05:54', '07:16', '13:18', '16:41', '19:19', '20:32'),
-	('2025-01-26', '05:55', '07:16', '13:19', '16:41', '19:19', '20:32'),
-	('2025-01-27', '05:55', '07:16', '13:19', '16:41', '19:20', '20:32'),
-	('2025-01-28', '05:55', '07:16', '13:19', '16:41', '19:20', '20:32'),
-	('2025-01-29', '05:56', '07:16', '13:19', '16:41', '19:20', '20:32'),
-	('2025-01-30', '05:56', '07:16', '13:19', '16:41', '19:20', '20:32'),
-	('2025-01-31', '05:56', '07:17', '13:20', '16:41', '19:20', '20:32'),
-	('2025-02-01', '05:56', '07:17', '13:20', '16:41', '19:21', '20:33'),
-	('2025-02-02', '05:57', '07:17', '13:20', '16:41', '19:21', '20:33'),
-	('2025-02-03', '05:57', '07:17', '13:20', '16:41', '19:21', '20:33'),
-	('2025-02-04', '05:57', '07:17', '13:20', '16:41', '19:21', '20:33'),
-	('2025-02-05', '05:57', '07:17', '13:20', '16:41', '19:21', '20:33'),
-	('2025-02-06', '05:57', '07:17', '13:20', '16:41', '19:21', '20:33'),
-	('2025-02-07', '05:58', '07:17', '13:20', '16:41', '19:21', '20:33'),
-	('2025-02-08', '05:58', '07:17', '13:20', '16:40', '19:21', '20:33'),
-	('2025-02-09', '05:58', '07:17', '13:20', '16:40', '19:21', '20:33'),
-	('2025-02-10', '05:58', '07:17', '13:20', '16:40', '19:22', '20:33'),
-	('2025-02-11', '05:58', '07:17', '13:20', '16:40', '19:22', '20:32'),
-	('2025-02-12', '05:58', '07:17', '13:21', '16:40', '19:22', '20:32'),
-	('2025-02-13', '05:58', '07:17', '13:20', '16:39', '19:22', '20:32'),
-	('2025-02-14', '05:58', '07:17', '13:20', '16:39', '19:22', '20:32'),
-	('2025-02-15', '05:58', '07:17', '13:20', '16:39', '19:22', '20:32'),
-	('2025-02-16', '05:58', '07:17', '13:20', '16:38', '19:22', '20:32'),
-	('2025-02-17', '05:58', '07:17', '13:20', '16:38', '19:22', '20:32'),
-	('2025-02-18', '05:58', '07:17', '13:20', '16:38', '19:22', '20:32'),
-	('2025-02-19', '05:58', '07:17', '13:20', '16:37', '19:21', '20:32'),
-	('2025-02-20', '05:58', '07:17', '13:20', '16:37', '19:21', '20:31'),
-	('2025-02-21', '05:58', '07:17', '13:20', '16:36', '19:21', '20:31'),
-	('2025-02-22', '05:58', '07:16', '13:20', '16:36', '19:21', '20:31'),
-	('2025-02-23', '05:58', '07:16', '13:20', '16:35', '19:21', '20:31'),
-	('2025-02-24', '05:58', '07:16', '13:20', '16:35', '19:21', '20:31'),
-	('2025-02-25', '05:58', '07:16', '13:19', '16:34', '19:21', '20:31'),
-	('2025-02-26', '05:58', '07:16', '13:19', '16:34', '19:21', '20:30'),
-	('2025-02-27', '05:58', '07:15', '13:19', '16:33', '19:21', '20:30'),
-	('2025-02-28', '05:58', '07:15', '13:19', '16:33', '19:21', '20:30'),
-	('2025-03-01', '05:58', '07:15', '13:19', '16:32', '19:21', '20:30'),
-	('2025-03-02', '05:58', '07:15', '13:19', '16:31', '19:21', '20:30'),
-	('2025-03-03', '05:57', '07:15', '13:18', '16:31', '19:21', '20:29'),
-	('2025-03-04', '05:57', '07:14', '13:18', '16:30', '19:21', '20:29'),
-	('2025-03-05', '05:57', '07:14', '13:18', '16:29', '19:21', '20:29'),
-	('2025-03-06', '05:57', '07:14', '13:18', '16:28', '19:21', '20:29'),
-	('2025-03-07', '05:57', '07:14', '13:18', '16:28', '19:20', '20:28'),
-	('2025-03-08', '05:56', '07:13', '13:17', '16:27', '19:20', '20:28'),
-	('2025-03-09', '05:56', '07:13', '13:17', '16:26', '19:20', '20:28'),
-	('2025-03-10', '05:56', '07:13', '13:17', '16:25', '19:20', '20:28'),
-	('2025-03-11', '05:56', '07:13', '13:17', '16:25', '19:19', '20:27'),
-	('2025-03-12', '05:55', '07:12', '13:16', '16:24', '19:19', '20:27'),
-	('2025-03-13', '05:55', '07:12', '13:16', '16:23', '19:19', '20:27'),
-	('2025-03-14', '05:55', '07:12', '13:16', '16:22', '19:19', '20:27'),
-	('2025-03-15', '05:55', '07:11', '13:16', '16:21', '19:19', '20:26'),
-	('2025-03-16', '05:54', '07:11', '13:15', '16:20', '19:18', '20:26'),
-	('2025-03-17', '05:54', '07:11', '13:15', '16:19', '19:18', '20:26'),
-	('2025-03-18', '05:54', '07:10', '13:15', '16:18', '19:18', '20:26'),
-	('2025-03-19', '05:53', '07:10', '13:14', '16:17', '19:18', '20:25'),
-	('2025-03-20', '05:53', '07:10', '13:14', '16:16', '19:17', '20:25'),
-	('2025-03-21', '05:53', '07:09', '13:14', '16:15', '19:17', '20:25'),
-	('2025-03-22', '05:52', '07:09', '13:13', '16:14', '19:17', '20:24'),
-	('2025-03-23', '05:52', '07:09', '13:13', '16:13', '19:17', '20:24'),
-	('2025-03-24', '05:52', '07:08', '13:13', '16:12', '19:16', '20:24'),
-	('2025-03-25', '05:51', '07:08', '13:13', '16:12', '19:16', '20:24'),
-	('2025-03-26', '05:51', '07:08', '13:12', '16:13', '19:16', '20:23'),
-	('2025-03-27', '05:51', '07:07', '13:12', '16:13', '19:15', '20:23'),
-	('2025-03-28', '05:50', '07:07', '13:12', '16:13', '19:15', '20:23'),
-	('2025-03-29', '05:50', '07:07', '13:11', '16:14', '19:15', '20:23'),
-	('2025-03-30', '05:50', '07:06', '13:11', '16:14', '19:15', '20:22'),
-	('2025-03-31', '05:49', '07:06', '13:11', '16:15', '19:13', '20:22'),
-	('2025-04-01', '05:49', '07:06', '13:10', '16:15', '19:13', '20:22'),
-	('2025-04-02', '05:48', '07:05', '13:10', '16:15', '19:13', '20:22'),
-	('2025-04-03', '05:48', '07:05', '13:10', '16:16', '19:13', '20:22'),
-	('2025-04-04', '05:48', '07:05', '13:10', '16:16', '19:12', '20:21'),
-	('2025-04-05', '05:47', '07:04', '13:09', '16:17', '19:12', '20:21'),
-	('2025-04-06', '05:47', '07:04', '13:09', '16:17', '19:12', '20:21'),
-	('2025-04-07', '05:46', '07:04', '13:09', '16:17', '19:12', '20:21'),
-	('2025-04-08', '05:46', '07:03', '13:08', '16:17', '19:11', '20:21'),
-	('2025-04-09', '05:46', '07:03', '13:08', '16:18', '19:11', '20:20'),
-	('2025-04-10', '05:45', '07:03', '13:08', '16:18', '19:11', '20:20'),
-	('2025-04-11', '05:45', '07:02', '13:08', '16:18', '19:11', '20:20'),
-	('2025-04-12', '05:45', '07:02', '13:07', '16:19', '19:10', '20:20'),
-	('2025-04-13', '05:44', '07:02', '13:07', '16:19', '19:10', '20:20'),
-	('2025-04-14', '05:44', '07:02', '13:07', '16:19', '19:10', '20:20'),
-	('2025-04-15', '05:43', '07:01', '13:07', '16:19', '19:10', '20:19'),
-	('2025-04-16', '05:43', '07:01', '13:06', '16:19', '19:10', '20:19'),
-	('2025-04-17', '05:43', '07:01', '13:06', '16:20', '19:09', '20:19'),
-	('2025-04-18', '05:42', '07:00', '13:06', '16:20', '19:09', '20:19'),
-	('2025-04-19', '05:42', '07:00', '13:06', '16:20', '19:09', '20:19'),
-	('2025-04-20', '05:42', '07:00', '13:05', '16:20', '19:09', '20:19'),
-	('2025-04-21', '05:41', '07:00', '13:05', '16:21', '19:09', '20:19'),
-	('2025-04-22', '05:41', '06:59', '13:05', '16:21', '19:08', '20:19'),
-	('2025-04-23', '05:41', '06:59', '13:05', '16:21', '19:08', '20:19'),
-	('2025-04-24', '05:40', '06:59', '13:05', '16:21', '19:08', '20:19'),
-	('2025-04-25', '05:40', '06:59', '13:04', '16:21', '19:08', '20:19'),
-	('2025-04-26', '05:40', '06:59', '13:04', '16:21', '19:08', '20:19'),
-	('2025-04-27', '05:39', '06:58', '13:04', '16:22', '19:08', '20:19'),
-	('2025-04-28', '05:39', '06:58', '13:04', '16:22', '19:08', '20:18'),
-	('2025-04-29', '05:39', '06:58', '13:04', '16:22', '19:07', '20:18'),
-	('2025-04-30', '05:38', '06:58', '13:04', '16:22', '19:07', '20:18'),
-	('2025-05-01', '05:38', '06:58', '13:04', '16:22', '19:07', '20:18'),
-	('2025-05-02', '05:38', '06:58', '13:03', '16:23', '19:07', '20:19'),
-	('2025-05-03', '05:38', '06:57', '13:03', '16:23', '19:07', '20:19'),
-	('2025-05-04', '05:37', '06:57', '13:03', '16:23', '19:07', '20:19'),
-	('2025-05-05', '05:37', '06:57', '13:03', '16:23', '19:07', '20:19'),
-	('2025-05-06', '05:37', '06:57', '13:03', '16:23', '19:07', '20:19'),
-	('2025-05-07', '05:37', '06:57', '13:03', '16:23', '19:07', '20:19'),
-	('2025-05-08', '05:36', '06:57', '13:03', '16:24', '19:07', '20:19'),
-	('2025-05-09', '05:36', '06:57', '13:03', '16:24', '19:07', '20:19'),
-	('2025-05-10', '05:36', '06:57', '13:03', '16:24', '19:07', '20:19'),
-	('2025-05-11', '05:36', '06:57', '13:03', '16:24', '19:07', '20:19'),
-	('2025-05-12', '05:36', '06:56', '13:03', '16:24', '19:07', '20:19'),
-	('2025-05-13', '05:35', '06:56', '13:03', '16:24', '19:07', '20:19'),
-	('2025-05-14', '05:35', '06:56', '13:03', '16:25', '19:07', '20:19'),
-	('2025-05-15', '05:35', '06:56', '13:03', '16:25', '19:07', '20:20'),
-	('2025-05-16', '05:35', '06:56', '13:03', '16:25', '19:07', '20:20'),
-	('2025-05-17', '05:35', '06:56', '13:03', '16:25', '19:07', '20:20'),
-	('2025-05-18', '05:35', '06:56', '13:03', '16:25', '19:07', '20:20'),
-	('2025-05-19', '05:35', '06:56', '13:03', '16:26', '19:07', '20:20'),
-	('2025-05-20', '05:34', '06:56', '13:03', '16:26', '19:07', '20:20'),
-	('2025-05-21', '05:34', '06:56', '13:03', '16:26', '19:07', '20:21'),
-	('2025-05-22', '05:34', '06:56', '13:03', '16:26', '19:07', '20:21'),
-	('2025-05-23', '05:34', '06:56', '13:03', '16:26', '19:07', '20:21'),
-	('2025-05-24', '05:34', '06:57', '13:03', '16:27', '19:07', '20:21'),
-	('2025-05-25', '05:34', '06:57', '13:03', '16:27', '19:08', '20:21'),
-	('2025-05-26', '05:34', '06:57', '13:03', '16:27', '19:08', '20:22'),
-	('2025-05-27', '05:34', '06:57', '13:03', '16:27', '19:08', '20:22'),
-	('2025-05-28', '05:34', '06:57', '13:03', '16:27', '19:08', '20:22'),
-	('2025-05-29', '05:34', '06:57', '13:04', '16:28', '19:08', '20:22'),
-	('2025-05-30', '05:34', '06:57', '13:04', '16:28', '19:08', '20:23'),
-	('2025-05-31', '05:34', '06:57', '13:04', '16:28', '19:08', '20:23'),
-	('2025-06-01', '05:34', '06:57', '13:04', '16:28', '19:09', '20:23'),
-	('2025-06-02', '05:34', '06:57', '13:04', '16:29', '19:09', '20:23'),
-	('2025-06-03', '05:34', '06:58', '13:04', '16:29', '19:09', '20:23'),
-	('2025-06-04', '05:34', '06:58', '13:04', '16:29', '19:09', '20:24'),
-	('2025-06-05', '05:34', '06:58', '13:05', '16:29', '19:09', '20:24'),
-	('2025-06-06', '05:35', '06:58', '13:05', '16:29', '19:09', '20:24'),
-	('2025-06-07', '05:35', '06:58', '13:05', '16:30', '19:10', '20:24'),
-	('2025-06-08', '05:35', '06:58', '13:05', '16:30', '19:10', '20:25'),
-	('2025-06-09', '05:35', '06:59', '13:05', '16:30', '19:10', '20:25'),
-	('2025-06-10', '05:35', '06:59', '13:06', '16:30', '19:10', '20:25'),
-	('2025-06-11', '05:35', '06:59', '13:06', '16:31', '19:10', '20:26'),
-	('2025-06-12', '05:35', '06:59', '13:06', '16:31', '19:11', '20:26'),
-	('2025-06-13', '05:35', '06:59', '13:06', '16:31', '19:11', '20:26'),
-	('2025-06-14', '05:36', '07:00', '13:06', '16:31', '19:11', '20:26'),
-	('2025-06-15', '05:36', '07:00', '13:07', '16:32', '19:11', '20:27'),
-	('2025-06-16', '05:36', '07:00', '13:07', '16:32', '19:12', '20:27'),
-	('2025-06-17', '05:36', '07:00', '13:07', '16:32', '19:12', '20:27'),
-	('2025-06-18', '05:36', '07:00', '13:07', '16:32', '19:12', '20:27'),
-	('2025-06-19', '05:36', '07:01', '13:07', '16:33', '19:12', '20:27'),
-	('2025-06-20', '05:37', '07:01', '13:08', '16:33', '19:12', '20:28'),
-	('2025-06-21', '05:37', '07:01', '13:08', '16:33', '19:13', '20:28'),
-	('2025-06-22', '05:37', '07:01', '13:08', '16:33', '19:13', '20:28'),
-	('2025-06-23', '05:37', '07:01', '13:08', '16:33', '19:13', '20:28'),
-	('2025-06-24', '05:38', '07:02', '13:09', '16:34', '19:13', '20:29'),
-	('2025-06-25', '05:38', '07:02', '13:09', '16:34', '19:14', '20:29'),
-	('2025-06-26', '05:38', '07:02', '13:09', '16:34', '19:14', '20:29'),
-	('2025-06-27', '05:38', '07:02', '13:09', '16:34', '19:14', '20:29'),
-	('2025-06-28', '05:38', '07:03', '13:09', '16:34', '19:14', '20:29'),
-	('2025-06-29', '05:39', '07:03', '13:10', '16:35', '19:14', '20:29'),
-	('2025-06-30', '05:39', '07:03', '13:10', '16:35', '19:15', '20:30'),
-	('2025-07-01', '05:39', '07:03', '13:10', '16:35', '19:15', '20:30'),
-	('2025-07-02', '05:39', '07:03', '13:10', '16:35', '19:15', '20:30'),
-	('2025-07-03', '05:40', '07:04', '13:10', '16:35', '19:15', '20:30'),
-	('2025-07-04', '05:40', '07:04', '13:11', '16:35', '19:15', '20:30'),
-	('2025-07-05', '05:40', '07:04', '13:11', '16:36', '19:15', '20:30'),
-	('2025-07-06', '05:40', '07:04', '13:11', '16:36', '19:16', '20:30'),
-	('2025-07-07', '05:41', '07:04', '13:11', '16:36', '19:16', '20:31'),
-	('2025-07-08', '05:41', '07:04', '13:11', '16:36', '19:16', '20:31'),
-	('2025-07-09', '05:41', '07:05', '13:11', '16:36', '19:16', '20:31'),
-	('2025-07-10', '05:41', '07:05', '13:12', '16:36', '19:16', '20:31'),
-	('2025-07-11', '05:42', '07:05', '13:12', '16:36', '19:16', '20:31'),
-	('2025-07-12', '05:42', '07:05', '13:12', '16:36', '19:16', '20:31'),
-	('2025-07-13', '05:42', '07:05', '13:12', '16:36', '19:17', '20:31'),
-	('2025-07-14', '05:42', '07:05', '13:12', '16:36', '19:17', '20:31'),
-	('2025-07-15', '05:43', '07:06', '13:12', '16:36', '19:17', '20:31'),
-	('2025-07-16', '05:43', '07:06', '13:12', '16:36', '19:17', '20:31'),
-	('2025-07-17', '05:43', '07:06', '13:12', '16:36', '19:17', '20:31'),
-	('2025-07-18', '05:43', '07:06', '13:12', '16:36', '19:17', '20:31'),
-	('2025-07-19', '05:43', '07:06', '13:13', '16:36', '19:17', '20:31'),
-	('2025-07-20', '05:44', '07:06', '13:13', '16:36', '19:17', '20:31'),
-	('2025-07-21', '05:44', '07:06', '13:13', '16:36', '19:17', '20:31'),
-	('2025-07-22', '05:44', '07:06', '13:13', '16:36', '19:17', '20:31'),
-	('2025-07-23', '05:44', '07:06', '13:13', '16:36', '19:17', '20:31'),
-	('2025-07-24', '05:44', '07:06', '13:13', '16:36', '19:17', '20:31'),
-	('2025-07-25', '05:45', '07:06', '13:13', '16:36', '19:17', '20:30'),
-	('2025-07-26', '05:45', '07:06', '13:13', '16:36', '19:17', '20:30'),
-	('2025-07-27', '05:45', '07:06', '13:13', '16:35', '19:17', '20:30'),
-	('2025-07-28', '05:45', '07:06', '13:13', '16:35', '19:17', '20:30'),
-	('2025-07-29', '05:45', '07:07', '13:13', '16:35', '19:17', '20:30'),
-	('2025-07-30', '05:45', '07:07', '13:13', '16:35', '19:17', '20:30'),
-	('2025-07-31', '05:45', '07:06', '13:13', '16:35', '19:17', '20:30'),
-	('2025-08-01', '05:45', '07:06', '13:13', '16:34', '19:17', '20:29'),
-	('2025-08-02', '05:46', '07:06', '13:13', '16:34', '19:17', '20:29'),
-	('2025-08-03', '05:46', '07:06', '13:13', '16:34', '19:17', '20:29'),
-	('2025-08-04', '05:46', '07:06', '13:13', '16:34', '19:17', '20:29'),
-	('2025-08-05', '05:46', '07:06', '13:12', '16:33', '19:16', '20:29'),
-	('2025-08-06', '05:46', '07:06', '13:12', '16:33', '19:16', '20:28'),
-	('2025-08-07', '05:46', '07:06', '13:12', '16:33', '19:16', '20:28'),
-	('2025-08-08', '05:46', '07:06', '13:12', '16:32', '19:16', '20:28'),
-	('2025-08-09', '05:46', '07:06', '13:12', '16:32', '19:16', '20:27'),
-	('2025-08-10', '05:46', '07:06', '13:12', '16:32', '19:16', '20:27'),
-	('2025-08-11', '05:46', '07:06', '13:12', '16:31', '19:15', '20:27'),
-	('2025-08-12', '05:46', '07:06', '13:12', '16:31', '19:15', '20:27'),
-	('2025-08-13', '05:46', '07:05', '13:11', '16:30', '19:15', '20:26'),
-	('2025-08-14', '05:46', '07:05', '13:11', '16:30', '19:15', '20:26'),
-	('2025-08-15', '05:46', '07:05', '13:11', '16:29', '19:15', '20:26'),
-	('2025-08-16', '05:46', '07:05', '13:11', '16:29', '19:14', '20:25'),
-	('2025-08-17', '05:46', '07:05', '13:11', '16:28', '19:14', '20:25'),
-	('2025-08-18', '05:46', '07:05', '13:10', '16:28', '19:14', '20:25'),
-	('2025-08-19', '05:46', '07:05', '13:10', '16:27', '19:14', '20:24'),
-	('2025-08-20', '05:46', '07:04', '13:10', '16:26', '19:13', '20:24'),
-	('2025-08-21', '05:45', '07:04', '13:10', '16:26', '19:13', '20:24'),
-	('2025-08-22', '05:45', '07:04', '13:09', '16:25', '19:13', '20:23'),
-	('2025-08-23', '05:45', '07:04', '13:09', '16:25', '19:13', '20:23'),
-	('2025-08-24', '05:45', '07:03', '13:09', '16:24', '19:12', '20:22'),
-	('2025-08-25', '05:45', '07:03', '13:09', '16:23', '19:12', '20:22'),
-	('2025-08-26', '05:45', '07:03', '13:08', '16:23', '19:12', '20:22'),
-	('2025-08-27', '05:45', '07:03', '13:08', '16:22', '19:11', '20:21'),
-	('2025-08-28', '05:45', '07:02', '13:08', '16:21', '19:11', '20:21'),
-	('2025-08-29', '05:44', '07:02', '13:08', '16:20', '19:11', '20:20'),
-	('2025-08-30', '05:44', '07:02', '13:07', '16:20', '19:10', '20:20'),
-	('2025-08-31', '05:44', '07:02', '13:07', '16:19', '19:10', '20:20'),
-	('2025-09-01', '05:44', '07:01', '13:07', '16:18', '19:10', '20:19'),
-	('2025-09-02', '05:44', '07:01', '13:06', '16:17', '19:09', '20:19'),
-	('2025-09-03', '05:43', '07:01', '13:06', '16:16', '19:09', '20:18'),
-	('2025-09-04', '05:43', '07:01', '13:06', '16:15', '19:09', '20:18'),
-	('2025-09-05', '05:43', '07:00', '13:05', '16:15', '19:08', '20:18'),
-	('2025-09-06', '05:43', '07:00', '13:05', '16:14', '19:08', '20:17'),
-	('2025-09-07', '05:42', '07:00', '13:05', '16:13', '19:08', '20:17'),
-	('2025-09-08', '05:42', '06:59', '13:04', '16:12', '19:07', '20:16'),
-	('2025-09-09', '05:42', '06:59', '13:04', '16:11', '19:07', '20:16'),
-	('2025-09-10', '05:42', '06:59', '13:04', '16:10', '19:06', '20:15'),
-	('2025-09-11', '05:41', '06:58', '13:03', '16:09', '19:06', '20:15'),
-	('2025-09-12', '05:41', '06:58', '13:03', '16:08', '19:06', '20:15'),
-	('2025-09-13', '05:41', '06:58', '13:03', '16:07', '19:05', '20:14'),
-	('2025-09-14', '05:41', '06:57', '13:02', '16:06', '19:05', '20:14'),
-	('2025-09-15', '05:40', '06:57', '13:02', '16:05', '19:04', '20:13'),
-	('2025-09-16', '05:40', '06:57', '13:02', '16:04', '19:04', '20:13'),
-	('2025-09-17', '05:40', '06:57', '13:01', '16:03', '19:04', '20:12'),
-	('2025-09-18', '05:39', '06:56', '13:01', '16:02', '19:03', '20:12'),
-	('2025-09-19', '05:39', '06:56', '13:00', '16:00', '19:03', '20:12'),
-	('2025-09-20', '05:39', '06:56', '13:00', '15:59', '19:02', '20:11'),
-	('2025-09-21', '05:39', '06:55', '13:00', '15:59', '19:02', '20:11'),
-	('2025-09-22', '05:38', '06:55', '12:59', '16:00', '19:02', '20:10'),
-	('2025-09-23', '05:38', '06:55', '12:59', '16:00', '19:01', '20:10'),
-	('2025-09-24', '05:38', '06:54', '12:59', '16:00', '19:01', '20:10'),
-	('2025-09-25', '05:37', '06:54', '12:58', '16:01', '19:01', '20:09'),
-	('2025-09-26', '05:37', '06:54', '12:58', '16:01', '19:00', '20:09'),
-	('2025-09-27', '05:37', '06:53', '12:58', '16:01', '19:00', '20:08'),
-	('2025-09-28', '05:36', '06:53', '12:57', '16:02', '18:59', '20:08'),
-	('2025-09-29', '05:36', '06:53', '12:57', '16:02', '18:59', '20:08'),
-	('2025-09-30', '05:36', '06:52', '12:57', '16:02', '18:59', '20:07'),
-	('2025-10-01', '05:35', '06:52', '12:56', '16:03', '18:58', '20:07'),
-	('2025-10-02', '05:35', '06:52', '12:56', '16:03', '18:58', '20:07'),
-	('2025-10-03', '05:35', '06:52', '12:56', '16:03', '18:58', '20:06'),
-	('2025-10-04', '05:34', '06:51', '12:55', '16:03', '18:57', '20:06'),
-	('2025-10-05', '05:34', '06:51', '12:55', '16:04', '18:57', '20:06'),
-	('2025-10-06', '05:34', '06:51', '12:55', '16:04', '18:57', '20:05'),
-	('2025-10-07', '05:33', '06:50', '12:54', '16:04', '18:56', '20:05'),
-	('2025-10-08', '05:33', '06:50', '12:54', '16:04', '18:56', '20:05'),
-	('2025-10-09', '05:33', '06:50', '12:54', '16:05', '18:56', '20:05'),
-	('2025-10-10', '05:33', '06:50', '12:54', '16:05', '18:55', '20:04'),
-	('2025-10-11', '05:32', '06:49', '12:53', '16:05', '18:55', '20:04'),
-	('2025-10-12', '05:32', '06:49', '12:53', '16:05', '18:55', '20:04'),
-	('2025-10-13', '05:32', '06:49', '12:53', '16:05', '18:54', '20:04'),
-	('2025-10-14', '05:31', '06:49', '12:53', '16:06', '18:54', '20:03'),
-	('2025-10-15', '05:31', '06:49', '12:52', '16:06', '18:54', '20:03'),
-	('2025-10-16', '05:31', '06:48', '12:52', '16:06', '18:54', '20:03'),
-	('2025-10-17', '05:31', '06:48', '12:52', '16:06', '18:53', '20:03'),
-	('2025-10-18', '05:30', '06:48', '12:52', '16:06', '18:53', '20:03'),
-	('2025-10-19', '05:30', '06:48', '12:51', '16:07', '18:53', '20:03'),
-	('2025-10-20', '05:30', '06:48', '12:51', '16:07', '18:53', '20:02'),
-	('2025-10-21', '05:30', '06:48', '12:51', '16:07', '18:52', '20:02'),
-	('2025-10-22', '05:29', '06:47', '12:51', '16:07', '18:52', '20:02'),
-	('2025-10-23', '05:29', '06:47', '12:51', '16:07', '18:52', '20:02'),
-	('2025-10-24', '05:29', '06:47', '12:51', '16:08', '18:52', '20:02'),
-	('2025-10-25', '05:29', '06:47', '12:50', '16:08', '18:52', '20:02'),
-	('2025-10-26', '05:29', '06:47', '12:50', '16:08', '18:52', '20:02'),
-	('2025-10-27', '05:28', '06:47', '12:50', '16:08', '18:51', '20:02'),
-	('2025-10-28', '05:28', '06:47', '12:50', '16:08', '18:51', '20:02'),
-	('2025-10-29', '05:28', '06:47', '12:50', '16:08', '18:51', '20:02'),
-	('2025-10-30', '05:28', '06:47', '12:50', '16:09', '18:51', '20:02'),
-	('2025-10-31', '05:28', '06:47', '12:50', '16:09', '18:51', '20:02'),
-	('2025-11-01', '05:28', '06:47', '12:50', '16:09', '18:51', '20:02'),
-	('2025-11-02', '05:27', '06:47', '12:50', '16:09', '18:51', '20:02'),
-	('2025-11-03', '05:27', '06:47', '12:50', '16:10', '18:51', '20:02'),
-	('2025-11-04', '05:27', '06:47', '12:50', '16:10', '18:51', '20:02'),
-	('2025-11-05', '05:27', '06:47', '12:50', '16:10', '18:51', '20:02'),
-	('2025-11-06', '05:27', '06:47', '12:50', '16:10', '18:51', '20:02'),
-	('2025-11-07', '05:27', '06:47', '12:50', '16:10', '18:51', '20:02'),
-	('2025-11-08', '05:27', '06:47', '12:50', '16:11', '18:51', '20:02'),
-	('2025-11-09', '05:27', '06:47', '12:50', '16:11', '18:51', '20:03'),
-	('2025-11-10', '05:27', '06:47', '12:50', '16:11', '18:51', '20:03'),
-	('2025-11-11', '05:27', '06:47', '12:50', '16:11', '18:51', '20:03'),
-	('2025-11-12', '05:27', '06:47', '12:50', '16:12', '18:51', '20:03'),
-	('2025-11-13', '05:27', '06:47', '12:50', '16:12', '18:51', '20:03'),
-	('2025-11-14', '05:27', '06:48', '12:51', '16:12', '18:51', '20:04'),
-	('2025-11-15', '05:27', '06:48', '12:51', '16:13', '18:51', '20:04'),
-	('2025-11-16', '05:27', '06:48', '12:51', '16:13', '18:52', '20:04'),
-	('2025-11-17', '05:27', '06:48', '12:51', '16:13', '18:52', '20:04'),
-	('2025-11-18', '05:27', '06:48', '12:51', '16:14', '18:52', '20:05'),
-	('2025-11-19', '05:27', '06:49', '12:51', '16:14', '18:52', '20:05'),
-	('2025-11-20', '05:27', '06:49', '12:52', '16:14', '18:52', '20:05'),
-	('2025-11-21', '05:28', '06:49', '12:52', '16:15', '18:53', '20:06'),
-	('2025-11-22', '05:28', '06:49', '12:52', '16:15', '18:53', '20:06'),
-	('2025-11-23', '05:28', '06:50', '12:52', '16:15', '18:53', '20:06'),
-	('2025-11-24', '05:28', '06:50', '12:53', '16:16', '18:53', '20:07'),
-	('2025-11-25', '05:28', '06:50', '12:53', '16:16', '18:54', '20:07'),
-	('2025-11-26', '05:28', '06:51', '12:53', '16:16', '18:54', '20:07'),
-	('2025-11-27', '05:29', '06:51', '12:54', '16:17', '18:54', '20:08'),
-	('2025-11-28', '05:29', '06:51', '12:54', '16:17', '18:54', '20:08'),
-	('2025-11-29', '05:29', '06:52', '12:54', '16:18', '18:55', '20:09'),
-	('2025-11-30', '05:29', '06:52', '12:55', '16:18', '18:55', '20:09'),
-	('2025-12-01', '05:30', '06:52', '12:55', '16:18', '18:55', '20:09'),
-	('2025-12-02', '05:30', '06:53', '12:55', '16:19', '18:56', '20:10'),
-	('2025-12-03', '05:30', '06:53', '12:56', '16:19', '18:56', '20:10'),
-	('2025-12-04', '05:31', '06:53', '12:56', '16:20', '18:57', '20:11'),
-	('2025-12-05', '05:31', '06:54', '12:56', '16:20', '18:57', '20:11'),
-	('2025-12-06', '05:31', '06:54', '12:57', '16:21', '18:57', '20:12'),
-	('2025-12-07', '05:32', '06:55', '12:57', '16:21', '18:58', '20:12'),
-	('2025-12-08', '05:32', '06:55', '12:58', '16:21', '18:58', '20:13'),
-	('2025-12-09', '05:32', '06:56', '12:58', '16:22', '18:59', '20:13'),
-	('2025-12-10', '05:33', '06:56', '12:59', '16:22', '18:59', '20:14'),
-	('2025-12-11', '05:33', '06:57', '12:59', '16:23', '18:59', '20:14'),
-	('2025-12-12', '05:33', '06:57', '13:00', '16:23', '19:00', '20:15'),
-	('2025-12-13', '05:34', '06:57', '13:00', '16:24', '19:00', '20:15'),
-	('2025-12-14', '05:34', '06:58', '13:00', '16:24', '19:01', '20:16'),
-	('2025-12-15', '05:35', '06:58', '13:01', '16:25', '19:01', '20:16'),
-	('2025-12-16', '05:35', '06:59', '13:01', '16:25', '19:02', '20:17'),
-	('2025-12-17', '05:36', '06:59', '13:02', '16:26', '19:02', '20:17'),
-	('2025-12-18', '05:36', '07:00', '13:02', '16:26', '19:03', '20:18'),
-	('2025-12-19', '05:37', '07:00', '13:03', '16:27', '19:03', '20:18'),
-	('2025-12-20', '05:37', '07:01', '13:03', '16:27', '19:04', '20:19'),
-	('2025-12-21', '05:38', '07:01', '13:04', '16:28', '19:04', '20:19'),
-	('2025-12-22', '05:38', '07:02', '13:04', '16:28', '19:05', '20:20'),
-	('2025-12-23', '05:39', '07:02', '13:05', '16:29', '19:05', '20:20'),
-	('2025-12-24', '05:39', '07:03', '13:05', '16:29', '19:06', '20:21'),
-	('2025-12-25', '05:40', '07:03', '13:06', '16:30', '19:06', '20:21'),
-	('2025-12-26', '05:40', '07:04', '13:06', '16:30', '19:07', '20:22'),
-	('2025-12-27', '05:41', '07:04', '13:07', '16:31', '19:07', '20:22'),
-	('2025-12-28', '05:41', '07:05', '13:07', '16:31', '19:08', '20:23'),
-	('2025-12-29', '05:42', '07:05', '13:08', '16:32', '19:08', '20:23'),
-	('2025-12-30', '05:42', '07:06', '13:08', '16:32', '19:09', '20:24'),
-	('2025-12-31', '05:43', '07:06', '13:09', '16:33', '19:09', '20:24');
\ No newline at end of file
+	('SGP', '2025-01-01', '05:43', '07:07', '13:09', '16:33', '19:10', '20:25'),
+	('SGP', '2025-01-02', '05:44', '07:07', '13:10', '16:34', '19:10', '20:25'),
+	('SGP', '2025-01-03', '05:44', '07:08', '13:10', '16:34', '19:11', '20:25'),
+	('SGP', '2025-01-04', '05:45', '07:08', '13:11', '16:35', '19:11', '20:26'),
+	('SGP', '2025-01-05', '05:45', '07:09', '13:11', '16:35', '19:12', '20:26'),
+	('SGP', '2025-01-06', '05:46', '07:09', '13:12', '16:35', '19:12', '20:27'),
+	('SGP', '2025-01-07', '05:46', '07:10', '13:12', '16:36', '19:13', '20:27'),
+	('SGP', '2025-01-08', '05:47', '07:10', '13:13', '16:36', '19:13', '20:27'),
+	('SGP', '2025-01-09', '05:47', '07:10', '13:13', '16:37', '19:13', '20:28'),
+	('SGP', '2025-01-10', '05:48', '07:11', '13:13', '16:37', '19:14', '20:28'),
+	('SGP', '2025-01-11', '05:48', '07:11', '13:14', '16:37', '19:14', '20:28'),
+	('SGP', '2025-01-12', '05:49', '07:12', '13:14', '16:38', '19:15', '20:29'),
+	('SGP', '2025-01-13', '05:49', '07:12', '13:15', '16:38', '19:15', '20:29'),
+	('SGP', '2025-01-14', '05:50', '07:12', '13:15', '16:38', '19:15', '20:29'),
+	('SGP', '2025-01-15', '05:50', '07:13', '13:15', '16:39', '19:16', '20:30'),
+	('SGP', '2025-01-16', '05:51', '07:13', '13:16', '16:39', '19:16', '20:30'),
+	('SGP', '2025-01-17', '05:51', '07:13', '13:16', '16:39', '19:17', '20:30'),
+	('SGP', '2025-01-18', '05:52', '07:14', '13:16', '16:39', '19:17', '20:30'),
+	('SGP', '2025-01-19', '05:52', '07:14', '13:17', '16:40', '19:17', '20:31'),
+	('SGP', '2025-01-20', '05:52', '07:14', '13:17', '16:40', '19:18', '20:31'),
+	('SGP', '2025-01-21', '05:53', '07:15', '13:17', '16:40', '19:18', '20:31'),
+	('SGP', '2025-01-22', '05:53', '07:15', '13:18', '16:40', '19:18', '20:31'),
+	('SGP', '2025-01-23', '05:54', '07:15', '13:18', '16:40', '19:19', '20:32'),
+	('SGP', '2025-01-24', '05:54', '07:15', '13:18', '16:41', '19:19', '20:32'),
+	('SGP', '2025-01-25', '05:54', '07:16', '13:18', '16:41', '19:19', '20:32'),
+	('SGP', '2025-01-26', '05:55', '07:16', '13:19', '16:41', '19:19', '20:32'),
+	('SGP', '2025-01-27', '05:55', '07:16', '13:19', '16:41', '19:20', '20:32'),
+	('SGP', '2025-01-28', '05:55', '07:16', '13:19', '16:41', '19:20', '20:32'),
+	('SGP', '2025-01-29', '05:56', '07:16', '13:19', '16:41', '19:20', '20:32'),
+	('SGP', '2025-01-30', '05:56', '07:16', '13:19', '16:41', '19:20', '20:32'),
+	('SGP', '2025-01-31', '05:56', '07:17', '13:20', '16:41', '19:20', '20:32'),
+	('SGP', '2025-02-01', '05:56', '07:17', '13:20', '16:41', '19:21', '20:33'),
+	('SGP', '2025-02-02', '05:57', '07:17', '13:20', '16:41', '19:21', '20:33'),
+	('SGP', '2025-02-03', '05:57', '07:17', '13:20', '16:41', '19:21', '20:33'),
+	('SGP', '2025-02-04', '05:57', '07:17', '13:20', '16:41', '19:21', '20:33'),
+	('SGP', '2025-02-05', '05:57', '07:17', '13:20', '16:41', '19:21', '20:33'),
+	('SGP', '2025-02-06', '05:57', '07:17', '13:20', '16:41', '19:21', '20:33'),
+	('SGP', '2025-02-07', '05:58', '07:17', '13:20', '16:41', '19:21', '20:33'),
+	('SGP', '2025-02-08', '05:58', '07:17', '13:20', '16:40', '19:21', '20:33'),
+	('SGP', '2025-02-09', '05:58', '07:17', '13:20', '16:40', '19:21', '20:33'),
+	('SGP', '2025-02-10', '05:58', '07:17', '13:20', '16:40', '19:22', '20:33'),
+	('SGP', '2025-02-11', '05:58', '07:17', '13:20', '16:40', '19:22', '20:32'),
+	('SGP', '2025-02-12', '05:58', '07:17', '13:21', '16:40', '19:22', '20:32'),
+	('SGP', '2025-02-13', '05:58', '07:17', '13:20', '16:39', '19:22', '20:32'),
+	('SGP', '2025-02-14', '05:58', '07:17', '13:20', '16:39', '19:22', '20:32'),
+	('SGP', '2025-02-15', '05:58', '07:17', '13:20', '16:39', '19:22', '20:32'),
+	('SGP', '2025-02-16', '05:58', '07:17', '13:20', '16:38', '19:22', '20:32'),
+	('SGP', '2025-02-17', '05:58', '07:17', '13:20', '16:38', '19:22', '20:32'),
+	('SGP', '2025-02-18', '05:58', '07:17', '13:20', '16:38', '19:22', '20:32'),
+	('SGP', '2025-02-19', '05:58', '07:17', '13:20', '16:37', '19:21', '20:32'),
+	('SGP', '2025-02-20', '05:58', '07:17', '13:20', '16:37', '19:21', '20:31'),
+	('SGP', '2025-02-21', '05:58', '07:17', '13:20', '16:36', '19:21', '20:31'),
+	('SGP', '2025-02-22', '05:58', '07:16', '13:20', '16:36', '19:21', '20:31'),
+	('SGP', '2025-02-23', '05:58', '07:16', '13:20', '16:35', '19:21', '20:31'),
+	('SGP', '2025-02-24', '05:58', '07:16', '13:20', '16:35', '19:21', '20:31'),
+	('SGP', '2025-02-25', '05:58', '07:16', '13:19', '16:34', '19:21', '20:31'),
+	('SGP', '2025-02-26', '05:58', '07:16', '13:19', '16:34', '19:21', '20:30'),
+	('SGP', '2025-02-27', '05:58', '07:15', '13:19', '16:33', '19:21', '20:30'),
+	('SGP', '2025-02-28', '05:58', '07:15', '13:19', '16:33', '19:21', '20:30'),
+	('SGP', '2025-03-01', '05:58', '07:15', '13:19', '16:32', '19:21', '20:30'),
+	('SGP', '2025-03-02', '05:58', '07:15', '13:19', '16:31', '19:21', '20:30'),
+	('SGP', '2025-03-03', '05:57', '07:15', '13:18', '16:31', '19:21', '20:29'),
+	('SGP', '2025-03-04', '05:57', '07:14', '13:18', '16:30', '19:21', '20:29'),
+	('SGP', '2025-03-05', '05:57', '07:14', '13:18', '16:29', '19:21', '20:29'),
+	('SGP', '2025-03-06', '05:57', '07:14', '13:18', '16:28', '19:21', '20:29'),
+	('SGP', '2025-03-07', '05:57', '07:14', '13:18', '16:28', '19:20', '20:28'),
+	('SGP', '2025-03-08', '05:56', '07:13', '13:17', '16:27', '19:20', '20:28'),
+	('SGP', '2025-03-09', '05:56', '07:13', '13:17', '16:26', '19:20', '20:28'),
+	('SGP', '2025-03-10', '05:56', '07:13', '13:17', '16:25', '19:20', '20:28'),
+	('SGP', '2025-03-11', '05:56', '07:13', '13:17', '16:25', '19:19', '20:27'),
+	('SGP', '2025-03-12', '05:55', '07:12', '13:16', '16:24', '19:19', '20:27'),
+	('SGP', '2025-03-13', '05:55', '07:12', '13:16', '16:23', '19:19', '20:27'),
+	('SGP', '2025-03-14', '05:55', '07:12', '13:16', '16:22', '19:19', '20:27'),
+	('SGP', '2025-03-15', '05:55', '07:11', '13:16', '16:21', '19:19', '20:26'),
+	('SGP', '2025-03-16', '05:54', '07:11', '13:15', '16:20', '19:18', '20:26'),
+	('SGP', '2025-03-17', '05:54', '07:11', '13:15', '16:19', '19:18', '20:26'),
+	('SGP', '2025-03-18', '05:54', '07:10', '13:15', '16:18', '19:18', '20:26'),
+	('SGP', '2025-03-19', '05:53', '07:10', '13:14', '16:17', '19:18', '20:25'),
+	('SGP', '2025-03-20', '05:53', '07:10', '13:14', '16:16', '19:17', '20:25'),
+	('SGP', '2025-03-21', '05:53', '07:09', '13:14', '16:15', '19:17', '20:25'),
+	('SGP', '2025-03-22', '05:52', '07:09', '13:13', '16:14', '19:17', '20:24'),
+	('SGP', '2025-03-23', '05:52', '07:09', '13:13', '16:13', '19:17', '20:24'),
+	('SGP', '2025-03-24', '05:52', '07:08', '13:13', '16:12', '19:16', '20:24'),
+	('SGP', '2025-03-25', '05:51', '07:08', '13:13', '16:12', '19:16', '20:24'),
+	('SGP', '2025-03-26', '05:51', '07:08', '13:12', '16:13', '19:16', '20:23'),
+	('SGP', '2025-03-27', '05:51', '07:07', '13:12', '16:13', '19:15', '20:23'),
+	('SGP', '2025-03-28', '05:50', '07:07', '13:12', '16:13', '19:15', '20:23'),
+	('SGP', '2025-03-29', '05:50', '07:07', '13:11', '16:14', '19:15', '20:23'),
+	('SGP', '2025-03-30', '05:50', '07:06', '13:11', '16:14', '19:15', '20:22'),
+	('SGP', '2025-03-31', '05:49', '07:06', '13:11', '16:15', '19:13', '20:22'),
+	('SGP', '2025-04-01', '05:49', '07:06', '13:10', '16:15', '19:13', '20:22'),
+	('SGP', '2025-04-02', '05:48', '07:05', '13:10', '16:15', '19:13', '20:22'),
+	('SGP', '2025-04-03', '05:48', '07:05', '13:10', '16:16', '19:13', '20:22'),
+	('SGP', '2025-04-04', '05:48', '07:05', '13:10', '16:16', '19:12', '20:21'),
+	('SGP', '2025-04-05', '05:47', '07:04', '13:09', '16:17', '19:12', '20:21'),
+	('SGP', '2025-04-06', '05:47', '07:04', '13:09', '16:17', '19:12', '20:21'),
+	('SGP', '2025-04-07', '05:46', '07:04', '13:09', '16:17', '19:12', '20:21'),
+	('SGP', '2025-04-08', '05:46', '07:03', '13:08', '16:17', '19:11', '20:21'),
+	('SGP', '2025-04-09', '05:46', '07:03', '13:08', '16:18', '19:11', '20:20'),
+	('SGP', '2025-04-10', '05:45', '07:03', '13:08', '16:18', '19:11', '20:20'),
+	('SGP', '2025-04-11', '05:45', '07:02', '13:08', '16:18', '19:11', '20:20'),
+	('SGP', '2025-04-12', '05:45', '07:02', '13:07', '16:19', '19:10', '20:20'),
+	('SGP', '2025-04-13', '05:44', '07:02', '13:07', '16:19', '19:10', '20:20'),
+	('SGP', '2025-04-14', '05:44', '07:02', '13:07', '16:19', '19:10', '20:20'),
+	('SGP', '2025-04-15', '05:43', '07:01', '13:07', '16:19', '19:10', '20:19'),
+	('SGP', '2025-04-16', '05:43', '07:01', '13:06', '16:19', '19:10', '20:19'),
+	('SGP', '2025-04-17', '05:43', '07:01', '13:06', '16:20', '19:09', '20:19'),
+	('SGP', '2025-04-18', '05:42', '07:00', '13:06', '16:20', '19:09', '20:19'),
+	('SGP', '2025-04-19', '05:42', '07:00', '13:06', '16:20', '19:09', '20:19'),
+	('SGP', '2025-04-20', '05:42', '07:00', '13:05', '16:20', '19:09', '20:19'),
+	('SGP', '2025-04-21', '05:41', '07:00', '13:05', '16:21', '19:09', '20:19'),
+	('SGP', '2025-04-22', '05:41', '06:59', '13:05', '16:21', '19:08', '20:19'),
+	('SGP', '2025-04-23', '05:41', '06:59', '13:05', '16:21', '19:08', '20:19'),
+	('SGP', '2025-04-24', '05:40', '06:59', '13:05', '16:21', '19:08', '20:19'),
+	('SGP', '2025-04-25', '05:40', '06:59', '13:04', '16:21', '19:08', '20:19'),
+	('SGP', '2025-04-26', '05:40', '06:59', '13:04', '16:21', '19:08', '20:19'),
+	('SGP', '2025-04-27', '05:39', '06:58', '13:04', '16:22', '19:08', '20:19'),
+	('SGP', '2025-04-28', '05:39', '06:58', '13:04', '16:22', '19:08', '20:18'),
+	('SGP', '2025-04-29', '05:39', '06:58', '13:04', '16:22', '19:07', '20:18'),
+	('SGP', '2025-04-30', '05:38', '06:58', '13:04', '16:22', '19:07', '20:18'),
+	('SGP', '2025-05-01', '05:38', '06:58', '13:04', '16:22', '19:07', '20:18'),
+	('SGP', '2025-05-02', '05:38', '06:58', '13:03', '16:23', '19:07', '20:19'),
+	('SGP', '2025-05-03', '05:38', '06:57', '13:03', '16:23', '19:07', '20:19'),
+	('SGP', '2025-05-04', '05:37', '06:57', '13:03', '16:23', '19:07', '20:19'),
+	('SGP', '2025-05-05', '05:37', '06:57', '13:03', '16:23', '19:07', '20:19'),
+	('SGP', '2025-05-06', '05:37', '06:57', '13:03', '16:23', '19:07', '20:19'),
+	('SGP', '2025-05-07', '05:37', '06:57', '13:03', '16:23', '19:07', '20:19'),
+	('SGP', '2025-05-08', '05:36', '06:57', '13:03', '16:24', '19:07', '20:19'),
+	('SGP', '2025-05-09', '05:36', '06:57', '13:03', '16:24', '19:07', '20:19'),
+	('SGP', '2025-05-10', '05:36', '06:57', '13:03', '16:24', '19:07', '20:19'),
+	('SGP', '2025-05-11', '05:36', '06:57', '13:03', '16:24', '19:07', '20:19'),
+	('SGP', '2025-05-12', '05:36', '06:56', '13:03', '16:24', '19:07', '20:19'),
+	('SGP', '2025-05-13', '05:35', '06:56', '13:03', '16:24', '19:07', '20:19'),
+	('SGP', '2025-05-14', '05:35', '06:56', '13:03', '16:25', '19:07', '20:19'),
+	('SGP', '2025-05-15', '05:35', '06:56', '13:03', '16:25', '19:07', '20:20'),
+	('SGP', '2025-05-16', '05:35', '06:56', '13:03', '16:25', '19:07', '20:20'),
+	('SGP', '2025-05-17', '05:35', '06:56', '13:03', '16:25', '19:07', '20:20'),
+	('SGP', '2025-05-18', '05:35', '06:56', '13:03', '16:25', '19:07', '20:20'),
+	('SGP', '2025-05-19', '05:35', '06:56', '13:03', '16:26', '19:07', '20:20'),
+	('SGP', '2025-05-20', '05:34', '06:56', '13:03', '16:26', '19:07', '20:20'),
+	('SGP', '2025-05-21', '05:34', '06:56', '13:03', '16:26', '19:07', '20:21'),
+	('SGP', '2025-05-22', '05:34', '06:56', '13:03', '16:26', '19:07', '20:21'),
+	('SGP', '2025-05-23', '05:34', '06:56', '13:03', '16:26', '19:07', '20:21'),
+	('SGP', '2025-05-24', '05:34', '06:57', '13:03', '16:27', '19:07', '20:21'),
+	('SGP', '2025-05-25', '05:34', '06:57', '13:03', '16:27', '19:08', '20:21'),
+	('SGP', '2025-05-26', '05:34', '06:57', '13:03', '16:27', '19:08', '20:22'),
+	('SGP', '2025-05-27', '05:34', '06:57', '13:03', '16:27', '19:08', '20:22'),
+	('SGP', '2025-05-28', '05:34', '06:57', '13:03', '16:27', '19:08', '20:22'),
+	('SGP', '2025-05-29', '05:34', '06:57', '13:04', '16:28', '19:08', '20:22'),
+	('SGP', '2025-05-30', '05:34', '06:57', '13:04', '16:28', '19:08', '20:23'),
+	('SGP', '2025-05-31', '05:34', '06:57', '13:04', '16:28', '19:08', '20:23'),
+	('SGP', '2025-06-01', '05:34', '06:57', '13:04', '16:28', '19:09', '20:23'),
+	('SGP', '2025-06-02', '05:34', '06:57', '13:04', '16:29', '19:09', '20:23'),
+	('SGP', '2025-06-03', '05:34', '06:58', '13:04', '16:29', '19:09', '20:23'),
+	('SGP', '2025-06-04', '05:34', '06:58', '13:04', '16:29', '19:09', '20:24'),
+	('SGP', '2025-06-05', '05:34', '06:58', '13:05', '16:29', '19:09', '20:24'),
+	('SGP', '2025-06-06', '05:35', '06:58', '13:05', '16:29', '19:09', '20:24'),
+	('SGP', '2025-06-07', '05:35', '06:58', '13:05', '16:30', '19:10', '20:24'),
+	('SGP', '2025-06-08', '05:35', '06:58', '13:05', '16:30', '19:10', '20:25'),
+	('SGP', '2025-06-09', '05:35', '06:59', '13:05', '16:30', '19:10', '20:25'),
+	('SGP', '2025-06-10', '05:35', '06:59', '13:06', '16:30', '19:10', '20:25'),
+	('SGP', '2025-06-11', '05:35', '06:59', '13:06', '16:31', '19:10', '20:26'),
+	('SGP', '2025-06-12', '05:35', '06:59', '13:06', '16:31', '19:11', '20:26'),
+	('SGP', '2025-06-13', '05:35', '06:59', '13:06', '16:31', '19:11', '20:26'),
+	('SGP', '2025-06-14', '05:36', '07:00', '13:06', '16:31', '19:11', '20:26'),
+	('SGP', '2025-06-15', '05:36', '07:00', '13:07', '16:32', '19:11', '20:27'),
+	('SGP', '2025-06-16', '05:36', '07:00', '13:07', '16:32', '19:12', '20:27'),
+	('SGP', '2025-06-17', '05:36', '07:00', '13:07', '16:32', '19:12', '20:27'),
+	('SGP', '2025-06-18', '05:36', '07:00', '13:07', '16:32', '19:12', '20:27'),
+	('SGP', '2025-06-19', '05:36', '07:01', '13:07', '16:33', '19:12', '20:27'),
+	('SGP', '2025-06-20', '05:37', '07:01', '13:08', '16:33', '19:12', '20:28'),
+	('SGP', '2025-06-21', '05:37', '07:01', '13:08', '16:33', '19:13', '20:28'),
+	('SGP', '2025-06-22', '05:37', '07:01', '13:08', '16:33', '19:13', '20:28'),
+	('SGP', '2025-06-23', '05:37', '07:01', '13:08', '16:33', '19:13', '20:28'),
+	('SGP', '2025-06-24', '05:38', '07:02', '13:09', '16:34', '19:13', '20:29'),
+	('SGP', '2025-06-25', '05:38', '07:02', '13:09', '16:34', '19:14', '20:29'),
+	('SGP', '2025-06-26', '05:38', '07:02', '13:09', '16:34', '19:14', '20:29'),
+	('SGP', '2025-06-27', '05:38', '07:02', '13:09', '16:34', '19:14', '20:29'),
+	('SGP', '2025-06-28', '05:38', '07:03', '13:09', '16:34', '19:14', '20:29'),
+	('SGP', '2025-06-29', '05:39', '07:03', '13:10', '16:35', '19:14', '20:29'),
+	('SGP', '2025-06-30', '05:39', '07:03', '13:10', '16:35', '19:15', '20:30'),
+	('SGP', '2025-07-01', '05:39', '07:03', '13:10', '16:35', '19:15', '20:30'),
+	('SGP', '2025-07-02', '05:39', '07:03', '13:10', '16:35', '19:15', '20:30'),
+	('SGP', '2025-07-03', '05:40', '07:04', '13:10', '16:35', '19:15', '20:30'),
+	('SGP', '2025-07-04', '05:40', '07:04', '13:11', '16:35', '19:15', '20:30'),
+	('SGP', '2025-07-05', '05:40', '07:04', '13:11', '16:36', '19:15', '20:30'),
+	('SGP', '2025-07-06', '05:40', '07:04', '13:11', '16:36', '19:16', '20:30'),
+	('SGP', '2025-07-07', '05:41', '07:04', '13:11', '16:36', '19:16', '20:31'),
+	('SGP', '2025-07-08', '05:41', '07:04', '13:11', '16:36', '19:16', '20:31'),
+	('SGP', '2025-07-09', '05:41', '07:05', '13:11', '16:36', '19:16', '20:31'),
+	('SGP', '2025-07-10', '05:41', '07:05', '13:12', '16:36', '19:16', '20:31'),
+	('SGP', '2025-07-11', '05:42', '07:05', '13:12', '16:36', '19:16', '20:31'),
+	('SGP', '2025-07-12', '05:42', '07:05', '13:12', '16:36', '19:16', '20:31'),
+	('SGP', '2025-07-13', '05:42', '07:05', '13:12', '16:36', '19:17', '20:31'),
+	('SGP', '2025-07-14', '05:42', '07:05', '13:12', '16:36', '19:17', '20:31'),
+	('SGP', '2025-07-15', '05:43', '07:06', '13:12', '16:36', '19:17', '20:31'),
+	('SGP', '2025-07-16', '05:43', '07:06', '13:12', '16:36', '19:17', '20:31'),
+	('SGP', '2025-07-17', '05:43', '07:06', '13:12', '16:36', '19:17', '20:31'),
+	('SGP', '2025-07-18', '05:43', '07:06', '13:12', '16:36', '19:17', '20:31'),
+	('SGP', '2025-07-19', '05:43', '07:06', '13:13', '16:36', '19:17', '20:31'),
+	('SGP', '2025-07-20', '05:44', '07:06', '13:13', '16:36', '19:17', '20:31'),
+	('SGP', '2025-07-21', '05:44', '07:06', '13:13', '16:36', '19:17', '20:31'),
+	('SGP', '2025-07-22', '05:44', '07:06', '13:13', '16:36', '19:17', '20:31'),
+	('SGP', '2025-07-23', '05:44', '07:06', '13:13', '16:36', '19:17', '20:31'),
+	('SGP', '2025-07-24', '05:44', '07:06', '13:13', '16:36', '19:17', '20:31'),
+	('SGP', '2025-07-25', '05:45', '07:06', '13:13', '16:36', '19:17', '20:30'),
+	('SGP', '2025-07-26', '05:45', '07:06', '13:13', '16:36', '19:17', '20:30'),
+	('SGP', '2025-07-27', '05:45', '07:06', '13:13', '16:35', '19:17', '20:30'),
+	('SGP', '2025-07-28', '05:45', '07:06', '13:13', '16:35', '19:17', '20:30'),
+	('SGP', '2025-07-29', '05:45', '07:07', '13:13', '16:35', '19:17', '20:30'),
+	('SGP', '2025-07-30', '05:45', '07:07', '13:13', '16:35', '19:17', '20:30'),
+	('SGP', '2025-07-31', '05:45', '07:06', '13:13', '16:35', '19:17', '20:30'),
+	('SGP', '2025-08-01', '05:45', '07:06', '13:13', '16:34', '19:17', '20:29'),
+	('SGP', '2025-08-02', '05:46', '07:06', '13:13', '16:34', '19:17', '20:29'),
+	('SGP', '2025-08-03', '05:46', '07:06', '13:13', '16:34', '19:17', '20:29'),
+	('SGP', '2025-08-04', '05:46', '07:06', '13:13', '16:34', '19:17', '20:29'),
+	('SGP', '2025-08-05', '05:46', '07:06', '13:12', '16:33', '19:16', '20:29'),
+	('SGP', '2025-08-06', '05:46', '07:06', '13:12', '16:33', '19:16', '20:28'),
+	('SGP', '2025-08-07', '05:46', '07:06', '13:12', '16:33', '19:16', '20:28'),
+	('SGP', '2025-08-08', '05:46', '07:06', '13:12', '16:32', '19:16', '20:28'),
+	('SGP', '2025-08-09', '05:46', '07:06', '13:12', '16:32', '19:16', '20:27'),
+	('SGP', '2025-08-10', '05:46', '07:06', '13:12', '16:32', '19:16', '20:27'),
+	('SGP', '2025-08-11', '05:46', '07:06', '13:12', '16:31', '19:15', '20:27'),
+	('SGP', '2025-08-12', '05:46', '07:06', '13:12', '16:31', '19:15', '20:27'),
+	('SGP', '2025-08-13', '05:46', '07:05', '13:11', '16:30', '19:15', '20:26'),
+	('SGP', '2025-08-14', '05:46', '07:05', '13:11', '16:30', '19:15', '20:26'),
+	('SGP', '2025-08-15', '05:46', '07:05', '13:11', '16:29', '19:15', '20:26'),
+	('SGP', '2025-08-16', '05:46', '07:05', '13:11', '16:29', '19:14', '20:25'),
+	('SGP', '2025-08-17', '05:46', '07:05', '13:11', '16:28', '19:14', '20:25'),
+	('SGP', '2025-08-18', '05:46', '07:05', '13:10', '16:28', '19:14', '20:25'),
+	('SGP', '2025-08-19', '05:46', '07:05', '13:10', '16:27', '19:14', '20:24'),
+	('SGP', '2025-08-20', '05:46', '07:04', '13:10', '16:26', '19:13', '20:24'),
+	('SGP', '2025-08-21', '05:45', '07:04', '13:10', '16:26', '19:13', '20:24'),
+	('SGP', '2025-08-22', '05:45', '07:04', '13:09', '16:25', '19:13', '20:23'),
+	('SGP', '2025-08-23', '05:45', '07:04', '13:09', '16:25', '19:13', '20:23'),
+	('SGP', '2025-08-24', '05:45', '07:03', '13:09', '16:24', '19:12', '20:22'),
+	('SGP', '2025-08-25', '05:45', '07:03', '13:09', '16:23', '19:12', '20:22'),
+	('SGP', '2025-08-26', '05:45', '07:03', '13:08', '16:23', '19:12', '20:22'),
+	('SGP', '2025-08-27', '05:45', '07:03', '13:08', '16:22', '19:11', '20:21'),
+	('SGP', '2025-08-28', '05:45', '07:02', '13:08', '16:21', '19:11', '20:21'),
+	('SGP', '2025-08-29', '05:44', '07:02', '13:08', '16:20', '19:11', '20:20'),
+	('SGP', '2025-08-30', '05:44', '07:02', '13:07', '16:20', '19:10', '20:20'),
+	('SGP', '2025-08-31', '05:44', '07:02', '13:07', '16:19', '19:10', '20:20'),
+	('SGP', '2025-09-01', '05:44', '07:01', '13:07', '16:18', '19:10', '20:19'),
+	('SGP', '2025-09-02', '05:44', '07:01', '13:06', '16:17', '19:09', '20:19'),
+	('SGP', '2025-09-03', '05:43', '07:01', '13:06', '16:16', '19:09', '20:18'),
+	('SGP', '2025-09-04', '05:43', '07:01', '13:06', '16:15', '19:09', '20:18'),
+	('SGP', '2025-09-05', '05:43', '07:00', '13:05', '16:15', '19:08', '20:18'),
+	('SGP', '2025-09-06', '05:43', '07:00', '13:05', '16:14', '19:08', '20:17'),
+	('SGP', '2025-09-07', '05:42', '07:00', '13:05', '16:13', '19:08', '20:17'),
+	('SGP', '2025-09-08', '05:42', '06:59', '13:04', '16:12', '19:07', '20:16'),
+	('SGP', '2025-09-09', '05:42', '06:59', '13:04', '16:11', '19:07', '20:16'),
+	('SGP', '2025-09-10', '05:42', '06:59', '13:04', '16:10', '19:06', '20:15'),
+	('SGP', '2025-09-11', '05:41', '06:58', '13:03', '16:09', '19:06', '20:15'),
+	('SGP', '2025-09-12', '05:41', '06:58', '13:03', '16:08', '19:06', '20:15'),
+	('SGP', '2025-09-13', '05:41', '06:58', '13:03', '16:07', '19:05', '20:14'),
+	('SGP', '2025-09-14', '05:41', '06:57', '13:02', '16:06', '19:05', '20:14'),
+	('SGP', '2025-09-15', '05:40', '06:57', '13:02', '16:05', '19:04', '20:13'),
+	('SGP', '2025-09-16', '05:40', '06:57', '13:02', '16:04', '19:04', '20:13'),
+	('SGP', '2025-09-17', '05:40', '06:57', '13:01', '16:03', '19:04', '20:12'),
+	('SGP', '2025-09-18', '05:39', '06:56', '13:01', '16:02', '19:03', '20:12'),
+	('SGP', '2025-09-19', '05:39', '06:56', '13:00', '16:00', '19:03', '20:12'),
+	('SGP', '2025-09-20', '05:39', '06:56', '13:00', '15:59', '19:02', '20:11'),
+	('SGP', '2025-09-21', '05:39', '06:55', '13:00', '15:59', '19:02', '20:11'),
+	('SGP', '2025-09-22', '05:38', '06:55', '12:59', '16:00', '19:02', '20:10'),
+	('SGP', '2025-09-23', '05:38', '06:55', '12:59', '16:00', '19:01', '20:10'),
+	('SGP', '2025-09-24', '05:38', '06:54', '12:59', '16:00', '19:01', '20:10'),
+	('SGP', '2025-09-25', '05:37', '06:54', '12:58', '16:01', '19:01', '20:09'),
+	('SGP', '2025-09-26', '05:37', '06:54', '12:58', '16:01', '19:00', '20:09'),
+	('SGP', '2025-09-27', '05:37', '06:53', '12:58', '16:01', '19:00', '20:08'),
+	('SGP', '2025-09-28', '05:36', '06:53', '12:57', '16:02', '18:59', '20:08'),
+	('SGP', '2025-09-29', '05:36', '06:53', '12:57', '16:02', '18:59', '20:08'),
+	('SGP', '2025-09-30', '05:36', '06:52', '12:57', '16:02', '18:59', '20:07'),
+	('SGP', '2025-10-01', '05:35', '06:52', '12:56', '16:03', '18:58', '20:07'),
+	('SGP', '2025-10-02', '05:35', '06:52', '12:56', '16:03', '18:58', '20:07'),
+	('SGP', '2025-10-03', '05:35', '06:52', '12:56', '16:03', '18:58', '20:06'),
+	('SGP', '2025-10-04', '05:34', '06:51', '12:55', '16:03', '18:57', '20:06'),
+	('SGP', '2025-10-05', '05:34', '06:51', '12:55', '16:04', '18:57', '20:06'),
+	('SGP', '2025-10-06', '05:34', '06:51', '12:55', '16:04', '18:57', '20:05'),
+	('SGP', '2025-10-07', '05:33', '06:50', '12:54', '16:04', '18:56', '20:05'),
+	('SGP', '2025-10-08', '05:33', '06:50', '12:54', '16:04', '18:56', '20:05'),
+	('SGP', '2025-10-09', '05:33', '06:50', '12:54', '16:05', '18:56', '20:05'),
+	('SGP', '2025-10-10', '05:33', '06:50', '12:54', '16:05', '18:55', '20:04'),
+	('SGP', '2025-10-11', '05:32', '06:49', '12:53', '16:05', '18:55', '20:04'),
+	('SGP', '2025-10-12', '05:32', '06:49', '12:53', '16:05', '18:55', '20:04'),
+	('SGP', '2025-10-13', '05:32', '06:49', '12:53', '16:05', '18:54', '20:04'),
+	('SGP', '2025-10-14', '05:31', '06:49', '12:53', '16:06', '18:54', '20:03'),
+	('SGP', '2025-10-15', '05:31', '06:49', '12:52', '16:06', '18:54', '20:03'),
+	('SGP', '2025-10-16', '05:31', '06:48', '12:52', '16:06', '18:54', '20:03'),
+	('SGP', '2025-10-17', '05:31', '06:48', '12:52', '16:06', '18:53', '20:03'),
+	('SGP', '2025-10-18', '05:30', '06:48', '12:52', '16:06', '18:53', '20:03'),
+	('SGP', '2025-10-19', '05:30', '06:48', '12:51', '16:07', '18:53', '20:03'),
+	('SGP', '2025-10-20', '05:30', '06:48', '12:51', '16:07', '18:53', '20:02'),
+	('SGP', '2025-10-21', '05:30', '06:48', '12:51', '16:07', '18:52', '20:02'),
+	('SGP', '2025-10-22', '05:29', '06:47', '12:51', '16:07', '18:52', '20:02'),
+	('SGP', '2025-10-23', '05:29', '06:47', '12:51', '16:07', '18:52', '20:02'),
+	('SGP', '2025-10-24', '05:29', '06:47', '12:51', '16:08', '18:52', '20:02'),
+	('SGP', '2025-10-25', '05:29', '06:47', '12:50', '16:08', '18:52', '20:02'),
+	('SGP', '2025-10-26', '05:29', '06:47', '12:50', '16:08', '18:52', '20:02'),
+	('SGP', '2025-10-27', '05:28', '06:47', '12:50', '16:08', '18:51', '20:02'),
+	('SGP', '2025-10-28', '05:28', '06:47', '12:50', '16:08', '18:51', '20:02'),
+	('SGP', '2025-10-29', '05:28', '06:47', '12:50', '16:08', '18:51', '20:02'),
+	('SGP', '2025-10-30', '05:28', '06:47', '12:50', '16:09', '18:51', '20:02'),
+	('SGP', '2025-10-31', '05:28', '06:47', '12:50', '16:09', '18:51', '20:02'),
+	('SGP', '2025-11-01', '05:28', '06:47', '12:50', '16:09', '18:51', '20:02'),
+	('SGP', '2025-11-02', '05:27', '06:47', '12:50', '16:09', '18:51', '20:02'),
+	('SGP', '2025-11-03', '05:27', '06:47', '12:50', '16:10', '18:51', '20:02'),
+	('SGP', '2025-11-04', '05:27', '06:47', '12:50', '16:10', '18:51', '20:02'),
+	('SGP', '2025-11-05', '05:27', '06:47', '12:50', '16:10', '18:51', '20:02'),
+	('SGP', '2025-11-06', '05:27', '06:47', '12:50', '16:10', '18:51', '20:02'),
+	('SGP', '2025-11-07', '05:27', '06:47', '12:50', '16:10', '18:51', '20:02'),
+	('SGP', '2025-11-08', '05:27', '06:47', '12:50', '16:11', '18:51', '20:02'),
+	('SGP', '2025-11-09', '05:27', '06:47', '12:50', '16:11', '18:51', '20:03'),
+	('SGP', '2025-11-10', '05:27', '06:47', '12:50', '16:11', '18:51', '20:03'),
+	('SGP', '2025-11-11', '05:27', '06:47', '12:50', '16:11', '18:51', '20:03'),
+	('SGP', '2025-11-12', '05:27', '06:47', '12:50', '16:12', '18:51', '20:03'),
+	('SGP', '2025-11-13', '05:27', '06:47', '12:50', '16:12', '18:51', '20:03'),
+	('SGP', '2025-11-14', '05:27', '06:48', '12:51', '16:12', '18:51', '20:04'),
+	('SGP', '2025-11-15', '05:27', '06:48', '12:51', '16:13', '18:51', '20:04'),
+	('SGP', '2025-11-16', '05:27', '06:48', '12:51', '16:13', '18:52', '20:04'),
+	('SGP', '2025-11-17', '05:27', '06:48', '12:51', '16:13', '18:52', '20:04'),
+	('SGP', '2025-11-18', '05:27', '06:48', '12:51', '16:14', '18:52', '20:05'),
+	('SGP', '2025-11-19', '05:27', '06:49', '12:51', '16:14', '18:52', '20:05'),
+	('SGP', '2025-11-20', '05:27', '06:49', '12:52', '16:14', '18:52', '20:05'),
+	('SGP', '2025-11-21', '05:28', '06:49', '12:52', '16:15', '18:53', '20:06'),
+	('SGP', '2025-11-22', '05:28', '06:49', '12:52', '16:15', '18:53', '20:06'),
+	('SGP', '2025-11-23', '05:28', '06:50', '12:52', '16:15', '18:53', '20:06'),
+	('SGP', '2025-11-24', '05:28', '06:50', '12:53', '16:16', '18:53', '20:07'),
+	('SGP', '2025-11-25', '05:28', '06:50', '12:53', '16:16', '18:54', '20:07'),
+	('SGP', '2025-11-26', '05:28', '06:51', '12:53', '16:16', '18:54', '20:07'),
+	('SGP', '2025-11-27', '05:29', '06:51', '12:54', '16:17', '18:54', '20:08'),
+	('SGP', '2025-11-28', '05:29', '06:51', '12:54', '16:17', '18:54', '20:08'),
+	('SGP', '2025-11-29', '05:29', '06:52', '12:54', '16:18', '18:55', '20:09'),
+	('SGP', '2025-11-30', '05:29', '06:52', '12:55', '16:18', '18:55', '20:09'),
+	('SGP', '2025-12-01', '05:30', '06:52', '12:55', '16:18', '18:55', '20:09'),
+	('SGP', '2025-12-02', '05:30', '06:53', '12:55', '16:19', '18:56', '20:10'),
+	('SGP', '2025-12-03', '05:30', '06:53', '12:56', '16:19', '18:56', '20:10'),
+	('SGP', '2025-12-04', '05:31', '06:53', '12:56', '16:20', '18:57', '20:11'),
+	('SGP', '2025-12-05', '05:31', '06:54', '12:56', '16:20', '18:57', '20:11'),
+	('SGP', '2025-12-06', '05:31', '06:54', '12:57', '16:21', '18:57', '20:12'),
+	('SGP', '2025-12-07', '05:32', '06:55', '12:57', '16:21', '18:58', '20:12'),
+	('SGP', '2025-12-08', '05:32', '06:55', '12:58', '16:21', '18:58', '20:13'),
+	('SGP', '2025-12-09', '05:32', '06:56', '12:58', '16:22', '18:59', '20:13'),
+	('SGP', '2025-12-10', '05:33', '06:56', '12:59', '16:22', '18:59', '20:14'),
+	('SGP', '2025-12-11', '05:33', '06:57', '12:59', '16:23', '18:59', '20:14'),
+	('SGP', '2025-12-12', '05:33', '06:57', '13:00', '16:23', '19:00', '20:15'),
+	('SGP', '2025-12-13', '05:34', '06:57', '13:00', '16:24', '19:00', '20:15'),
+	('SGP', '2025-12-14', '05:34', '06:58', '13:00', '16:24', '19:01', '20:16'),
+	('SGP', '2025-12-15', '05:35', '06:58', '13:01', '16:25', '19:01', '20:16'),
+	('SGP', '2025-12-16', '05:35', '06:59', '13:01', '16:25', '19:02', '20:17'),
+	('SGP', '2025-12-17', '05:36', '06:59', '13:02', '16:26', '19:02', '20:17'),
+	('SGP', '2025-12-18', '05:36', '07:00', '13:02', '16:26', '19:03', '20:18'),
+	('SGP', '2025-12-19', '05:37', '07:00', '13:03', '16:27', '19:03', '20:18'),
+	('SGP', '2025-12-20', '05:37', '07:01', '13:03', '16:27', '19:04', '20:19'),
+	('SGP', '2025-12-21', '05:38', '07:01', '13:04', '16:28', '19:04', '20:19'),
+	('SGP', '2025-12-22', '05:38', '07:02', '13:04', '16:28', '19:05', '20:20'),
+	('SGP', '2025-12-23', '05:39', '07:02', '13:05', '16:29', '19:05', '20:20'),
+	('SGP', '2025-12-24', '05:39', '07:03', '13:05', '16:29', '19:06', '20:21'),
+	('SGP', '2025-12-25', '05:40', '07:03', '13:06', '16:30', '19:06', '20:21'),
+	('SGP', '2025-12-26', '05:40', '07:04', '13:06', '16:30', '19:07', '20:22'),
+	('SGP', '2025-12-27', '05:41', '07:04', '13:07', '16:31', '19:07', '20:22'),
+	('SGP', '2025-12-28', '05:41', '07:05', '13:07', '16:31', '19:08', '20:23'),
+	('SGP', '2025-12-29', '05:42', '07:05', '13:08', '16:32', '19:08', '20:23'),
+	('SGP', '2025-12-30', '05:42', '07:06', '13:08', '16:32', '19:09', '20:24'),
+	('SGP', '2025-12-31', '05:43', '07:06', '13:09', '16:33', '19:09', '20:24');
\ No newline at end of file
@@ -1,3 +1,4 @@
 rootProject.name = "alif"
 
-include(":app")
\ No newline at end of file
+include(":app")
+include(":benchmarks")